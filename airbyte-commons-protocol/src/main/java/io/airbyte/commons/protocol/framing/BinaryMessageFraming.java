@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.protocol.framing;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.dataformat.smile.SmileParser;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Binary framing of messages between the worker and the connectors, as an alternative to newline
+ * delimited json.
+ *
+ * <p>
+ * A frame is the {@link #FRAME_MARKER} byte, the length of the payload as a big endian 4 bytes
+ * integer, and the message encoded with Smile, the binary counterpart of json supported by Jackson.
+ * Frames can be interleaved with regular lines on the same stream, which is what happens when a
+ * connector logs to stdout while emitting framed messages. A line never starts with the marker byte,
+ * so a stream written by a connector that does not know about framing is read as before.
+ *
+ * <p>
+ * Connectors only emit frames when the worker offers it through the USE_BINARY_MESSAGE_FRAMING
+ * environment variable. A destination acknowledges the offer by emitting a frame on its stdout, from
+ * which point the worker sends it frames as well.
+ */
+public class BinaryMessageFraming {
+
+  /**
+   * ASCII record separator, a control character that does not start json or text lines.
+   */
+  public static final byte FRAME_MARKER = 0x1E;
+  public static final int FRAME_HEADER_SIZE = 5;
+  /**
+   * Largest payload of a frame, so that a corrupted header does not make the reader allocate
+   * gigabytes.
+   */
+  public static final int MAX_FRAME_PAYLOAD_SIZE = 128 * 1024 * 1024;
+
+  private static final byte[] EMPTY_HEADER = new byte[FRAME_HEADER_SIZE];
+  private static final ObjectMapper SMILE_MAPPER = initSmileMapper();
+
+  /**
+   * @return a reader decoding frame payloads into the given class.
+   */
+  public static ObjectReader readerFor(final Class<?> klass) {
+    return SMILE_MAPPER.readerFor(klass);
+  }
+
+  /**
+   * @return a new encoder. Encoders reuse their buffer and are meant to be used by a single writer.
+   */
+  public static FrameEncoder newEncoder() {
+    return new FrameEncoder(SMILE_MAPPER.writer());
+  }
+
+  private static ObjectMapper initSmileMapper() {
+    // frames are decoded one at a time, repeating the Smile header in each of them is useless.
+    final SmileFactory factory = SmileFactory.builder()
+        .disable(SmileGenerator.Feature.WRITE_HEADER)
+        .disable(SmileParser.Feature.REQUIRE_HEADER)
+        .build();
+    final ObjectMapper mapper = new ObjectMapper(factory).registerModule(new JavaTimeModule());
+    mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    return mapper;
+  }
+
+  /**
+   * Encodes messages into frames.
+   */
+  public static class FrameEncoder {
+
+    private final ObjectWriter writer;
+    private final FrameBuffer buffer = new FrameBuffer();
+
+    private FrameEncoder(final ObjectWriter writer) {
+      this.writer = writer;
+    }
+
+    /**
+     * Write the message as a single frame. The frame is written with one call to the output stream so
+     * that it does not get interleaved with lines written to the same stream by other threads.
+     */
+    public synchronized void write(final Object message, final OutputStream outputStream) throws IOException {
+      buffer.reset();
+      // the header is filled in once the payload length is known.
+      buffer.write(EMPTY_HEADER, 0, FRAME_HEADER_SIZE);
+      writer.writeValue(buffer, message);
+      if (buffer.size() - FRAME_HEADER_SIZE > MAX_FRAME_PAYLOAD_SIZE) {
+        throw new IOException(String.format("Message of %d bytes exceeds the max frame payload size of %d bytes",
+            buffer.size() - FRAME_HEADER_SIZE, MAX_FRAME_PAYLOAD_SIZE));
+      }
+      buffer.writeHeader();
+      buffer.writeTo(outputStream);
+    }
+
+  }
+
+  /**
+   * Gives access to the underlying array to fill in the header.
+   */
+  private static class FrameBuffer extends ByteArrayOutputStream {
+
+    FrameBuffer() {
+      super(8192);
+    }
+
+    void writeHeader() {
+      final int length = count - FRAME_HEADER_SIZE;
+      buf[0] = FRAME_MARKER;
+      buf[1] = (byte) (length >>> 24);
+      buf[2] = (byte) (length >>> 16);
+      buf[3] = (byte) (length >>> 8);
+      buf[4] = (byte) length;
+    }
+
+  }
+
+}
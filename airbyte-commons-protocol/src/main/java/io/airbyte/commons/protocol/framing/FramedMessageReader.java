@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.protocol.framing;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Splits a stream of newline delimited lines and {@link BinaryMessageFraming} frames into items,
+ * working on the raw bytes with a single buffer reused for the whole stream.
+ *
+ * <p>
+ * After {@link #next()} returns true, the current item is the bytes of {@link #getBuffer()} between
+ * {@link #getOffset()} and {@link #getOffset()} + {@link #getLength()}: the payload of a frame, or a
+ * line without its line terminator. These bytes are only valid until the next call to
+ * {@link #next()}. Empty lines are skipped.
+ */
+public class FramedMessageReader {
+
+  public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+  private final InputStream inputStream;
+  private byte[] buffer;
+  // bytes in [start, end) have been read from the stream but not consumed yet.
+  private int start = 0;
+  private int end = 0;
+  // position from which to look for the next newline, bytes in [start, scanned) hold no newline.
+  private int scanned = 0;
+  private boolean endOfInput = false;
+
+  private boolean frame;
+  private int offset;
+  private int length;
+
+  public FramedMessageReader(final InputStream inputStream) {
+    this(inputStream, DEFAULT_BUFFER_SIZE);
+  }
+
+  public FramedMessageReader(final InputStream inputStream, final int initialBufferSize) {
+    this.inputStream = inputStream;
+    this.buffer = new byte[initialBufferSize];
+  }
+
+  /**
+   * Move to the next item of the stream.
+   *
+   * @return false once the end of the stream is reached.
+   * @throws IOException if the stream cannot be read or ends in the middle of a frame.
+   */
+  public boolean next() throws IOException {
+    while (ensureAvailable(1)) {
+      if (buffer[start] == BinaryMessageFraming.FRAME_MARKER) {
+        readFrame();
+        return true;
+      }
+      if (readLine()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public boolean isFrame() {
+    return frame;
+  }
+
+  public byte[] getBuffer() {
+    return buffer;
+  }
+
+  public int getOffset() {
+    return offset;
+  }
+
+  public int getLength() {
+    return length;
+  }
+
+  /**
+   * @return the current item decoded as an UTF-8 string.
+   */
+  public String getLine() {
+    return new String(buffer, offset, length, StandardCharsets.UTF_8);
+  }
+
+  private void readFrame() throws IOException {
+    if (!ensureAvailable(BinaryMessageFraming.FRAME_HEADER_SIZE)) {
+      throw new EOFException("The stream ended in the middle of a message frame header");
+    }
+    final int payloadLength = (buffer[start + 1] & 0xFF) << 24
+        | (buffer[start + 2] & 0xFF) << 16
+        | (buffer[start + 3] & 0xFF) << 8
+        | (buffer[start + 4] & 0xFF);
+    if (payloadLength < 0 || payloadLength > BinaryMessageFraming.MAX_FRAME_PAYLOAD_SIZE) {
+      throw new IOException(String.format("Invalid message frame length: %d, frames are at most %d bytes",
+          payloadLength, BinaryMessageFraming.MAX_FRAME_PAYLOAD_SIZE));
+    }
+    if (!ensureAvailable(BinaryMessageFraming.FRAME_HEADER_SIZE + payloadLength)) {
+      throw new EOFException("The stream ended in the middle of a message frame");
+    }
+    frame = true;
+    offset = start + BinaryMessageFraming.FRAME_HEADER_SIZE;
+    length = payloadLength;
+    start = offset + payloadLength;
+    scanned = start;
+  }
+
+  /**
+   * @return false if the line is empty.
+   */
+  private boolean readLine() throws IOException {
+    final int newline = findNewline();
+    // read after looking for the newline, which can move the unconsumed bytes in the buffer.
+    final int lineStart = start;
+    int lineEnd;
+    if (newline >= 0) {
+      lineEnd = newline;
+      start = newline + 1;
+    } else {
+      // last line of the stream, without a trailing newline.
+      lineEnd = end;
+      start = end;
+    }
+    scanned = start;
+    if (lineEnd > lineStart && buffer[lineEnd - 1] == '\r') {
+      lineEnd--;
+    }
+    frame = false;
+    offset = lineStart;
+    length = lineEnd - lineStart;
+    return length > 0;
+  }
+
+  /**
+   * @return the index of the next newline, reading more of the stream as needed, or -1 if the end of
+   *         the stream was reached without one.
+   */
+  private int findNewline() throws IOException {
+    while (true) {
+      for (int i = scanned; i < end; i++) {
+        if (buffer[i] == '\n') {
+          return i;
+        }
+      }
+      scanned = end;
+      if (!fill()) {
+        return -1;
+      }
+    }
+  }
+
+  /**
+   * @return true if at least count unconsumed bytes are in the buffer, reading more of the stream as
+   *         needed.
+   */
+  private boolean ensureAvailable(final int count) throws IOException {
+    while (end - start < count) {
+      if (!fill()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Read more bytes at the end of the buffer, first moving the unconsumed bytes to the front of the
+   * buffer and growing it if they fill it entirely.
+   *
+   * @return false if the end of the stream was reached.
+   */
+  private boolean fill() throws IOException {
+    if (endOfInput) {
+      return false;
+    }
+    if (start > 0) {
+      System.arraycopy(buffer, start, buffer, 0, end - start);
+      end -= start;
+      scanned -= start;
+      start = 0;
+    }
+    if (end == buffer.length) {
+      buffer = Arrays.copyOf(buffer, buffer.length * 2);
+    }
+    final int read = inputStream.read(buffer, end, buffer.length - end);
+    if (read < 0) {
+      endOfInput = true;
+      return false;
+    }
+    end += read;
+    return true;
+  }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.protocol.framing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.airbyte.protocol.models.v0.AirbyteLogMessage;
+import io.airbyte.protocol.models.v0.AirbyteMessage;
+import io.airbyte.protocol.models.v0.AirbyteMessage.Type;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+class FramedMessageReaderTest {
+
+  @Test
+  void testLinesAndFrames() throws IOException {
+    final AirbyteMessage message = logMessage("hello");
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    final BinaryMessageFraming.FrameEncoder encoder = BinaryMessageFraming.newEncoder();
+    output.writeBytes("first line\r\n\n".getBytes(StandardCharsets.UTF_8));
+    encoder.write(message, output);
+    output.writeBytes("second line\n".getBytes(StandardCharsets.UTF_8));
+    encoder.write(message, output);
+    output.writeBytes("last line".getBytes(StandardCharsets.UTF_8));
+
+    // a small buffer makes sure that items spanning several reads are handled.
+    final FramedMessageReader reader = new FramedMessageReader(new ByteArrayInputStream(output.toByteArray()), 4);
+
+    assertLine(reader, "first line");
+    assertFrame(reader, message);
+    assertLine(reader, "second line");
+    assertFrame(reader, message);
+    assertLine(reader, "last line");
+    assertFalse(reader.next());
+  }
+
+  @Test
+  void testTruncatedFrame() throws IOException {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    BinaryMessageFraming.newEncoder().write(logMessage("hello"), output);
+    final byte[] truncated = Arrays.copyOf(output.toByteArray(), output.size() - 1);
+
+    final FramedMessageReader reader = new FramedMessageReader(new ByteArrayInputStream(truncated));
+
+    assertThrows(EOFException.class, reader::next);
+  }
+
+  @Test
+  void testOversizedFrame() {
+    final int length = BinaryMessageFraming.MAX_FRAME_PAYLOAD_SIZE + 1;
+    final byte[] header = {BinaryMessageFraming.FRAME_MARKER, (byte) (length >>> 24), (byte) (length >>> 16), (byte) (length >>> 8),
+      (byte) length};
+
+    final FramedMessageReader reader = new FramedMessageReader(new ByteArrayInputStream(header));
+
+    final IOException exception = assertThrows(IOException.class, reader::next);
+    assertFalse(exception instanceof EOFException);
+  }
+
+  private static void assertLine(final FramedMessageReader reader, final String expected) throws IOException {
+    assertTrue(reader.next());
+    assertFalse(reader.isFrame());
+    assertEquals(expected, reader.getLine());
+  }
+
+  private static void assertFrame(final FramedMessageReader reader, final AirbyteMessage expected) throws IOException {
+    assertTrue(reader.next());
+    assertTrue(reader.isFrame());
+    final AirbyteMessage actual = BinaryMessageFraming.readerFor(AirbyteMessage.class)
+        .readValue(reader.getBuffer(), reader.getOffset(), reader.getLength());
+    assertEquals(expected, actual);
+  }
+
+  private static AirbyteMessage logMessage(final String message) {
+    return new AirbyteMessage()
+        .withType(Type.LOG)
+        .withLog(new AirbyteLogMessage().withLevel(AirbyteLogMessage.Level.INFO).withMessage(message));
+  }
+
+}
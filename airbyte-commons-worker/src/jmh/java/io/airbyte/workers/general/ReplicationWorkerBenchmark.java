@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.general;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.config.StandardSyncInput;
+import io.airbyte.config.WorkerDestinationConfig;
+import io.airbyte.config.WorkerSourceConfig;
+import io.airbyte.metrics.lib.MetricClientFactory;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.workers.RecordSchemaValidator;
+import io.airbyte.workers.WorkerMetricReporter;
+import io.airbyte.workers.WorkerUtils;
+import io.airbyte.workers.internal.AirbyteDestination;
+import io.airbyte.workers.internal.AirbyteMessageTracker;
+import io.airbyte.workers.internal.AirbyteSource;
+import io.airbyte.workers.internal.NamespacingMapper;
+import io.airbyte.workers.test_utils.AirbyteMessageUtils;
+import io.airbyte.workers.test_utils.TestConfigHelpers;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the records/sec of the single threaded and the pipelined replication loop of
+ * {@link DefaultReplicationWorker}. The source and destination are in-process fakes that pay the
+ * usual cost of parsing and serializing every message, so the numbers reflect the worker overhead
+ * rather than any connector.
+ *
+ * Run with ./gradlew :airbyte-commons-worker:jmh
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReplicationWorkerBenchmark {
+
+  private static final int RECORDS = 200_000;
+  private static final int STATE_EVERY = 1_000;
+  private static final String STREAM_NAME = "user_preferences";
+  private static final String FIELD_NAME = "favorite_color";
+
+  @Param({"false", "true"})
+  public boolean pipelined;
+
+  private StandardSyncInput syncInput;
+  private List<String> sourceLines;
+  private Path jobRoot;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    syncInput = TestConfigHelpers.createSyncConfig().getValue();
+    sourceLines = IntStream.range(0, RECORDS)
+        .mapToObj(i -> i % STATE_EVERY == STATE_EVERY - 1
+            ? AirbyteMessageUtils.createStateMessage(i)
+            : AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "blue-" + i))
+        .map(Jsons::serialize)
+        .collect(Collectors.toList());
+    jobRoot = Files.createTempDirectory("replication_benchmark");
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RECORDS)
+  public long replicate() throws Exception {
+    final FakeDestination destination = new FakeDestination();
+    final DefaultReplicationWorker worker = new DefaultReplicationWorker(
+        "0",
+        0,
+        new FakeSource(sourceLines),
+        new NamespacingMapper(syncInput.getNamespaceDefinition(), syncInput.getNamespaceFormat(), syncInput.getPrefix()),
+        destination,
+        new AirbyteMessageTracker(),
+        new RecordSchemaValidator(WorkerUtils.mapStreamNamesToSchemas(syncInput)),
+        new WorkerMetricReporter(MetricClientFactory.getMetricClient(), "airbyte/benchmark:dev"),
+        pipelined);
+    worker.run(syncInput, jobRoot);
+    return destination.bytesWritten;
+  }
+
+  /**
+   * Source that parses pre-serialized lines, as a source reading from a process STDOUT would.
+   */
+  private static class FakeSource implements AirbyteSource {
+
+    private final List<String> lines;
+    private int position = 0;
+
+    FakeSource(final List<String> lines) {
+      this.lines = lines;
+    }
+
+    @Override
+    public void start(final WorkerSourceConfig sourceConfig, final Path jobRoot) {}
+
+    @Override
+    public boolean isFinished() {
+      return position >= lines.size();
+    }
+
+    @Override
+    public int getExitValue() {
+      return 0;
+    }
+
+    @Override
+    public Optional<AirbyteMessage> attemptRead() {
+      if (isFinished()) {
+        return Optional.empty();
+      }
+      return Jsons.tryDeserialize(lines.get(position++), AirbyteMessage.class);
+    }
+
+    @Override
+    public void close() {}
+
+    @Override
+    public void cancel() {}
+
+  }
+
+  /**
+   * Destination that serializes every message it accepts, as a destination writing to a process STDIN
+   * would, and echoes state messages back once they have been written.
+   */
+  private static class FakeDestination implements AirbyteDestination {
+
+    private final BlockingQueue<AirbyteMessage> committedStates = new LinkedBlockingQueue<>();
+    private final OutputStream sink = OutputStream.nullOutputStream();
+    private volatile boolean inputEnded = false;
+    private long bytesWritten = 0;
+
+    @Override
+    public void start(final WorkerDestinationConfig destinationConfig, final Path jobRoot) {}
+
+    @Override
+    public void accept(final AirbyteMessage message) throws IOException {
+      final byte[] bytes = Jsons.serialize(message).getBytes(StandardCharsets.UTF_8);
+      sink.write(bytes);
+      bytesWritten += bytes.length;
+      if (message.getType() == Type.STATE) {
+        committedStates.add(message);
+      }
+    }
+
+    @Override
+    public void notifyEndOfInput() {
+      inputEnded = true;
+    }
+
+    @Override
+    public boolean isFinished() {
+      return inputEnded && committedStates.isEmpty();
+    }
+
+    @Override
+    public int getExitValue() {
+      return 0;
+    }
+
+    @Override
+    public Optional<AirbyteMessage> attemptRead() {
+      try {
+        return Optional.ofNullable(committedStates.poll(10, TimeUnit.MILLISECONDS));
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return Optional.empty();
+      }
+    }
+
+    @Override
+    public void close() {}
+
+    @Override
+    public void cancel() {}
+
+  }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.workers.test_utils.AirbyteMessageUtils;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the messages/sec of newline delimited json and of binary framing, both when the worker
+ * writes messages to a destination and when it reads the messages of a connector.
+ *
+ * Run with ./gradlew :airbyte-commons-worker:jmh
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MessageFramingBenchmark {
+
+  private static final int MESSAGES = 100_000;
+  private static final String STREAM_NAME = "user_preferences";
+  private static final String FIELD_NAME = "favorite_color";
+
+  @Param({"false", "true"})
+  public boolean binaryFraming;
+
+  private List<AirbyteMessage> messages;
+  private byte[] connectorOutput;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    messages = IntStream.range(0, MESSAGES)
+        .mapToObj(i -> AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "blue-" + i))
+        .collect(Collectors.toList());
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    writeAll(output);
+    connectorOutput = output.toByteArray();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(MESSAGES)
+  public void write() throws IOException {
+    writeAll(OutputStream.nullOutputStream());
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(MESSAGES)
+  public long read() {
+    return new StreamingAirbyteStreamFactory().create(new ByteArrayInputStream(connectorOutput)).count();
+  }
+
+  private void writeAll(final OutputStream outputStream) throws IOException {
+    final AirbyteMessageBufferedWriter writer =
+        new BinaryFramingAirbyteMessageBufferedWriterFactory(() -> binaryFraming, new DefaultAirbyteMessageBufferedWriterFactory())
+            .createWriter(outputStream);
+    for (final AirbyteMessage message : messages) {
+      writer.write(message);
+    }
+    writer.flush();
+  }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.workers.test_utils.AirbyteMessageUtils;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the per-record overhead of {@link AirbyteMessageTracker}. Records read by a stream factory
+ * carry the size of their line, the others need their data to be serialized to count bytes. Run with
+ * -prof gc to see the allocations per record.
+ *
+ * Run with ./gradlew :airbyte-commons-worker:jmh
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MessageTrackerBenchmark {
+
+  private static final int RECORDS = 100_000;
+  private static final String FIELD_NAME = "favorite_color";
+
+  @Param({"1", "20"})
+  public int streams;
+
+  @Param({"false", "true"})
+  public boolean sized;
+
+  private List<AirbyteMessage> messages;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    messages = IntStream.range(0, RECORDS)
+        .mapToObj(i -> {
+          // records of a stream come in small batches, as with sources reading streams concurrently.
+          final AirbyteMessage message = AirbyteMessageUtils.createRecordMessage("stream_" + (i / 10) % streams, FIELD_NAME, "blue-" + i);
+          return sized ? SizedAirbyteRecordMessage.withSerializedByteSize(message, Jsons.serialize(message).length()) : message;
+        })
+        .collect(Collectors.toList());
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RECORDS)
+  public long acceptFromSource() {
+    final AirbyteMessageTracker tracker = new AirbyteMessageTracker();
+    for (final AirbyteMessage message : messages) {
+      tracker.acceptFromSource(message);
+    }
+    return tracker.getTotalBytesEmitted();
+  }
+
+}
@@ -11,6 +11,8 @@ import static io.airbyte.metrics.lib.ApmTraceConstants.WORKER_OPERATION_NAME;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import datadog.trace.api.Trace;
+import io.airbyte.commons.concurrency.BoundedSpscQueue;
+import io.airbyte.commons.concurrency.VoidCallable;
 import io.airbyte.commons.io.LineGobbler;
 import io.airbyte.config.FailureReason;
 import io.airbyte.config.ReplicationAttemptSummary;
@@ -37,6 +39,7 @@ import io.airbyte.workers.internal.AirbyteDestination;
 import io.airbyte.workers.internal.AirbyteMapper;
 import io.airbyte.workers.internal.AirbyteSource;
 import io.airbyte.workers.internal.MessageTracker;
+import io.airbyte.workers.internal.PassthroughAirbyteRecordMessage;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -50,6 +53,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.commons.io.FileUtils;
@@ -74,12 +78,25 @@ import org.slf4j.MDC;
  * <li>Handling failure cases and returning state for partially completed replications (so that the
  * next replication can pick up where it left off instead of starting from the beginning)</li>
  * </ul>
+ *
+ * By default the Source to Destination leg runs on a single thread. In pipelined mode it is split
+ * into three stages (read, validate/map/track, write), each on its own thread and connected by
+ * bounded single-producer single-consumer queues. Every stage handles messages in the order it
+ * received them, so the order of records within a stream and the position of state messages
+ * relative to records are the same as in the single threaded mode.
  */
 @SuppressWarnings("PMD.AvoidPrintStackTrace")
 public class DefaultReplicationWorker implements ReplicationWorker {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(DefaultReplicationWorker.class);
 
+  // max number of messages buffered between two stages of the pipelined mode.
+  private static final int PIPELINE_QUEUE_CAPACITY = 1024;
+  // records passed through without being parsed are validated on a sample: the first ones of each
+  // stream, then 1 in PASSTHROUGH_VALIDATION_SAMPLING.
+  private static final long PASSTHROUGH_VALIDATED_RECORDS = 100;
+  private static final long PASSTHROUGH_VALIDATION_SAMPLING = 100;
+
   private final String jobId;
   private final int attempt;
   private final AirbyteSource source;
@@ -92,6 +109,7 @@ public class DefaultReplicationWorker implements ReplicationWorker {
   private final AtomicBoolean hasFailed;
   private final RecordSchemaValidator recordSchemaValidator;
   private final WorkerMetricReporter metricReporter;
+  private final boolean pipelined;
 
   public DefaultReplicationWorker(final String jobId,
                                   final int attempt,
@@ -101,6 +119,18 @@ public class DefaultReplicationWorker implements ReplicationWorker {
                                   final MessageTracker messageTracker,
                                   final RecordSchemaValidator recordSchemaValidator,
                                   final WorkerMetricReporter metricReporter) {
+    this(jobId, attempt, source, mapper, destination, messageTracker, recordSchemaValidator, metricReporter, false);
+  }
+
+  public DefaultReplicationWorker(final String jobId,
+                                  final int attempt,
+                                  final AirbyteSource source,
+                                  final AirbyteMapper mapper,
+                                  final AirbyteDestination destination,
+                                  final MessageTracker messageTracker,
+                                  final RecordSchemaValidator recordSchemaValidator,
+                                  final WorkerMetricReporter metricReporter,
+                                  final boolean pipelined) {
     this.jobId = jobId;
     this.attempt = attempt;
     this.source = source;
@@ -110,6 +140,7 @@ public class DefaultReplicationWorker implements ReplicationWorker {
     this.executors = Executors.newFixedThreadPool(2);
     this.recordSchemaValidator = recordSchemaValidator;
     this.metricReporter = metricReporter;
+    this.pipelined = pipelined;
 
     this.cancelled = new AtomicBoolean(false);
     this.hasFailed = new AtomicBoolean(false);
@@ -179,9 +210,11 @@ public class DefaultReplicationWorker implements ReplicationWorker {
               }
             });
 
-        final CompletableFuture<?> replicationThreadFuture = CompletableFuture.runAsync(
-            getReplicationRunnable(source, destination, cancelled, mapper, messageTracker, mdc, recordSchemaValidator, metricReporter, timeTracker),
-            executors)
+        final Runnable replicationRunnable = pipelined
+            ? getPipelinedReplicationRunnable(source, destination, cancelled, mapper, messageTracker, mdc, recordSchemaValidator, metricReporter,
+                timeTracker)
+            : getReplicationRunnable(source, destination, cancelled, mapper, messageTracker, mdc, recordSchemaValidator, metricReporter, timeTracker);
+        final CompletableFuture<?> replicationThreadFuture = CompletableFuture.runAsync(replicationRunnable, executors)
             .whenComplete((msg, ex) -> {
               if (ex != null) {
                 if (ex.getCause() instanceof SourceException) {
@@ -353,6 +386,7 @@ public class DefaultReplicationWorker implements ReplicationWorker {
       LOGGER.info("Replication thread started.");
       Long recordsRead = 0L;
       final Map<String, ImmutablePair<Set<String>, Integer>> validationErrors = new HashMap<>();
+      final Map<String, Long> unparsedRecordCounts = new HashMap<>();
       try {
         while (!cancelled.get() && !source.isFinished()) {
           final Optional<AirbyteMessage> messageOptional;
@@ -364,7 +398,7 @@ public class DefaultReplicationWorker implements ReplicationWorker {
 
           if (messageOptional.isPresent()) {
             final AirbyteMessage airbyteMessage = messageOptional.get();
-            validateSchema(recordSchemaValidator, validationErrors, airbyteMessage);
+            validateSchema(recordSchemaValidator, validationErrors, unparsedRecordCounts, airbyteMessage);
             final AirbyteMessage message = mapper.mapMessage(airbyteMessage);
 
             messageTracker.acceptFromSource(message);
@@ -427,8 +461,166 @@ public class DefaultReplicationWorker implements ReplicationWorker {
     };
   }
 
+  /**
+   * Same contract as {@link #getReplicationRunnable}, but the work is split in three stages that run
+   * concurrently: reading from the source, validating/mapping/tracking, and writing to the
+   * destination. The read and validate/map/track stages run on their own threads, the write stage
+   * runs on the calling thread. If any stage fails, the other stages stop and the failure of that
+   * stage is thrown.
+   */
+  @SuppressWarnings("PMD.AvoidInstanceofChecksInCatchClause")
+  private static Runnable getPipelinedReplicationRunnable(final AirbyteSource source,
+                                                          final AirbyteDestination destination,
+                                                          final AtomicBoolean cancelled,
+                                                          final AirbyteMapper mapper,
+                                                          final MessageTracker messageTracker,
+                                                          final Map<String, String> mdc,
+                                                          final RecordSchemaValidator recordSchemaValidator,
+                                                          final WorkerMetricReporter metricReporter,
+                                                          final ThreadedTimeTracker timeHolder) {
+    return () -> {
+      MDC.setContextMap(mdc);
+      LOGGER.info("Replication thread started in pipelined mode.");
+      final BoundedSpscQueue<AirbyteMessage> sourceMessages = new BoundedSpscQueue<>(PIPELINE_QUEUE_CAPACITY);
+      final BoundedSpscQueue<AirbyteMessage> destinationMessages = new BoundedSpscQueue<>(PIPELINE_QUEUE_CAPACITY);
+      final AtomicReference<RuntimeException> stageFailure = new AtomicReference<>();
+      final BooleanSupplier shouldStop = () -> cancelled.get() || stageFailure.get() != null;
+      final ExecutorService stageExecutors = Executors.newFixedThreadPool(2);
+      try {
+        stageExecutors.submit(() -> runStage(mdc, stageFailure, sourceMessages, () -> {
+          readFromSource(source, sourceMessages, shouldStop);
+          timeHolder.trackSourceReadEndTime();
+        }));
+        stageExecutors.submit(() -> runStage(mdc, stageFailure, destinationMessages,
+            () -> processSourceMessages(sourceMessages, destinationMessages, shouldStop, mapper, messageTracker, recordSchemaValidator,
+                metricReporter)));
+
+        try {
+          AirbyteMessage message;
+          while ((message = destinationMessages.take(shouldStop)) != null) {
+            try {
+              destination.accept(message);
+            } catch (final Exception e) {
+              throw new DestinationException("Destination process message delivery failed", e);
+            }
+          }
+        } catch (final RuntimeException e) {
+          stageFailure.compareAndSet(null, e);
+        }
+
+        if (stageFailure.get() != null) {
+          throw stageFailure.get();
+        }
+
+        try {
+          destination.notifyEndOfInput();
+        } catch (final Exception e) {
+          throw new DestinationException("Destination process end of stream notification failed", e);
+        }
+        if (!cancelled.get() && source.getExitValue() != 0) {
+          throw new SourceException("Source process exited with non-zero exit code " + source.getExitValue());
+        }
+      } catch (final Exception e) {
+        if (!cancelled.get()) {
+          // Stage failures are already unchecked, Source and Destination exceptions among them are surfaced
+          // directly so that they can be classified properly by the worker.
+          if (e instanceof RuntimeException) {
+            throw (RuntimeException) e;
+          } else {
+            throw new RuntimeException(e);
+          }
+        }
+      } finally {
+        stageExecutors.shutdownNow();
+      }
+    };
+  }
+
+  /**
+   * Runs one stage of the pipelined mode. A failure is recorded before the stage's output is closed,
+   * so that the downstream stage never mistakes a failed stage for one that completed.
+   */
+  private static void runStage(final Map<String, String> mdc,
+                               final AtomicReference<RuntimeException> stageFailure,
+                               final BoundedSpscQueue<AirbyteMessage> output,
+                               final VoidCallable stage) {
+    MDC.setContextMap(mdc);
+    try {
+      stage.voidCall();
+    } catch (final RuntimeException e) {
+      stageFailure.compareAndSet(null, e);
+    } catch (final Exception e) {
+      stageFailure.compareAndSet(null, new RuntimeException(e));
+    } finally {
+      output.close();
+    }
+  }
+
+  private static void readFromSource(final AirbyteSource source,
+                                     final BoundedSpscQueue<AirbyteMessage> sourceMessages,
+                                     final BooleanSupplier shouldStop)
+      throws InterruptedException {
+    while (!shouldStop.getAsBoolean() && !source.isFinished()) {
+      final Optional<AirbyteMessage> messageOptional;
+      try {
+        messageOptional = source.attemptRead();
+      } catch (final Exception e) {
+        throw new SourceException("Source process read attempt failed", e);
+      }
+
+      if (messageOptional.isPresent()) {
+        sourceMessages.put(messageOptional.get(), shouldStop);
+      } else {
+        LOGGER.info("Source has no more messages, closing connection.");
+        try {
+          source.close();
+        } catch (final Exception e) {
+          throw new SourceException("Source cannot be stopped!", e);
+        }
+      }
+    }
+  }
+
+  private static void processSourceMessages(final BoundedSpscQueue<AirbyteMessage> sourceMessages,
+                                            final BoundedSpscQueue<AirbyteMessage> destinationMessages,
+                                            final BooleanSupplier shouldStop,
+                                            final AirbyteMapper mapper,
+                                            final MessageTracker messageTracker,
+                                            final RecordSchemaValidator recordSchemaValidator,
+                                            final WorkerMetricReporter metricReporter)
+      throws InterruptedException {
+    long recordsRead = 0L;
+    final Map<String, ImmutablePair<Set<String>, Integer>> validationErrors = new HashMap<>();
+    final Map<String, Long> unparsedRecordCounts = new HashMap<>();
+    AirbyteMessage airbyteMessage;
+    while ((airbyteMessage = sourceMessages.take(shouldStop)) != null) {
+      validateSchema(recordSchemaValidator, validationErrors, unparsedRecordCounts, airbyteMessage);
+      final AirbyteMessage message = mapper.mapMessage(airbyteMessage);
+
+      messageTracker.acceptFromSource(message);
+
+      if (message.getType() == Type.RECORD || message.getType() == Type.STATE) {
+        destinationMessages.put(message, shouldStop);
+      }
+
+      recordsRead += 1;
+
+      if (recordsRead % 1000 == 0) {
+        LOGGER.info("Records read: {} ({})", recordsRead, FileUtils.byteCountToDisplaySize(messageTracker.getTotalBytesEmitted()));
+      }
+    }
+    LOGGER.info("Total records read: {} ({})", recordsRead, FileUtils.byteCountToDisplaySize(messageTracker.getTotalBytesEmitted()));
+    if (!validationErrors.isEmpty()) {
+      validationErrors.forEach((stream, errorPair) -> {
+        LOGGER.warn("Schema validation errors found for stream {}. Error messages: {}", stream, errorPair.getLeft());
+        metricReporter.trackSchemaValidationError(stream);
+      });
+    }
+  }
+
   private static void validateSchema(final RecordSchemaValidator recordSchemaValidator,
                                      final Map<String, ImmutablePair<Set<String>, Integer>> validationErrors,
+                                     final Map<String, Long> unparsedRecordCounts,
                                      final AirbyteMessage message) {
     if (message.getRecord() == null) {
       return;
@@ -440,8 +632,24 @@ public class DefaultReplicationWorker implements ReplicationWorker {
     final boolean streamHasLessThenTenErrs =
         validationErrors.get(messageStream) == null || validationErrors.get(messageStream).getRight() < 10;
     if (streamHasLessThenTenErrs) {
+      final AirbyteRecordMessage recordToValidate;
+      if (PassthroughAirbyteRecordMessage.isUnparsed(record)) {
+        // parsing every record is what the passthrough avoids, only a sample of them is validated. The
+        // sample is parsed into a copy so that the record itself is still forwarded as is.
+        final long unparsedRecords = unparsedRecordCounts.merge(messageStream, 1L, Long::sum);
+        if (unparsedRecords == 1 && unparsedRecordCounts.size() == 1) {
+          LOGGER.info("Record passthrough is enabled, validating the first {} records of each stream and 1 in {} after that",
+              PASSTHROUGH_VALIDATED_RECORDS, PASSTHROUGH_VALIDATION_SAMPLING);
+        }
+        if (unparsedRecords > PASSTHROUGH_VALIDATED_RECORDS && unparsedRecords % PASSTHROUGH_VALIDATION_SAMPLING != 0) {
+          return;
+        }
+        recordToValidate = PassthroughAirbyteRecordMessage.parsedCopy(record);
+      } else {
+        recordToValidate = record;
+      }
       try {
-        recordSchemaValidator.validateSchema(record, messageStream);
+        recordSchemaValidator.validateSchema(recordToValidate, messageStream);
       } catch (final RecordSchemaValidationException e) {
         final ImmutablePair<Set<String>, Integer> exceptionWithCount = validationErrors.get(messageStream);
         if (exceptionWithCount == null) {
@@ -5,9 +5,20 @@
 package io.airbyte.workers.internal;
 
 import java.io.BufferedWriter;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 
 public interface AirbyteMessageBufferedWriterFactory {
 
   AirbyteMessageBufferedWriter createWriter(BufferedWriter bufferedWriter);
 
+  /**
+   * Create the writer for the raw input of a process. Implementations that do not only write text can
+   * override it to write bytes directly.
+   */
+  default AirbyteMessageBufferedWriter createWriter(final OutputStream outputStream) {
+    return createWriter(new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)));
+  }
+
 }
@@ -6,11 +6,10 @@ package io.airbyte.workers.internal;
 
 import static io.airbyte.metrics.lib.ApmTraceConstants.WORKER_OPERATION_NAME;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.base.Charsets;
-import com.google.common.collect.BiMap;
-import com.google.common.collect.HashBiMap;
 import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
 import com.google.common.hash.Hashing;
 import datadog.trace.api.Trace;
 import io.airbyte.commons.features.EnvVariableFeatureFlags;
@@ -19,18 +18,24 @@ import io.airbyte.config.FailureReason;
 import io.airbyte.config.State;
 import io.airbyte.protocol.models.AirbyteControlConnectorConfigMessage;
 import io.airbyte.protocol.models.AirbyteControlMessage;
+import io.airbyte.protocol.models.AirbyteGlobalState;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.AirbyteStateMessage;
 import io.airbyte.protocol.models.AirbyteStateMessage.AirbyteStateType;
+import io.airbyte.protocol.models.AirbyteStreamState;
 import io.airbyte.protocol.models.AirbyteTraceMessage;
+import io.airbyte.protocol.models.StreamDescriptor;
 import io.airbyte.workers.helper.FailureHelper;
 import io.airbyte.workers.internal.StateMetricsTracker.StateMetricsTrackerNoStateMatchException;
 import io.airbyte.workers.internal.state_aggregator.DefaultStateAggregator;
 import io.airbyte.workers.internal.state_aggregator.StateAggregator;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -43,14 +48,17 @@ public class AirbyteMessageTracker implements MessageTracker {
 
   private static final long STATE_DELTA_TRACKER_MEMORY_LIMIT_BYTES = 10L * 1024L * 1024L; // 10 MiB, ~5% of default cloud worker memory
   private static final long STATE_METRICS_TRACKER_MESSAGE_LIMIT = 873813L; // 12 bytes per message tracked, maximum of 10MiB of memory
+  private static final int INITIAL_STREAM_CAPACITY = 16;
 
   private final AtomicReference<State> sourceOutputState;
   private final AtomicReference<State> destinationOutputState;
-  private final Map<Short, Long> streamToRunningCount;
   private final HashFunction hashFunction;
-  private final BiMap<String, Short> streamNameToIndex;
-  private final Map<Short, Long> streamToTotalBytesEmitted;
-  private final Map<Short, Long> streamToTotalRecordsEmitted;
+  private final Map<String, Short> streamNameToIndex;
+  private final List<String> streamNames;
+  // per stream counters, indexed by stream index. Only the first nextStreamIndex entries are in use.
+  private long[] streamToRunningCount;
+  private long[] streamToTotalBytesEmitted;
+  private long[] streamToTotalRecordsEmitted;
   private final StateDeltaTracker stateDeltaTracker;
   private final StateMetricsTracker stateMetricsTracker;
   private final List<AirbyteTraceMessage> destinationErrorTraceMessages;
@@ -59,6 +67,9 @@ public class AirbyteMessageTracker implements MessageTracker {
   private final boolean logConnectorMessages = new EnvVariableFeatureFlags().logConnectorMessages();
 
   private short nextStreamIndex;
+  // records of a stream usually come in a row, remember the last stream to skip the map lookup.
+  private String lastStreamName;
+  private short lastStreamIndex;
 
   /**
    * If the StateDeltaTracker throws an exception, this flag is set to true and committed counts are
@@ -82,17 +93,28 @@ public class AirbyteMessageTracker implements MessageTracker {
         new StateMetricsTracker(STATE_METRICS_TRACKER_MESSAGE_LIMIT));
   }
 
+  /**
+   * @param jobRoot directory in which state deltas are spilled when they exceed the memory limit, so
+   *        that committed record counts stay reliable on long syncs.
+   */
+  public AirbyteMessageTracker(final Path jobRoot) {
+    this(new StateDeltaTracker(STATE_DELTA_TRACKER_MEMORY_LIMIT_BYTES, jobRoot),
+        new DefaultStateAggregator(new EnvVariableFeatureFlags().useStreamCapableState()),
+        new StateMetricsTracker(STATE_METRICS_TRACKER_MESSAGE_LIMIT));
+  }
+
   @VisibleForTesting
   protected AirbyteMessageTracker(final StateDeltaTracker stateDeltaTracker,
                                   final StateAggregator stateAggregator,
                                   final StateMetricsTracker stateMetricsTracker) {
     this.sourceOutputState = new AtomicReference<>();
     this.destinationOutputState = new AtomicReference<>();
-    this.streamToRunningCount = new HashMap<>();
-    this.streamNameToIndex = HashBiMap.create();
+    this.streamNameToIndex = new HashMap<>();
+    this.streamNames = new ArrayList<>();
     this.hashFunction = Hashing.murmur3_32_fixed();
-    this.streamToTotalBytesEmitted = new HashMap<>();
-    this.streamToTotalRecordsEmitted = new HashMap<>();
+    this.streamToRunningCount = new long[INITIAL_STREAM_CAPACITY];
+    this.streamToTotalBytesEmitted = new long[INITIAL_STREAM_CAPACITY];
+    this.streamToTotalRecordsEmitted = new long[INITIAL_STREAM_CAPACITY];
     this.stateDeltaTracker = stateDeltaTracker;
     this.stateMetricsTracker = stateMetricsTracker;
     this.nextStreamIndex = 0;
@@ -141,15 +163,13 @@ public class AirbyteMessageTracker implements MessageTracker {
 
     final short streamIndex = getStreamIndex(recordMessage.getStream());
 
-    final long currentRunningCount = streamToRunningCount.getOrDefault(streamIndex, 0L);
-    streamToRunningCount.put(streamIndex, currentRunningCount + 1);
-
-    final long currentTotalCount = streamToTotalRecordsEmitted.getOrDefault(streamIndex, 0L);
-    streamToTotalRecordsEmitted.put(streamIndex, currentTotalCount + 1);
-
-    final int estimatedNumBytes = Jsons.getEstimatedByteSize(recordMessage.getData());
-    final long currentTotalStreamBytes = streamToTotalBytesEmitted.getOrDefault(streamIndex, 0L);
-    streamToTotalBytesEmitted.put(streamIndex, currentTotalStreamBytes + estimatedNumBytes);
+    streamToRunningCount[streamIndex]++;
+    streamToTotalRecordsEmitted[streamIndex]++;
+    // the size of the line the record was read from is known unless the record was built in memory.
+    final int estimatedNumBytes = recordMessage instanceof SizedAirbyteRecordMessage sized
+        ? sized.getSerializedByteSize()
+        : Jsons.getEstimatedByteSize(recordMessage.getData());
+    streamToTotalBytesEmitted[streamIndex] += estimatedNumBytes;
   }
 
   /**
@@ -168,7 +188,7 @@ public class AirbyteMessageTracker implements MessageTracker {
 
     try {
       if (!unreliableCommittedCounts) {
-        stateDeltaTracker.addState(stateHash, streamToRunningCount);
+        stateDeltaTracker.addState(stateHash, getStreamToRunningCount());
       }
       if (!unreliableStateTimingMetrics) {
         stateMetricsTracker.addState(stateMessage, stateHash, timeEmittedStateMessage);
@@ -183,7 +203,20 @@ public class AirbyteMessageTracker implements MessageTracker {
       log.warn("This only affects metrics and does not indicate a problem with actual sync data.");
       unreliableStateTimingMetrics = true;
     }
-    streamToRunningCount.clear();
+    Arrays.fill(streamToRunningCount, 0L);
+  }
+
+  /**
+   * @return the running count of the streams that emitted records since the last state.
+   */
+  private Map<Short, Long> getStreamToRunningCount() {
+    final Map<Short, Long> runningCounts = new HashMap<>();
+    for (short streamIndex = 0; streamIndex < nextStreamIndex; streamIndex++) {
+      if (streamToRunningCount[streamIndex] > 0) {
+        runningCounts.put(streamIndex, streamToRunningCount[streamIndex]);
+      }
+    }
+    return runningCounts;
   }
 
   /**
@@ -264,21 +297,103 @@ public class AirbyteMessageTracker implements MessageTracker {
   }
 
   private short getStreamIndex(final String streamName) {
-    if (!streamNameToIndex.containsKey(streamName)) {
-      streamNameToIndex.put(streamName, nextStreamIndex);
+    if (streamName != null && streamName.equals(lastStreamName)) {
+      return lastStreamIndex;
+    }
+    Short streamIndex = streamNameToIndex.get(streamName);
+    if (streamIndex == null) {
+      streamIndex = nextStreamIndex;
+      streamNameToIndex.put(streamName, streamIndex);
+      streamNames.add(streamName);
       nextStreamIndex++;
+      if (nextStreamIndex > streamToRunningCount.length) {
+        final int capacity = streamToRunningCount.length * 2;
+        streamToRunningCount = Arrays.copyOf(streamToRunningCount, capacity);
+        streamToTotalBytesEmitted = Arrays.copyOf(streamToTotalBytesEmitted, capacity);
+        streamToTotalRecordsEmitted = Arrays.copyOf(streamToTotalRecordsEmitted, capacity);
+      }
+    }
+    lastStreamName = streamName;
+    lastStreamIndex = streamIndex;
+    return streamIndex;
+  }
+
+  /**
+   * Swap out stream indices for stream names for the streams which emitted records.
+   */
+  private Map<String, Long> toStreamNameMap(final long[] streamToValue) {
+    final Map<String, Long> streamNameToValue = new HashMap<>();
+    for (short streamIndex = 0; streamIndex < nextStreamIndex; streamIndex++) {
+      streamNameToValue.put(streamNames.get(streamIndex), streamToValue[streamIndex]);
     }
-    return streamNameToIndex.get(streamName);
+    return streamNameToValue;
   }
 
+  /**
+   * Hash the state by walking its json tree rather than serializing it, large states such as CDC
+   * offsets and schema history would otherwise be turned into a String twice per checkpoint.
+   */
   private int getStateHashCode(final AirbyteStateMessage stateMessage) {
+    final Hasher hasher = hashFunction.newHasher();
     if (AirbyteStateType.GLOBAL == stateMessage.getType()) {
-      return hashFunction.hashBytes(Jsons.serialize(stateMessage.getGlobal()).getBytes(Charsets.UTF_8)).hashCode();
+      final AirbyteGlobalState global = stateMessage.getGlobal();
+      putJson(hasher, global.getSharedState());
+      final List<AirbyteStreamState> streamStates = global.getStreamStates() == null ? List.of() : global.getStreamStates();
+      for (final AirbyteStreamState streamState : streamStates) {
+        final StreamDescriptor streamDescriptor = streamState.getStreamDescriptor();
+        putString(hasher, streamDescriptor == null ? null : streamDescriptor.getName());
+        putString(hasher, streamDescriptor == null ? null : streamDescriptor.getNamespace());
+        putJson(hasher, streamState.getStreamState());
+      }
     } else if (AirbyteStateType.STREAM == stateMessage.getType()) {
-      return hashFunction.hashBytes(Jsons.serialize(stateMessage.getStream().getStreamState()).getBytes(Charsets.UTF_8)).hashCode();
+      putJson(hasher, stateMessage.getStream().getStreamState());
     } else {
       // state type is LEGACY
-      return hashFunction.hashBytes(Jsons.serialize(stateMessage.getData()).getBytes(Charsets.UTF_8)).hashCode();
+      putJson(hasher, stateMessage.getData());
+    }
+    return hasher.hash().asInt();
+  }
+
+  /**
+   * Feed a json tree to the hasher. Each value is prefixed with its type and strings with their length
+   * so that different trees do not produce the same input.
+   */
+  private static void putJson(final Hasher hasher, final JsonNode node) {
+    if (node == null || node.isNull() || node.isMissingNode()) {
+      hasher.putByte((byte) 'n');
+    } else if (node.isObject()) {
+      hasher.putByte((byte) '{').putInt(node.size());
+      final Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+      while (fields.hasNext()) {
+        final Map.Entry<String, JsonNode> field = fields.next();
+        putString(hasher, field.getKey());
+        putJson(hasher, field.getValue());
+      }
+    } else if (node.isArray()) {
+      hasher.putByte((byte) '[').putInt(node.size());
+      for (final JsonNode element : node) {
+        putJson(hasher, element);
+      }
+    } else if (node.isTextual()) {
+      putString(hasher, node.textValue());
+    } else if (node.isBoolean()) {
+      hasher.putByte((byte) 'b').putBoolean(node.booleanValue());
+    } else if (node.isIntegralNumber() && node.canConvertToLong()) {
+      hasher.putByte((byte) 'i').putLong(node.longValue());
+    } else if (node.isDouble() || node.isFloat()) {
+      hasher.putByte((byte) 'd').putDouble(node.doubleValue());
+    } else {
+      // big numbers and binary values
+      hasher.putByte((byte) 'o');
+      putString(hasher, node.asText());
+    }
+  }
+
+  private static void putString(final Hasher hasher, final String value) {
+    if (value == null) {
+      hasher.putByte((byte) 'n');
+    } else {
+      hasher.putByte((byte) 's').putInt(value.length()).putUnencodedChars(value);
     }
   }
 
@@ -349,7 +464,7 @@ public class AirbyteMessageTracker implements MessageTracker {
     return Optional.of(
         streamIndexToCommittedRecordCount.entrySet().stream().collect(
             Collectors.toMap(
-                entry -> streamNameToIndex.inverse().get(entry.getKey()),
+                entry -> streamNames.get(entry.getKey()),
                 Map.Entry::getValue)));
   }
 
@@ -358,9 +473,7 @@ public class AirbyteMessageTracker implements MessageTracker {
    */
   @Override
   public Map<String, Long> getStreamToEmittedRecords() {
-    return streamToTotalRecordsEmitted.entrySet().stream().collect(Collectors.toMap(
-        entry -> streamNameToIndex.inverse().get(entry.getKey()),
-        Map.Entry::getValue));
+    return toStreamNameMap(streamToTotalRecordsEmitted);
   }
 
   /**
@@ -368,9 +481,7 @@ public class AirbyteMessageTracker implements MessageTracker {
    */
   @Override
   public Map<String, Long> getStreamToEmittedBytes() {
-    return streamToTotalBytesEmitted.entrySet().stream().collect(Collectors.toMap(
-        entry -> streamNameToIndex.inverse().get(entry.getKey()),
-        Map.Entry::getValue));
+    return toStreamNameMap(streamToTotalBytesEmitted);
   }
 
   /**
@@ -378,7 +489,7 @@ public class AirbyteMessageTracker implements MessageTracker {
    */
   @Override
   public long getTotalRecordsEmitted() {
-    return streamToTotalRecordsEmitted.values().stream().reduce(0L, Long::sum);
+    return Arrays.stream(streamToTotalRecordsEmitted, 0, nextStreamIndex).sum();
   }
 
   /**
@@ -386,7 +497,7 @@ public class AirbyteMessageTracker implements MessageTracker {
    */
   @Override
   public long getTotalBytesEmitted() {
-    return streamToTotalBytesEmitted.values().stream().reduce(0L, Long::sum);
+    return Arrays.stream(streamToTotalBytesEmitted, 0, nextStreamIndex).sum();
   }
 
   /**
@@ -4,12 +4,22 @@
 
 package io.airbyte.workers.internal;
 
+import io.airbyte.commons.io.IOs;
 import io.airbyte.protocol.models.AirbyteMessage;
 import java.io.BufferedReader;
+import java.io.InputStream;
 import java.util.stream.Stream;
 
 public interface AirbyteStreamFactory {
 
   Stream<AirbyteMessage> create(BufferedReader bufferedReader);
 
+  /**
+   * Create the stream from the raw output of a process. Implementations that do not need lines as
+   * strings can override it to read the bytes directly.
+   */
+  default Stream<AirbyteMessage> create(final InputStream inputStream) {
+    return create(IOs.newBufferedReader(inputStream));
+  }
+
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import io.airbyte.commons.protocol.framing.BinaryMessageFraming;
+import io.airbyte.commons.protocol.framing.BinaryMessageFraming.FrameEncoder;
+import io.airbyte.protocol.models.AirbyteMessage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes messages as newline delimited json until the destination accepts binary message framing,
+ * then as {@link BinaryMessageFraming} frames.
+ *
+ * <p>
+ * The destination reads lines and frames from the same stream, so the switch can happen between any
+ * two messages. Records that can be forwarded as is are still written as lines, see
+ * {@link PassthroughAirbyteRecordMessage}.
+ */
+public class BinaryFramingAirbyteMessageBufferedWriter implements AirbyteMessageBufferedWriter {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(BinaryFramingAirbyteMessageBufferedWriter.class);
+
+  private final OutputStream outputStream;
+  private final AirbyteMessageBufferedWriter lineWriter;
+  private final BooleanSupplier framingAccepted;
+  private final FrameEncoder encoder = BinaryMessageFraming.newEncoder();
+  private boolean framing = false;
+
+  /**
+   * @param outputStream buffered stream the frames are written to
+   * @param lineWriter writer used until framing is accepted, writing to the same outputStream
+   * @param framingAccepted tells whether the destination accepted binary message framing
+   */
+  public BinaryFramingAirbyteMessageBufferedWriter(final OutputStream outputStream,
+                                                   final AirbyteMessageBufferedWriter lineWriter,
+                                                   final BooleanSupplier framingAccepted) {
+    this.outputStream = outputStream;
+    this.lineWriter = lineWriter;
+    this.framingAccepted = framingAccepted;
+  }
+
+  @Override
+  public void write(final AirbyteMessage message) throws IOException {
+    if (!framing && framingAccepted.getAsBoolean()) {
+      LOGGER.info("Destination accepted binary message framing, switching from newline delimited json");
+      // everything written as lines so far must reach the stream before the first frame.
+      lineWriter.flush();
+      framing = true;
+    }
+    if (!framing) {
+      lineWriter.write(message);
+      return;
+    }
+    final Optional<String> serializedMessage = PassthroughAirbyteRecordMessage.getSerializedMessage(message);
+    if (serializedMessage.isPresent()) {
+      outputStream.write(serializedMessage.get().getBytes(StandardCharsets.UTF_8));
+      outputStream.write('\n');
+    } else {
+      encoder.write(message, outputStream);
+    }
+  }
+
+  @Override
+  public void flush() throws IOException {
+    lineWriter.flush();
+    outputStream.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    // the line writer wraps the same stream and closes it.
+    lineWriter.close();
+  }
+
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Creates {@link BinaryFramingAirbyteMessageBufferedWriter}, which fall back to the writers of the
+ * given factory until the destination accepts binary message framing.
+ */
+public class BinaryFramingAirbyteMessageBufferedWriterFactory implements AirbyteMessageBufferedWriterFactory {
+
+  private final BooleanSupplier framingAccepted;
+  private final AirbyteMessageBufferedWriterFactory lineWriterFactory;
+
+  public BinaryFramingAirbyteMessageBufferedWriterFactory(final BooleanSupplier framingAccepted,
+                                                          final AirbyteMessageBufferedWriterFactory lineWriterFactory) {
+    this.framingAccepted = framingAccepted;
+    this.lineWriterFactory = lineWriterFactory;
+  }
+
+  /**
+   * Frames cannot be written to a character stream, only lines are written.
+   */
+  @Override
+  public AirbyteMessageBufferedWriter createWriter(final BufferedWriter bufferedWriter) {
+    return lineWriterFactory.createWriter(bufferedWriter);
+  }
+
+  @Override
+  public AirbyteMessageBufferedWriter createWriter(final OutputStream outputStream) {
+    final BufferedOutputStream bufferedOutputStream = new BufferedOutputStream(outputStream);
+    final AirbyteMessageBufferedWriter lineWriter =
+        lineWriterFactory.createWriter(new BufferedWriter(new OutputStreamWriter(bufferedOutputStream, StandardCharsets.UTF_8)));
+    return new BinaryFramingAirbyteMessageBufferedWriter(bufferedOutputStream, lineWriter, framingAccepted);
+  }
+
+}
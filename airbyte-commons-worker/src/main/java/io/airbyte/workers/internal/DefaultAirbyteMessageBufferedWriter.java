@@ -8,6 +8,7 @@ import io.airbyte.commons.json.Jsons;
 import io.airbyte.protocol.models.AirbyteMessage;
 import java.io.BufferedWriter;
 import java.io.IOException;
+import java.util.Optional;
 
 public class DefaultAirbyteMessageBufferedWriter implements AirbyteMessageBufferedWriter {
 
@@ -19,7 +20,8 @@ public class DefaultAirbyteMessageBufferedWriter implements AirbyteMessageBuffer
 
   @Override
   public void write(final AirbyteMessage message) throws IOException {
-    writer.write(Jsons.serialize(message));
+    final Optional<String> serializedMessage = PassthroughAirbyteRecordMessage.getSerializedMessage(message);
+    writer.write(serializedMessage.isPresent() ? serializedMessage.get() : Jsons.serialize(message));
     writer.newLine();
   }
 
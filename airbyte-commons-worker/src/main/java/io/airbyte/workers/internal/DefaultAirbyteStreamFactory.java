@@ -7,6 +7,7 @@ package io.airbyte.workers.internal;
 import static io.airbyte.metrics.lib.ApmTraceConstants.WORKER_OPERATION_NAME;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.base.Utf8;
 import datadog.trace.api.Trace;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.logging.MdcScope;
@@ -29,15 +30,21 @@ import org.slf4j.LoggerFactory;
  * If a line starts with a AirbyteMessage and then has other characters after it, that
  * AirbyteMessage will still be parsed. If there are multiple AirbyteMessage records on the same
  * line, only the first will be parsed.
+ *
+ * <p>
+ * When record passthrough is enabled, RECORD messages are not parsed: only their envelope is
+ * extracted and the original line is kept so that it can be forwarded to the destination as is. See
+ * {@link PassthroughAirbyteRecordMessage}.
  */
 @SuppressWarnings("PMD.MoreThanOneLogger")
 public class DefaultAirbyteStreamFactory implements AirbyteStreamFactory {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(DefaultAirbyteStreamFactory.class);
 
-  private final MdcScope.Builder containerLogMdcBuilder;
+  protected final MdcScope.Builder containerLogMdcBuilder;
   private final AirbyteProtocolPredicate protocolValidator;
   protected final Logger logger;
+  private boolean recordPassthrough = false;
 
   public DefaultAirbyteStreamFactory() {
     this(MdcScope.DEFAULT_BUILDER);
@@ -62,12 +69,36 @@ public class DefaultAirbyteStreamFactory implements AirbyteStreamFactory {
     return bufferedReader
         .lines()
         .peek(str -> metricClient.distribution(OssMetricsRegistry.JSON_STRING_LENGTH, str.length()))
-        .flatMap(this::parseJson)
-        .filter(this::validate)
-        .flatMap(this::toAirbyteMessage)
+        .flatMap(this::parseLine)
         .filter(this::filterLog);
   }
 
+  public DefaultAirbyteStreamFactory withRecordPassthrough(final boolean recordPassthrough) {
+    this.recordPassthrough = recordPassthrough;
+    return this;
+  }
+
+  protected boolean isRecordPassthrough() {
+    return recordPassthrough;
+  }
+
+  private Stream<AirbyteMessage> parseLine(final String line) {
+    if (isRecordPassthrough()) {
+      final Optional<AirbyteMessage> record = PassthroughAirbyteRecordMessage.scan(line);
+      if (record.isPresent()) {
+        return record.stream();
+      }
+    }
+    final Stream<AirbyteMessage> messages = parseJson(line)
+        .filter(this::validate)
+        .flatMap(this::toAirbyteMessage);
+    // passthrough records are counted by the size of their line, so are the ones it falls back on.
+    // Otherwise the tracker keeps estimating the size of the data.
+    return isRecordPassthrough()
+        ? messages.map(message -> SizedAirbyteRecordMessage.withSerializedByteSize(message, Utf8.encodedLength(line)))
+        : messages;
+  }
+
   protected Stream<JsonNode> parseJson(final String line) {
     final Optional<JsonNode> jsonLine = Jsons.tryDeserialize(line);
     if (jsonLine.isEmpty()) {
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+/**
+ * A set of ints backed by an open addressing table of primitives, so that adding and looking up
+ * values does not box them as a {@code Set<Integer>} would.
+ */
+class IntHashSet {
+
+  private static final int INITIAL_CAPACITY = 64;
+
+  // 0 marks an empty slot, whether the set contains 0 is tracked separately.
+  private int[] table;
+  private boolean containsZero;
+  private int size;
+
+  IntHashSet() {
+    this.table = new int[INITIAL_CAPACITY];
+    this.containsZero = false;
+    this.size = 0;
+  }
+
+  /**
+   * @return true if the value was not already in the set.
+   */
+  boolean add(final int value) {
+    if (value == 0) {
+      if (containsZero) {
+        return false;
+      }
+      containsZero = true;
+      size++;
+      return true;
+    }
+    final int slot = findSlot(table, value);
+    if (table[slot] == value) {
+      return false;
+    }
+    table[slot] = value;
+    size++;
+    // keep the table at most half full so that probe sequences stay short.
+    if (size * 2 > table.length) {
+      resize();
+    }
+    return true;
+  }
+
+  boolean contains(final int value) {
+    if (value == 0) {
+      return containsZero;
+    }
+    return table[findSlot(table, value)] == value;
+  }
+
+  int size() {
+    return size;
+  }
+
+  /**
+   * @return the slot holding the value, or the empty slot where it should be inserted.
+   */
+  private static int findSlot(final int[] table, final int value) {
+    final int mask = table.length - 1;
+    int slot = mix(value) & mask;
+    while (table[slot] != 0 && table[slot] != value) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  private void resize() {
+    final int[] newTable = new int[table.length * 2];
+    for (final int value : table) {
+      if (value != 0) {
+        newTable[findSlot(newTable, value)] = value;
+      }
+    }
+    table = newTable;
+  }
+
+  /**
+   * Spread the bits of the value, consecutive values would otherwise fill consecutive slots.
+   */
+  private static int mix(final int value) {
+    final int h = value * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+}
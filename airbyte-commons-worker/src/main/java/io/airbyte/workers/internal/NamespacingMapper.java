@@ -60,7 +60,7 @@ public class NamespacingMapper implements AirbyteMapper {
 
   @Override
   public AirbyteMessage mapMessage(final AirbyteMessage inputMessage) {
-    if (inputMessage.getType() == Type.RECORD) {
+    if (inputMessage.getType() == Type.RECORD && !isIdentity()) {
       final AirbyteMessage message = Jsons.clone(inputMessage);
       // Default behavior if namespaceDefinition is not set is to follow SOURCE
       if (namespaceDefinition != null) {
@@ -76,6 +76,14 @@ public class NamespacingMapper implements AirbyteMapper {
     return inputMessage;
   }
 
+  /**
+   * Whether records come out of the mapper exactly as they came in, in which case they do not need
+   * to be copied.
+   */
+  private boolean isIdentity() {
+    return (namespaceDefinition == null || namespaceDefinition.equals(NamespaceDefinitionType.SOURCE)) && Strings.isBlank(streamPrefix);
+  }
+
   private static String formatNamespace(final String sourceNamespace, final String namespaceFormat) {
     String result = "";
     if (Strings.isNotBlank(namespaceFormat)) {
@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.base.Utf8;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * A record that remembers the line it was read from so that it can be forwarded to the destination
+ * without being parsed and serialized again.
+ *
+ * Only the envelope (stream, namespace, emitted_at) is extracted when the record is read. The data is
+ * parsed on the first call to {@link #getData()}. The original line is forwarded only as long as
+ * nothing looked at or changed the record: once the data has been parsed it could have been mutated
+ * in place, so the record is serialized again like any other.
+ */
+public class PassthroughAirbyteRecordMessage extends SizedAirbyteRecordMessage {
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  private final String serializedMessage;
+  private final int dataStart;
+  private final int dataEnd;
+  private boolean dataParsed = false;
+  private boolean modified = false;
+
+  private PassthroughAirbyteRecordMessage(final String serializedMessage,
+                                          final String stream,
+                                          final String namespace,
+                                          final Long emittedAt,
+                                          final int dataStart,
+                                          final int dataEnd) {
+    this.serializedMessage = serializedMessage;
+    this.dataStart = dataStart;
+    this.dataEnd = dataEnd;
+    setSerializedByteSize(Utf8.encodedLength(serializedMessage));
+    super.setStream(stream);
+    super.setNamespace(namespace);
+    super.setEmittedAt(emittedAt);
+  }
+
+  /**
+   * Extract the envelope of a serialized RECORD message with a single pass over its tokens, skipping
+   * over the data.
+   *
+   * @param line serialized AirbyteMessage
+   * @return the message if the line is a well-formed RECORD message that only contains the fields
+   *         known to the protocol, otherwise empty and the line should go through the regular parsing.
+   */
+  public static Optional<AirbyteMessage> scan(final String line) {
+    String type = null;
+    String stream = null;
+    String namespace = null;
+    Long emittedAt = null;
+    int dataStart = -1;
+    int dataEnd = -1;
+    try (final JsonParser parser = JSON_FACTORY.createParser(line)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return Optional.empty();
+      }
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        final String field = parser.getCurrentName();
+        final JsonToken value = parser.nextToken();
+        if ("type".equals(field) && value == JsonToken.VALUE_STRING) {
+          type = parser.getText();
+        } else if ("record".equals(field) && value == JsonToken.START_OBJECT) {
+          while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String recordField = parser.getCurrentName();
+            final JsonToken recordValue = parser.nextToken();
+            if ("stream".equals(recordField) && recordValue == JsonToken.VALUE_STRING) {
+              stream = parser.getText();
+            } else if ("namespace".equals(recordField) && recordValue == JsonToken.VALUE_STRING) {
+              namespace = parser.getText();
+            } else if ("namespace".equals(recordField) && recordValue == JsonToken.VALUE_NULL) {
+              namespace = null;
+            } else if ("emitted_at".equals(recordField) && recordValue == JsonToken.VALUE_NUMBER_INT) {
+              emittedAt = parser.getLongValue();
+            } else if ("data".equals(recordField) && recordValue == JsonToken.START_OBJECT) {
+              dataStart = (int) parser.getTokenLocation().getCharOffset();
+              parser.skipChildren();
+              dataEnd = (int) parser.getCurrentLocation().getCharOffset();
+            } else {
+              // unknown field or unexpected type, let the regular parsing deal with it.
+              return Optional.empty();
+            }
+          }
+        } else {
+          return Optional.empty();
+        }
+      }
+      // anything after the message would be dropped by the regular parsing but not by the passthrough.
+      if (parser.currentToken() != JsonToken.END_OBJECT || parser.nextToken() != null) {
+        return Optional.empty();
+      }
+    } catch (final IOException e) {
+      return Optional.empty();
+    }
+
+    if (!Type.RECORD.value().equals(type) || stream == null || emittedAt == null || dataStart < 0) {
+      return Optional.empty();
+    }
+    return Optional.of(new AirbyteMessage()
+        .withType(Type.RECORD)
+        .withRecord(new PassthroughAirbyteRecordMessage(line, stream, namespace, emittedAt, dataStart, dataEnd)));
+  }
+
+  /**
+   * @return the line the message was read from, if it can be forwarded as is.
+   */
+  public static Optional<String> getSerializedMessage(final AirbyteMessage message) {
+    if (message.getType() == Type.RECORD
+        && message.getRecord() instanceof PassthroughAirbyteRecordMessage passthrough
+        && message.getAdditionalProperties().isEmpty()
+        && passthrough.isForwardable()) {
+      return Optional.of(passthrough.serializedMessage);
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * @return true if the record data has not been parsed, i.e. nothing needed the payload so far.
+   */
+  public static boolean isUnparsed(final AirbyteRecordMessage record) {
+    return record instanceof PassthroughAirbyteRecordMessage passthrough && !passthrough.dataParsed;
+  }
+
+  /**
+   * @return a copy of the record with its data parsed, leaving the record itself unparsed so that it
+   *         is still forwarded as is.
+   */
+  public static AirbyteRecordMessage parsedCopy(final AirbyteRecordMessage record) {
+    if (!(record instanceof PassthroughAirbyteRecordMessage passthrough) || passthrough.dataParsed) {
+      return record;
+    }
+    return new AirbyteRecordMessage()
+        .withStream(passthrough.getStream())
+        .withNamespace(passthrough.getNamespace())
+        .withEmittedAt(passthrough.getEmittedAt())
+        .withData(Jsons.deserialize(passthrough.serializedMessage.substring(passthrough.dataStart, passthrough.dataEnd)));
+  }
+
+  private boolean isForwardable() {
+    return !dataParsed && !modified;
+  }
+
+  @Override
+  public JsonNode getData() {
+    if (!dataParsed) {
+      super.setData(Jsons.deserialize(serializedMessage.substring(dataStart, dataEnd)));
+      dataParsed = true;
+    }
+    return super.getData();
+  }
+
+  @Override
+  public void setData(final JsonNode data) {
+    dataParsed = true;
+    modified = true;
+    super.setData(data);
+  }
+
+  @Override
+  public AirbyteRecordMessage withData(final JsonNode data) {
+    setData(data);
+    return this;
+  }
+
+  @Override
+  public void setStream(final String stream) {
+    modified = true;
+    super.setStream(stream);
+  }
+
+  @Override
+  public AirbyteRecordMessage withStream(final String stream) {
+    setStream(stream);
+    return this;
+  }
+
+  @Override
+  public void setNamespace(final String namespace) {
+    modified = true;
+    super.setNamespace(namespace);
+  }
+
+  @Override
+  public AirbyteRecordMessage withNamespace(final String namespace) {
+    setNamespace(namespace);
+    return this;
+  }
+
+  @Override
+  public void setEmittedAt(final Long emittedAt) {
+    modified = true;
+    super.setEmittedAt(emittedAt);
+  }
+
+  @Override
+  public AirbyteRecordMessage withEmittedAt(final Long emittedAt) {
+    setEmittedAt(emittedAt);
+    return this;
+  }
+
+  @Override
+  public void setAdditionalProperty(final String name, final Object value) {
+    modified = true;
+    super.setAdditionalProperty(name, value);
+  }
+
+  @Override
+  public AirbyteRecordMessage withAdditionalProperty(final String name, final Object value) {
+    setAdditionalProperty(name, value);
+    return this;
+  }
+
+  // equality and printing need the data, parse it first.
+
+  @Override
+  public boolean equals(final Object other) {
+    getData();
+    if (other instanceof PassthroughAirbyteRecordMessage) {
+      ((PassthroughAirbyteRecordMessage) other).getData();
+    }
+    return super.equals(other);
+  }
+
+  @Override
+  public int hashCode() {
+    getData();
+    return super.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    getData();
+    return super.toString();
+  }
+
+}
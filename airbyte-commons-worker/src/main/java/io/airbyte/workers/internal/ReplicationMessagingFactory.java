@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import io.airbyte.commons.features.FeatureFlags;
+import io.airbyte.commons.protocol.AirbyteMessageSerDeProvider;
+import io.airbyte.commons.protocol.AirbyteMessageVersionedMigratorFactory;
+import io.airbyte.commons.version.Version;
+import io.airbyte.workers.process.IntegrationLauncher;
+
+/**
+ * Picks how messages are read from and written to the connectors of a replication, depending on the
+ * feature flags and on the protocol version of each connector.
+ */
+public class ReplicationMessagingFactory {
+
+  private final FeatureFlags featureFlags;
+  private final AirbyteMessageSerDeProvider serDeProvider;
+  private final AirbyteMessageVersionedMigratorFactory migratorFactory;
+
+  public ReplicationMessagingFactory(final FeatureFlags featureFlags,
+                                     final AirbyteMessageSerDeProvider serDeProvider,
+                                     final AirbyteMessageVersionedMigratorFactory migratorFactory) {
+    this.featureFlags = featureFlags;
+    this.serDeProvider = serDeProvider;
+    this.migratorFactory = migratorFactory;
+  }
+
+  /**
+   * Record passthrough needs the records as lines, frames are not offered to the source when it is
+   * enabled.
+   */
+  public boolean useSourceBinaryMessageFraming(final Version protocolVersion) {
+    return useDestinationBinaryMessageFraming(protocolVersion) && !featureFlags.useRecordPassthrough();
+  }
+
+  public boolean useDestinationBinaryMessageFraming(final Version protocolVersion) {
+    return featureFlags.useBinaryMessageFraming() && !needMigration(protocolVersion);
+  }
+
+  public DefaultAirbyteStreamFactory getSourceStreamFactory(final Version protocolVersion) {
+    return getStreamFactory(protocolVersion).withRecordPassthrough(featureFlags.useRecordPassthrough());
+  }
+
+  /**
+   * Frames from the destination tell that it accepted binary message framing, from which point it is
+   * sent frames as well.
+   */
+  public AirbyteDestination getDestination(final IntegrationLauncher destinationLauncher,
+                                           final Version protocolVersion,
+                                           final boolean binaryMessageFraming) {
+    final AirbyteMessageBufferedWriterFactory writerFactory =
+        new VersionedAirbyteMessageBufferedWriterFactory(serDeProvider, migratorFactory, protocolVersion);
+    if (binaryMessageFraming) {
+      final StreamingAirbyteStreamFactory streamFactory = new StreamingAirbyteStreamFactory();
+      return new DefaultAirbyteDestination(destinationLauncher, streamFactory,
+          new BinaryFramingAirbyteMessageBufferedWriterFactory(streamFactory::hasReceivedFrames, writerFactory));
+    }
+    return new DefaultAirbyteDestination(destinationLauncher, getStreamFactory(protocolVersion), writerFactory);
+  }
+
+  /**
+   * The streaming parser binds messages to the current protocol models, so it can only be used when
+   * the connector does not need its messages to be upgraded. It is also the one reading binary
+   * message frames.
+   */
+  private DefaultAirbyteStreamFactory getStreamFactory(final Version protocolVersion) {
+    if ((featureFlags.useStreamingMessageParser() || featureFlags.useBinaryMessageFraming()) && !needMigration(protocolVersion)) {
+      return new StreamingAirbyteStreamFactory();
+    }
+    return protocolVersion != null
+        ? new VersionedAirbyteStreamFactory<>(serDeProvider, migratorFactory, protocolVersion)
+        : new DefaultAirbyteStreamFactory();
+  }
+
+  private boolean needMigration(final Version protocolVersion) {
+    return protocolVersion != null
+        && !protocolVersion.getMajorVersion().equals(migratorFactory.getMostRecentVersion().getMajorVersion());
+  }
+
+}
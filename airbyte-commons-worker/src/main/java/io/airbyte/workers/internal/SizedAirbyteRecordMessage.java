@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+
+/**
+ * A record that remembers the size in UTF-8 bytes of the line it was read from, so that the
+ * {@link AirbyteMessageTracker} can count bytes without serializing the data again with
+ * {@link Jsons#getEstimatedByteSize(JsonNode)}.
+ *
+ * The size is not part of the message: it is ignored by serialization and equality.
+ */
+public class SizedAirbyteRecordMessage extends AirbyteRecordMessage {
+
+  private int serializedByteSize;
+
+  public SizedAirbyteRecordMessage() {
+    super();
+  }
+
+  /**
+   * Attach the size of its serialized form to the record of a message. The record is copied if it is
+   * not already a {@link SizedAirbyteRecordMessage}.
+   *
+   * @return the same message
+   */
+  public static AirbyteMessage withSerializedByteSize(final AirbyteMessage message, final int serializedByteSize) {
+    if (message.getType() != Type.RECORD || message.getRecord() == null) {
+      return message;
+    }
+    final SizedAirbyteRecordMessage sized;
+    if (message.getRecord() instanceof SizedAirbyteRecordMessage record) {
+      sized = record;
+    } else {
+      final AirbyteRecordMessage record = message.getRecord();
+      sized = new SizedAirbyteRecordMessage();
+      sized.setNamespace(record.getNamespace());
+      sized.setStream(record.getStream());
+      sized.setData(record.getData());
+      sized.setEmittedAt(record.getEmittedAt());
+      record.getAdditionalProperties().forEach(sized::setAdditionalProperty);
+      message.setRecord(sized);
+    }
+    sized.setSerializedByteSize(serializedByteSize);
+    return message;
+  }
+
+  @JsonIgnore
+  public int getSerializedByteSize() {
+    return serializedByteSize;
+  }
+
+  @JsonIgnore
+  public void setSerializedByteSize(final int serializedByteSize) {
+    this.serializedByteSize = serializedByteSize;
+  }
+
+}
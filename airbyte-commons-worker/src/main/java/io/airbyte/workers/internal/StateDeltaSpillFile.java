@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import com.google.common.base.Preconditions;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * First in, first out queue of state deltas stored in a memory-mapped file, used by the
+ * {@link StateDeltaTracker} once its deltas no longer fit in memory.
+ * <p>
+ * The file is mapped in fixed size segments, each delta being written as its length followed by its
+ * bytes. A delta never spans two segments: when it does not fit in the rest of a segment, a length of
+ * 0 marks the end of the segment and the delta goes to the next one. Deltas always hold a state hash,
+ * so 0 is never a valid length.
+ * <p>
+ * The file is reused from its start once every delta has been read, so its size is bounded by the
+ * largest backlog of uncommitted deltas. Mappings do not depend on the channel used to create them,
+ * so no file descriptor is kept open.
+ */
+class StateDeltaSpillFile {
+
+  private static final int END_OF_SEGMENT = 0;
+
+  private final Path path;
+  private final int segmentBytes;
+
+  private MappedByteBuffer writeSegment;
+  private long writeSegmentStart;
+  private MappedByteBuffer readSegment;
+  private long readSegmentStart;
+  private long deltaCount;
+
+  StateDeltaSpillFile(final Path path, final int segmentBytes) throws IOException {
+    this.path = path;
+    this.segmentBytes = segmentBytes;
+    Files.createDirectories(path.getParent());
+    Files.deleteIfExists(path);
+    reset();
+  }
+
+  void append(final byte[] delta) throws IOException {
+    Preconditions.checkArgument(delta.length > 0 && Integer.BYTES + delta.length <= segmentBytes,
+        "State delta of %s bytes does not fit in a spill file segment", delta.length);
+    if (writeSegment.remaining() < Integer.BYTES + delta.length) {
+      if (writeSegment.remaining() >= Integer.BYTES) {
+        writeSegment.putInt(END_OF_SEGMENT);
+      }
+      writeSegmentStart += segmentBytes;
+      writeSegment = map(writeSegmentStart);
+    }
+    writeSegment.putInt(delta.length);
+    writeSegment.put(delta);
+    deltaCount++;
+  }
+
+  /**
+   * @return the oldest delta of the file, or null if all of them have been read.
+   */
+  byte[] poll() throws IOException {
+    if (deltaCount == 0) {
+      return null;
+    }
+    if (readSegment.remaining() < Integer.BYTES || readSegment.getInt(readSegment.position()) == END_OF_SEGMENT) {
+      readSegmentStart += segmentBytes;
+      readSegment = readSegmentStart == writeSegmentStart ? duplicateWriteSegment() : map(readSegmentStart);
+    }
+    final byte[] delta = new byte[readSegment.getInt()];
+    readSegment.get(delta);
+    deltaCount--;
+    if (deltaCount == 0) {
+      reset();
+    }
+    return delta;
+  }
+
+  boolean isEmpty() {
+    return deltaCount == 0;
+  }
+
+  private void reset() throws IOException {
+    if (writeSegment == null || writeSegmentStart != 0) {
+      writeSegmentStart = 0;
+      writeSegment = map(0);
+    } else {
+      writeSegment.position(0);
+    }
+    readSegmentStart = 0;
+    readSegment = duplicateWriteSegment();
+    deltaCount = 0;
+  }
+
+  /**
+   * @return a view of the segment being written with its own position, set to the segment start.
+   */
+  private MappedByteBuffer duplicateWriteSegment() {
+    final MappedByteBuffer segment = (MappedByteBuffer) writeSegment.duplicate();
+    segment.position(0);
+    return segment;
+  }
+
+  private MappedByteBuffer map(final long start) throws IOException {
+    try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      return channel.map(MapMode.READ_WRITE, start, segmentBytes);
+    }
+  }
+
+}
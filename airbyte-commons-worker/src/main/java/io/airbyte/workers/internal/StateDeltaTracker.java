@@ -8,13 +8,13 @@ import static io.airbyte.metrics.lib.ApmTraceConstants.WORKER_OPERATION_NAME;
 
 import com.google.common.annotations.VisibleForTesting;
 import datadog.trace.api.Trace;
+import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -24,12 +24,16 @@ import lombok.extern.slf4j.Slf4j;
  *  [(state hash),(stream index),(record count)...] with the last two elements repeating per stream in the delta.
  * </pre>
  * <p>
- * This class also maintains a {@code Set} of {@code committedStateHashes} so that it can accumulate
+ * This class also maintains a primitive set of {@code committedStateHashes} so that it can accumulate
  * both committed and total record counts per stream.
  * <p>
  * The StateDeltaTracker is initialized with a memory limit. If this memory limit is exceeded, new
  * states deltas will not be added and per-stream record counts will not be able to be computed.
  * This is to prevent OutOfMemoryErrors from crashing the sync.
+ * <p>
+ * When given a spill directory, the oldest deltas are instead moved to a {@link StateDeltaSpillFile}
+ * once the memory limit is reached, so that committed counts stay exact however far the destination
+ * lags behind the source. Deltas are then read back from the file first, as it holds the oldest ones.
  */
 @Slf4j
 public class StateDeltaTracker {
@@ -38,9 +42,15 @@ public class StateDeltaTracker {
   private static final int STREAM_INDEX_BYTES = Short.BYTES;
   private static final int RECORD_COUNT_BYTES = Long.BYTES;
   private static final int BYTES_PER_STREAM = STREAM_INDEX_BYTES + RECORD_COUNT_BYTES;
+  private static final String SPILL_FILE_NAME = "state_deltas.spill";
+  @VisibleForTesting
+  static final int SPILL_SEGMENT_BYTES = 16 * 1024 * 1024;
 
-  private final Set<Integer> committedStateHashes;
+  private final IntHashSet committedStateHashes;
   private final Map<Short, Long> streamToCommittedRecords;
+  private final Path spillDirectory;
+  private final int spillSegmentBytes;
+  private StateDeltaSpillFile spillFile;
 
   /**
    * Every time a state is added, a new byte[] containing the state hash and per-stream delta will be
@@ -58,7 +68,21 @@ public class StateDeltaTracker {
   protected boolean capacityExceeded;
 
   public StateDeltaTracker(final long memoryLimitBytes) {
-    this.committedStateHashes = new HashSet<>();
+    this(memoryLimitBytes, null, SPILL_SEGMENT_BYTES);
+  }
+
+  /**
+   * @param spillDirectory directory in which deltas are spilled once the memory limit is reached
+   */
+  public StateDeltaTracker(final long memoryLimitBytes, final Path spillDirectory) {
+    this(memoryLimitBytes, spillDirectory, SPILL_SEGMENT_BYTES);
+  }
+
+  @VisibleForTesting
+  StateDeltaTracker(final long memoryLimitBytes, final Path spillDirectory, final int spillSegmentBytes) {
+    this.spillDirectory = spillDirectory;
+    this.spillSegmentBytes = spillSegmentBytes;
+    this.committedStateHashes = new IntHashSet();
     this.streamToCommittedRecords = new HashMap<>();
     this.stateDeltas = new ArrayList<>();
     this.remainingCapacity = memoryLimitBytes;
@@ -73,14 +97,14 @@ public class StateDeltaTracker {
    * calling addState while the destination thread calls commitStateHash.
    *
    * @throws StateDeltaTrackerException thrown when the memory footprint of stateDeltas exceeds
-   *         available capacity.
+   *         available capacity and deltas cannot be spilled to disk.
    */
   @Trace(operationName = WORKER_OPERATION_NAME)
   public void addState(final int stateHash, final Map<Short, Long> streamIndexToRecordCount) throws StateDeltaTrackerException {
     synchronized (this) {
       final int size = STATE_HASH_BYTES + (streamIndexToRecordCount.size() * BYTES_PER_STREAM);
 
-      if (capacityExceeded || remainingCapacity < size) {
+      if (capacityExceeded || (remainingCapacity < size && spillDirectory == null)) {
         capacityExceeded = true;
         throw new StateDeltaTrackerException("Memory capacity is exceeded for StateDeltaTracker.");
       }
@@ -94,9 +118,66 @@ public class StateDeltaTracker {
         delta.putLong(entry.getValue());
       }
 
-      stateDeltas.add(delta.array());
-      remainingCapacity -= delta.array().length;
+      if (remainingCapacity < size) {
+        spillOldestDeltas(size);
+      }
+      if (remainingCapacity < size) {
+        // the delta alone is larger than the memory limit, everything older has been spilled already.
+        spill(delta.array());
+      } else {
+        stateDeltas.add(delta.array());
+        remainingCapacity -= delta.array().length;
+      }
+    }
+  }
+
+  /**
+   * Move deltas from the head of the in-memory list to the spill file until the given number of bytes
+   * fits in memory.
+   */
+  private void spillOldestDeltas(final int size) throws StateDeltaTrackerException {
+    if (spillFile == null || spillFile.isEmpty()) {
+      log.info("StateDeltaTracker memory limit reached, spilling state deltas to {}", spillDirectory.resolve(SPILL_FILE_NAME));
+    }
+    while (remainingCapacity < size && !stateDeltas.isEmpty()) {
+      final byte[] oldestDelta = stateDeltas.remove(0);
+      spill(oldestDelta);
+      remainingCapacity += oldestDelta.length;
+    }
+  }
+
+  private void spill(final byte[] delta) throws StateDeltaTrackerException {
+    try {
+      if (spillFile == null) {
+        spillFile = new StateDeltaSpillFile(spillDirectory.resolve(SPILL_FILE_NAME), spillSegmentBytes);
+      }
+      spillFile.append(delta);
+    } catch (final IOException | IllegalArgumentException e) {
+      capacityExceeded = true;
+      throw new StateDeltaTrackerException("State deltas could not be spilled to disk: " + e.getMessage());
+    }
+  }
+
+  /**
+   * @return the oldest delta, read from the spill file first as it holds deltas older than the
+   *         in-memory ones.
+   */
+  private byte[] pollOldestDelta() throws StateDeltaTrackerException {
+    if (spillFile != null && !spillFile.isEmpty()) {
+      try {
+        return spillFile.poll();
+      } catch (final IOException e) {
+        capacityExceeded = true;
+        throw new StateDeltaTrackerException("State deltas could not be read back from disk: " + e.getMessage());
+      }
+    }
+    if (stateDeltas.isEmpty()) {
+      return null;
     }
+    // as deltas are removed and aggregated into committed count map, reclaim capacity
+    final byte[] delta = stateDeltas.remove(0);
+    remainingCapacity += delta.length;
+    return delta;
   }
 
   /**
@@ -114,20 +195,18 @@ public class StateDeltaTracker {
       if (capacityExceeded) {
         throw new StateDeltaTrackerException("Memory capacity exceeded for StateDeltaTracker, so states cannot be reliably committed");
       }
-      if (committedStateHashes.contains(stateHash)) {
+      if (!committedStateHashes.add(stateHash)) {
         throw new StateDeltaTrackerException(
             String.format("State hash %d was already committed, likely indicating a state hash collision", stateHash));
       }
 
-      committedStateHashes.add(stateHash);
       int currStateHash;
       do {
-        if (stateDeltas.isEmpty()) {
+        final byte[] oldestDelta = pollOldestDelta();
+        if (oldestDelta == null) {
           throw new StateDeltaTrackerException(String.format("Delta was not stored for state hash %d", stateHash));
         }
-        // as deltas are removed and aggregated into committed count map, reclaim capacity
-        final ByteBuffer currDelta = ByteBuffer.wrap(stateDeltas.remove(0));
-        remainingCapacity += currDelta.capacity();
+        final ByteBuffer currDelta = ByteBuffer.wrap(oldestDelta);
 
         currStateHash = currDelta.getInt();
 
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import static io.airbyte.metrics.lib.ApmTraceConstants.WORKER_OPERATION_NAME;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.annotations.VisibleForTesting;
+import datadog.trace.api.Trace;
+import io.airbyte.commons.io.IOs;
+import io.airbyte.commons.jackson.MoreMappers;
+import io.airbyte.commons.logging.MdcScope;
+import io.airbyte.commons.protocol.framing.BinaryMessageFraming;
+import io.airbyte.commons.protocol.framing.FramedMessageReader;
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.MetricClientFactory;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates a stream of AirbyteMessage by binding each line of the process output directly to an
+ * AirbyteMessage with a Jackson parser, without building a String and a JsonNode for every line.
+ *
+ * <p>
+ * Lines are split on the raw bytes of the InputStream into a single buffer that is reused for the
+ * whole stream. Lines that are not valid JSON are logged, as with the
+ * {@link DefaultAirbyteStreamFactory}, and are the only ones turned into a String.
+ *
+ * <p>
+ * Messages are not validated against the protocol json schema since that would need the JsonNode
+ * this factory is meant to avoid. Instead, a message is only kept if it has a type and the payload
+ * that goes with that type.
+ *
+ * <p>
+ * Messages sent as {@link BinaryMessageFraming} frames are decoded as well. Connectors only send
+ * frames when they were offered to, so reading frames is harmless for the others. Whether any frame
+ * was received tells if the connector accepted the offer, see {@link #hasReceivedFrames()}.
+ *
+ * <p>
+ * Record passthrough works on the lines as strings. When it is enabled, this factory falls back to
+ * the line based parsing of the {@link DefaultAirbyteStreamFactory}.
+ */
+public class StreamingAirbyteStreamFactory extends DefaultAirbyteStreamFactory {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(StreamingAirbyteStreamFactory.class);
+  private static final ObjectReader MESSAGE_READER = MoreMappers.initMapper()
+      .addMixIn(AirbyteRecordMessage.class, SizedRecordMixin.class)
+      .readerFor(AirbyteMessage.class);
+  private static final ObjectReader FRAME_READER = BinaryMessageFraming.readerFor(AirbyteMessage.class);
+
+  @VisibleForTesting
+  static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+  private volatile boolean receivedFrames = false;
+
+  public StreamingAirbyteStreamFactory() {
+    this(MdcScope.DEFAULT_BUILDER);
+  }
+
+  public StreamingAirbyteStreamFactory(final MdcScope.Builder containerLogMdcBuilder) {
+    this(LOGGER, containerLogMdcBuilder);
+  }
+
+  @VisibleForTesting
+  StreamingAirbyteStreamFactory(final Logger logger, final MdcScope.Builder containerLogMdcBuilder) {
+    super(new AirbyteProtocolPredicate(), logger, containerLogMdcBuilder);
+  }
+
+  @Trace(operationName = WORKER_OPERATION_NAME)
+  @Override
+  public Stream<AirbyteMessage> create(final InputStream inputStream) {
+    if (isRecordPassthrough()) {
+      return create(IOs.newBufferedReader(inputStream));
+    }
+    final MessageSpliterator spliterator = new MessageSpliterator(inputStream, MetricClientFactory.getMetricClient());
+    return StreamSupport.stream(spliterator, false)
+        .filter(this::filterLog);
+  }
+
+  /**
+   * @return true once a framed message was read from a stream created by this factory.
+   */
+  public boolean hasReceivedFrames() {
+    return receivedFrames;
+  }
+
+  /**
+   * Decode a single frame to an AirbyteMessage.
+   *
+   * @return the message, or null if the frame could not be decoded.
+   */
+  private AirbyteMessage parseFrame(final byte[] buffer, final int offset, final int length) {
+    receivedFrames = true;
+    final AirbyteMessage message;
+    try {
+      message = FRAME_READER.readValue(buffer, offset, length);
+    } catch (final IOException e) {
+      logger.error("Deserialization of a message frame failed", e);
+      return null;
+    }
+    if (message == null || !hasPayload(message)) {
+      logger.error("Validation failed: {}", message);
+      return null;
+    }
+    return message;
+  }
+
+  /**
+   * Bind a single line to an AirbyteMessage.
+   *
+   * @return the message, or null if the line is not a valid AirbyteMessage, in which case the line has
+   *         been logged.
+   */
+  private AirbyteMessage parseLine(final byte[] buffer, final int offset, final int length) {
+    final AirbyteMessage message;
+    try (final JsonParser parser = MESSAGE_READER.getFactory().createParser(buffer, offset, length)) {
+      message = MESSAGE_READER.readValue(parser);
+    } catch (final IOException e) {
+      // we log as info all the lines that are not valid json
+      // some sources actually log their process on stdout, we
+      // want to make sure this info is available in the logs.
+      try (final var mdcScope = containerLogMdcBuilder.build()) {
+        logger.info(new String(buffer, offset, length, StandardCharsets.UTF_8));
+      }
+      return null;
+    }
+    if (message == null || !hasPayload(message)) {
+      logger.error("Validation failed: {}", new String(buffer, offset, length, StandardCharsets.UTF_8));
+      return null;
+    }
+    return SizedAirbyteRecordMessage.withSerializedByteSize(message, length);
+  }
+
+  private static boolean hasPayload(final AirbyteMessage message) {
+    if (message.getType() == null) {
+      return false;
+    }
+    return switch (message.getType()) {
+      case RECORD -> message.getRecord() != null;
+      case STATE -> message.getState() != null;
+      case LOG -> message.getLog() != null;
+      case SPEC -> message.getSpec() != null;
+      case CONNECTION_STATUS -> message.getConnectionStatus() != null;
+      case CATALOG -> message.getCatalog() != null;
+      case TRACE -> message.getTrace() != null;
+      case CONTROL -> message.getControl() != null;
+    };
+  }
+
+  /**
+   * Binds records to {@link SizedAirbyteRecordMessage} so that the size of their line is attached
+   * without a copy. Frames are smaller than the json lines, their records are left as is so that byte
+   * counts do not depend on the framing.
+   */
+  @JsonDeserialize(as = SizedAirbyteRecordMessage.class)
+  private interface SizedRecordMixin {}
+
+  /**
+   * Emits one message per line or frame of the stream.
+   */
+  private class MessageSpliterator extends Spliterators.AbstractSpliterator<AirbyteMessage> {
+
+    private final FramedMessageReader reader;
+    private final MetricClient metricClient;
+
+    MessageSpliterator(final InputStream inputStream, final MetricClient metricClient) {
+      super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+      this.reader = new FramedMessageReader(inputStream, INITIAL_BUFFER_SIZE);
+      this.metricClient = metricClient;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super AirbyteMessage> action) {
+      try {
+        while (reader.next()) {
+          metricClient.distribution(OssMetricsRegistry.JSON_STRING_LENGTH, reader.getLength());
+          final AirbyteMessage message = reader.isFrame()
+              ? parseFrame(reader.getBuffer(), reader.getOffset(), reader.getLength())
+              : parseLine(reader.getBuffer(), reader.getOffset(), reader.getLength());
+          if (message != null) {
+            action.accept(message);
+            return true;
+          }
+        }
+        return false;
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+  }
+
+}
@@ -15,17 +15,31 @@ public class VersionedAirbyteMessageBufferedWriter<T> extends DefaultAirbyteMess
 
   private final AirbyteMessageSerializer<T> serializer;
   private final AirbyteMessageVersionedMigrator<T> migrator;
+  private final boolean needMigration;
 
   public VersionedAirbyteMessageBufferedWriter(final BufferedWriter writer,
                                                final AirbyteMessageSerializer<T> serializer,
                                                final AirbyteMessageVersionedMigrator<T> migrator) {
+    this(writer, serializer, migrator, true);
+  }
+
+  public VersionedAirbyteMessageBufferedWriter(final BufferedWriter writer,
+                                               final AirbyteMessageSerializer<T> serializer,
+                                               final AirbyteMessageVersionedMigrator<T> migrator,
+                                               final boolean needMigration) {
     super(writer);
     this.serializer = serializer;
     this.migrator = migrator;
+    this.needMigration = needMigration;
   }
 
   @Override
   public void write(final AirbyteMessage message) throws IOException {
+    // records read from the same major version are forwarded as is
+    if (!needMigration && PassthroughAirbyteRecordMessage.getSerializedMessage(message).isPresent()) {
+      super.write(message);
+      return;
+    }
     final T downgradedMessage = migrator.downgrade(convert(message));
     writer.write(serializer.serialize(downgradedMessage));
     writer.newLine();
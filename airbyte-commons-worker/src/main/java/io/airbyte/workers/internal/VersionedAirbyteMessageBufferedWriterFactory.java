@@ -37,7 +37,8 @@ public class VersionedAirbyteMessageBufferedWriterFactory implements AirbyteMess
     return new VersionedAirbyteMessageBufferedWriter<>(
         bufferedWriter,
         serDeProvider.getSerializer(protocolVersion).orElseThrow(),
-        migratorFactory.getVersionedMigrator(protocolVersion));
+        migratorFactory.getVersionedMigrator(protocolVersion),
+        needMigration);
   }
 
 }
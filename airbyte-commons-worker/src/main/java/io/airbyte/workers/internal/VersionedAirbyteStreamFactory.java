@@ -161,6 +161,14 @@ public class VersionedAirbyteStreamFactory<T> extends DefaultAirbyteStreamFactor
     this.protocolVersion = protocolVersion;
   }
 
+  /**
+   * Records can only be forwarded as is when they do not need to be upgraded.
+   */
+  @Override
+  protected boolean isRecordPassthrough() {
+    return super.isRecordPassthrough() && protocolVersion.getMajorVersion().equals(migratorFactory.getMostRecentVersion().getMajorVersion());
+  }
+
   @Override
   protected Stream<AirbyteMessage> toAirbyteMessage(final JsonNode json) {
     try {
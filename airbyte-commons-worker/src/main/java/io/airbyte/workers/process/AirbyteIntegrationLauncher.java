@@ -56,18 +56,34 @@ public class AirbyteIntegrationLauncher implements IntegrationLauncher {
   private final ProcessFactory processFactory;
   private final ResourceRequirements resourceRequirement;
   private final FeatureFlags featureFlags;
+  private final boolean binaryMessageFraming;
 
   public AirbyteIntegrationLauncher(final String jobId,
                                     final int attempt,
                                     final String imageName,
                                     final ProcessFactory processFactory,
                                     final ResourceRequirements resourceRequirement) {
+    this(jobId, attempt, imageName, processFactory, resourceRequirement, false);
+  }
+
+  /**
+   * @param binaryMessageFraming offer binary message framing to the connector when it reads or writes
+   *        data. Only enable it when the stream factory and message writer used for the connector
+   *        support it.
+   */
+  public AirbyteIntegrationLauncher(final String jobId,
+                                    final int attempt,
+                                    final String imageName,
+                                    final ProcessFactory processFactory,
+                                    final ResourceRequirements resourceRequirement,
+                                    final boolean binaryMessageFraming) {
     this.jobId = jobId;
     this.attempt = attempt;
     this.imageName = imageName;
     this.processFactory = processFactory;
     this.resourceRequirement = resourceRequirement;
     this.featureFlags = new EnvVariableFeatureFlags();
+    this.binaryMessageFraming = binaryMessageFraming;
   }
 
   @Trace(operationName = WORKER_OPERATION_NAME)
@@ -171,7 +187,7 @@ public class AirbyteIntegrationLauncher implements IntegrationLauncher {
         null,
         resourceRequirement,
         Map.of(JOB_TYPE, SYNC_JOB, SYNC_STEP, READ_STEP),
-        getWorkerMetadata(),
+        getSyncWorkerMetadata(),
         Collections.emptyMap(),
         arguments.toArray(new String[arguments.size()]));
   }
@@ -200,7 +216,7 @@ public class AirbyteIntegrationLauncher implements IntegrationLauncher {
         null,
         resourceRequirement,
         Map.of(JOB_TYPE, SYNC_JOB, SYNC_STEP, WRITE_STEP),
-        getWorkerMetadata(),
+        getSyncWorkerMetadata(),
         Collections.emptyMap(),
         "write",
         CONFIG, configFilename,
@@ -212,7 +228,22 @@ public class AirbyteIntegrationLauncher implements IntegrationLauncher {
         WorkerEnvConstants.WORKER_CONNECTOR_IMAGE, imageName,
         WorkerEnvConstants.WORKER_JOB_ID, jobId,
         WorkerEnvConstants.WORKER_JOB_ATTEMPT, String.valueOf(attempt),
-        EnvVariableFeatureFlags.USE_STREAM_CAPABLE_STATE, String.valueOf(featureFlags.useStreamCapableState()));
+        EnvVariableFeatureFlags.USE_STREAM_CAPABLE_STATE, String.valueOf(featureFlags.useStreamCapableState()),
+        EnvVariableFeatureFlags.USE_FEEDBACK_FETCH_SIZE, String.valueOf(featureFlags.useFeedbackFetchSize()));
+  }
+
+  /**
+   * Binary message framing is only offered when reading or writing data, the output of the other
+   * commands is read line by line.
+   */
+  private Map<String, String> getSyncWorkerMetadata() {
+    if (!binaryMessageFraming) {
+      return getWorkerMetadata();
+    }
+    return ImmutableMap.<String, String>builder()
+        .putAll(getWorkerMetadata())
+        .put(EnvVariableFeatureFlags.USE_BINARY_MESSAGE_FRAMING, Boolean.TRUE.toString())
+        .build();
   }
 
 }
@@ -5,6 +5,7 @@
 package io.airbyte.workers.internal;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.airbyte.commons.json.Jsons;
@@ -20,6 +21,7 @@ import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -88,6 +90,24 @@ class AirbyteMessageTrackerTest {
     assertEquals(expectedState, messageTracker.getDestinationOutputState().get());
   }
 
+  @Test
+  void testStateHashMatchesBetweenSourceAndDestination() throws Exception {
+    final AirbyteMessage sourceState = AirbyteMessageUtils.createGlobalStateMessage(1, STREAM_1, STREAM_2);
+    // the destination sends back its own copy of the state.
+    final AirbyteMessage destinationState = Jsons.deserialize(Jsons.serialize(sourceState), AirbyteMessage.class);
+    final AirbyteMessage otherState = AirbyteMessageUtils.createGlobalStateMessage(2, STREAM_1, STREAM_2);
+    Mockito.when(mStateAggregator.getAggregated()).thenReturn(new State());
+
+    messageTracker.acceptFromSource(sourceState);
+    messageTracker.acceptFromSource(otherState);
+    messageTracker.acceptFromDestination(destinationState);
+
+    final ArgumentCaptor<Integer> addedHashes = ArgumentCaptor.forClass(Integer.class);
+    Mockito.verify(mStateDeltaTracker, Mockito.times(2)).addState(addedHashes.capture(), Mockito.any());
+    assertNotEquals(addedHashes.getAllValues().get(0), addedHashes.getAllValues().get(1));
+    Mockito.verify(mStateDeltaTracker).commitStateHash(addedHashes.getAllValues().get(0));
+  }
+
   @Test
   void testReturnEmptyStateIfNoneEverAccepted() {
     assertTrue(messageTracker.getSourceOutputState().isEmpty());
@@ -140,6 +160,31 @@ class AirbyteMessageTrackerTest {
     assertEquals(expected, messageTracker.getStreamToEmittedBytes());
   }
 
+  @Test
+  void testEmittedBytesFromSerializedSize() {
+    final AirbyteMessage r1 = SizedAirbyteRecordMessage.withSerializedByteSize(AirbyteMessageUtils.createRecordMessage(STREAM_1, 1), 100);
+    final AirbyteMessage r2 = AirbyteMessageUtils.createRecordMessage(STREAM_1, 2);
+
+    messageTracker.acceptFromSource(r1);
+    messageTracker.acceptFromSource(r2);
+
+    assertEquals(Map.of(STREAM_1, 100L + Jsons.getEstimatedByteSize(r2.getRecord().getData())), messageTracker.getStreamToEmittedBytes());
+  }
+
+  @Test
+  void testEmittedRecordsWithManyStreams() {
+    final Map<String, Long> expected = new HashMap<>();
+    for (int i = 0; i < 100; i++) {
+      final String streamName = "stream" + i;
+      messageTracker.acceptFromSource(AirbyteMessageUtils.createRecordMessage(streamName, i));
+      messageTracker.acceptFromSource(AirbyteMessageUtils.createRecordMessage(streamName, i));
+      expected.put(streamName, 2L);
+    }
+
+    assertEquals(expected, messageTracker.getStreamToEmittedRecords());
+    assertEquals(200L, messageTracker.getTotalRecordsEmitted());
+  }
+
   @Test
   void testGetCommittedRecordsByStream() {
     final AirbyteMessage r1 = AirbyteMessageUtils.createRecordMessage(STREAM_1, 1);
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.protocol.framing.BinaryMessageFraming;
+import io.airbyte.commons.protocol.framing.FramedMessageReader;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.workers.test_utils.AirbyteMessageUtils;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+class BinaryFramingAirbyteMessageBufferedWriterTest {
+
+  private static final String STREAM_NAME = "user_preferences";
+  private static final String FIELD_NAME = "favorite_color";
+
+  @Test
+  void testSwitchesToFramesOnceAccepted() throws IOException {
+    final AirbyteMessage record1 = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "green");
+    final AirbyteMessage record2 = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "yellow");
+    final AtomicBoolean framingAccepted = new AtomicBoolean(false);
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    final AirbyteMessageBufferedWriter writer =
+        new BinaryFramingAirbyteMessageBufferedWriterFactory(framingAccepted::get, new DefaultAirbyteMessageBufferedWriterFactory())
+            .createWriter(output);
+    writer.write(record1);
+    framingAccepted.set(true);
+    writer.write(record2);
+    writer.flush();
+    writer.close();
+
+    final FramedMessageReader reader = new FramedMessageReader(new ByteArrayInputStream(output.toByteArray()));
+    assertTrue(reader.next());
+    assertFalse(reader.isFrame());
+    assertEquals(record1, Jsons.deserialize(reader.getLine(), AirbyteMessage.class));
+    assertTrue(reader.next());
+    assertTrue(reader.isFrame());
+    assertEquals(record2, BinaryMessageFraming.readerFor(AirbyteMessage.class).readValue(reader.getBuffer(), reader.getOffset(), reader.getLength()));
+    assertFalse(reader.next());
+  }
+
+}
@@ -5,6 +5,7 @@
 package io.airbyte.workers.internal;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
@@ -24,6 +25,8 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
@@ -105,6 +108,37 @@ class DefaultAirbyteStreamFactoryTest {
     verifyNoMoreInteractions(logger);
   }
 
+  @Test
+  void testRecordPassthrough() {
+    final AirbyteMessage record1 = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "green");
+    final AirbyteMessage logMessage = AirbyteMessageUtils.createLogMessage(AirbyteLogMessage.Level.WARN, "warning");
+    final String serializedRecord = Jsons.serialize(record1);
+
+    final List<AirbyteMessage> messages = stringToMessageStream(serializedRecord + "\n" + Jsons.serialize(logMessage), true)
+        .collect(Collectors.toList());
+
+    assertEquals(1, messages.size());
+    assertEquals(Optional.of(serializedRecord), PassthroughAirbyteRecordMessage.getSerializedMessage(messages.get(0)));
+    assertEquals(record1.getRecord().getStream(), messages.get(0).getRecord().getStream());
+    assertEquals(record1.getRecord().getData(), messages.get(0).getRecord().getData());
+    verify(logger).warn("warning");
+    verifyNoMoreInteractions(logger);
+  }
+
+  @Test
+  void testRecordSizes() {
+    final AirbyteMessage record1 = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "vert émeraude");
+    final String serializedRecord = Jsons.serialize(record1);
+
+    final AirbyteMessage parsed = stringToMessageStream(serializedRecord).findFirst().orElseThrow();
+    final AirbyteMessage passedThrough = stringToMessageStream(serializedRecord, true).findFirst().orElseThrow();
+
+    // without passthrough the record is left as is, for the tracker to estimate its size.
+    assertFalse(parsed.getRecord() instanceof SizedAirbyteRecordMessage);
+    assertEquals(serializedRecord.getBytes(StandardCharsets.UTF_8).length,
+        ((SizedAirbyteRecordMessage) passedThrough.getRecord()).getSerializedByteSize());
+  }
+
   @Test
   @Disabled
   void testMissingNewLineBetweenValidRecords() {
@@ -121,9 +155,15 @@ class DefaultAirbyteStreamFactoryTest {
   }
 
   private Stream<AirbyteMessage> stringToMessageStream(final String inputString) {
+    return stringToMessageStream(inputString, false);
+  }
+
+  private Stream<AirbyteMessage> stringToMessageStream(final String inputString, final boolean recordPassthrough) {
     final InputStream inputStream = new ByteArrayInputStream(inputString.getBytes(StandardCharsets.UTF_8));
     final BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
-    return new DefaultAirbyteStreamFactory(protocolPredicate, logger, new Builder()).create(bufferedReader);
+    return new DefaultAirbyteStreamFactory(protocolPredicate, logger, new Builder())
+        .withRecordPassthrough(recordPassthrough)
+        .create(bufferedReader);
   }
 
 }
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class IntHashSetTest {
+
+  @Test
+  void testAddAndContains() {
+    final IntHashSet set = new IntHashSet();
+
+    assertTrue(set.add(0));
+    assertTrue(set.add(-7));
+    assertTrue(set.add(Integer.MAX_VALUE));
+    assertFalse(set.add(0));
+    assertFalse(set.add(-7));
+
+    assertTrue(set.contains(0));
+    assertTrue(set.contains(-7));
+    assertTrue(set.contains(Integer.MAX_VALUE));
+    assertFalse(set.contains(7));
+    assertEquals(3, set.size());
+  }
+
+  @Test
+  void testGrowsPastItsInitialCapacity() {
+    final IntHashSet set = new IntHashSet();
+    for (int i = 0; i < 10_000; i++) {
+      assertTrue(set.add(i * 31));
+    }
+
+    for (int i = 0; i < 10_000; i++) {
+      assertTrue(set.contains(i * 31));
+      assertFalse(set.contains(i * 31 + 1));
+    }
+    assertEquals(10_000, set.size());
+  }
+
+}
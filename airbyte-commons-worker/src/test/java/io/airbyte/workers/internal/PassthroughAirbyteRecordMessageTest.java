@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteLogMessage;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.workers.test_utils.AirbyteMessageUtils;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class PassthroughAirbyteRecordMessageTest {
+
+  private static final String STREAM_NAME = "user_preferences";
+  private static final String FIELD_NAME = "favorite_color";
+  private static final AirbyteMessage RECORD_MESSAGE = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "blue");
+
+  @Test
+  void testScanRecord() {
+    final AirbyteMessage recordWithNamespace = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "blue");
+    recordWithNamespace.getRecord().setNamespace("public");
+    final String line = Jsons.serialize(recordWithNamespace);
+
+    final AirbyteMessage message = PassthroughAirbyteRecordMessage.scan(line).orElseThrow();
+
+    assertEquals(AirbyteMessage.Type.RECORD, message.getType());
+    assertEquals(STREAM_NAME, message.getRecord().getStream());
+    assertEquals("public", message.getRecord().getNamespace());
+    assertEquals(RECORD_MESSAGE.getRecord().getEmittedAt(), message.getRecord().getEmittedAt());
+    assertTrue(PassthroughAirbyteRecordMessage.isUnparsed(message.getRecord()));
+    assertEquals(line.getBytes(StandardCharsets.UTF_8).length, ((PassthroughAirbyteRecordMessage) message.getRecord()).getSerializedByteSize());
+    assertEquals(Optional.of(line), PassthroughAirbyteRecordMessage.getSerializedMessage(message));
+  }
+
+  @Test
+  void testScanFallsBackToRegularParsing() {
+    final AirbyteMessage logMessage = AirbyteMessageUtils.createLogMessage(AirbyteLogMessage.Level.INFO, "a log");
+    final AirbyteMessage recordWithExtraField = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "blue");
+    recordWithExtraField.getRecord().setAdditionalProperty("extra", "field");
+
+    assertFalse(PassthroughAirbyteRecordMessage.scan(Jsons.serialize(logMessage)).isPresent());
+    assertFalse(PassthroughAirbyteRecordMessage.scan(Jsons.serialize(recordWithExtraField)).isPresent());
+    assertFalse(PassthroughAirbyteRecordMessage.scan(Jsons.serialize(RECORD_MESSAGE) + "trailing").isPresent());
+    assertFalse(PassthroughAirbyteRecordMessage.scan("{\"type\":\"RECORD\",\"record\":{\"stream\":\"s\",\"emitted_at\":1}}").isPresent());
+    assertFalse(PassthroughAirbyteRecordMessage.scan("not json").isPresent());
+  }
+
+  @Test
+  void testParsingTheDataStopsTheForwarding() {
+    final AirbyteMessage message = PassthroughAirbyteRecordMessage.scan(Jsons.serialize(RECORD_MESSAGE)).orElseThrow();
+
+    assertEquals(RECORD_MESSAGE.getRecord().getData(), message.getRecord().getData());
+    assertFalse(PassthroughAirbyteRecordMessage.isUnparsed(message.getRecord()));
+    assertEquals(Optional.empty(), PassthroughAirbyteRecordMessage.getSerializedMessage(message));
+    assertEquals(Jsons.jsonNode(RECORD_MESSAGE), Jsons.jsonNode(message));
+  }
+
+  @Test
+  void testParsedCopyKeepsTheForwarding() {
+    final String line = Jsons.serialize(RECORD_MESSAGE);
+    final AirbyteMessage message = PassthroughAirbyteRecordMessage.scan(line).orElseThrow();
+
+    assertEquals(RECORD_MESSAGE.getRecord(), PassthroughAirbyteRecordMessage.parsedCopy(message.getRecord()));
+    assertTrue(PassthroughAirbyteRecordMessage.isUnparsed(message.getRecord()));
+    assertEquals(Optional.of(line), PassthroughAirbyteRecordMessage.getSerializedMessage(message));
+  }
+
+  @Test
+  void testChangingTheEnvelopeStopsTheForwarding() {
+    final AirbyteMessage message = PassthroughAirbyteRecordMessage.scan(Jsons.serialize(RECORD_MESSAGE)).orElseThrow();
+
+    message.getRecord().withStream("prefix_" + STREAM_NAME);
+
+    assertEquals(Optional.empty(), PassthroughAirbyteRecordMessage.getSerializedMessage(message));
+    assertEquals("prefix_" + STREAM_NAME, Jsons.jsonNode(message).get("record").get("stream").asText());
+  }
+
+}
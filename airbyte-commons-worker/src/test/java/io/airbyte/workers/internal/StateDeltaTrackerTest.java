@@ -5,12 +5,14 @@
 package io.airbyte.workers.internal;
 
 import io.airbyte.workers.internal.StateDeltaTracker.StateDeltaTrackerException;
+import java.nio.file.Path;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class StateDeltaTrackerTest {
 
@@ -118,4 +120,35 @@ class StateDeltaTrackerTest {
     Assertions.assertEquals(0, stateDeltaTracker.stateDeltas.size());
   }
 
+  @Test
+  void testSpillsDeltasOnceCapacityExceeded(@TempDir final Path jobRoot) throws Exception {
+    // a segment fits two deltas, so that spilled deltas span several segments.
+    final StateDeltaTracker spillingTracker = new StateDeltaTracker(INITIAL_DELTA_MEMORY_CAPACITY, jobRoot, 60);
+    final int stateCount = 20;
+    for (int i = 1; i <= stateCount; i++) {
+      spillingTracker.addState(i, Map.of(STREAM_INDEX_1, (long) i, STREAM_INDEX_2, 1L));
+    }
+    Assertions.assertFalse(spillingTracker.capacityExceeded);
+    Assertions.assertEquals(3, spillingTracker.stateDeltas.size());
+
+    spillingTracker.commitStateHash(5);
+    Assertions.assertEquals(Map.of(STREAM_INDEX_1, 15L, STREAM_INDEX_2, 5L), spillingTracker.getStreamToCommittedRecords());
+
+    // deltas added while older ones are still on disk are read back in order.
+    spillingTracker.addState(stateCount + 1, Map.of(STREAM_INDEX_3, 1L));
+    spillingTracker.commitStateHash(stateCount + 1);
+    Assertions.assertEquals(Map.of(STREAM_INDEX_1, 210L, STREAM_INDEX_2, (long) stateCount, STREAM_INDEX_3, 1L),
+        spillingTracker.getStreamToCommittedRecords());
+    Assertions.assertEquals(INITIAL_DELTA_MEMORY_CAPACITY, spillingTracker.remainingCapacity);
+    Assertions.assertEquals(0, spillingTracker.stateDeltas.size());
+
+    // the spill file is reused once drained.
+    for (int i = stateCount + 2; i <= 2 * stateCount; i++) {
+      spillingTracker.addState(i, Map.of(STREAM_INDEX_1, 1L, STREAM_INDEX_2, 1L));
+    }
+    spillingTracker.commitStateHash(2 * stateCount);
+    Assertions.assertEquals(Map.of(STREAM_INDEX_1, 210L + stateCount - 1, STREAM_INDEX_2, 2L * stateCount - 1, STREAM_INDEX_3, 1L),
+        spillingTracker.getStreamToCommittedRecords());
+  }
+
 }
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.logging.MdcScope.Builder;
+import io.airbyte.commons.protocol.framing.BinaryMessageFraming;
+import io.airbyte.commons.protocol.framing.BinaryMessageFraming.FrameEncoder;
+import io.airbyte.protocol.models.AirbyteLogMessage;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.workers.test_utils.AirbyteMessageUtils;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+
+class StreamingAirbyteStreamFactoryTest {
+
+  private static final String STREAM_NAME = "user_preferences";
+  private static final String FIELD_NAME = "favorite_color";
+
+  private Logger logger;
+
+  @BeforeEach
+  void setup() {
+    logger = mock(Logger.class);
+  }
+
+  @Test
+  void testValid() {
+    final AirbyteMessage record1 = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "green");
+    final AirbyteMessage record2 = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "yellow");
+
+    final List<AirbyteMessage> messages = stringToMessages(Jsons.serialize(record1) + "\r\n\n" + Jsons.serialize(record2));
+
+    assertEquals(List.of(record1, record2), messages);
+    verifyNoInteractions(logger);
+  }
+
+  @Test
+  void testRecordsKeepTheirSerializedSize() {
+    final AirbyteMessage record1 = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "green");
+    final String line = Jsons.serialize(record1);
+
+    final List<AirbyteMessage> messages = stringToMessages(line);
+
+    assertEquals(List.of(record1), messages);
+    assertEquals(line.getBytes(StandardCharsets.UTF_8).length, ((SizedAirbyteRecordMessage) messages.get(0).getRecord()).getSerializedByteSize());
+  }
+
+  @Test
+  void testLoggingLine() {
+    final AirbyteMessage record1 = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "green");
+
+    final List<AirbyteMessage> messages = stringToMessages("invalid line\n" + Jsons.serialize(record1));
+
+    assertEquals(List.of(record1), messages);
+    verify(logger).info("invalid line");
+    verifyNoMoreInteractions(logger);
+  }
+
+  @Test
+  void testLoggingLevel() {
+    final AirbyteMessage logMessage = AirbyteMessageUtils.createLogMessage(AirbyteLogMessage.Level.WARN, "warning");
+
+    final List<AirbyteMessage> messages = stringToMessages(Jsons.serialize(logMessage));
+
+    assertEquals(Collections.emptyList(), messages);
+    verify(logger).warn("warning");
+    verifyNoMoreInteractions(logger);
+  }
+
+  @Test
+  void testFailValidation() {
+    final String invalidRecord = "{ \"type\": \"RECORD\", \"log\": { \"level\": \"INFO\", \"message\": \"hello\" } }";
+
+    final List<AirbyteMessage> messages = stringToMessages(invalidRecord);
+
+    assertEquals(Collections.emptyList(), messages);
+    verify(logger).error(anyString(), eq(invalidRecord));
+    verifyNoMoreInteractions(logger);
+  }
+
+  @Test
+  void testLinesLongerThanTheBuffer() {
+    final String longValue = "a".repeat(StreamingAirbyteStreamFactory.INITIAL_BUFFER_SIZE * 3);
+    final List<AirbyteMessage> expected = IntStream.range(0, 5)
+        .mapToObj(i -> AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, longValue + i))
+        .collect(Collectors.toList());
+
+    final List<AirbyteMessage> messages = stringToMessages(expected.stream().map(Jsons::serialize).collect(Collectors.joining("\n")));
+
+    assertEquals(expected, messages);
+    verifyNoInteractions(logger);
+  }
+
+  @Test
+  void testFramesInterleavedWithLines() throws IOException {
+    final AirbyteMessage record1 = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "green");
+    final AirbyteMessage record2 = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "yellow");
+    final AirbyteMessage logMessage = AirbyteMessageUtils.createLogMessage(AirbyteLogMessage.Level.WARN, "warning");
+    final FrameEncoder encoder = BinaryMessageFraming.newEncoder();
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    output.writeBytes((Jsons.serialize(record1) + "\n").getBytes(StandardCharsets.UTF_8));
+    encoder.write(logMessage, output);
+    output.writeBytes("invalid line\n".getBytes(StandardCharsets.UTF_8));
+    encoder.write(record2, output);
+
+    final StreamingAirbyteStreamFactory factory = new StreamingAirbyteStreamFactory(logger, new Builder());
+    assertFalse(factory.hasReceivedFrames());
+    final List<AirbyteMessage> messages = factory.create(new ByteArrayInputStream(output.toByteArray())).collect(Collectors.toList());
+
+    assertEquals(List.of(record1, record2), messages);
+    assertTrue(factory.hasReceivedFrames());
+    verify(logger).warn("warning");
+    verify(logger).info("invalid line");
+    verifyNoMoreInteractions(logger);
+  }
+
+  private List<AirbyteMessage> stringToMessages(final String inputString) {
+    final ByteArrayInputStream inputStream = new ByteArrayInputStream(inputString.getBytes(StandardCharsets.UTF_8));
+    return new StreamingAirbyteStreamFactory(logger, new Builder()).create(inputStream).collect(Collectors.toList());
+  }
+
+}
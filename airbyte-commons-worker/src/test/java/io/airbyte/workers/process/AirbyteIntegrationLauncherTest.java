@@ -53,7 +53,8 @@ class AirbyteIntegrationLauncherTest {
       WorkerEnvConstants.WORKER_CONNECTOR_IMAGE, FAKE_IMAGE,
       WorkerEnvConstants.WORKER_JOB_ID, JOB_ID,
       WorkerEnvConstants.WORKER_JOB_ATTEMPT, String.valueOf(JOB_ATTEMPT),
-      EnvVariableFeatureFlags.USE_STREAM_CAPABLE_STATE, String.valueOf(new EnvVariableFeatureFlags().useStreamCapableState()));
+      EnvVariableFeatureFlags.USE_STREAM_CAPABLE_STATE, String.valueOf(new EnvVariableFeatureFlags().useStreamCapableState()),
+      EnvVariableFeatureFlags.USE_FEEDBACK_FETCH_SIZE, String.valueOf(new EnvVariableFeatureFlags().useFeedbackFetchSize()));
 
   private WorkerConfigs workerConfigs;
   @Mock
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.concurrency;
+
+import com.google.common.base.Preconditions;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Bounded, lock-free queue for handing items from exactly one producer thread to exactly one
+ * consumer thread. It is a ring buffer where the producer only ever writes the tail index and the
+ * consumer only ever writes the head index, so no locks or CAS loops are required.
+ *
+ * <p>
+ * The producer signals that no more items will be offered by calling {@link #close()}. Once closed
+ * and drained, {@link #take(BooleanSupplier)} returns null.
+ *
+ * <p>
+ * Using this queue from more than one producer or more than one consumer thread is not supported.
+ *
+ * @param <T> type of the items passed through the queue
+ */
+public class BoundedSpscQueue<T> {
+
+  // number of busy spins before yielding, and of yields before parking, while waiting on the other
+  // side of the queue.
+  private static final int SPIN_TRIES = 100;
+  private static final int YIELD_TRIES = 100;
+  private static final long PARK_NANOS = 50_000;
+
+  private final AtomicReferenceArray<T> buffer;
+  private final int mask;
+  private final AtomicLong head = new AtomicLong();
+  private final AtomicLong tail = new AtomicLong();
+  private volatile boolean closed = false;
+
+  /**
+   * @param capacity - maximum number of items held by the queue, rounded up to the next power of two.
+   */
+  public BoundedSpscQueue(final int capacity) {
+    Preconditions.checkArgument(capacity > 0, "capacity must be positive");
+    final int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    this.buffer = new AtomicReferenceArray<>(size);
+    this.mask = size - 1;
+  }
+
+  /**
+   * Attempt to add an item without waiting. Must only be called by the producer thread.
+   *
+   * @param item - item to add, must not be null.
+   * @return true if the item was added, false if the queue is full.
+   */
+  public boolean offer(final T item) {
+    Preconditions.checkNotNull(item);
+    Preconditions.checkState(!closed, "Cannot offer to a closed queue");
+    final long currentTail = tail.get();
+    if (currentTail - head.get() > mask) {
+      return false;
+    }
+    final int index = (int) (currentTail & mask);
+    buffer.lazySet(index, item);
+    tail.lazySet(currentTail + 1);
+    return true;
+  }
+
+  /**
+   * Attempt to remove an item without waiting. Must only be called by the consumer thread.
+   *
+   * @return the oldest item in the queue, or null if the queue is empty.
+   */
+  public T poll() {
+    final long currentHead = head.get();
+    if (currentHead >= tail.get()) {
+      return null;
+    }
+    final int index = (int) (currentHead & mask);
+    final T item = buffer.get(index);
+    buffer.lazySet(index, null);
+    head.lazySet(currentHead + 1);
+    return item;
+  }
+
+  /**
+   * Add an item, waiting for space if the queue is full.
+   *
+   * @param item - item to add, must not be null.
+   * @param abort - checked while waiting; when it returns true the item is dropped.
+   * @return true if the item was added, false if waiting was aborted.
+   * @throws InterruptedException if the producer thread is interrupted while waiting.
+   */
+  public boolean put(final T item, final BooleanSupplier abort) throws InterruptedException {
+    int idleCount = 0;
+    while (!offer(item)) {
+      if (abort.getAsBoolean()) {
+        return false;
+      }
+      idle(idleCount++);
+    }
+    return true;
+  }
+
+  /**
+   * Remove an item, waiting for one if the queue is empty.
+   *
+   * @param abort - checked while waiting; when it returns true the wait stops.
+   * @return the oldest item in the queue, or null if the queue was closed and drained or waiting was
+   *         aborted.
+   * @throws InterruptedException if the consumer thread is interrupted while waiting.
+   */
+  public T take(final BooleanSupplier abort) throws InterruptedException {
+    int idleCount = 0;
+    while (true) {
+      // read the flag before polling so that an item offered right before close() is never missed.
+      final boolean wasClosed = closed;
+      final T item = poll();
+      if (item != null) {
+        return item;
+      }
+      if (wasClosed || abort.getAsBoolean()) {
+        return null;
+      }
+      idle(idleCount++);
+    }
+  }
+
+  /**
+   * Signal that the producer will not add any more items. Must only be called by the producer thread.
+   */
+  public void close() {
+    closed = true;
+  }
+
+  public boolean isClosed() {
+    return closed;
+  }
+
+  public int size() {
+    return (int) (tail.get() - head.get());
+  }
+
+  public int capacity() {
+    return mask + 1;
+  }
+
+  private static void idle(final int idleCount) throws InterruptedException {
+    if (idleCount < SPIN_TRIES) {
+      Thread.onSpinWait();
+    } else if (idleCount < SPIN_TRIES + YIELD_TRIES) {
+      Thread.yield();
+    } else {
+      LockSupport.parkNanos(PARK_NANOS);
+    }
+    if (Thread.interrupted()) {
+      throw new InterruptedException();
+    }
+  }
+
+}
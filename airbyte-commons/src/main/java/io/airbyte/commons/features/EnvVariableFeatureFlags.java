@@ -13,6 +13,11 @@ public class EnvVariableFeatureFlags implements FeatureFlags {
   public static final String USE_STREAM_CAPABLE_STATE = "USE_STREAM_CAPABLE_STATE";
   public static final String LOG_CONNECTOR_MESSAGES = "LOG_CONNECTOR_MESSAGES";
   public static final String NEED_STATE_VALIDATION = "NEED_STATE_VALIDATION";
+  public static final String USE_PIPELINED_REPLICATION = "USE_PIPELINED_REPLICATION";
+  public static final String USE_RECORD_PASSTHROUGH = "USE_RECORD_PASSTHROUGH";
+  public static final String USE_STREAMING_MESSAGE_PARSER = "USE_STREAMING_MESSAGE_PARSER";
+  public static final String USE_BINARY_MESSAGE_FRAMING = "USE_BINARY_MESSAGE_FRAMING";
+  public static final String USE_FEEDBACK_FETCH_SIZE = "USE_FEEDBACK_FETCH_SIZE";
 
   @Override
   public boolean autoDisablesFailingConnections() {
@@ -41,6 +46,31 @@ public class EnvVariableFeatureFlags implements FeatureFlags {
     return getEnvOrDefault(NEED_STATE_VALIDATION, true, Boolean::parseBoolean);
   }
 
+  @Override
+  public boolean usePipelinedReplication() {
+    return getEnvOrDefault(USE_PIPELINED_REPLICATION, false, Boolean::parseBoolean);
+  }
+
+  @Override
+  public boolean useRecordPassthrough() {
+    return getEnvOrDefault(USE_RECORD_PASSTHROUGH, false, Boolean::parseBoolean);
+  }
+
+  @Override
+  public boolean useStreamingMessageParser() {
+    return getEnvOrDefault(USE_STREAMING_MESSAGE_PARSER, false, Boolean::parseBoolean);
+  }
+
+  @Override
+  public boolean useBinaryMessageFraming() {
+    return getEnvOrDefault(USE_BINARY_MESSAGE_FRAMING, false, Boolean::parseBoolean);
+  }
+
+  @Override
+  public boolean useFeedbackFetchSize() {
+    return getEnvOrDefault(USE_FEEDBACK_FETCH_SIZE, false, Boolean::parseBoolean);
+  }
+
   // TODO: refactor in order to use the same method than the ones in EnvConfigs.java
   public <T> T getEnvOrDefault(final String key, final T defaultValue, final Function<String, T> parser) {
     final String value = System.getenv(key);
@@ -20,4 +20,22 @@ public interface FeatureFlags {
 
   boolean needStateValidation();
 
+  boolean usePipelinedReplication();
+
+  /**
+   * Forward records to the destination without parsing their data. Their schema is only validated on
+   * a sample of the records of each stream, so validation errors can be missed.
+   */
+  boolean useRecordPassthrough();
+
+  boolean useStreamingMessageParser();
+
+  boolean useBinaryMessageFraming();
+
+  /**
+   * Let the JDBC sources that support it adjust their fetch size from the heap usage and the observed
+   * throughput instead of only from the row size.
+   */
+  boolean useFeedbackFetchSize();
+
 }
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.concurrency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+class BoundedSpscQueueTest {
+
+  @Test
+  void testCapacityRoundedToPowerOfTwo() {
+    assertEquals(1, new BoundedSpscQueue<Integer>(1).capacity());
+    assertEquals(8, new BoundedSpscQueue<Integer>(5).capacity());
+    assertEquals(16, new BoundedSpscQueue<Integer>(16).capacity());
+    assertThrows(IllegalArgumentException.class, () -> new BoundedSpscQueue<Integer>(0));
+  }
+
+  @Test
+  void testOfferAndPoll() {
+    final BoundedSpscQueue<Integer> queue = new BoundedSpscQueue<>(2);
+    assertTrue(queue.offer(1));
+    assertTrue(queue.offer(2));
+    assertFalse(queue.offer(3));
+    assertEquals(2, queue.size());
+
+    assertEquals(1, queue.poll());
+    assertTrue(queue.offer(3));
+    assertEquals(2, queue.poll());
+    assertEquals(3, queue.poll());
+    assertNull(queue.poll());
+  }
+
+  @Test
+  void testTakeReturnsNullOnceClosedAndDrained() throws InterruptedException {
+    final BoundedSpscQueue<Integer> queue = new BoundedSpscQueue<>(4);
+    queue.offer(1);
+    queue.close();
+
+    assertEquals(1, queue.take(() -> false));
+    assertNull(queue.take(() -> false));
+    assertThrows(IllegalStateException.class, () -> queue.offer(2));
+  }
+
+  @Test
+  void testWaitsAreAborted() throws InterruptedException {
+    final BoundedSpscQueue<Integer> queue = new BoundedSpscQueue<>(1);
+    assertNull(queue.take(() -> true));
+
+    queue.offer(1);
+    assertFalse(queue.put(2, () -> true));
+    assertEquals(1, queue.size());
+  }
+
+  @Test
+  void testPreservesOrderAcrossThreads() throws Exception {
+    final int itemCount = 100_000;
+    final BoundedSpscQueue<Integer> queue = new BoundedSpscQueue<>(16);
+    final AtomicBoolean aborted = new AtomicBoolean(false);
+
+    final CompletableFuture<Void> producer = CompletableFuture.runAsync(() -> {
+      try {
+        for (int i = 0; i < itemCount; i++) {
+          queue.put(i, aborted::get);
+        }
+        queue.close();
+      } catch (final InterruptedException e) {
+        throw new RuntimeException(e);
+      }
+    });
+
+    final List<Integer> received = new ArrayList<>();
+    Integer item;
+    while ((item = queue.take(aborted::get)) != null) {
+      received.add(item);
+    }
+    producer.get(1, TimeUnit.MINUTES);
+
+    assertEquals(itemCount, received.size());
+    for (int i = 0; i < itemCount; i++) {
+      assertEquals(i, received.get(i));
+    }
+  }
+
+}
@@ -10,15 +10,17 @@ import static io.airbyte.db.DataTypeUtils.TIMETZ_FORMATTER;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import io.airbyte.commons.json.Jsons;
 import io.airbyte.db.DataTypeUtils;
 import io.airbyte.db.JdbcCompatibleSourceOperations;
+import java.lang.ref.WeakReference;
 import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.Date;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.text.ParseException;
@@ -27,7 +29,6 @@ import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.OffsetTime;
 import java.time.chrono.IsoEra;
-import java.util.Collections;
 import java.util.List;
 import java.util.StringJoiner;
 import javax.xml.bind.DatatypeConverter;
@@ -42,26 +43,104 @@ public abstract class AbstractJdbcCompatibleSourceOperations<Datatype> implement
    */
   private static final Date ONE_CE = Date.valueOf("0001-01-01");
 
+  /**
+   * Writes the value of a column to a record. Takes the same arguments as the put methods below, so
+   * that they can be used as writers.
+   */
+  @FunctionalInterface
+  public interface ColumnWriter {
+
+    void write(ObjectNode node, String columnName, ResultSet resultSet, int index) throws SQLException;
+
+  }
+
+  // a query is read by a single thread, while a source operations instance is shared by all of them.
+  private final ThreadLocal<RowConverter> rowConverters = new ThreadLocal<>();
+
   @Override
   public JsonNode rowToJson(final ResultSet queryContext) throws SQLException {
-    // the first call communicates with the database. after that the result is cached.
-    final int columnCount = queryContext.getMetaData().getColumnCount();
-    final ObjectNode jsonNode = (ObjectNode) Jsons.jsonNode(Collections.emptyMap());
+    RowConverter rowConverter = rowConverters.get();
+    if (rowConverter == null || !rowConverter.isFor(queryContext)) {
+      rowConverter = new RowConverter(queryContext);
+      rowConverters.set(rowConverter);
+    }
+    return rowConverter.convert(queryContext);
+  }
+
+  @Override
+  public void setJsonField(final ResultSet resultSet, final int colIndex, final ObjectNode json) throws SQLException {
+    final ResultSetMetaData metadata = resultSet.getMetaData();
+    getColumnWriter(metadata, colIndex).write(json, getColumnName(metadata, colIndex), resultSet, colIndex);
+  }
+
+  /**
+   * Select how the values of a column are converted to json, based on its type. This is called once
+   * per query and column, the writer is then called for every non-null value of the column.
+   *
+   * @param index 1-based column index.
+   */
+  protected abstract ColumnWriter getColumnWriter(final ResultSetMetaData metadata, final int index) throws SQLException;
 
-    for (int i = 1; i <= columnCount; i++) {
+  /**
+   * Wrap the writer of a column so that null values are left out of the record.
+   */
+  protected ColumnWriter getNullSafeColumnWriter(final ResultSetMetaData metadata, final int index) throws SQLException {
+    final ColumnWriter columnWriter = getColumnWriter(metadata, index);
+    return (node, columnName, resultSet, i) -> {
       // attempt to access the column. this allows us to know if it is null before we do type-specific
       // parsing. if it is null, we can move on. while awkward, this seems to be the agreed upon way of
       // checking for null values with jdbc.
-      queryContext.getObject(i);
-      if (queryContext.wasNull()) {
-        continue;
+      resultSet.getObject(i);
+      if (!resultSet.wasNull()) {
+        columnWriter.write(node, columnName, resultSet, i);
       }
+    };
+  }
+
+  /**
+   * @param index 1-based column index.
+   * @return the name of the record field holding the column.
+   */
+  protected String getColumnName(final ResultSetMetaData metadata, final int index) throws SQLException {
+    return metadata.getColumnName(index);
+  }
 
-      // convert to java types that will convert into reasonable json.
-      setJsonField(queryContext, i, jsonNode);
+  /**
+   * Converts the rows of one result set, with the column names and writers looked up once from its
+   * metadata instead of for every value.
+   */
+  private final class RowConverter {
+
+    private final WeakReference<ResultSet> resultSet;
+    private final String[] columnNames;
+    private final ColumnWriter[] columnWriters;
+
+    private RowConverter(final ResultSet resultSet) throws SQLException {
+      this.resultSet = new WeakReference<>(resultSet);
+      // the first call communicates with the database. after that the result is cached.
+      final ResultSetMetaData metadata = resultSet.getMetaData();
+      final int columnCount = metadata.getColumnCount();
+      this.columnNames = new String[columnCount];
+      this.columnWriters = new ColumnWriter[columnCount];
+      for (int i = 0; i < columnCount; i++) {
+        columnNames[i] = getColumnName(metadata, i + 1);
+        columnWriters[i] = getNullSafeColumnWriter(metadata, i + 1);
+      }
+    }
+
+    private boolean isFor(final ResultSet queryContext) {
+      return resultSet.get() == queryContext;
+    }
+
+    private JsonNode convert(final ResultSet queryContext) throws SQLException {
+      final ObjectNode jsonNode = JsonNodeFactory.instance.objectNode();
+      for (int i = 0; i < columnWriters.length; i++) {
+        // convert to java types that will convert into reasonable json.
+        columnWriters[i].write(jsonNode, columnNames[i], queryContext, i + 1);
+      }
+      return jsonNode;
     }
 
-    return jsonNode;
   }
 
   protected void putArray(final ObjectNode node, final String columnName, final ResultSet resultSet, final int index) throws SQLException {
@@ -11,12 +11,12 @@ import static io.airbyte.db.jdbc.JdbcConstants.INTERNAL_TABLE_NAME;
 import static io.airbyte.db.jdbc.JdbcUtils.ALLOWED_CURSOR_TYPES;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.airbyte.db.SourceOperations;
 import io.airbyte.protocol.models.JsonSchemaType;
 import java.sql.JDBCType;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,28 +37,26 @@ public class JdbcSourceOperations extends AbstractJdbcCompatibleSourceOperations
   }
 
   @Override
-  public void setJsonField(final ResultSet resultSet, final int colIndex, final ObjectNode json) throws SQLException {
-    final int columnTypeInt = resultSet.getMetaData().getColumnType(colIndex);
-    final String columnName = resultSet.getMetaData().getColumnName(colIndex);
-    final JDBCType columnType = safeGetJdbcType(columnTypeInt);
+  protected ColumnWriter getColumnWriter(final ResultSetMetaData metadata, final int index) throws SQLException {
+    final JDBCType columnType = safeGetJdbcType(metadata.getColumnType(index));
 
     // https://www.cis.upenn.edu/~bcpierce/courses/629/jdkdocs/guide/jdbc/getstart/mapping.doc.html
-    switch (columnType) {
-      case BIT, BOOLEAN -> putBoolean(json, columnName, resultSet, colIndex);
-      case TINYINT, SMALLINT -> putShortInt(json, columnName, resultSet, colIndex);
-      case INTEGER -> putInteger(json, columnName, resultSet, colIndex);
-      case BIGINT -> putBigInt(json, columnName, resultSet, colIndex);
-      case FLOAT, DOUBLE -> putDouble(json, columnName, resultSet, colIndex);
-      case REAL -> putFloat(json, columnName, resultSet, colIndex);
-      case NUMERIC, DECIMAL -> putBigDecimal(json, columnName, resultSet, colIndex);
-      case CHAR, VARCHAR, LONGVARCHAR -> putString(json, columnName, resultSet, colIndex);
-      case DATE -> putDate(json, columnName, resultSet, colIndex);
-      case TIME -> putTime(json, columnName, resultSet, colIndex);
-      case TIMESTAMP -> putTimestamp(json, columnName, resultSet, colIndex);
-      case BLOB, BINARY, VARBINARY, LONGVARBINARY -> putBinary(json, columnName, resultSet, colIndex);
-      case ARRAY -> putArray(json, columnName, resultSet, colIndex);
-      default -> putDefault(json, columnName, resultSet, colIndex);
-    }
+    return switch (columnType) {
+      case BIT, BOOLEAN -> this::putBoolean;
+      case TINYINT, SMALLINT -> this::putShortInt;
+      case INTEGER -> this::putInteger;
+      case BIGINT -> this::putBigInt;
+      case FLOAT, DOUBLE -> this::putDouble;
+      case REAL -> this::putFloat;
+      case NUMERIC, DECIMAL -> this::putBigDecimal;
+      case CHAR, VARCHAR, LONGVARCHAR -> this::putString;
+      case DATE -> this::putDate;
+      case TIME -> this::putTime;
+      case TIMESTAMP -> this::putTimestamp;
+      case BLOB, BINARY, VARBINARY, LONGVARBINARY -> this::putBinary;
+      case ARRAY -> this::putArray;
+      default -> this::putDefault;
+    };
   }
 
   @Override
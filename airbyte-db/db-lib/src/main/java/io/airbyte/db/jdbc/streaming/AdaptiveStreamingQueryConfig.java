@@ -26,7 +26,16 @@ public class AdaptiveStreamingQueryConfig implements JdbcStreamingQueryConfig {
   private int currentFetchSize;
 
   public AdaptiveStreamingQueryConfig() {
-    this.fetchSizeEstimator = TwoStageSizeEstimator.getInstance();
+    this(TwoStageSizeEstimator.getInstance());
+  }
+
+  /**
+   * @param fetchSizeEstimator estimator deciding the fetch size, e.g. {@link FeedbackSizeEstimator}
+   *        to also react to heap usage and observed throughput. A new instance is needed for each
+   *        query.
+   */
+  public AdaptiveStreamingQueryConfig(final FetchSizeEstimator fetchSizeEstimator) {
+    this.fetchSizeEstimator = fetchSizeEstimator;
     this.currentFetchSize = FetchSizeConstants.INITIAL_SAMPLE_SIZE;
   }
 
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.jdbc.streaming;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This estimator adjusts the fetch size from what is observed while the rows are consumed, instead
+ * of only from the estimated row byte size.
+ * <p>
+ * The row size based estimation of {@link TwoStageSizeEstimator} is used as the upper bound. Below
+ * that bound, the fetch size is evaluated once per round trip, i.e. every time as many rows as the
+ * current fetch size have been consumed:
+ * <ul>
+ * <li>When the heap usage is above {@link FetchSizeConstants#HIGH_HEAP_USAGE_RATIO}, the fetch size
+ * is halved. The heap usage is also checked every {@link FetchSizeConstants#SAMPLE_FREQUENCY} rows,
+ * so that wide rows are caught before the round trip completes.</li>
+ * <li>When the previous increase made the rows/sec of the round trip drop, it is reverted and the
+ * fetch size is kept from then on.</li>
+ * <li>Otherwise the fetch size is doubled, as long as the heap usage is below
+ * {@link FetchSizeConstants#LOW_HEAP_USAGE_RATIO} and a significant part of the round trip was spent
+ * waiting for the database. The longest gap between two rows is taken as that wait. When it is
+ * small, the downstream consumer is the bottleneck and fetching more rows at once would only use
+ * more memory.</li>
+ * </ul>
+ * The heap usage is the one left after the most recent garbage collection of each heap pool, so
+ * that garbage waiting to be collected does not count as pressure. It is only updated by the
+ * collections, i.e. the heap usage lags behind until the next collection.
+ */
+public class FeedbackSizeEstimator implements FetchSizeEstimator {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(FeedbackSizeEstimator.class);
+
+  private final FetchSizeEstimator rowSizeEstimator;
+  private final DoubleSupplier heapUsageRatio;
+  private final LongSupplier nanoTime;
+
+  private int maxFetchSize = FetchSizeConstants.MAX_FETCH_SIZE;
+  // 0 until the row size based estimation is ready
+  private int currentFetchSize = 0;
+  private boolean hasNewEstimation = false;
+  private boolean lastChangeWasIncrease = false;
+  private boolean settled = false;
+
+  private long lastRowNanos = -1L;
+  private long roundTripStartNanos;
+  private long maxRowGapNanos = 0L;
+  private int roundTripRowCount = 0;
+  private double lastRowsPerSecond = 0.0;
+
+  public static FeedbackSizeEstimator getInstance() {
+    final MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+    final List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+        .filter(pool -> pool.getType() == MemoryType.HEAP)
+        .toList();
+    return new FeedbackSizeEstimator(TwoStageSizeEstimator.getInstance(),
+        () -> getHeapUsageRatio(heapPools.stream().map(MemoryPoolMXBean::getCollectionUsage).filter(Objects::nonNull).toList(),
+            memoryBean.getHeapMemoryUsage()),
+        System::nanoTime);
+  }
+
+  @VisibleForTesting
+  FeedbackSizeEstimator(final FetchSizeEstimator rowSizeEstimator, final DoubleSupplier heapUsageRatio, final LongSupplier nanoTime) {
+    this.rowSizeEstimator = rowSizeEstimator;
+    this.heapUsageRatio = heapUsageRatio;
+    this.nanoTime = nanoTime;
+  }
+
+  @Override
+  public void accept(final Object rowData) {
+    final long now = nanoTime.getAsLong();
+    if (lastRowNanos >= 0) {
+      maxRowGapNanos = Math.max(maxRowGapNanos, now - lastRowNanos);
+    }
+    lastRowNanos = now;
+
+    rowSizeEstimator.accept(rowData);
+    rowSizeEstimator.getFetchSize().ifPresent(this::onRowSizeEstimation);
+    if (currentFetchSize == 0) {
+      return;
+    }
+
+    roundTripRowCount++;
+    if (roundTripRowCount >= currentFetchSize) {
+      onRoundTrip(now);
+    } else if (roundTripRowCount % FetchSizeConstants.SAMPLE_FREQUENCY == 0
+        && heapUsageRatio.getAsDouble() >= FetchSizeConstants.HIGH_HEAP_USAGE_RATIO) {
+      shrinkForHeap(now);
+    }
+  }
+
+  @Override
+  public Optional<Integer> getFetchSize() {
+    if (!hasNewEstimation) {
+      return Optional.empty();
+    }
+    hasNewEstimation = false;
+    return Optional.of(currentFetchSize);
+  }
+
+  private void onRowSizeEstimation(final int rowSizeFetchSize) {
+    maxFetchSize = rowSizeFetchSize;
+    if (currentFetchSize == 0) {
+      updateFetchSize(Math.min(rowSizeFetchSize, FetchSizeConstants.DEFAULT_FETCH_SIZE));
+      startRoundTrip(lastRowNanos);
+    } else if (currentFetchSize > rowSizeFetchSize) {
+      updateFetchSize(rowSizeFetchSize);
+    }
+  }
+
+  private void onRoundTrip(final long now) {
+    final double heapUsage = heapUsageRatio.getAsDouble();
+    if (heapUsage >= FetchSizeConstants.HIGH_HEAP_USAGE_RATIO) {
+      shrinkForHeap(now);
+      return;
+    }
+
+    final long roundTripNanos = now - roundTripStartNanos;
+    if (roundTripNanos <= 0) {
+      startRoundTrip(now);
+      return;
+    }
+    final double rowsPerSecond = roundTripRowCount * 1_000_000_000.0 / roundTripNanos;
+    final double fetchWaitRatio = (double) maxRowGapNanos / roundTripNanos;
+
+    if (lastChangeWasIncrease && rowsPerSecond < lastRowsPerSecond * (1.0 - FetchSizeConstants.THROUGHPUT_TOLERANCE)) {
+      LOGGER.info("Throughput dropped from {} to {} rows/sec after increasing the fetch size to {} rows, reverting",
+          Math.round(lastRowsPerSecond), Math.round(rowsPerSecond), currentFetchSize);
+      updateFetchSize(currentFetchSize / 2);
+      lastChangeWasIncrease = false;
+      settled = true;
+    } else if (!settled
+        && heapUsage < FetchSizeConstants.LOW_HEAP_USAGE_RATIO
+        && fetchWaitRatio >= FetchSizeConstants.MIN_FETCH_WAIT_RATIO) {
+      lastChangeWasIncrease = updateFetchSize(currentFetchSize * 2);
+    } else {
+      lastChangeWasIncrease = false;
+    }
+    lastRowsPerSecond = rowsPerSecond;
+    startRoundTrip(now);
+  }
+
+  private void shrinkForHeap(final long now) {
+    LOGGER.info("Heap usage is above {}, reducing the fetch size from {} rows", FetchSizeConstants.HIGH_HEAP_USAGE_RATIO, currentFetchSize);
+    updateFetchSize(currentFetchSize / 2);
+    lastChangeWasIncrease = false;
+    // rows/sec of a round trip interrupted by a reduction is not comparable
+    lastRowsPerSecond = 0.0;
+    startRoundTrip(now);
+  }
+
+  private void startRoundTrip(final long now) {
+    roundTripStartNanos = now;
+    roundTripRowCount = 0;
+    maxRowGapNanos = 0L;
+  }
+
+  /**
+   * @return true if the fetch size was changed
+   */
+  private boolean updateFetchSize(final int fetchSize) {
+    final int boundedFetchSize = Math.max(FetchSizeConstants.MIN_FETCH_SIZE, Math.min(maxFetchSize, fetchSize));
+    if (boundedFetchSize == currentFetchSize) {
+      return false;
+    }
+    currentFetchSize = boundedFetchSize;
+    hasNewEstimation = true;
+    return true;
+  }
+
+  /**
+   * @param collectionUsages usage of each heap pool after its most recent garbage collection
+   * @param heapUsage current usage of the whole heap, only used for its size
+   */
+  @VisibleForTesting
+  static double getHeapUsageRatio(final List<MemoryUsage> collectionUsages, final MemoryUsage heapUsage) {
+    final long max = heapUsage.getMax() > 0 ? heapUsage.getMax() : heapUsage.getCommitted();
+    if (max <= 0) {
+      return 0.0;
+    }
+    final long used = collectionUsages.stream().mapToLong(MemoryUsage::getUsed).sum();
+    return (double) used / max;
+  }
+
+}
@@ -22,6 +22,16 @@ public final class FetchSizeConstants {
   public static final int DEFAULT_FETCH_SIZE = 1000;
   public static final int MAX_FETCH_SIZE = 1_000_000;
 
+  // heap usage ratio above which the feedback estimator halves the fetch size
+  public static final double HIGH_HEAP_USAGE_RATIO = 0.75;
+  // heap usage ratio below which the feedback estimator is allowed to grow the fetch size
+  public static final double LOW_HEAP_USAGE_RATIO = 0.5;
+  // when less than this share of a round trip is spent waiting on the database,
+  // the consumer is the bottleneck and a larger fetch size will not help
+  public static final double MIN_FETCH_WAIT_RATIO = 0.1;
+  // relative throughput change that is considered noise by the feedback estimator
+  public static final double THROUGHPUT_TOLERANCE = 0.05;
+
   private FetchSizeConstants() {}
 
 }
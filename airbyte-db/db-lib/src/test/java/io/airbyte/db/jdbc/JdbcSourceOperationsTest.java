@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.json.Jsons;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.sql.rowset.CachedRowSet;
+import javax.sql.rowset.RowSetMetaDataImpl;
+import javax.sql.rowset.RowSetProvider;
+import org.junit.jupiter.api.Test;
+
+class JdbcSourceOperationsTest {
+
+  private final JdbcSourceOperations sourceOperations = new JdbcSourceOperations();
+
+  @Test
+  void testRowToJson() throws SQLException {
+    final ResultSet resultSet = spy(createResultSet(
+        new int[] {Types.INTEGER, Types.VARCHAR, Types.NUMERIC, Types.BOOLEAN},
+        new String[] {"id", "name", "price", "active"},
+        new Object[] {1, "apple", new BigDecimal("1.50"), true},
+        new Object[] {2, null, new BigDecimal("2.25"), false},
+        new Object[] {3, "cherry", null, null}));
+
+    final List<JsonNode> records = new ArrayList<>();
+    while (resultSet.next()) {
+      records.add(sourceOperations.rowToJson(resultSet));
+    }
+
+    // null values are left out of the records.
+    assertEquals(Set.of(
+        Jsons.jsonNode(Map.of("id", 1, "name", "apple", "price", new BigDecimal("1.50"), "active", true)),
+        Jsons.jsonNode(Map.of("id", 2, "price", new BigDecimal("2.25"), "active", false)),
+        Jsons.jsonNode(Map.of("id", 3, "name", "cherry"))), Set.copyOf(records));
+    // the column writers are selected once for the whole result set.
+    verify(resultSet, times(1)).getMetaData();
+  }
+
+  @Test
+  void testRowToJsonWithSeveralResultSets() throws SQLException {
+    final ResultSet integers = createResultSet(new int[] {Types.INTEGER}, new String[] {"value"}, new Object[] {1});
+    final ResultSet strings = createResultSet(new int[] {Types.VARCHAR}, new String[] {"value"}, new Object[] {"1"});
+    integers.next();
+    strings.next();
+
+    assertEquals(Jsons.jsonNode(Map.of("value", 1)), sourceOperations.rowToJson(integers));
+    assertEquals(Jsons.jsonNode(Map.of("value", "1")), sourceOperations.rowToJson(strings));
+    assertEquals(Jsons.jsonNode(Map.of("value", 1)), sourceOperations.rowToJson(integers));
+  }
+
+  @Test
+  void testSetJsonField() throws SQLException {
+    final ResultSet resultSet = createResultSet(new int[] {Types.BIGINT, Types.DOUBLE}, new String[] {"id", "ratio"}, new Object[] {10L, 0.5});
+    resultSet.next();
+
+    final ObjectNode json = (ObjectNode) Jsons.emptyObject();
+    sourceOperations.setJsonField(resultSet, 2, json);
+
+    assertEquals(Jsons.jsonNode(Map.of("ratio", 0.5)), json);
+  }
+
+  private static ResultSet createResultSet(final int[] columnTypes, final String[] columnNames, final Object[]... rows) throws SQLException {
+    final RowSetMetaDataImpl metadata = new RowSetMetaDataImpl();
+    metadata.setColumnCount(columnTypes.length);
+    for (int i = 1; i <= columnTypes.length; i++) {
+      metadata.setColumnType(i, columnTypes[i - 1]);
+      metadata.setColumnName(i, columnNames[i - 1]);
+      metadata.setNullable(i, ResultSetMetaData.columnNullable);
+    }
+    final CachedRowSet rowSet = RowSetProvider.newFactory().createCachedRowSet();
+    rowSet.setMetaData(metadata);
+    for (final Object[] row : rows) {
+      rowSet.moveToInsertRow();
+      for (int i = 1; i <= row.length; i++) {
+        if (row[i - 1] == null) {
+          rowSet.updateNull(i);
+        } else {
+          rowSet.updateObject(i, row[i - 1]);
+        }
+      }
+      rowSet.insertRow();
+      rowSet.moveToCurrentRow();
+    }
+    rowSet.beforeFirst();
+    return rowSet;
+  }
+
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.jdbc.streaming;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.management.MemoryUsage;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class FeedbackSizeEstimatorTest {
+
+  private static final long FAST_ROW_NANOS = 1_000L;
+  private static final long SLOW_ROW_NANOS = 10_000L;
+  private static final long FETCH_WAIT_NANOS = 1_000_000L;
+
+  private AtomicLong clock;
+  private double heapUsage;
+
+  @BeforeEach
+  void setup() {
+    clock = new AtomicLong(0L);
+    heapUsage = 0.1;
+  }
+
+  @Test
+  void testGrowWhileWaitingOnDatabase() {
+    final FeedbackSizeEstimator sizeEstimator = newEstimator(10_000);
+    sizeEstimator.accept("1");
+    assertEquals(Optional.of(FetchSizeConstants.DEFAULT_FETCH_SIZE), sizeEstimator.getFetchSize());
+
+    consumeRoundTrip(sizeEstimator, FetchSizeConstants.DEFAULT_FETCH_SIZE - 1, FAST_ROW_NANOS, FETCH_WAIT_NANOS);
+    assertEquals(Optional.of(2000), sizeEstimator.getFetchSize());
+
+    consumeRoundTrip(sizeEstimator, 2000, FAST_ROW_NANOS, FETCH_WAIT_NANOS);
+    assertEquals(Optional.of(4000), sizeEstimator.getFetchSize());
+  }
+
+  @Test
+  void testBoundedByRowSizeEstimation() {
+    final FeedbackSizeEstimator sizeEstimator = newEstimator(1500);
+    sizeEstimator.accept("1");
+    assertEquals(Optional.of(FetchSizeConstants.DEFAULT_FETCH_SIZE), sizeEstimator.getFetchSize());
+
+    consumeRoundTrip(sizeEstimator, FetchSizeConstants.DEFAULT_FETCH_SIZE - 1, FAST_ROW_NANOS, FETCH_WAIT_NANOS);
+    assertEquals(Optional.of(1500), sizeEstimator.getFetchSize());
+
+    consumeRoundTrip(sizeEstimator, 1500, FAST_ROW_NANOS, FETCH_WAIT_NANOS);
+    assertFalse(sizeEstimator.getFetchSize().isPresent());
+  }
+
+  @Test
+  void testKeepSizeUnderBackPressure() {
+    final FeedbackSizeEstimator sizeEstimator = newEstimator(10_000);
+    sizeEstimator.accept("1");
+    sizeEstimator.getFetchSize();
+
+    // the consumer is the bottleneck, the database round trip is not noticeable
+    consumeRoundTrip(sizeEstimator, FetchSizeConstants.DEFAULT_FETCH_SIZE - 1, SLOW_ROW_NANOS, SLOW_ROW_NANOS);
+    assertFalse(sizeEstimator.getFetchSize().isPresent());
+  }
+
+  @Test
+  void testRevertIncreaseWhenThroughputDrops() {
+    final FeedbackSizeEstimator sizeEstimator = newEstimator(10_000);
+    sizeEstimator.accept("1");
+    sizeEstimator.getFetchSize();
+
+    consumeRoundTrip(sizeEstimator, FetchSizeConstants.DEFAULT_FETCH_SIZE - 1, FAST_ROW_NANOS, FETCH_WAIT_NANOS);
+    assertEquals(Optional.of(2000), sizeEstimator.getFetchSize());
+
+    consumeRoundTrip(sizeEstimator, 2000, SLOW_ROW_NANOS, FETCH_WAIT_NANOS);
+    assertEquals(Optional.of(1000), sizeEstimator.getFetchSize());
+
+    // the size is kept after reverting, even though the database is still the bottleneck
+    consumeRoundTrip(sizeEstimator, 1000, FAST_ROW_NANOS, FETCH_WAIT_NANOS);
+    assertFalse(sizeEstimator.getFetchSize().isPresent());
+  }
+
+  @Test
+  void testShrinkOnHeapPressure() {
+    final FeedbackSizeEstimator sizeEstimator = newEstimator(10_000);
+    sizeEstimator.accept("1");
+    sizeEstimator.getFetchSize();
+
+    heapUsage = 0.9;
+    consumeRoundTrip(sizeEstimator, FetchSizeConstants.SAMPLE_FREQUENCY - 2, FAST_ROW_NANOS, FETCH_WAIT_NANOS);
+    assertFalse(sizeEstimator.getFetchSize().isPresent());
+    // heap usage is checked every SAMPLE_FREQUENCY rows within a round trip
+    consumeRoundTrip(sizeEstimator, 1, FAST_ROW_NANOS, FAST_ROW_NANOS);
+    assertEquals(Optional.of(500), sizeEstimator.getFetchSize());
+
+    // no increase while the heap usage is between the low and high ratios
+    heapUsage = 0.6;
+    consumeRoundTrip(sizeEstimator, 500, FAST_ROW_NANOS, FETCH_WAIT_NANOS);
+    assertFalse(sizeEstimator.getFetchSize().isPresent());
+  }
+
+  @Test
+  void testGetHeapUsageRatio() {
+    // only what is left after the collections counts, not the garbage in the current usage
+    final List<MemoryUsage> collectionUsages = List.of(new MemoryUsage(0L, 0L, 30L, -1L), new MemoryUsage(0L, 20L, 50L, 100L));
+    assertEquals(0.2, FeedbackSizeEstimator.getHeapUsageRatio(collectionUsages, new MemoryUsage(0L, 90L, 95L, 100L)));
+    // max is undefined, use committed
+    assertEquals(0.25, FeedbackSizeEstimator.getHeapUsageRatio(collectionUsages, new MemoryUsage(0L, 70L, 80L, -1L)));
+    // no collection yet
+    assertEquals(0.0, FeedbackSizeEstimator.getHeapUsageRatio(List.of(), new MemoryUsage(0L, 90L, 95L, 100L)));
+  }
+
+  private FeedbackSizeEstimator newEstimator(final int rowSizeFetchSize) {
+    return new FeedbackSizeEstimator(new FixedSizeEstimator(rowSizeFetchSize), () -> heapUsage, clock::get);
+  }
+
+  /**
+   * Consumes {@code rowCount} rows, the first one of which is delayed by {@code fetchWaitNanos}.
+   */
+  private void consumeRoundTrip(final FeedbackSizeEstimator sizeEstimator,
+                                final int rowCount,
+                                final long rowNanos,
+                                final long fetchWaitNanos) {
+    for (int i = 0; i < rowCount; ++i) {
+      clock.addAndGet(i == 0 ? fetchWaitNanos : rowNanos);
+      sizeEstimator.accept("1");
+    }
+  }
+
+  private static class FixedSizeEstimator implements FetchSizeEstimator {
+
+    private final int fetchSize;
+    private boolean isReported = false;
+
+    FixedSizeEstimator(final int fetchSize) {
+      this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public void accept(final Object row) {}
+
+    @Override
+    public Optional<Integer> getFetchSize() {
+      if (isReported) {
+        return Optional.empty();
+      }
+      isReported = true;
+      return Optional.of(fetchSize);
+    }
+
+  }
+
+}
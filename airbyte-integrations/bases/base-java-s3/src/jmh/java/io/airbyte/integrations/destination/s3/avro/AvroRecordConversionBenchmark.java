@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3.avro;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.jackson.MoreMappers;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.integrations.base.JavaBaseConstants;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.Schema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures how many records per second are converted to Avro records, for a stream of flat columns
+ * along with a nested object and an array, as the S3, GCS and BigQuery Avro and Parquet writers do.
+ *
+ * Run with ./gradlew :airbyte-integrations:bases:base-java-s3:jmh
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AvroRecordConversionBenchmark {
+
+  private static final int RECORD_COUNT = 10_000;
+  private static final ObjectMapper MAPPER = MoreMappers.initMapper();
+  private static final ObjectWriter WRITER = MAPPER.writer();
+  private static final JsonNode JSON_SCHEMA = Jsons.deserialize("""
+      {
+        "type": "object",
+        "properties": {
+          "id": { "type": "integer" },
+          "customer_id": { "type": "integer" },
+          "name": { "type": ["null", "string"] },
+          "email": { "type": ["null", "string"] },
+          "amount": { "type": "number" },
+          "shipped": { "type": "boolean" },
+          "status": { "type": "string" },
+          "tags": { "type": "array", "items": { "type": "string" } },
+          "address": {
+            "type": "object",
+            "properties": {
+              "street": { "type": "string" },
+              "city": { "type": "string" },
+              "zip_code": { "type": "string" }
+            }
+          }
+        }
+      }
+      """);
+
+  private Schema schema;
+  private AvroRecordFactory recordFactory;
+  private List<AirbyteRecordMessage> records;
+  private List<UUID> ids;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    schema = new JsonToAvroSchemaConverter().getAvroSchema(JSON_SCHEMA, "orders", "public");
+    recordFactory = new AvroRecordFactory(schema, AvroConstants.JSON_CONVERTER);
+    records = new ArrayList<>();
+    ids = new ArrayList<>();
+    for (int i = 0; i < RECORD_COUNT; i++) {
+      records.add(record(i));
+      ids.add(UUID.randomUUID());
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RECORD_COUNT)
+  public void directConversion(final Blackhole blackhole) throws Exception {
+    for (int i = 0; i < RECORD_COUNT; i++) {
+      blackhole.consume(recordFactory.getAvroRecord(ids.get(i), records.get(i)));
+    }
+  }
+
+  /**
+   * The conversion it replaced, as a baseline: the record is copied to a new Json object, serialized
+   * to bytes and parsed back by the json2avro converter.
+   */
+  @Benchmark
+  @OperationsPerInvocation(RECORD_COUNT)
+  public void byteRoundTrip(final Blackhole blackhole) throws Exception {
+    for (int i = 0; i < RECORD_COUNT; i++) {
+      final AirbyteRecordMessage recordMessage = records.get(i);
+      final ObjectNode jsonRecord = MAPPER.createObjectNode();
+      jsonRecord.put(JavaBaseConstants.COLUMN_NAME_AB_ID, ids.get(i).toString());
+      jsonRecord.put(JavaBaseConstants.COLUMN_NAME_EMITTED_AT, recordMessage.getEmittedAt());
+      jsonRecord.setAll((ObjectNode) recordMessage.getData());
+      blackhole.consume(AvroConstants.JSON_CONVERTER.convertToGenericDataRecord(WRITER.writeValueAsBytes(jsonRecord), schema));
+    }
+  }
+
+  private static AirbyteRecordMessage record(final int i) {
+    final Map<String, Object> data = new LinkedHashMap<>();
+    data.put("id", i);
+    data.put("customer_id", i % 1000);
+    data.put("name", "customer name " + i);
+    data.put("email", i % 5 == 0 ? null : "customer" + i + "@example.com");
+    data.put("amount", i * 1.25);
+    data.put("shipped", i % 2 == 0);
+    data.put("status", i % 2 == 0 ? "shipped" : "pending");
+    data.put("tags", List.of("tag_" + i % 7, "tag_" + i % 11));
+    data.put("address", Map.of("street", i + " main street", "city", "city " + i % 100, "zip_code", String.valueOf(10000 + i % 90000)));
+    return new AirbyteRecordMessage()
+        .withStream("orders")
+        .withNamespace("public")
+        .withEmittedAt(1_664_619_330_000L + i)
+        .withData(Jsons.jsonNode(data));
+  }
+
+}
@@ -20,10 +20,12 @@ import io.airbyte.integrations.destination.NamingConventionTransformer;
 import io.airbyte.integrations.destination.record_buffer.SerializableBuffer;
 import io.airbyte.integrations.destination.s3.template.S3FilenameTemplateManager;
 import io.airbyte.integrations.destination.s3.template.S3FilenameTemplateParameterObject;
+import io.airbyte.integrations.destination.s3.util.MultipartUploadBudget;
 import io.airbyte.integrations.destination.s3.util.StreamTransferManagerFactory;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -46,8 +48,6 @@ public class S3StorageOperations extends BlobStorageOperations {
 
   public static final int R2_UPLOAD_THREADS = 3;
 
-  private static final int DEFAULT_QUEUE_CAPACITY = DEFAULT_UPLOAD_THREADS;
-  private static final int DEFAULT_PART_SIZE = 10;
   private static final int UPLOAD_RETRY_LIMIT = 3;
 
   private static final String FORMAT_VARIABLE_NAMESPACE = "${NAMESPACE}";
@@ -64,13 +64,23 @@ public class S3StorageOperations extends BlobStorageOperations {
   private static final String GZ_FILE_EXTENSION = "gz";
 
   private final NamingConventionTransformer nameTransformer;
+  private final MultipartUploadBudget uploadBudget;
   protected final S3DestinationConfig s3Config;
   protected AmazonS3 s3Client;
 
   public S3StorageOperations(final NamingConventionTransformer nameTransformer, final AmazonS3 s3Client, final S3DestinationConfig s3Config) {
+    this(nameTransformer, s3Client, s3Config, MultipartUploadBudget.getDefault());
+  }
+
+  @VisibleForTesting
+  S3StorageOperations(final NamingConventionTransformer nameTransformer,
+                      final AmazonS3 s3Client,
+                      final S3DestinationConfig s3Config,
+                      final MultipartUploadBudget uploadBudget) {
     this.nameTransformer = nameTransformer;
     this.s3Client = s3Client;
     this.s3Config = s3Config;
+    this.uploadBudget = uploadBudget;
   }
 
   @Override
@@ -147,7 +157,6 @@ public class S3StorageOperations extends BlobStorageOperations {
    * @return the uploaded filename, which is different from the serialized buffer filename
    */
   private String loadDataIntoBucket(final String objectPath, final SerializableBuffer recordsData) throws IOException {
-    final long partSize = DEFAULT_PART_SIZE;
     final String bucket = s3Config.getBucketName();
     final String partId = getPartId(objectPath);
     final String fileExtension = getExtension(recordsData.getFilename());
@@ -170,34 +179,45 @@ public class S3StorageOperations extends BlobStorageOperations {
     for (final BlobDecorator blobDecorator : blobDecorators) {
       blobDecorator.updateMetadata(metadata, getMetadataMapping());
     }
-    final StreamTransferManager uploadManager = StreamTransferManagerFactory.create(bucket, fullObjectKey, s3Client)
-        .setPartSize(partSize)
-        .setUserMetadata(metadata)
-        .get()
-        .checkIntegrity(s3Config.isCheckIntegrity())
-        .numUploadThreads(s3Config.getUploadThreadsCount())
-        .queueCapacity(DEFAULT_QUEUE_CAPACITY);
-    boolean succeeded = false;
-
-    // Wrap output stream in decorators
-    OutputStream rawOutputStream = uploadManager.getMultiPartOutputStreams().get(0);
-    for (final BlobDecorator blobDecorator : blobDecorators) {
-      rawOutputStream = blobDecorator.wrap(rawOutputStream);
+    final MultipartUploadBudget.Reservation reservation;
+    try {
+      reservation = uploadBudget.reserve(recordsData.getByteCount(), s3Config.getUploadThreadsCount());
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
     }
+    try (reservation) {
+      final StreamTransferManager uploadManager = StreamTransferManagerFactory.create(bucket, fullObjectKey, s3Client)
+          .setPartSize(reservation.getPartSizeMb())
+          .setUserMetadata(metadata)
+          .get()
+          .checkIntegrity(s3Config.isCheckIntegrity())
+          .numUploadThreads(reservation.getUploadThreads())
+          .queueCapacity(reservation.getQueueCapacity());
+      boolean succeeded = false;
+      final long startNanos = System.nanoTime();
+
+      // Wrap output stream in decorators
+      OutputStream rawOutputStream = uploadManager.getMultiPartOutputStreams().get(0);
+      for (final BlobDecorator blobDecorator : blobDecorators) {
+        rawOutputStream = blobDecorator.wrap(rawOutputStream);
+      }
 
-    try (final OutputStream outputStream = rawOutputStream;
-        final InputStream dataStream = recordsData.getInputStream()) {
-      dataStream.transferTo(outputStream);
-      succeeded = true;
-    } catch (final Exception e) {
-      LOGGER.error("Failed to load data into storage {}", objectPath, e);
-      throw new RuntimeException(e);
-    } finally {
-      if (!succeeded) {
-        uploadManager.abort();
-      } else {
-        uploadManager.complete();
+      try (final OutputStream outputStream = rawOutputStream;
+          final InputStream dataStream = recordsData.getInputStream()) {
+        dataStream.transferTo(outputStream);
+        succeeded = true;
+      } catch (final Exception e) {
+        LOGGER.error("Failed to load data into storage {}", objectPath, e);
+        throw new RuntimeException(e);
+      } finally {
+        if (!succeeded) {
+          uploadManager.abort();
+        } else {
+          uploadManager.complete();
+        }
       }
+      reservation.recordUpload(recordsData.getByteCount(), Duration.ofNanos(System.nanoTime() - startNanos));
     }
     if (!s3Client.doesObjectExist(bucket, fullObjectKey)) {
       LOGGER.error("Failed to upload data into storage, object {} not found", fullObjectKey);
@@ -12,6 +12,7 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.airbyte.commons.jackson.MoreMappers;
 import io.airbyte.integrations.base.JavaBaseConstants;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.util.Optional;
 import java.util.UUID;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
@@ -24,13 +25,23 @@ public class AvroRecordFactory {
 
   private final Schema schema;
   private final JsonAvroConverter converter;
+  // null when the records are converted by a custom converter, whose conversion is not known
+  private final JsonToAvroRecordConverter recordConverter;
 
   public AvroRecordFactory(final Schema schema, final JsonAvroConverter converter) {
     this.schema = schema;
     this.converter = converter;
+    this.recordConverter = converter == AvroConstants.JSON_CONVERTER ? new JsonToAvroRecordConverter(schema) : null;
   }
 
   public GenericData.Record getAvroRecord(final UUID id, final AirbyteRecordMessage recordMessage) throws JsonProcessingException {
+    if (recordConverter != null) {
+      final Optional<GenericData.Record> record = recordConverter.convert(id.toString(), recordMessage.getEmittedAt(), recordMessage.getData());
+      if (record.isPresent()) {
+        return record.get();
+      }
+    }
+
     final ObjectNode jsonRecord = MAPPER.createObjectNode();
     jsonRecord.put(JavaBaseConstants.COLUMN_NAME_AB_ID, id.toString());
     jsonRecord.put(JavaBaseConstants.COLUMN_NAME_EMITTED_AT, recordMessage.getEmittedAt());
@@ -40,6 +51,13 @@ public class AvroRecordFactory {
   }
 
   public GenericData.Record getAvroRecord(JsonNode formattedData) throws JsonProcessingException {
+    if (recordConverter != null) {
+      final Optional<GenericData.Record> record = recordConverter.convert(formattedData);
+      if (record.isPresent()) {
+        return record.get();
+      }
+    }
+
     var bytes = WRITER.writeValueAsBytes(formattedData);
     return converter.convertToGenericDataRecord(bytes, schema);
   }
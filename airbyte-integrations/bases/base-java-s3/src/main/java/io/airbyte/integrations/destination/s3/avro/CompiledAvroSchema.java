@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3.avro;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import org.apache.avro.JsonProperties;
+import org.apache.avro.LogicalType;
+import org.apache.avro.LogicalTypes;
+import org.apache.avro.Schema;
+
+/**
+ * The values of an Avro schema that Json records can be converted to directly, compiled once per
+ * schema. {@link JsonToAvroRecordConverter} and
+ * {@link io.airbyte.integrations.destination.s3.parquet.JsonRecordWriteSupport} both walk this
+ * table, so that they leave exactly the same records to {@link AvroConstants#JSON_CONVERTER}.
+ * <p>
+ * Only the values whose conversion is unambiguous are supported: strings, integral numbers to int
+ * and long, numbers to float and double, booleans, arrays, nested records and nullable unions of
+ * one of those. Additional properties, logical types other than the ones of the airbyte fields,
+ * unions of several types, default values other than null and values that need to be coerced to the
+ * type of their field are not.
+ */
+public final class CompiledAvroSchema {
+
+  private CompiledAvroSchema() {}
+
+  /**
+   * @return the node of the schema, which is a {@link RecordNode} for the schema of a stream.
+   */
+  public static Node compile(final Schema schema) {
+    return compile(schema, new IdentityHashMap<>());
+  }
+
+  /**
+   * The values of one Avro schema.
+   */
+  public sealed interface Node permits UnsupportedNode, NullableNode, PrimitiveNode, ArrayNode, RecordNode {}
+
+  /**
+   * No value is converted directly.
+   */
+  public record UnsupportedNode() implements Node {}
+
+  /**
+   * Null, or the values of the node of the other type of the union. A null schema is a nullable node
+   * of no other value.
+   */
+  public record NullableNode(Node type) implements Node {}
+
+  /**
+   * The non null values of a primitive type.
+   *
+   * @param type STRING, LONG, INT, DOUBLE, FLOAT or BOOLEAN.
+   */
+  public record PrimitiveNode(Schema.Type type, Predicate<JsonNode> predicate) implements Node {
+
+    public boolean accepts(final JsonNode value) {
+      return value != null && predicate.test(value);
+    }
+
+  }
+
+  public record ArrayNode(Schema schema, Node elementType) implements Node {}
+
+  /**
+   * The Json objects of a record, whose fields are resolved to the fields of the record by their
+   * standardized names.
+   */
+  public static final class RecordNode implements Node {
+
+    private final Schema schema;
+    private final Node[] fieldTypes;
+    private final boolean[] isRequired;
+    // the fields of the Json names seen so far, Json names are standardized the same way as the
+    // field names of the schema are.
+    private final Map<String, Integer> positionsByJsonName = new ConcurrentHashMap<>();
+    private boolean isSupported = true;
+
+    private RecordNode(final Schema schema) {
+      this.schema = schema;
+      this.fieldTypes = new Node[schema.getFields().size()];
+      this.isRequired = new boolean[schema.getFields().size()];
+    }
+
+    public Schema schema() {
+      return schema;
+    }
+
+    public Node fieldType(final int position) {
+      return fieldTypes[position];
+    }
+
+    /**
+     * @return the values of the fields by position, for {@link #set} and {@link #collect} to fill.
+     */
+    public JsonNode[] newValues() {
+      return new JsonNode[fieldTypes.length];
+    }
+
+    /**
+     * @return false if the value is not converted directly: it is not a field of the record, and is
+     *         then an additional property, or it is a field that another Json name already set.
+     */
+    public boolean set(final JsonNode[] values, final String jsonName, final JsonNode value) {
+      final Integer position = getPosition(jsonName);
+      if (position == null || values[position] != null) {
+        return false;
+      }
+      values[position] = value;
+      return true;
+    }
+
+    /**
+     * Sets the values of the fields of an object, a field left without value gets its default null
+     * value.
+     *
+     * @return false if the object is not converted directly: the record has a non null default value,
+     *         or the object holds an additional property, several Json names of one field or no value
+     *         for a field without default value.
+     */
+    public boolean collect(final JsonNode value, final JsonNode[] values) {
+      if (!isSupported || value == null || !value.isObject()) {
+        return false;
+      }
+      final Iterator<Map.Entry<String, JsonNode>> fields = value.fields();
+      while (fields.hasNext()) {
+        final Map.Entry<String, JsonNode> field = fields.next();
+        if (!set(values, field.getKey(), field.getValue())) {
+          return false;
+        }
+      }
+      for (int i = 0; i < isRequired.length; i++) {
+        if (isRequired[i] && values[i] == null) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private void compileFields(final Map<Schema, RecordNode> recordNodes) {
+      for (final Schema.Field field : schema.getFields()) {
+        fieldTypes[field.pos()] = CompiledAvroSchema.compile(field.schema(), recordNodes);
+        isRequired[field.pos()] = !field.hasDefaultValue();
+        // a missing field gets its default value, which is left to JSON_CONVERTER unless it is null.
+        if (field.hasDefaultValue() && field.defaultVal() != JsonProperties.NULL_VALUE) {
+          isSupported = false;
+        }
+      }
+    }
+
+    private Integer getPosition(final String jsonName) {
+      final Integer position = positionsByJsonName.get(jsonName);
+      if (position != null || AvroConstants.JSON_EXTRA_PROPS_FIELDS.contains(jsonName)) {
+        return position;
+      }
+      final Schema.Field field = schema.getField(AvroConstants.NAME_TRANSFORMER.getIdentifier(jsonName));
+      if (field == null) {
+        return null;
+      }
+      positionsByJsonName.put(jsonName, field.pos());
+      return field.pos();
+    }
+
+  }
+
+  private static final Node UNSUPPORTED = new UnsupportedNode();
+
+  private static Node compile(final Schema schema, final Map<Schema, RecordNode> recordNodes) {
+    final LogicalType logicalType = schema.getLogicalType();
+    return switch (schema.getType()) {
+      case NULL -> new NullableNode(UNSUPPORTED);
+      case STRING -> logicalType == null || logicalType instanceof LogicalTypes.Uuid
+          ? new PrimitiveNode(Schema.Type.STRING, JsonNode::isTextual)
+          : UNSUPPORTED;
+      case LONG -> logicalType == null || logicalType instanceof LogicalTypes.TimestampMillis
+          ? new PrimitiveNode(Schema.Type.LONG, value -> value.isIntegralNumber() && value.canConvertToLong())
+          : UNSUPPORTED;
+      case INT -> logicalType == null
+          ? new PrimitiveNode(Schema.Type.INT, value -> value.isIntegralNumber() && value.canConvertToInt())
+          : UNSUPPORTED;
+      case DOUBLE -> new PrimitiveNode(Schema.Type.DOUBLE, JsonNode::isNumber);
+      // narrowed from the double the value is parsed to by JSON_CONVERTER
+      case FLOAT -> new PrimitiveNode(Schema.Type.FLOAT, JsonNode::isNumber);
+      case BOOLEAN -> new PrimitiveNode(Schema.Type.BOOLEAN, JsonNode::isBoolean);
+      case ARRAY -> new ArrayNode(schema, compile(schema.getElementType(), recordNodes));
+      case RECORD -> compileRecord(schema, recordNodes);
+      case UNION -> compileUnion(schema, recordNodes);
+      default -> UNSUPPORTED;
+    };
+  }
+
+  private static Node compileRecord(final Schema schema, final Map<Schema, RecordNode> recordNodes) {
+    final RecordNode existing = recordNodes.get(schema);
+    if (existing != null) {
+      return existing;
+    }
+    final RecordNode node = new RecordNode(schema);
+    recordNodes.put(schema, node);
+    node.compileFields(recordNodes);
+    return node;
+  }
+
+  private static Node compileUnion(final Schema schema, final Map<Schema, RecordNode> recordNodes) {
+    final List<Schema> nonNullTypes = new ArrayList<>();
+    for (final Schema type : schema.getTypes()) {
+      if (type.getType() != Schema.Type.NULL) {
+        nonNullTypes.add(type);
+      }
+    }
+    // with several types, the value is converted to the first of them that fits it, which is left to
+    // JSON_CONVERTER.
+    final Node type = nonNullTypes.size() == 1 ? compile(nonNullTypes.get(0), recordNodes) : UNSUPPORTED;
+    return nonNullTypes.size() < schema.getTypes().size() ? new NullableNode(type) : type;
+  }
+
+}
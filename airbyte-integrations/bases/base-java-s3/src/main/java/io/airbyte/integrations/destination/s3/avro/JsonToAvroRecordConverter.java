@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3.avro;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.LongNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import io.airbyte.integrations.base.JavaBaseConstants;
+import io.airbyte.integrations.destination.s3.avro.CompiledAvroSchema.ArrayNode;
+import io.airbyte.integrations.destination.s3.avro.CompiledAvroSchema.Node;
+import io.airbyte.integrations.destination.s3.avro.CompiledAvroSchema.NullableNode;
+import io.airbyte.integrations.destination.s3.avro.CompiledAvroSchema.PrimitiveNode;
+import io.airbyte.integrations.destination.s3.avro.CompiledAvroSchema.RecordNode;
+import java.util.Optional;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+
+/**
+ * Converts a Json record to an Avro record by walking the Json tree along the
+ * {@link CompiledAvroSchema} of the Avro schema, instead of serializing the record to bytes for
+ * {@link AvroConstants#JSON_CONVERTER} to parse them back.
+ * <p>
+ * Only the values {@link CompiledAvroSchema} supports are converted. When a record holds anything
+ * else, it is not converted so that the caller falls back to {@link AvroConstants#JSON_CONVERTER},
+ * which stays the reference for the conversion.
+ */
+public class JsonToAvroRecordConverter {
+
+  // returned for a value that is left to JSON_CONVERTER
+  private static final Object UNSUPPORTED = new Object();
+
+  private final RecordNode rootNode;
+
+  public JsonToAvroRecordConverter(final Schema schema) {
+    final Node node = CompiledAvroSchema.compile(schema);
+    this.rootNode = node instanceof RecordNode ? (RecordNode) node : null;
+  }
+
+  /**
+   * @return the Avro record, or empty if the record has to be converted by
+   *         {@link AvroConstants#JSON_CONVERTER}.
+   */
+  public Optional<GenericData.Record> convert(final JsonNode data) {
+    if (rootNode == null) {
+      return Optional.empty();
+    }
+    return toRecord(convert(rootNode, data));
+  }
+
+  /**
+   * Same as {@link #convert(JsonNode)} on a copy of {@code data} with the airbyte id and emitted at
+   * fields added to it, without making that copy.
+   */
+  public Optional<GenericData.Record> convert(final String id, final long emittedAt, final JsonNode data) {
+    if (rootNode == null) {
+      return Optional.empty();
+    }
+    final JsonNode[] values = rootNode.newValues();
+    if (!rootNode.set(values, JavaBaseConstants.COLUMN_NAME_AB_ID, TextNode.valueOf(id))
+        || !rootNode.set(values, JavaBaseConstants.COLUMN_NAME_EMITTED_AT, LongNode.valueOf(emittedAt))
+        || !rootNode.collect(data, values)) {
+      return Optional.empty();
+    }
+    return toRecord(convertFields(rootNode, values));
+  }
+
+  private static Optional<GenericData.Record> toRecord(final Object converted) {
+    return converted == UNSUPPORTED ? Optional.empty() : Optional.of((GenericData.Record) converted);
+  }
+
+  /**
+   * @return the Avro value, or {@link #UNSUPPORTED} if it has to be converted by JSON_CONVERTER.
+   */
+  private static Object convert(final Node node, final JsonNode value) {
+    if (node instanceof NullableNode nullable) {
+      return value == null || value.isNull() ? null : convert(nullable.type(), value);
+    }
+    if (node instanceof PrimitiveNode primitive) {
+      return primitive.accepts(value) ? convertPrimitive(primitive.type(), value) : UNSUPPORTED;
+    }
+    if (node instanceof ArrayNode array) {
+      return convertArray(array, value);
+    }
+    if (node instanceof RecordNode record) {
+      final JsonNode[] values = record.newValues();
+      return record.collect(value, values) ? convertFields(record, values) : UNSUPPORTED;
+    }
+    return UNSUPPORTED;
+  }
+
+  private static Object convertPrimitive(final Schema.Type type, final JsonNode value) {
+    return switch (type) {
+      case STRING -> value.textValue();
+      case LONG -> value.longValue();
+      case INT -> value.intValue();
+      case DOUBLE -> value.doubleValue();
+      // narrowed from the double the value is parsed to by JSON_CONVERTER
+      case FLOAT -> (float) value.doubleValue();
+      case BOOLEAN -> value.booleanValue();
+      default -> UNSUPPORTED;
+    };
+  }
+
+  private static Object convertArray(final ArrayNode node, final JsonNode value) {
+    if (value == null || !value.isArray()) {
+      return UNSUPPORTED;
+    }
+    final GenericData.Array<Object> array = new GenericData.Array<>(value.size(), node.schema());
+    for (final JsonNode element : value) {
+      final Object converted = convert(node.elementType(), element);
+      if (converted == UNSUPPORTED) {
+        return UNSUPPORTED;
+      }
+      array.add(converted);
+    }
+    return array;
+  }
+
+  private static Object convertFields(final RecordNode node, final JsonNode[] values) {
+    final GenericData.Record record = new GenericData.Record(node.schema());
+    for (int i = 0; i < values.length; i++) {
+      // a field without value keeps its default null value
+      if (values[i] != null) {
+        final Object converted = convert(node.fieldType(i), values[i]);
+        if (converted == UNSUPPORTED) {
+          return UNSUPPORTED;
+        }
+        record.put(i, converted);
+      }
+    }
+    return record;
+  }
+
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3.parquet;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.LongNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.google.common.annotations.VisibleForTesting;
+import io.airbyte.integrations.base.JavaBaseConstants;
+import io.airbyte.integrations.destination.s3.avro.AvroConstants;
+import io.airbyte.integrations.destination.s3.avro.AvroRecordFactory;
+import io.airbyte.integrations.destination.s3.avro.CompiledAvroSchema;
+import io.airbyte.integrations.destination.s3.avro.CompiledAvroSchema.ArrayNode;
+import io.airbyte.integrations.destination.s3.avro.CompiledAvroSchema.Node;
+import io.airbyte.integrations.destination.s3.avro.CompiledAvroSchema.NullableNode;
+import io.airbyte.integrations.destination.s3.avro.CompiledAvroSchema.PrimitiveNode;
+import io.airbyte.integrations.destination.s3.avro.CompiledAvroSchema.RecordNode;
+import io.airbyte.integrations.destination.s3.avro.JsonToAvroRecordConverter;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.parquet.avro.AvroSchemaConverter;
+import org.apache.parquet.avro.AvroWriteSupport;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.api.WriteSupport;
+import org.apache.parquet.io.OutputFile;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.io.api.RecordConsumer;
+
+/**
+ * Writes the Json data of record messages straight to the Parquet column writers, without building
+ * an Avro record for each of them.
+ * <p>
+ * The Parquet schema is the one {@link org.apache.parquet.avro.AvroParquetWriter} derives from the
+ * Avro schema of the stream, and the records are laid out the way {@link AvroWriteSupport} lays
+ * them out, so the files are the same as the ones written through Avro records and are still read
+ * with the Avro schema they embed. The records are written directly when
+ * {@link JsonToAvroRecordConverter} would convert them directly, both walking the same
+ * {@link CompiledAvroSchema}, all the others go through {@link AvroRecordFactory} and
+ * {@link AvroWriteSupport} as before.
+ */
+public class JsonRecordWriteSupport extends WriteSupport<AirbyteRecordMessage> {
+
+  // the name of the element field of the lists written with the old list structure
+  private static final String OLD_LIST_ELEMENT_NAME = "array";
+
+  private final Schema schema;
+  private final Supplier<UUID> ids;
+  private final AvroRecordFactory avroRecordFactory;
+  private final AvroWriteSupport<GenericData.Record> avroWriteSupport;
+  private RecordNode rootNode;
+  private boolean writeLists;
+  private RecordConsumer recordConsumer;
+
+  public JsonRecordWriteSupport(final Schema schema, final Configuration configuration) {
+    this(schema, configuration, UUID::randomUUID);
+  }
+
+  @VisibleForTesting
+  JsonRecordWriteSupport(final Schema schema, final Configuration configuration, final Supplier<UUID> ids) {
+    this.schema = schema;
+    this.ids = ids;
+    this.avroRecordFactory = new AvroRecordFactory(schema, AvroConstants.JSON_CONVERTER);
+    this.avroWriteSupport = new AvroWriteSupport<>(new AvroSchemaConverter(configuration).convert(schema), schema, GenericData.get());
+  }
+
+  public static Builder builder(final OutputFile file, final Schema schema) {
+    return new Builder(file, schema);
+  }
+
+  @Override
+  public String getName() {
+    return avroWriteSupport.getName();
+  }
+
+  @Override
+  public WriteContext init(final Configuration configuration) {
+    // lists are only written directly in the old list structure, which is the default one.
+    writeLists = configuration.getBoolean(AvroWriteSupport.WRITE_OLD_LIST_STRUCTURE,
+        AvroWriteSupport.WRITE_OLD_LIST_STRUCTURE_DEFAULT);
+    final Node node = CompiledAvroSchema.compile(schema);
+    rootNode = node instanceof RecordNode ? (RecordNode) node : null;
+    return avroWriteSupport.init(configuration);
+  }
+
+  @Override
+  public void prepareForWrite(final RecordConsumer recordConsumer) {
+    this.recordConsumer = recordConsumer;
+    avroWriteSupport.prepareForWrite(recordConsumer);
+  }
+
+  @Override
+  public void write(final AirbyteRecordMessage recordMessage) {
+    final UUID id = ids.get();
+    final JsonNode[] values = rootNode == null ? null : collectRootValues(id, recordMessage);
+    if (values != null && canWriteFields(rootNode, values)) {
+      recordConsumer.startMessage();
+      writeFields(rootNode, values);
+      recordConsumer.endMessage();
+      return;
+    }
+
+    try {
+      avroWriteSupport.write(avroRecordFactory.getAvroRecord(id, recordMessage));
+    } catch (final JsonProcessingException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Override
+  public FinalizedWriteContext finalizeWrite() {
+    return avroWriteSupport.finalizeWrite();
+  }
+
+  private JsonNode[] collectRootValues(final UUID id, final AirbyteRecordMessage recordMessage) {
+    final JsonNode[] values = rootNode.newValues();
+    if (!rootNode.set(values, JavaBaseConstants.COLUMN_NAME_AB_ID, TextNode.valueOf(id.toString()))
+        || !rootNode.set(values, JavaBaseConstants.COLUMN_NAME_EMITTED_AT, LongNode.valueOf(recordMessage.getEmittedAt()))
+        || !rootNode.collect(recordMessage.getData(), values)) {
+      return null;
+    }
+    return values;
+  }
+
+  private static boolean isNull(final JsonNode value) {
+    return value == null || value.isNull();
+  }
+
+  /**
+   * @return whether the value is written directly, the same way as it would be through the Avro
+   *         record {@link JsonToAvroRecordConverter} converts it to.
+   */
+  private boolean canWrite(final Node node, final JsonNode value) {
+    if (node instanceof NullableNode nullable) {
+      return isNull(value) || canWrite(nullable.type(), value);
+    }
+    if (node instanceof PrimitiveNode primitive) {
+      return primitive.accepts(value);
+    }
+    if (node instanceof ArrayNode array) {
+      return writeLists && canWriteList(array, value);
+    }
+    if (node instanceof RecordNode record) {
+      final JsonNode[] values = record.newValues();
+      return record.collect(value, values) && canWriteFields(record, values);
+    }
+    return false;
+  }
+
+  /**
+   * The old list structure of {@link AvroWriteSupport} is a group of one repeated element field,
+   * which cannot hold null elements.
+   */
+  private boolean canWriteList(final ArrayNode node, final JsonNode value) {
+    if (value == null || !value.isArray()) {
+      return false;
+    }
+    for (final JsonNode element : value) {
+      if (isNull(element) || !canWrite(node.elementType(), element)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean canWriteFields(final RecordNode node, final JsonNode[] values) {
+    for (int i = 0; i < values.length; i++) {
+      // a field without value keeps its default null value
+      if (values[i] != null && !canWrite(node.fieldType(i), values[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Writes a value {@link #canWrite} accepts.
+   */
+  private void write(final Node node, final JsonNode value) {
+    if (node instanceof NullableNode nullable) {
+      write(nullable.type(), value);
+    } else if (node instanceof PrimitiveNode primitive) {
+      writePrimitive(primitive.type(), value);
+    } else if (node instanceof ArrayNode array) {
+      writeList(array, value);
+    } else if (node instanceof RecordNode record) {
+      final JsonNode[] values = record.newValues();
+      record.collect(value, values);
+      recordConsumer.startGroup();
+      writeFields(record, values);
+      recordConsumer.endGroup();
+    } else {
+      throw new IllegalStateException("Value cannot be written directly: " + value);
+    }
+  }
+
+  private void writePrimitive(final Schema.Type type, final JsonNode value) {
+    switch (type) {
+      case STRING -> recordConsumer.addBinary(Binary.fromString(value.textValue()));
+      case LONG -> recordConsumer.addLong(value.longValue());
+      case INT -> recordConsumer.addInteger(value.intValue());
+      case DOUBLE -> recordConsumer.addDouble(value.doubleValue());
+      case FLOAT -> recordConsumer.addFloat((float) value.doubleValue());
+      case BOOLEAN -> recordConsumer.addBoolean(value.booleanValue());
+      default -> throw new IllegalStateException("Value cannot be written directly: " + value);
+    }
+  }
+
+  private void writeList(final ArrayNode node, final JsonNode value) {
+    recordConsumer.startGroup();
+    if (!value.isEmpty()) {
+      recordConsumer.startField(OLD_LIST_ELEMENT_NAME, 0);
+      for (final JsonNode element : value) {
+        write(node.elementType(), element);
+      }
+      recordConsumer.endField(OLD_LIST_ELEMENT_NAME, 0);
+    }
+    recordConsumer.endGroup();
+  }
+
+  private void writeFields(final RecordNode node, final JsonNode[] values) {
+    // the Parquet group has no field for the null fields of the record
+    int parquetIndex = 0;
+    for (final Schema.Field field : node.schema().getFields()) {
+      if (field.schema().getType() == Schema.Type.NULL) {
+        continue;
+      }
+      final JsonNode value = values[field.pos()];
+      if (!isNull(value)) {
+        recordConsumer.startField(field.name(), parquetIndex);
+        write(node.fieldType(field.pos()), value);
+        recordConsumer.endField(field.name(), parquetIndex);
+      }
+      parquetIndex++;
+    }
+  }
+
+  public static class Builder extends ParquetWriter.Builder<AirbyteRecordMessage, Builder> {
+
+    private final Schema schema;
+    private Supplier<UUID> ids = UUID::randomUUID;
+
+    private Builder(final OutputFile file, final Schema schema) {
+      super(file);
+      this.schema = schema;
+    }
+
+    @VisibleForTesting
+    Builder withIds(final Supplier<UUID> ids) {
+      this.ids = ids;
+      return this;
+    }
+
+    @Override
+    protected Builder self() {
+      return this;
+    }
+
+    @Override
+    protected WriteSupport<AirbyteRecordMessage> getWriteSupport(final Configuration configuration) {
+      return new JsonRecordWriteSupport(schema, configuration, ids);
+    }
+
+  }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3.parquet;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.apache.parquet.io.OutputFile;
+import org.apache.parquet.io.PositionOutputStream;
+
+/**
+ * A Parquet {@link OutputFile} on the local file system, written through NIO rather than through a
+ * Hadoop file system, which spares initializing one for every buffer.
+ */
+public class LocalParquetOutputFile implements OutputFile {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final Path path;
+
+  public LocalParquetOutputFile(final Path path) {
+    this.path = path;
+  }
+
+  @Override
+  public PositionOutputStream create(final long blockSizeHint) throws IOException {
+    return new LocalPositionOutputStream(Files.newOutputStream(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE));
+  }
+
+  @Override
+  public PositionOutputStream createOrOverwrite(final long blockSizeHint) throws IOException {
+    return new LocalPositionOutputStream(
+        Files.newOutputStream(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING));
+  }
+
+  @Override
+  public boolean supportsBlockSize() {
+    return false;
+  }
+
+  @Override
+  public long defaultBlockSize() {
+    return 0;
+  }
+
+  @Override
+  public String toString() {
+    return path.toString();
+  }
+
+  private static class LocalPositionOutputStream extends PositionOutputStream {
+
+    private final OutputStream out;
+    private long position;
+
+    private LocalPositionOutputStream(final OutputStream out) {
+      this.out = new BufferedOutputStream(out, BUFFER_SIZE);
+      this.position = 0;
+    }
+
+    @Override
+    public long getPos() {
+      return position;
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+      out.write(b);
+      position++;
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+      out.write(b, off, len);
+      position += len;
+    }
+
+    @Override
+    public void flush() throws IOException {
+      out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+      out.close();
+    }
+
+  }
+
+}
@@ -9,8 +9,6 @@ import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
 import io.airbyte.integrations.destination.record_buffer.FileBuffer;
 import io.airbyte.integrations.destination.record_buffer.SerializableBuffer;
 import io.airbyte.integrations.destination.s3.S3DestinationConfig;
-import io.airbyte.integrations.destination.s3.avro.AvroConstants;
-import io.airbyte.integrations.destination.s3.avro.AvroRecordFactory;
 import io.airbyte.integrations.destination.s3.avro.JsonToAvroSchemaConverter;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
@@ -22,13 +20,10 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.UUID;
 import org.apache.avro.Schema;
-import org.apache.avro.generic.GenericData.Record;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.hadoop.conf.Configuration;
-import org.apache.parquet.avro.AvroParquetWriter;
 import org.apache.parquet.hadoop.ParquetWriter;
-import org.apache.parquet.hadoop.util.HadoopOutputFile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,16 +33,17 @@ import org.slf4j.LoggerFactory;
  * details of the format the data is going to be stored in.
  *
  * Unfortunately, the Parquet library doesn't allow us to manipulate the output stream and forces us
- * to go through {@link HadoopOutputFile} instead. So we can't benefit from the abstraction
- * described above. Therefore, we re-implement the necessary methods to be used as
- * {@link SerializableBuffer}, while data will be buffered in such a hadoop file.
+ * to go through an {@link org.apache.parquet.io.OutputFile} instead. So we can't benefit from the
+ * abstraction described above. Therefore, we re-implement the necessary methods to be used as
+ * {@link SerializableBuffer}, while data will be buffered in a {@link LocalParquetOutputFile}.
+ * Records are written straight to the Parquet column writers by {@link JsonRecordWriteSupport},
+ * which holds each row group column by column in memory until it is flushed to the file.
  */
 public class ParquetSerializedBuffer implements SerializableBuffer {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(ParquetSerializedBuffer.class);
 
-  private final AvroRecordFactory avroRecordFactory;
-  private final ParquetWriter<Record> parquetWriter;
+  private final ParquetWriter<AirbyteRecordMessage> parquetWriter;
   private final Path bufferFile;
   private InputStream inputStream;
   private Long lastByteCount;
@@ -68,11 +64,10 @@ public class ParquetSerializedBuffer implements SerializableBuffer {
         stream.getName(), stream.getNamespace());
     bufferFile = Files.createTempFile(UUID.randomUUID().toString(), ".parquet");
     Files.deleteIfExists(bufferFile);
-    avroRecordFactory = new AvroRecordFactory(schema, AvroConstants.JSON_CONVERTER);
     final S3ParquetFormatConfig formatConfig = (S3ParquetFormatConfig) config.getFormatConfig();
-    parquetWriter = AvroParquetWriter.<Record>builder(HadoopOutputFile
-        .fromPath(new org.apache.hadoop.fs.Path(bufferFile.toUri()), new Configuration()))
-        .withSchema(schema)
+    parquetWriter = JsonRecordWriteSupport.builder(new LocalParquetOutputFile(bufferFile), schema)
+        // no Hadoop file system is involved, so none of the Hadoop default resources are loaded
+        .withConf(new Configuration(false))
         .withCompressionCodec(formatConfig.getCompressionCodec())
         .withRowGroupSize(formatConfig.getBlockSize())
         .withMaxPaddingSize(formatConfig.getMaxPaddingSize())
@@ -89,7 +84,7 @@ public class ParquetSerializedBuffer implements SerializableBuffer {
   public long accept(final AirbyteRecordMessage recordMessage) throws Exception {
     if (inputStream == null && !isClosed) {
       final long startCount = getByteCount();
-      parquetWriter.write(avroRecordFactory.getAvroRecord(UUID.randomUUID(), recordMessage));
+      parquetWriter.write(recordMessage);
       return getByteCount() - startCount;
     } else {
       throw new IllegalCallerException("Buffer is already closed, it cannot accept more messages");
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3.util;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import io.airbyte.integrations.destination.record_buffer.BufferMemoryManager;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Memory budget shared by the multipart uploads running at the same time, across streams, and the
+ * sizing of their parts.
+ * <p>
+ * A {@link alex.mojaki.s3upload.StreamTransferManager} holds up to (upload threads + queue capacity
+ * + 1) parts in memory, see {@link StreamTransferManagerFactory}. Each upload reserves that memory
+ * before it starts and releases it once it is done, so that concurrent uploads wait for each other
+ * instead of running out of memory; since every part being uploaded is held in memory, this also
+ * bounds the number of parts in flight, i.e. the bandwidth the uploads compete for.
+ * <p>
+ * Parts are sized after the throughput observed on the previous uploads, so that a part takes about
+ * {@link #TARGET_PART_UPLOAD_TIME} to upload: parts stay small on slow links, which keeps the memory
+ * held low, and grow on fast ones, which saves requests. Small objects are split into smaller parts
+ * so that all the upload threads take part in the upload.
+ * <p>
+ * The budget of the process is the share of the buffer memory that {@link BufferMemoryManager}
+ * leaves to the copies of the buffers held while they are uploaded, which is what the parts are, so
+ * that the buffers and their uploads together stay within the memory of the process handed out to
+ * buffering. It is raised to the memory of a single upload when that share is smaller.
+ */
+public class MultipartUploadBudget {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(MultipartUploadBudget.class);
+
+  // S3 and GCS limit the number of parts of an upload
+  private static final int MAX_PART_COUNT = 10_000;
+  // part size until a throughput is observed
+  private static final int INITIAL_PART_SIZE_MB = 10;
+  private static final Duration TARGET_PART_UPLOAD_TIME = Duration.ofSeconds(4);
+  private static final int STREAM_BUFFER_MB = 6;
+  // weight of the last upload in the observed throughput
+  private static final double THROUGHPUT_SMOOTHING = 0.3;
+
+  private final int memoryBudgetMb;
+  private final Semaphore memoryPermitsMb;
+  // 0 until an upload completed
+  private volatile double bytesPerSecondPerThread;
+
+  @VisibleForTesting
+  public MultipartUploadBudget(final int memoryBudgetMb) {
+    Preconditions.checkArgument(memoryBudgetMb >= minimumReservationMb(), "Upload memory budget is smaller than a single upload");
+    this.memoryBudgetMb = memoryBudgetMb;
+    this.memoryPermitsMb = new Semaphore(memoryBudgetMb, true);
+    this.bytesPerSecondPerThread = 0;
+  }
+
+  /**
+   * @return the budget shared by the uploads of this process, created on first use.
+   */
+  public static MultipartUploadBudget getDefault() {
+    return DefaultHolder.INSTANCE;
+  }
+
+  /**
+   * Waits until the memory of an upload of {@code objectBytes} is available, and reserves it.
+   *
+   * @param maxUploadThreads the number of upload threads configured, fewer are used for small objects
+   *        or when the budget cannot hold that many parts.
+   */
+  public Reservation reserve(final long objectBytes, final int maxUploadThreads) throws InterruptedException {
+    final long objectMb = Math.max(1, divideRoundingUp(objectBytes, FileUtils.ONE_MB));
+    final int partSizeMb = getPartSizeMb(objectMb, Math.max(1, maxUploadThreads));
+    int uploadThreads = (int) Math.max(1, Math.min(maxUploadThreads, divideRoundingUp(objectMb, partSizeMb)));
+    while (uploadThreads > 1 && memoryMb(partSizeMb, uploadThreads) > memoryBudgetMb) {
+      uploadThreads--;
+    }
+    // a part that does not fit the budget on its own takes all of it
+    final int memoryMb = Math.min(memoryBudgetMb, memoryMb(partSizeMb, uploadThreads));
+    if (!memoryPermitsMb.tryAcquire(memoryMb)) {
+      LOGGER.info("Waiting for {} MB of upload memory, {} MB available", memoryMb, memoryPermitsMb.availablePermits());
+      memoryPermitsMb.acquire(memoryMb);
+    }
+    return new Reservation(partSizeMb, uploadThreads, memoryMb);
+  }
+
+  @VisibleForTesting
+  int getPartSizeMb(final long objectMb, final int maxUploadThreads) {
+    final double throughput = bytesPerSecondPerThread;
+    final long targetPartSizeMb = throughput > 0
+        ? (long) (throughput * TARGET_PART_UPLOAD_TIME.toMillis() / 1000 / FileUtils.ONE_MB)
+        : INITIAL_PART_SIZE_MB;
+    final long spreadPartSizeMb = divideRoundingUp(objectMb, maxUploadThreads);
+    final long partSizeMb = Math.max(divideRoundingUp(objectMb, MAX_PART_COUNT), Math.min(targetPartSizeMb, spreadPartSizeMb));
+    return (int) Math.min(StreamTransferManagerFactory.MAX_ALLOWED_PART_SIZE_MB,
+        Math.max(StreamTransferManagerFactory.DEFAULT_PART_SIZE_MB, partSizeMb));
+  }
+
+  @VisibleForTesting
+  public int getAvailableMb() {
+    return memoryPermitsMb.availablePermits();
+  }
+
+  private void recordThroughput(final long bytes, final Duration elapsed, final int uploadThreads) {
+    if (bytes <= 0 || elapsed.isZero() || elapsed.isNegative()) {
+      return;
+    }
+    final double observed = bytes * 1000.0 / elapsed.toMillis() / uploadThreads;
+    final double previous = bytesPerSecondPerThread;
+    bytesPerSecondPerThread = previous > 0 ? previous + THROUGHPUT_SMOOTHING * (observed - previous) : observed;
+  }
+
+  /**
+   * Memory held by a stream transfer manager: its queue and upload threads hold one part each, and
+   * its single stream another one along with a buffer of {@link #STREAM_BUFFER_MB}.
+   */
+  private static int memoryMb(final int partSizeMb, final int uploadThreads) {
+    return (2 * uploadThreads + 1) * partSizeMb + STREAM_BUFFER_MB;
+  }
+
+  private static int minimumReservationMb() {
+    return memoryMb(StreamTransferManagerFactory.DEFAULT_PART_SIZE_MB, 1);
+  }
+
+  private static long divideRoundingUp(final long dividend, final long divisor) {
+    return (dividend + divisor - 1) / divisor;
+  }
+
+  // the memory limit is only read by the connectors that upload to S3, when they first need it.
+  private static class DefaultHolder {
+
+    private static final MultipartUploadBudget INSTANCE = new MultipartUploadBudget(
+        (int) Math.max(minimumReservationMb(), BufferMemoryManager.getDefaultUploadBudgetBytes() / FileUtils.ONE_MB));
+
+  }
+
+  /**
+   * Memory reserved for one upload, and the parameters of its stream transfer manager. Closing it
+   * releases the memory.
+   */
+  public class Reservation implements AutoCloseable {
+
+    private final int partSizeMb;
+    private final int uploadThreads;
+    private final int memoryMb;
+    private boolean released;
+
+    private Reservation(final int partSizeMb, final int uploadThreads, final int memoryMb) {
+      this.partSizeMb = partSizeMb;
+      this.uploadThreads = uploadThreads;
+      this.memoryMb = memoryMb;
+      this.released = false;
+    }
+
+    public long getPartSizeMb() {
+      return partSizeMb;
+    }
+
+    public int getUploadThreads() {
+      return uploadThreads;
+    }
+
+    public int getQueueCapacity() {
+      return uploadThreads;
+    }
+
+    /**
+     * Record how long the upload took, for the next parts to be sized after the throughput.
+     */
+    public void recordUpload(final long bytes, final Duration elapsed) {
+      recordThroughput(bytes, elapsed, uploadThreads);
+    }
+
+    @Override
+    public void close() {
+      if (!released) {
+        released = true;
+        memoryPermitsMb.release(memoryMb);
+      }
+    }
+
+  }
+
+}
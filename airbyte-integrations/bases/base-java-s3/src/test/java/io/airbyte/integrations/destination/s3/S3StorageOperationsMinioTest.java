@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.amazonaws.services.s3.AmazonS3;
+import io.airbyte.integrations.destination.record_buffer.SerializableBuffer;
+import io.airbyte.integrations.destination.s3.util.MultipartUploadBudget;
+import io.airbyte.integrations.destination.s3.util.S3NameTransformer;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+
+/**
+ * Uploads buffers through the multipart uploads of {@link S3StorageOperations} to a MinIO server.
+ */
+class S3StorageOperationsMinioTest {
+
+  private static final String BUCKET_NAME = "airbyte-test";
+  private static final String ACCESS_KEY = "minio-access-key";
+  private static final String SECRET_KEY = "minio-secret-key";
+  private static final int MINIO_PORT = 9000;
+  private static final String MINIO_IMAGE = "minio/minio:RELEASE.2022-10-08T20-11-00Z";
+  // the memory of a single upload of parts of the minimum size on one thread, so that concurrent
+  // uploads have to wait for each other
+  private static final int UPLOAD_BUDGET_MB = 21;
+
+  private static GenericContainer<?> minio;
+
+  private AmazonS3 s3Client;
+  private MultipartUploadBudget uploadBudget;
+  private S3StorageOperations s3StorageOperations;
+
+  @BeforeAll
+  static void startMinio() {
+    minio = new GenericContainer<>(MINIO_IMAGE)
+        .withEnv("MINIO_ROOT_USER", ACCESS_KEY)
+        .withEnv("MINIO_ROOT_PASSWORD", SECRET_KEY)
+        .withCommand("server", "/data")
+        .withExposedPorts(MINIO_PORT)
+        .waitingFor(Wait.forHttp("/minio/health/live").forPort(MINIO_PORT));
+    minio.start();
+  }
+
+  @AfterAll
+  static void stopMinio() {
+    minio.stop();
+  }
+
+  @BeforeEach
+  void setup() {
+    final S3DestinationConfig s3Config = S3DestinationConfig.create(BUCKET_NAME, "bucket-path", "us-east-1")
+        .withEndpoint(String.format("http://%s:%d", minio.getHost(), minio.getMappedPort(MINIO_PORT)))
+        .withAccessKeyCredential(ACCESS_KEY, SECRET_KEY)
+        .get();
+    s3Client = s3Config.getS3Client();
+    uploadBudget = new MultipartUploadBudget(UPLOAD_BUDGET_MB);
+    s3StorageOperations = new S3StorageOperations(new S3NameTransformer(), s3Client, s3Config, uploadBudget);
+  }
+
+  @Test
+  void testUploadInSeveralParts() throws Exception {
+    // larger than the minimum part size, so that it is uploaded in several parts
+    final byte[] data = randomBytes(12 * (int) FileUtils.ONE_MB);
+    final String objectPath = "namespace/stream/";
+    s3StorageOperations.createBucketObjectIfNotExists(objectPath);
+
+    final String filename = s3StorageOperations.uploadRecordsToBucket(buffer(data), "namespace", "stream", objectPath);
+
+    assertArrayEquals(data, readObject(objectPath + filename));
+    assertEquals(UPLOAD_BUDGET_MB, uploadBudget.getAvailableMb());
+  }
+
+  @Test
+  void testConcurrentUploadsShareTheBudget() throws Exception {
+    s3StorageOperations.createBucketObjectIfNotExists("concurrent/");
+    final List<byte[]> objects = new ArrayList<>();
+    final List<CompletableFuture<String>> uploads = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      final byte[] data = randomBytes(8 * (int) FileUtils.ONE_MB);
+      final String objectPath = "concurrent/stream_" + i + "/";
+      final SerializableBuffer buffer = buffer(data);
+      objects.add(data);
+      uploads.add(CompletableFuture.supplyAsync(() -> objectPath + s3StorageOperations.uploadRecordsToBucket(buffer, "concurrent", "stream", objectPath)));
+    }
+
+    for (int i = 0; i < uploads.size(); i++) {
+      assertArrayEquals(objects.get(i), readObject(uploads.get(i).get(2, TimeUnit.MINUTES)));
+    }
+    // every upload released the memory it reserved
+    assertEquals(UPLOAD_BUDGET_MB, uploadBudget.getAvailableMb());
+  }
+
+  private byte[] readObject(final String objectKey) throws IOException {
+    return s3Client.getObject(BUCKET_NAME, objectKey).getObjectContent().readAllBytes();
+  }
+
+  private static SerializableBuffer buffer(final byte[] data) throws IOException {
+    final SerializableBuffer buffer = mock(SerializableBuffer.class);
+    when(buffer.getFilename()).thenReturn("buffer.csv");
+    when(buffer.getByteCount()).thenReturn((long) data.length);
+    when(buffer.getInputStream()).thenAnswer(invocation -> new ByteArrayInputStream(data));
+    return buffer;
+  }
+
+  private static byte[] randomBytes(final int size) {
+    final byte[] bytes = new byte[size];
+    new Random(size).nextBytes(bytes);
+    return bytes;
+  }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3.avro;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.jackson.MoreMappers;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.resources.MoreResources;
+import io.airbyte.commons.util.MoreIterators;
+import io.airbyte.integrations.base.JavaBaseConstants;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+class JsonToAvroRecordConverterTest {
+
+  private static final ObjectWriter WRITER = MoreMappers.initMapper().writer();
+  private static final JsonToAvroSchemaConverter SCHEMA_CONVERTER = new JsonToAvroSchemaConverter();
+  private static final JsonNode JSON_SCHEMA = Jsons.deserialize("""
+      {
+        "type": "object",
+        "properties": {
+          "id": { "type": "integer" },
+          "name": { "type": ["null", "string"] },
+          "score": { "type": "number" },
+          "active": { "type": "boolean" },
+          "tags": { "type": "array", "items": { "type": "string" } },
+          "address": {
+            "type": "object",
+            "properties": {
+              "city": { "type": "string" },
+              "zip code": { "type": "string" }
+            }
+          }
+        }
+      }
+      """);
+
+  public static class ConversionTestCaseProvider implements ArgumentsProvider {
+
+    @Override
+    public Stream<? extends Arguments> provideArguments(final ExtensionContext context) throws Exception {
+      final JsonNode testCases = Jsons.deserialize(MoreResources.readResource("parquet/json_schema_converter/json_conversion_test_cases.json"));
+      return MoreIterators.toList(testCases.elements()).stream().map(testCase -> Arguments.of(
+          testCase.get("schemaName").asText(),
+          testCase.get("avroSchema"),
+          testCase.get("jsonObject")));
+    }
+
+  }
+
+  /**
+   * Whenever a record is converted directly, it must be the record JSON_CONVERTER converts it to.
+   */
+  @ParameterizedTest
+  @ArgumentsSource(ConversionTestCaseProvider.class)
+  public void testSameRecordAsJsonConverter(final String schemaName, final JsonNode avroSchema, final JsonNode jsonObject) throws Exception {
+    final Schema schema = new Schema.Parser().parse(Jsons.serialize(avroSchema));
+    final Optional<GenericData.Record> record = new JsonToAvroRecordConverter(schema).convert(jsonObject);
+    if (record.isPresent()) {
+      assertEquals(
+          AvroConstants.JSON_CONVERTER.convertToGenericDataRecord(WRITER.writeValueAsBytes(jsonObject), schema),
+          record.get(),
+          String.format("Object conversion for %s failed", schemaName));
+    }
+  }
+
+  @Test
+  public void testConvertWithAirbyteFields() throws Exception {
+    final Schema schema = SCHEMA_CONVERTER.getAvroSchema(JSON_SCHEMA, "stream", null);
+    final JsonNode data = Jsons.deserialize("""
+        {
+          "id": 1,
+          "name": null,
+          "score": 10,
+          "active": true,
+          "tags": ["a", "b"],
+          "address": { "city": "Paris", "zip code": "75001" }
+        }
+        """);
+    final String id = UUID.randomUUID().toString();
+
+    final Optional<GenericData.Record> record = new JsonToAvroRecordConverter(schema).convert(id, 1664619330000L, data);
+
+    assertTrue(record.isPresent());
+    final ObjectNode jsonRecord = (ObjectNode) Jsons.clone(data);
+    jsonRecord.put(JavaBaseConstants.COLUMN_NAME_AB_ID, id);
+    jsonRecord.put(JavaBaseConstants.COLUMN_NAME_EMITTED_AT, 1664619330000L);
+    assertEquals(AvroConstants.JSON_CONVERTER.convertToGenericDataRecord(WRITER.writeValueAsBytes(jsonRecord), schema), record.get());
+  }
+
+  @Test
+  public void testLeaveAmbiguousRecordsToJsonConverter() {
+    final Schema schema = SCHEMA_CONVERTER.getAvroSchema(JSON_SCHEMA, "stream", null, false, true, true, true);
+    final JsonToAvroRecordConverter converter = new JsonToAvroRecordConverter(schema);
+
+    // additional property
+    assertTrue(converter.convert(Jsons.deserialize("{\"id\": 1, \"unknown\": \"value\"}")).isEmpty());
+    // value to coerce to the type of its field
+    assertTrue(converter.convert(Jsons.deserialize("{\"id\": 1, \"name\": 2}")).isEmpty());
+    // two names for the same field
+    assertTrue(converter.convert(Jsons.deserialize("{\"address\": {\"zip code\": \"75001\", \"zip_code\": \"75002\"}}")).isEmpty());
+    assertTrue(converter.convert(Jsons.deserialize("{\"id\": 1, \"name\": \"name\"}")).isPresent());
+  }
+
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3.parquet;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.integrations.destination.s3.avro.AvroConstants;
+import io.airbyte.integrations.destination.s3.avro.AvroRecordFactory;
+import io.airbyte.integrations.destination.s3.avro.JsonToAvroSchemaConverter;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.nio.file.Files;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData.Record;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.parquet.avro.AvroParquetWriter;
+import org.apache.parquet.avro.AvroReadSupport;
+import org.apache.parquet.hadoop.ParquetReader;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.junit.jupiter.api.Test;
+
+class JsonRecordWriteSupportTest {
+
+  private static final JsonNode JSON_SCHEMA = Jsons.deserialize("""
+      {
+        "type": "object",
+        "properties": {
+          "id": { "type": "integer" },
+          "name": { "type": ["null", "string"] },
+          "score": { "type": "number" },
+          "active": { "type": "boolean" },
+          "tags": { "type": "array", "items": { "type": "string" } },
+          "address": {
+            "type": "object",
+            "properties": {
+              "city": { "type": "string" },
+              "zip code": { "type": "string" }
+            }
+          },
+          "updated_at": { "type": "string", "format": "date-time" }
+        }
+      }
+      """);
+
+  private static final List<AirbyteRecordMessage> MESSAGES = List.of(
+      message("""
+              {"id": 1, "name": null, "score": 10, "active": true, "tags": ["a", "b"], "address": {"city": "Paris", "zip code": "75001"}}
+              """),
+      message("""
+              {"id": 2, "name": "name", "tags": [], "address": {"city": "Lyon"}}
+              """),
+      // logical type and additional property, written through an Avro record
+      message("""
+              {"id": 3, "updated_at": "2022-05-12T15:35:44.192950Z", "unknown": "value"}
+              """));
+
+  /**
+   * The records written directly read back the same as the ones written through Avro records, in the
+   * same file.
+   */
+  @Test
+  void testSameRecordsAsAvroWriteSupport() throws Exception {
+    final Schema schema = new JsonToAvroSchemaConverter().getAvroSchema(JSON_SCHEMA, "stream", null);
+    final java.nio.file.Path file = Files.createTempFile(UUID.randomUUID().toString(), ".parquet");
+    Files.deleteIfExists(file);
+    try {
+      try (final ParquetWriter<AirbyteRecordMessage> writer = JsonRecordWriteSupport.builder(new LocalParquetOutputFile(file), schema)
+          .withConf(new Configuration(false))
+          .build()) {
+        for (final AirbyteRecordMessage message : MESSAGES) {
+          writer.write(message);
+        }
+      }
+
+      final AvroRecordFactory avroRecordFactory = new AvroRecordFactory(schema, AvroConstants.JSON_CONVERTER);
+      try (final ParquetReader<Record> reader = ParquetReader.<Record>builder(new AvroReadSupport<>(), new Path(file.toUri()))
+          .withConf(new Configuration())
+          .build()) {
+        for (final AirbyteRecordMessage message : MESSAGES) {
+          final Record actual = reader.read();
+          final Record expected = avroRecordFactory.getAvroRecord(UUID.fromString(actual.get("_airbyte_ab_id").toString()), message);
+          assertEquals(expected.toString(), actual.toString());
+        }
+        assertNull(reader.read());
+      }
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  /**
+   * The file written directly is byte for byte the one written through the Avro records
+   * {@link AvroRecordFactory} converts the same messages to.
+   */
+  @Test
+  void testSameFileAsAvroParquetWriter() throws Exception {
+    final Schema schema = new JsonToAvroSchemaConverter().getAvroSchema(JSON_SCHEMA, "stream", null);
+    final List<UUID> ids = MESSAGES.stream().map(message -> UUID.randomUUID()).toList();
+    final java.nio.file.Path directFile = Files.createTempFile(UUID.randomUUID().toString(), ".parquet");
+    final java.nio.file.Path avroFile = Files.createTempFile(UUID.randomUUID().toString(), ".parquet");
+    Files.deleteIfExists(directFile);
+    Files.deleteIfExists(avroFile);
+    try {
+      final Iterator<UUID> directIds = ids.iterator();
+      try (final ParquetWriter<AirbyteRecordMessage> writer = JsonRecordWriteSupport.builder(new LocalParquetOutputFile(directFile), schema)
+          .withIds(directIds::next)
+          .withConf(new Configuration(false))
+          .build()) {
+        for (final AirbyteRecordMessage message : MESSAGES) {
+          writer.write(message);
+        }
+      }
+
+      final AvroRecordFactory avroRecordFactory = new AvroRecordFactory(schema, AvroConstants.JSON_CONVERTER);
+      try (final ParquetWriter<Record> writer = AvroParquetWriter.<Record>builder(new LocalParquetOutputFile(avroFile))
+          .withSchema(schema)
+          .withConf(new Configuration(false))
+          .build()) {
+        for (int i = 0; i < MESSAGES.size(); i++) {
+          writer.write(avroRecordFactory.getAvroRecord(ids.get(i), MESSAGES.get(i)));
+        }
+      }
+
+      assertArrayEquals(Files.readAllBytes(avroFile), Files.readAllBytes(directFile));
+    } finally {
+      Files.deleteIfExists(directFile);
+      Files.deleteIfExists(avroFile);
+    }
+  }
+
+  private static AirbyteRecordMessage message(final String data) {
+    return new AirbyteRecordMessage()
+        .withStream("stream")
+        .withData(Jsons.deserialize(data))
+        .withEmittedAt(1664619330000L);
+  }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.Test;
+
+class MultipartUploadBudgetTest {
+
+  @Test
+  void testPartSizeFollowsThroughput() throws InterruptedException {
+    final MultipartUploadBudget budget = new MultipartUploadBudget(1000);
+    // no throughput observed yet: initial part size, spread over the threads for small objects
+    assertEquals(10, budget.getPartSizeMb(200, 10));
+    assertEquals(5, budget.getPartSizeMb(20, 10));
+
+    // 10 MB/s per thread over 4 seconds
+    try (final MultipartUploadBudget.Reservation reservation = budget.reserve(200 * FileUtils.ONE_MB, 10)) {
+      reservation.recordUpload(100 * FileUtils.ONE_MB, Duration.ofSeconds(1));
+    }
+    assertEquals(40, budget.getPartSizeMb(10_000, 10));
+    assertEquals(StreamTransferManagerFactory.MAX_ALLOWED_PART_SIZE_MB, budget.getPartSizeMb(10_000_000, 10));
+    // no more than 10,000 parts
+    assertEquals(100, budget.getPartSizeMb(1_000_000, 10));
+  }
+
+  @Test
+  void testUploadsWaitForMemory() throws Exception {
+    final MultipartUploadBudget budget = new MultipartUploadBudget(100);
+    // 200 MB in parts of 10 MB: 4 threads fit the budget with their queue, 96 MB
+    final MultipartUploadBudget.Reservation first = budget.reserve(200 * FileUtils.ONE_MB, 10);
+    assertEquals(4, first.getUploadThreads());
+    assertEquals(4, budget.getAvailableMb());
+
+    final CompletableFuture<MultipartUploadBudget.Reservation> second = CompletableFuture.supplyAsync(() -> {
+      try {
+        return budget.reserve(50 * FileUtils.ONE_MB, 2);
+      } catch (final InterruptedException e) {
+        throw new RuntimeException(e);
+      }
+    });
+    assertThrows(TimeoutException.class, () -> second.get(200, TimeUnit.MILLISECONDS));
+    first.close();
+    try (final MultipartUploadBudget.Reservation reservation = second.get(5, TimeUnit.SECONDS)) {
+      assertEquals(2, reservation.getUploadThreads());
+    }
+    assertEquals(100, budget.getAvailableMb());
+  }
+
+  @Test
+  void testSmallObjectUsesFewThreads() throws InterruptedException {
+    final MultipartUploadBudget budget = new MultipartUploadBudget(1000);
+    try (final MultipartUploadBudget.Reservation reservation = budget.reserve(3 * FileUtils.ONE_MB, 10)) {
+      assertEquals(5, reservation.getPartSizeMb());
+      assertEquals(1, reservation.getUploadThreads());
+      assertEquals(1, reservation.getQueueCapacity());
+    }
+  }
+
+}
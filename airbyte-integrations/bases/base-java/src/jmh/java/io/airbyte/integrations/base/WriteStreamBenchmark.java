@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.base;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how many MB/s of records a destination reads from its stdin with
+ * {@link IntegrationRunner#consumeWriteStream(AirbyteMessageConsumer)}, compared to the Scanner it
+ * used to rely on. The consumer does nothing with the messages, so the numbers are the ceiling of
+ * any Java destination. The throughput is reported by the megabytes counter.
+ *
+ * Run with ./gradlew :airbyte-integrations:bases:base-java:jmh
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WriteStreamBenchmark {
+
+  private static final int INPUT_SIZE = 64 * 1024 * 1024;
+  private static final double MEGABYTE = 1024 * 1024;
+
+  /**
+   * Approximate size in bytes of a serialized record.
+   */
+  @Param({"100", "1000", "10000"})
+  public int recordSize;
+
+  private byte[] input;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    final String line = Jsons.serialize(new AirbyteMessage()
+        .withType(Type.RECORD)
+        .withRecord(new AirbyteRecordMessage()
+            .withStream("users")
+            .withEmittedAt(1L)
+            .withData(Jsons.jsonNode(Map.of("id", 1, "name", "a".repeat(Math.max(0, recordSize - 80))))))) + "\n";
+    final byte[] lineBytes = line.getBytes(StandardCharsets.UTF_8);
+    final ByteArrayOutputStream output = new ByteArrayOutputStream(INPUT_SIZE + lineBytes.length);
+    while (output.size() < INPUT_SIZE) {
+      output.writeBytes(lineBytes);
+    }
+    input = output.toByteArray();
+  }
+
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  @State(Scope.Thread)
+  public static class Counters {
+
+    public double megabytes;
+
+  }
+
+  @Benchmark
+  public void consumeWriteStream(final Counters counters) throws Exception {
+    IntegrationRunner.consumeWriteStream(new NoopConsumer(), new ByteArrayInputStream(input));
+    counters.megabytes += input.length / MEGABYTE;
+  }
+
+  /**
+   * The Scanner based loop consumeWriteStream replaced, as a baseline.
+   */
+  @Benchmark
+  public void scanner(final Counters counters) throws Exception {
+    final AirbyteMessageConsumer consumer = new NoopConsumer();
+    final Scanner scanner = new Scanner(new ByteArrayInputStream(input), StandardCharsets.UTF_8).useDelimiter("[\r\n]+");
+    while (scanner.hasNext()) {
+      IntegrationRunner.consumeMessage(consumer, scanner.next());
+    }
+    counters.megabytes += input.length / MEGABYTE;
+  }
+
+  private static class NoopConsumer implements AirbyteMessageConsumer {
+
+    @Override
+    public void start() {}
+
+    @Override
+    public void accept(final AirbyteMessage message) {}
+
+    @Override
+    public void close() {}
+
+  }
+
+}
@@ -7,23 +7,32 @@ package io.airbyte.integrations.base;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import io.airbyte.commons.features.EnvVariableFeatureFlags;
 import io.airbyte.commons.io.IOs;
+import io.airbyte.commons.jackson.MoreMappers;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.lang.Exceptions.Procedure;
+import io.airbyte.commons.protocol.framing.BinaryMessageFraming;
+import io.airbyte.commons.protocol.framing.BinaryMessageFraming.FrameEncoder;
+import io.airbyte.commons.protocol.framing.FramedMessageReader;
 import io.airbyte.commons.string.Strings;
 import io.airbyte.commons.util.AutoCloseableIterator;
 import io.airbyte.protocol.models.AirbyteConnectionStatus;
+import io.airbyte.protocol.models.AirbyteLogMessage;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteMessage.Type;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.validation.json.JsonSchemaValidator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
-import java.util.Scanner;
 import java.util.Set;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -49,19 +58,25 @@ public class IntegrationRunner {
 
   public static final int FORCED_EXIT_CODE = 2;
 
+  // large enough for the worker to fill it with a single write, it grows for longer lines.
+  private static final int INPUT_BUFFER_SIZE = 1024 * 1024;
+  private static final ObjectReader MESSAGE_READER = MoreMappers.initMapper().readerFor(AirbyteMessage.class);
+  private static final ObjectReader FRAME_READER = BinaryMessageFraming.readerFor(AirbyteMessage.class);
+
   private final IntegrationCliParser cliParser;
   private final Consumer<AirbyteMessage> outputRecordCollector;
   private final Integration integration;
   private final Destination destination;
   private final Source source;
+  private final boolean binaryMessageFraming;
   private static JsonSchemaValidator validator;
 
   public IntegrationRunner(final Destination destination) {
-    this(new IntegrationCliParser(), Destination::defaultOutputRecordCollector, destination, null);
+    this(new IntegrationCliParser(), getOutputRecordCollector(), destination, null, new EnvVariableFeatureFlags().useBinaryMessageFraming());
   }
 
   public IntegrationRunner(final Source source) {
-    this(new IntegrationCliParser(), Destination::defaultOutputRecordCollector, null, source);
+    this(new IntegrationCliParser(), getOutputRecordCollector(), null, source, new EnvVariableFeatureFlags().useBinaryMessageFraming());
   }
 
   @VisibleForTesting
@@ -69,6 +84,14 @@ public class IntegrationRunner {
                     final Consumer<AirbyteMessage> outputRecordCollector,
                     final Destination destination,
                     final Source source) {
+    this(cliParser, outputRecordCollector, destination, source, false);
+  }
+
+  private IntegrationRunner(final IntegrationCliParser cliParser,
+                            final Consumer<AirbyteMessage> outputRecordCollector,
+                            final Destination destination,
+                            final Source source,
+                            final boolean binaryMessageFraming) {
     Preconditions.checkState(destination != null ^ source != null, "can only pass in a destination or a source");
     this.cliParser = cliParser;
     this.outputRecordCollector = outputRecordCollector;
@@ -76,6 +99,7 @@ public class IntegrationRunner {
     this.integration = source != null ? source : destination;
     this.source = source;
     this.destination = destination;
+    this.binaryMessageFraming = binaryMessageFraming;
     validator = new JsonSchemaValidator();
 
     Thread.setDefaultUncaughtExceptionHandler(new AirbyteExceptionHandler());
@@ -142,6 +166,12 @@ public class IntegrationRunner {
         final JsonNode config = parseConfig(parsed.getConfigPath());
         validateConfig(integration.spec().getConnectionSpecification(), config, "WRITE");
         final ConfiguredAirbyteCatalog catalog = parseConfig(parsed.getCatalogPath(), ConfiguredAirbyteCatalog.class);
+        if (binaryMessageFraming) {
+          // the worker only sends frames once it received one.
+          outputRecordCollector.accept(new AirbyteMessage().withType(Type.LOG).withLog(new AirbyteLogMessage()
+              .withLevel(AirbyteLogMessage.Level.INFO)
+              .withMessage("Binary message framing accepted")));
+        }
         try (final AirbyteMessageConsumer consumer = destination.getConsumer(config, catalog, outputRecordCollector)) {
           runConsumer(consumer);
         }
@@ -164,12 +194,26 @@ public class IntegrationRunner {
 
   @VisibleForTesting
   static void consumeWriteStream(final AirbyteMessageConsumer consumer) throws Exception {
-    // use a Scanner that only processes new line characters to strictly abide with the
-    // https://jsonlines.org/ standard
-    final Scanner input = new Scanner(System.in, StandardCharsets.UTF_8).useDelimiter("[\r\n]+");
+    consumeWriteStream(consumer, System.in);
+  }
+
+  /**
+   * Consume the messages sent by the worker, one per line as per the https://jsonlines.org/ standard,
+   * or as {@link BinaryMessageFraming} frames once binary message framing was accepted.
+   *
+   * Lines are split on the raw bytes and parsed from the read buffer, only invalid lines are turned
+   * into Strings.
+   */
+  @VisibleForTesting
+  static void consumeWriteStream(final AirbyteMessageConsumer consumer, final InputStream inputStream) throws Exception {
+    final FramedMessageReader input = new FramedMessageReader(inputStream, INPUT_BUFFER_SIZE);
     consumer.start();
-    while (input.hasNext()) {
-      consumeMessage(consumer, input.next());
+    while (input.next()) {
+      if (input.isFrame()) {
+        consumer.accept(FRAME_READER.readValue(input.getBuffer(), input.getOffset(), input.getLength()));
+      } else {
+        consumeMessage(consumer, input.getBuffer(), input.getOffset(), input.getLength());
+      }
     }
   }
 
@@ -258,14 +302,55 @@ public class IntegrationRunner {
     if (messageOptional.isPresent()) {
       consumer.accept(messageOptional.get());
     } else {
-      if (isStateMessage(inputString)) {
-        throw new IllegalStateException("Invalid state message: " + inputString);
-      } else {
-        LOGGER.error("Received invalid message: " + inputString);
-      }
+      handleInvalidMessage(inputString);
     }
   }
 
+  /**
+   * Same as {@link #consumeMessage(AirbyteMessageConsumer, String)} for a message held in a byte
+   * array, which is parsed in place.
+   */
+  private static void consumeMessage(final AirbyteMessageConsumer consumer, final byte[] buffer, final int offset, final int length)
+      throws Exception {
+    AirbyteMessage message;
+    try {
+      message = MESSAGE_READER.readValue(buffer, offset, length);
+    } catch (final IOException e) {
+      message = null;
+    }
+    if (message != null) {
+      consumer.accept(message);
+    } else {
+      handleInvalidMessage(new String(buffer, offset, length, StandardCharsets.UTF_8));
+    }
+  }
+
+  private static void handleInvalidMessage(final String inputString) {
+    if (isStateMessage(inputString)) {
+      throw new IllegalStateException("Invalid state message: " + inputString);
+    } else {
+      LOGGER.error("Received invalid message: " + inputString);
+    }
+  }
+
+  /**
+   * When the worker offered binary message framing, messages are written as frames.
+   */
+  private static Consumer<AirbyteMessage> getOutputRecordCollector() {
+    if (!new EnvVariableFeatureFlags().useBinaryMessageFraming()) {
+      return Destination::defaultOutputRecordCollector;
+    }
+    final FrameEncoder encoder = BinaryMessageFraming.newEncoder();
+    return message -> {
+      try {
+        // written to System.out as a whole so that it does not get interleaved with log lines.
+        encoder.write(message, System.out);
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    };
+  }
+
   private static String dumpThread(final Thread thread) {
     return String.format("%s (%s)\n Thread stacktrace: %s", thread.getName(), thread.getState(),
         Strings.join(List.of(thread.getStackTrace()), "\n        at "));
@@ -172,4 +172,9 @@ public abstract class BaseSerializedBuffer implements SerializableBuffer {
     return bufferStorage.getMaxConcurrentStreamsInBuffer();
   }
 
+  @Override
+  public boolean isInMemory() {
+    return bufferStorage.isInMemory();
+  }
+
 }
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.record_buffer;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Memory budget shared by the in-memory buffers of the {@link SerializedBufferingStrategy}s of a
+ * connector, sized after the memory actually available to the connector instead of fixed limits.
+ * Buffers stored on disk are not accounted, they are bounded by their own limits.
+ *
+ * <p>
+ * The available memory is the maximum heap size of the JVM, further limited by the memory limit of
+ * the container when it is lower. Only a fraction of it is used by the connector to buffer and
+ * upload records, since an in-memory buffer holds up to twice its size while growing. That fraction
+ * is split between the buffers and the copies of the buffers held while they are uploaded, see
+ * {@link #getDefaultUploadBudgetBytes()}, so that both together stay within it.
+ *
+ * <p>
+ * Bytes are reserved as records are accepted and released once the buffer holding them has been
+ * flushed, which may happen on another thread. The strategy evicts buffers while the budget is
+ * exceeded, and reports its decisions here so that they show up in the logs at the end of the sync.
+ */
+public class BufferMemoryManager {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(BufferMemoryManager.class);
+
+  private static final double BUFFER_MEMORY_RATIO = 0.25;
+  // share of the buffer memory left to the uploads of the flushed buffers
+  private static final double UPLOAD_MEMORY_SHARE = 0.5;
+  private static final Path CGROUP_V2_MEMORY_LIMIT = Path.of("/sys/fs/cgroup/memory.max");
+  private static final Path CGROUP_V1_MEMORY_LIMIT = Path.of("/sys/fs/cgroup/memory/memory.limit_in_bytes");
+
+  private final long memoryBudgetBytes;
+  private final AtomicLong reservedBytes = new AtomicLong();
+  private final AtomicLong peakReservedBytes = new AtomicLong();
+  private final AtomicLong evictionCount = new AtomicLong();
+  private final AtomicLong evictedBytes = new AtomicLong();
+
+  public BufferMemoryManager(final long memoryBudgetBytes) {
+    Preconditions.checkArgument(memoryBudgetBytes > 0, "Buffer memory budget must be positive");
+    this.memoryBudgetBytes = memoryBudgetBytes;
+  }
+
+  /**
+   * @return the manager shared by the strategies of this process, created on first use.
+   */
+  public static BufferMemoryManager getDefault() {
+    return DefaultHolder.INSTANCE;
+  }
+
+  /**
+   * @return memory budget for the buffers of this process, see {@link #getAvailableMemory()}.
+   */
+  public static long getDefaultMemoryBudgetBytes() {
+    return getDefault().getMemoryBudgetBytes();
+  }
+
+  /**
+   * @return memory budget for the copies of the buffers of this process held while they are
+   *         uploaded, taken out of the same share of the available memory as
+   *         {@link #getDefaultMemoryBudgetBytes()}.
+   */
+  public static long getDefaultUploadBudgetBytes() {
+    return DefaultHolder.UPLOAD_BUDGET_BYTES;
+  }
+
+  /**
+   * @return the memory usable by this process: the maximum heap size, or the container memory limit
+   *         if lower.
+   */
+  public static long getAvailableMemory() {
+    final long maxHeapBytes = Runtime.getRuntime().maxMemory();
+    final OptionalLong containerLimit = readContainerMemoryLimit(CGROUP_V2_MEMORY_LIMIT, CGROUP_V1_MEMORY_LIMIT);
+    final long availableMemory = containerLimit.isPresent() ? Math.min(maxHeapBytes, containerLimit.getAsLong()) : maxHeapBytes;
+    LOGGER.info("Available memory for buffers: {} (max heap: {}, container limit: {})",
+        FileUtils.byteCountToDisplaySize(availableMemory),
+        FileUtils.byteCountToDisplaySize(maxHeapBytes),
+        containerLimit.isPresent() ? FileUtils.byteCountToDisplaySize(containerLimit.getAsLong()) : "none");
+    return availableMemory;
+  }
+
+  /**
+   * Read the memory limit of the cgroup of this process. cgroup v2 reports "max" when there is no
+   * limit while cgroup v1 reports a value close to Long.MAX_VALUE, both are ignored by the min taken
+   * with the heap size.
+   */
+  @VisibleForTesting
+  static OptionalLong readContainerMemoryLimit(final Path cgroupV2Limit, final Path cgroupV1Limit) {
+    for (final Path limitFile : new Path[] {cgroupV2Limit, cgroupV1Limit}) {
+      try {
+        if (Files.isReadable(limitFile)) {
+          final String limit = Files.readString(limitFile).trim();
+          if ("max".equals(limit)) {
+            return OptionalLong.empty();
+          }
+          return OptionalLong.of(Long.parseLong(limit));
+        }
+      } catch (final IOException | NumberFormatException e) {
+        LOGGER.warn("Failed to read the container memory limit from {}", limitFile, e);
+      }
+    }
+    return OptionalLong.empty();
+  }
+
+  public long getMemoryBudgetBytes() {
+    return memoryBudgetBytes;
+  }
+
+  public void reserve(final long bytes) {
+    final long reserved = reservedBytes.addAndGet(bytes);
+    peakReservedBytes.accumulateAndGet(reserved, Math::max);
+  }
+
+  public void release(final long bytes) {
+    reservedBytes.addAndGet(-bytes);
+  }
+
+  public long getReservedBytes() {
+    return reservedBytes.get();
+  }
+
+  public boolean isOverBudget() {
+    return reservedBytes.get() >= memoryBudgetBytes;
+  }
+
+  /**
+   * Record that a buffer was flushed before reaching its own limits to get back under the budget.
+   */
+  public void recordEviction(final long bytes) {
+    evictionCount.incrementAndGet();
+    evictedBytes.addAndGet(bytes);
+  }
+
+  public long getEvictionCount() {
+    return evictionCount.get();
+  }
+
+  public long getEvictedBytes() {
+    return evictedBytes.get();
+  }
+
+  public long getPeakReservedBytes() {
+    return peakReservedBytes.get();
+  }
+
+  public void logStatistics() {
+    LOGGER.info("Buffer memory budget: {}, peak usage: {}, {} buffer(s) evicted ({})",
+        FileUtils.byteCountToDisplaySize(memoryBudgetBytes),
+        FileUtils.byteCountToDisplaySize(peakReservedBytes.get()),
+        evictionCount.get(),
+        FileUtils.byteCountToDisplaySize(evictedBytes.get()));
+  }
+
+  // the memory limit is only read by the connectors that buffer records, when they first need it.
+  private static class DefaultHolder {
+
+    private static final long MEMORY_BYTES = (long) (getAvailableMemory() * BUFFER_MEMORY_RATIO);
+    private static final long UPLOAD_BUDGET_BYTES = (long) (MEMORY_BYTES * UPLOAD_MEMORY_SHARE);
+    private static final BufferMemoryManager INSTANCE = new BufferMemoryManager(MEMORY_BYTES - UPLOAD_BUDGET_BYTES);
+
+  }
+
+}
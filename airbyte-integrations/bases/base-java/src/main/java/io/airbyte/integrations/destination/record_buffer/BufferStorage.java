@@ -71,4 +71,11 @@ public interface BufferStorage {
    */
   int getMaxConcurrentStreamsInBuffer();
 
+  /**
+   * @return true if the data is held on the heap, and counts against the {@link BufferMemoryManager}
+   */
+  default boolean isInMemory() {
+    return false;
+  }
+
 }
@@ -28,11 +28,6 @@ public class InMemoryBuffer implements BufferStorage {
   // "To optimize the number of parallel operations for a load,
   // we recommend aiming to produce data files roughly 100-250 MB (or larger) in size compressed."
   public static final long MAX_PER_STREAM_BUFFER_SIZE_BYTES = 200 * 1024 * 1024; // mb
-  // Other than the per-file size limit, we also limit the total size (which would limit how many
-  // concurrent streams we can buffer simultaneously too)
-  // Since this class is storing data in memory, the buffer size limits below are tied to the
-  // necessary RAM space.
-  public static final long MAX_TOTAL_BUFFER_SIZE_BYTES = 1024 * 1024 * 1024; // mb
   // we limit number of stream being buffered simultaneously anyway
   public static final int MAX_CONCURRENT_STREAM_IN_BUFFER = 100;
 
@@ -88,7 +83,16 @@ public class InMemoryBuffer implements BufferStorage {
 
   @Override
   public long getMaxTotalBufferSizeInBytes() {
-    return MAX_TOTAL_BUFFER_SIZE_BYTES;
+    // Other than the per-file size limit, we also limit the total size (which would limit how many
+    // concurrent streams we can buffer simultaneously too)
+    // Since this class is storing data in memory, the total size is the share of the memory available
+    // to the connector that is handed out to buffers.
+    return BufferMemoryManager.getDefaultMemoryBudgetBytes();
+  }
+
+  @Override
+  public boolean isInMemory() {
+    return true;
   }
 
   @Override
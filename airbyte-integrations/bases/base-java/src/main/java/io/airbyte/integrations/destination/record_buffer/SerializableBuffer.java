@@ -80,4 +80,11 @@ public interface SerializableBuffer extends AutoCloseable {
    */
   int getMaxConcurrentStreamsInBuffer();
 
+  /**
+   * @return true if the data is held on the heap, and counts against the {@link BufferMemoryManager}
+   */
+  default boolean isInMemory() {
+    return false;
+  }
+
 }
@@ -4,44 +4,111 @@
 
 package io.airbyte.integrations.destination.record_buffer;
 
+import com.google.common.base.Preconditions;
 import io.airbyte.commons.functional.CheckedBiConsumer;
 import io.airbyte.commons.functional.CheckedBiFunction;
 import io.airbyte.commons.string.Strings;
 import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Buffers records in one {@link SerializableBuffer} per stream and hands full buffers to the
+ * onStreamFlush function.
+ *
+ * <p>
+ * By default, buffers are flushed on the thread consuming the records. When built with a number of
+ * concurrent uploads, full buffers are instead flushed by a pool of that many threads while a fresh
+ * buffer keeps accepting records. Once that many uploads are running, adding a record waits for the
+ * oldest one to complete. Buffers of the same stream are still flushed one after the other.
+ * {@link #flushAll()} still returns only once every buffer handed over so far has been flushed, so
+ * the state messages marked as flushed by the caller are always covered by completed uploads. A
+ * failed upload is rethrown by the next call.
+ *
+ * <p>
+ * Bytes buffered in memory are also accounted in a {@link BufferMemoryManager}, shared by default
+ * with the other strategies of the connector. When its budget is exceeded
+ * before the limits of the buffers themselves are reached, pending uploads are awaited first, then
+ * the largest buffer is flushed (the oldest one among buffers of the same size).
+ */
 public class SerializedBufferingStrategy implements BufferingStrategy {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(SerializedBufferingStrategy.class);
+  private static final long UPLOADS_TERMINATION_TIMEOUT_SECONDS = 60;
 
   private final CheckedBiFunction<AirbyteStreamNameNamespacePair, ConfiguredAirbyteCatalog, SerializableBuffer, Exception> onCreateBuffer;
   private final CheckedBiConsumer<AirbyteStreamNameNamespacePair, SerializableBuffer, Exception> onStreamFlush;
 
-  private Map<AirbyteStreamNameNamespacePair, SerializableBuffer> allBuffers = new HashMap<>();
+  private Map<AirbyteStreamNameNamespacePair, SerializableBuffer> allBuffers = new LinkedHashMap<>();
   private long totalBufferSizeInBytes;
   private final ConfiguredAirbyteCatalog catalog;
+  private final int maxConcurrentUploads;
+  private final ExecutorService uploadExecutor;
+  private final Deque<Future<?>> pendingUploads = new ArrayDeque<>();
+  private final Map<AirbyteStreamNameNamespacePair, Future<?>> lastUploadPerStream = new HashMap<>();
+  private final BufferMemoryManager memoryManager;
+  private final Map<AirbyteStreamNameNamespacePair, Long> reservedBytesPerStream = new HashMap<>();
 
   public SerializedBufferingStrategy(final CheckedBiFunction<AirbyteStreamNameNamespacePair, ConfiguredAirbyteCatalog, SerializableBuffer, Exception> onCreateBuffer,
                                      final ConfiguredAirbyteCatalog catalog,
                                      final CheckedBiConsumer<AirbyteStreamNameNamespacePair, SerializableBuffer, Exception> onStreamFlush) {
+    this(onCreateBuffer, catalog, onStreamFlush, 0);
+  }
+
+  public SerializedBufferingStrategy(final CheckedBiFunction<AirbyteStreamNameNamespacePair, ConfiguredAirbyteCatalog, SerializableBuffer, Exception> onCreateBuffer,
+                                     final ConfiguredAirbyteCatalog catalog,
+                                     final CheckedBiConsumer<AirbyteStreamNameNamespacePair, SerializableBuffer, Exception> onStreamFlush,
+                                     final int maxConcurrentUploads) {
+    this(onCreateBuffer, catalog, onStreamFlush, maxConcurrentUploads, BufferMemoryManager.getDefault());
+  }
+
+  /**
+   * @param maxConcurrentUploads number of buffers flushed concurrently with the consumption of
+   *        records, 0 to flush them on the consumer thread. When greater than 0, the onStreamFlush
+   *        function must be safe to call for different streams from several threads.
+   * @param memoryManager memory budget of the buffers, which may be shared with other strategies.
+   */
+  public SerializedBufferingStrategy(final CheckedBiFunction<AirbyteStreamNameNamespacePair, ConfiguredAirbyteCatalog, SerializableBuffer, Exception> onCreateBuffer,
+                                     final ConfiguredAirbyteCatalog catalog,
+                                     final CheckedBiConsumer<AirbyteStreamNameNamespacePair, SerializableBuffer, Exception> onStreamFlush,
+                                     final int maxConcurrentUploads,
+                                     final BufferMemoryManager memoryManager) {
+    Preconditions.checkArgument(maxConcurrentUploads >= 0, "maxConcurrentUploads must not be negative");
     this.onCreateBuffer = onCreateBuffer;
     this.catalog = catalog;
     this.onStreamFlush = onStreamFlush;
     this.totalBufferSizeInBytes = 0;
+    this.maxConcurrentUploads = maxConcurrentUploads;
+    this.memoryManager = memoryManager;
+    this.uploadExecutor = maxConcurrentUploads == 0 ? null
+        : Executors.newFixedThreadPool(maxConcurrentUploads, new BasicThreadFactory.Builder()
+            .namingPattern("buffer-upload-%d")
+            // uploads are always awaited or cancelled on close, they must not keep the connector alive.
+            .daemon(true)
+            .build());
   }
 
   @Override
   public boolean addRecord(final AirbyteStreamNameNamespacePair stream, final AirbyteMessage message) throws Exception {
     boolean didFlush = false;
+    rethrowFailedUploads();
 
     final SerializableBuffer streamBuffer = allBuffers.computeIfAbsent(stream, k -> {
       LOGGER.info("Starting a new buffer for stream {} (current state: {} in {} buffers)",
@@ -60,11 +127,17 @@ public class SerializedBufferingStrategy implements BufferingStrategy {
     }
     final long actualMessageSizeInBytes = streamBuffer.accept(message.getRecord());
     totalBufferSizeInBytes += actualMessageSizeInBytes;
+    if (streamBuffer.isInMemory()) {
+      memoryManager.reserve(actualMessageSizeInBytes);
+      reservedBytesPerStream.merge(stream, actualMessageSizeInBytes, Long::sum);
+    }
     if (totalBufferSizeInBytes >= streamBuffer.getMaxTotalBufferSizeInBytes()
         || allBuffers.size() >= streamBuffer.getMaxConcurrentStreamsInBuffer()) {
       flushAll();
       didFlush = true;
       totalBufferSizeInBytes = 0;
+    } else if (memoryManager.isOverBudget()) {
+      didFlush = evictBuffer();
     } else if (streamBuffer.getByteCount() >= streamBuffer.getMaxPerStreamBufferSizeInBytes()) {
       flushWriter(stream, streamBuffer);
       /*
@@ -87,12 +160,43 @@ public class SerializedBufferingStrategy implements BufferingStrategy {
     return didFlush;
   }
 
+  /**
+   * Get back under the memory budget, by waiting for pending uploads and then flushing the largest
+   * buffer. A single buffer is flushed with {@link #flushAll()} so that state messages still get
+   * marked as flushed when syncing one stream.
+   *
+   * @return true if all buffers were flushed.
+   */
+  private boolean evictBuffer() throws Exception {
+    awaitUploads(0);
+    if (!memoryManager.isOverBudget()) {
+      return false;
+    }
+    Entry<AirbyteStreamNameNamespacePair, SerializableBuffer> largest = null;
+    for (final Entry<AirbyteStreamNameNamespacePair, SerializableBuffer> entry : allBuffers.entrySet()) {
+      if (largest == null || entry.getValue().getByteCount() > largest.getValue().getByteCount()) {
+        largest = entry;
+      }
+    }
+    LOGGER.info("Buffers are over their memory budget ({} of {}), evicting buffer of stream {}",
+        FileUtils.byteCountToDisplaySize(memoryManager.getReservedBytes()),
+        FileUtils.byteCountToDisplaySize(memoryManager.getMemoryBudgetBytes()),
+        largest.getKey().getName());
+    memoryManager.recordEviction(largest.getValue().getByteCount());
+    if (allBuffers.size() == 1) {
+      flushAll();
+      return true;
+    }
+    flushWriter(largest.getKey(), largest.getValue());
+    return false;
+  }
+
   @Override
   public void flushWriter(final AirbyteStreamNameNamespacePair stream, final SerializableBuffer writer) throws Exception {
     LOGGER.info("Flushing buffer of stream {} ({})", stream.getName(), FileUtils.byteCountToDisplaySize(writer.getByteCount()));
-    onStreamFlush.accept(stream, writer);
     totalBufferSizeInBytes -= writer.getByteCount();
     allBuffers.remove(stream);
+    flush(stream, writer);
   }
 
   @Override
@@ -100,22 +204,100 @@ public class SerializedBufferingStrategy implements BufferingStrategy {
     LOGGER.info("Flushing all {} current buffers ({} in total)", allBuffers.size(), FileUtils.byteCountToDisplaySize(totalBufferSizeInBytes));
     for (final Entry<AirbyteStreamNameNamespacePair, SerializableBuffer> entry : allBuffers.entrySet()) {
       LOGGER.info("Flushing buffer of stream {} ({})", entry.getKey().getName(), FileUtils.byteCountToDisplaySize(entry.getValue().getByteCount()));
-      onStreamFlush.accept(entry.getKey(), entry.getValue());
+      flush(entry.getKey(), entry.getValue());
     }
-    close();
+    awaitUploads(0);
+    lastUploadPerStream.clear();
+    closeBuffers();
     clear();
 
     totalBufferSizeInBytes = 0;
   }
 
+  /**
+   * Flush a buffer that is no longer written to, either right away or on the upload pool.
+   */
+  private void flush(final AirbyteStreamNameNamespacePair stream, final SerializableBuffer writer) throws Exception {
+    final long reservedBytes = reservedBytesPerStream.getOrDefault(stream, 0L);
+    reservedBytesPerStream.remove(stream);
+    if (uploadExecutor == null) {
+      try {
+        onStreamFlush.accept(stream, writer);
+      } finally {
+        memoryManager.release(reservedBytes);
+      }
+      return;
+    }
+    // uploads of a stream are kept in order, destinations name staged files after the ones already
+    // there.
+    final Future<?> previousStreamUpload = lastUploadPerStream.get(stream);
+    if (previousStreamUpload != null) {
+      awaitUpload(previousStreamUpload);
+    }
+    // keeps at most maxConcurrentUploads buffers flushing, the others stay on disk until then.
+    awaitUploads(maxConcurrentUploads - 1);
+    final Future<?> upload = uploadExecutor.submit(() -> {
+      try {
+        onStreamFlush.accept(stream, writer);
+      } finally {
+        memoryManager.release(reservedBytes);
+      }
+      return null;
+    });
+    pendingUploads.add(upload);
+    lastUploadPerStream.put(stream, upload);
+  }
+
+  /**
+   * Wait for the oldest uploads until at most maxPendingUploads are left.
+   */
+  private void awaitUploads(final int maxPendingUploads) throws Exception {
+    while (pendingUploads.size() > maxPendingUploads) {
+      awaitUpload(pendingUploads.poll());
+    }
+  }
+
+  private void rethrowFailedUploads() throws Exception {
+    while (!pendingUploads.isEmpty() && pendingUploads.peek().isDone()) {
+      awaitUpload(pendingUploads.poll());
+    }
+  }
+
+  private static void awaitUpload(final Future<?> upload) throws Exception {
+    try {
+      upload.get();
+    } catch (final ExecutionException e) {
+      if (e.getCause() instanceof Exception cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
   @Override
   public void clear() throws Exception {
     LOGGER.debug("Reset all buffers");
-    allBuffers = new HashMap<>();
+    allBuffers = new LinkedHashMap<>();
   }
 
   @Override
   public void close() throws Exception {
+    if (uploadExecutor != null) {
+      // pending uploads are only left behind when the sync failed, there is no point finishing them.
+      uploadExecutor.shutdownNow();
+      pendingUploads.clear();
+      lastUploadPerStream.clear();
+      if (!uploadExecutor.awaitTermination(UPLOADS_TERMINATION_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        LOGGER.warn("Buffer uploads did not terminate within {} seconds", UPLOADS_TERMINATION_TIMEOUT_SECONDS);
+      }
+    }
+    reservedBytesPerStream.values().forEach(memoryManager::release);
+    reservedBytesPerStream.clear();
+    memoryManager.logStatistics();
+    closeBuffers();
+  }
+
+  private void closeBuffers() {
     final List<Exception> exceptionsThrown = new ArrayList<>();
     for (final Entry<AirbyteStreamNameNamespacePair, SerializableBuffer> entry : allBuffers.entrySet()) {
       try {
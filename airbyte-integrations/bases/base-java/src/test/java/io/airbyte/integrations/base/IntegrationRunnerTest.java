@@ -21,6 +21,7 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import io.airbyte.commons.io.IOs;
 import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.protocol.framing.BinaryMessageFraming;
 import io.airbyte.commons.util.AutoCloseableIterators;
 import io.airbyte.commons.util.MoreIterators;
 import io.airbyte.protocol.models.AirbyteCatalog;
@@ -36,6 +37,7 @@ import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.protocol.models.ConnectorSpecification;
 import io.airbyte.validation.json.JsonSchemaValidator;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
@@ -273,6 +275,34 @@ class IntegrationRunnerTest {
     }
   }
 
+  @Test
+  void testDestinationConsumerReadsFramesAndSkipsInvalidLines() throws Exception {
+    final AirbyteMessage message1 = new AirbyteMessage()
+        .withType(AirbyteMessage.Type.RECORD)
+        .withRecord(new AirbyteRecordMessage()
+            .withData(Jsons.deserialize("{ \"color\": \"blue\" }"))
+            .withStream(STREAM_NAME)
+            .withEmittedAt(EMITTED_AT));
+    final AirbyteMessage message2 = new AirbyteMessage()
+        .withType(AirbyteMessage.Type.RECORD)
+        .withRecord(new AirbyteRecordMessage()
+            .withData(Jsons.deserialize("{ \"color\": \"yellow\" }"))
+            .withStream(STREAM_NAME)
+            .withEmittedAt(EMITTED_AT));
+    final ByteArrayOutputStream input = new ByteArrayOutputStream();
+    input.writeBytes((Jsons.serialize(message1) + "\r\n\nnot a message\n").getBytes(StandardCharsets.UTF_8));
+    BinaryMessageFraming.newEncoder().write(message2, input);
+
+    try (final AirbyteMessageConsumer airbyteMessageConsumerMock = mock(AirbyteMessageConsumer.class)) {
+      IntegrationRunner.consumeWriteStream(airbyteMessageConsumerMock, new ByteArrayInputStream(input.toByteArray()));
+      final InOrder inOrder = inOrder(airbyteMessageConsumerMock);
+      inOrder.verify(airbyteMessageConsumerMock).start();
+      inOrder.verify(airbyteMessageConsumerMock).accept(message1);
+      inOrder.verify(airbyteMessageConsumerMock).accept(message2);
+      inOrder.verifyNoMoreInteractions();
+    }
+  }
+
   @Test
   void testDestinationConsumerLifecycleFailure() throws Exception {
     final AirbyteMessage message1 = new AirbyteMessage()
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.record_buffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.OptionalLong;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BufferMemoryManagerTest {
+
+  @Test
+  void testReserveAndRelease() {
+    final BufferMemoryManager memoryManager = new BufferMemoryManager(100);
+
+    memoryManager.reserve(60);
+    assertFalse(memoryManager.isOverBudget());
+    memoryManager.reserve(40);
+    assertTrue(memoryManager.isOverBudget());
+    memoryManager.release(60);
+    assertFalse(memoryManager.isOverBudget());
+
+    assertEquals(40, memoryManager.getReservedBytes());
+    assertEquals(100, memoryManager.getPeakReservedBytes());
+  }
+
+  @Test
+  void testReadContainerMemoryLimit(@TempDir final Path tempDir) throws IOException {
+    final Path cgroupV2 = tempDir.resolve("memory.max");
+    final Path cgroupV1 = tempDir.resolve("memory.limit_in_bytes");
+
+    assertEquals(OptionalLong.empty(), BufferMemoryManager.readContainerMemoryLimit(cgroupV2, cgroupV1));
+
+    Files.writeString(cgroupV1, "1073741824\n");
+    assertEquals(OptionalLong.of(1073741824L), BufferMemoryManager.readContainerMemoryLimit(cgroupV2, cgroupV1));
+
+    Files.writeString(cgroupV2, "max\n");
+    assertEquals(OptionalLong.empty(), BufferMemoryManager.readContainerMemoryLimit(cgroupV2, cgroupV1));
+
+    Files.writeString(cgroupV2, "536870912\n");
+    assertEquals(OptionalLong.of(536870912L), BufferMemoryManager.readContainerMemoryLimit(cgroupV2, cgroupV1));
+  }
+
+}
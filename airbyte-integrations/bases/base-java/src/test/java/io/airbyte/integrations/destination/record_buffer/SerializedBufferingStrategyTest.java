@@ -4,10 +4,14 @@
 
 package io.airbyte.integrations.destination.record_buffer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -21,6 +25,8 @@ import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -61,6 +67,7 @@ public class SerializedBufferingStrategyTest {
     when(mockObject.getMaxTotalBufferSizeInBytes()).thenReturn(MAX_TOTAL_BUFFER_SIZE_BYTES);
     when(mockObject.getMaxPerStreamBufferSizeInBytes()).thenReturn(MAX_PER_STREAM_BUFFER_SIZE_BYTES);
     when(mockObject.getMaxConcurrentStreamsInBuffer()).thenReturn(4);
+    when(mockObject.isInMemory()).thenReturn(true);
   }
 
   @Test
@@ -187,6 +194,114 @@ public class SerializedBufferingStrategyTest {
     assertThrows(RuntimeException.class, () -> buffering.addRecord(stream, generateMessage(stream)));
   }
 
+  @Test
+  public void testConcurrentUploadsOverlapWithNewRecords() throws Exception {
+    final SerializedBufferingStrategy buffering = new SerializedBufferingStrategy(onCreateBufferFunction(), catalog, perStreamFlushHook, 2);
+    final AirbyteStreamNameNamespacePair stream1 = new AirbyteStreamNameNamespacePair(STREAM_1, "namespace");
+    final AirbyteStreamNameNamespacePair stream2 = new AirbyteStreamNameNamespacePair(STREAM_2, "namespace");
+    final CountDownLatch uploadStarted = new CountDownLatch(1);
+    final CountDownLatch uploadReleased = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      uploadStarted.countDown();
+      assertTrue(uploadReleased.await(10, TimeUnit.SECONDS));
+      return null;
+    }).when(perStreamFlushHook).accept(eq(stream2), any());
+
+    assertFalse(buffering.addRecord(stream2, generateMessage(stream2)));
+    when(recordWriter2.getByteCount()).thenReturn(30L);
+    assertFalse(buffering.addRecord(stream2, generateMessage(stream2)));
+    // stream2 is being uploaded, records keep being accepted in the meantime
+    assertTrue(uploadStarted.await(10, TimeUnit.SECONDS));
+    when(recordWriter2.getByteCount()).thenReturn(10L);
+    assertFalse(buffering.addRecord(stream1, generateMessage(stream1)));
+    assertFalse(buffering.addRecord(stream2, generateMessage(stream2)));
+
+    final Thread flushAll = new Thread(() -> {
+      try {
+        buffering.flushAll();
+      } catch (final Exception e) {
+        throw new RuntimeException(e);
+      }
+    });
+    flushAll.start();
+    // flushAll only returns once the pending upload of stream2 completed
+    flushAll.join(200);
+    assertTrue(flushAll.isAlive());
+    uploadReleased.countDown();
+    flushAll.join(TimeUnit.SECONDS.toMillis(10));
+    assertFalse(flushAll.isAlive());
+
+    verify(perStreamFlushHook, times(1)).accept(stream1, recordWriter1);
+    verify(perStreamFlushHook, times(2)).accept(stream2, recordWriter2);
+    buffering.close();
+  }
+
+  @Test
+  public void testConcurrentUploadFailureIsRethrown() throws Exception {
+    final SerializedBufferingStrategy buffering = new SerializedBufferingStrategy(onCreateBufferFunction(), catalog, perStreamFlushHook, 2);
+    final AirbyteStreamNameNamespacePair stream1 = new AirbyteStreamNameNamespacePair(STREAM_1, "namespace");
+    final IllegalStateException failure = new IllegalStateException("upload failed");
+    doThrow(failure).when(perStreamFlushHook).accept(stream1, recordWriter1);
+
+    assertFalse(buffering.addRecord(stream1, generateMessage(stream1)));
+    assertEquals(failure, assertThrows(IllegalStateException.class, buffering::flushAll));
+    buffering.close();
+  }
+
+  @Test
+  public void testMemoryBudgetEvictsLargestBuffer() throws Exception {
+    // the budget is reached before the total limit of the buffers
+    final BufferMemoryManager memoryManager = new BufferMemoryManager(30L);
+    final SerializedBufferingStrategy buffering =
+        new SerializedBufferingStrategy(onCreateBufferFunction(), catalog, perStreamFlushHook, 0, memoryManager);
+    final AirbyteStreamNameNamespacePair stream1 = new AirbyteStreamNameNamespacePair(STREAM_1, "namespace");
+    final AirbyteStreamNameNamespacePair stream2 = new AirbyteStreamNameNamespacePair(STREAM_2, "namespace");
+
+    assertFalse(buffering.addRecord(stream1, generateMessage(stream1)));
+    assertFalse(buffering.addRecord(stream2, generateMessage(stream2)));
+    when(recordWriter2.getByteCount()).thenReturn(20L);
+    assertFalse(buffering.addRecord(stream2, generateMessage(stream2)));
+
+    // only the largest buffer is flushed and its memory handed back
+    verify(perStreamFlushHook, times(0)).accept(stream1, recordWriter1);
+    verify(perStreamFlushHook, times(1)).accept(stream2, recordWriter2);
+    assertEquals(1, memoryManager.getEvictionCount());
+    assertEquals(10L, memoryManager.getReservedBytes());
+
+    buffering.flushAll();
+    assertEquals(0L, memoryManager.getReservedBytes());
+  }
+
+  @Test
+  public void testMemoryBudgetFlushesAllWithSingleBuffer() throws Exception {
+    final BufferMemoryManager memoryManager = new BufferMemoryManager(20L);
+    final SerializedBufferingStrategy buffering =
+        new SerializedBufferingStrategy(onCreateBufferFunction(), catalog, perStreamFlushHook, 0, memoryManager);
+    final AirbyteStreamNameNamespacePair stream1 = new AirbyteStreamNameNamespacePair(STREAM_1, "namespace");
+
+    assertFalse(buffering.addRecord(stream1, generateMessage(stream1)));
+    // states are marked as flushed when the only buffer is evicted
+    assertTrue(buffering.addRecord(stream1, generateMessage(stream1)));
+    verify(perStreamFlushHook, times(1)).accept(stream1, recordWriter1);
+    assertEquals(1, memoryManager.getEvictionCount());
+  }
+
+  @Test
+  public void testFileBuffersAreNotAccounted() throws Exception {
+    final BufferMemoryManager memoryManager = new BufferMemoryManager(20L);
+    when(recordWriter1.isInMemory()).thenReturn(false);
+    final SerializedBufferingStrategy buffering =
+        new SerializedBufferingStrategy(onCreateBufferFunction(), catalog, perStreamFlushHook, 0, memoryManager);
+    final AirbyteStreamNameNamespacePair stream1 = new AirbyteStreamNameNamespacePair(STREAM_1, "namespace");
+
+    assertFalse(buffering.addRecord(stream1, generateMessage(stream1)));
+    assertFalse(buffering.addRecord(stream1, generateMessage(stream1)));
+    // the buffer is on disk, it is only flushed by its own limits
+    verify(perStreamFlushHook, times(0)).accept(stream1, recordWriter1);
+    assertEquals(0L, memoryManager.getReservedBytes());
+    assertEquals(0, memoryManager.getEvictionCount());
+  }
+
   private static AirbyteMessage generateMessage(final AirbyteStreamNameNamespacePair stream) {
     return new AirbyteMessage().withRecord(new AirbyteRecordMessage()
         .withStream(stream.getName())
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.debezium.internals;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.integrations.debezium.CdcMetadataInjector;
+import io.debezium.engine.ChangeEvent;
+import io.debezium.engine.DebeziumEngine.Offsets;
+import io.debezium.engine.DebeziumEngine.RecordCommitter;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures how many change events per second are handed off by the engine and converted to
+ * records, by replaying a change log of Postgres events shaped like the output of the debezium
+ * engine. The engine itself is left out, the change log is handed off in batches of the default
+ * debezium batch size from a separate thread, as the engine does.
+ *
+ * Run with ./gradlew :airbyte-integrations:bases:debezium-v1-9-6:jmh
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DebeziumEventConversionBenchmark {
+
+  private static final int EVENT_COUNT = 50_000;
+  private static final int BATCH_SIZE = 2048;
+  private static final int QUEUE_CAPACITY = 10_000;
+  private static final int TABLE_COUNT = 8;
+  private static final Instant EMITTED_AT = Instant.now();
+
+  private static final CdcMetadataInjector METADATA_INJECTOR = new CdcMetadataInjector() {
+
+    @Override
+    public void addMetaData(final ObjectNode event, final JsonNode source) {
+      event.put(DebeziumEventUtils.CDC_LSN, source.get("lsn").asLong());
+    }
+
+    @Override
+    public String namespace(final JsonNode source) {
+      return source.get("schema").asText();
+    }
+
+  };
+
+  private static final RecordCommitter<ChangeEvent<String, String>> NO_OP_COMMITTER = new RecordCommitter<>() {
+
+    @Override
+    public void markProcessed(final ChangeEvent<String, String> record) {}
+
+    @Override
+    public void markBatchFinished() {}
+
+    @Override
+    public void markProcessed(final ChangeEvent<String, String> record, final Offsets sourceOffsets) {}
+
+    @Override
+    public Offsets buildOffsets() {
+      return null;
+    }
+
+  };
+
+  private List<List<ChangeEvent<String, String>>> changeLog;
+  private ExecutorService engineThread;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    final List<ChangeEvent<String, String>> events = new ArrayList<>();
+    for (int i = 0; i < EVENT_COUNT; i++) {
+      events.add(changeEvent(i));
+    }
+    changeLog = new ArrayList<>();
+    for (int start = 0; start < events.size(); start += BATCH_SIZE) {
+      changeLog.add(events.subList(start, Math.min(events.size(), start + BATCH_SIZE)));
+    }
+    engineThread = Executors.newSingleThreadExecutor();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    engineThread.shutdownNow();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(EVENT_COUNT)
+  public void batchHandoff(final Blackhole blackhole) throws Exception {
+    final BlockingQueue<ChangeEventWithMetadata> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    try (final DebeziumBatchConsumer consumer = new DebeziumBatchConsumer(queue)) {
+      final Future<?> engine = engineThread.submit(() -> {
+        for (final List<ChangeEvent<String, String>> batch : changeLog) {
+          consumer.handleBatch(batch, NO_OP_COMMITTER);
+        }
+        return null;
+      });
+      for (int i = 0; i < EVENT_COUNT; i++) {
+        final ChangeEventWithMetadata event = queue.take();
+        // the position is checked on every event by DebeziumRecordIterator
+        blackhole.consume(event.eventValueAsJson().get("source").get("lsn"));
+        blackhole.consume(DebeziumEventUtils.toAirbyteMessage(event, METADATA_INJECTOR, EMITTED_AT));
+      }
+      engine.get();
+    }
+  }
+
+  /**
+   * The hand off it replaced, as a baseline: the events are put in a linked queue one at a time, and
+   * the consuming thread parses each of them twice, once to check the position and once to convert
+   * it.
+   */
+  @Benchmark
+  @OperationsPerInvocation(EVENT_COUNT)
+  public void perEventHandoff(final Blackhole blackhole) throws Exception {
+    final BlockingQueue<ChangeEvent<String, String>> queue = new LinkedBlockingQueue<>(QUEUE_CAPACITY);
+    final Future<?> engine = engineThread.submit(() -> {
+      for (final List<ChangeEvent<String, String>> batch : changeLog) {
+        for (final ChangeEvent<String, String> event : batch) {
+          queue.put(event);
+        }
+      }
+      return null;
+    });
+    for (int i = 0; i < EVENT_COUNT; i++) {
+      final ChangeEvent<String, String> event = queue.take();
+      blackhole.consume(Jsons.deserialize(event.value()).get("source").get("lsn"));
+      blackhole.consume(DebeziumEventUtils.toAirbyteMessage(new ChangeEventWithMetadata(event), METADATA_INJECTOR, EMITTED_AT));
+    }
+    engine.get();
+  }
+
+  private static ChangeEvent<String, String> changeEvent(final int i) {
+    final String table = "table_" + i % TABLE_COUNT;
+    final String op = switch (i % 10) {
+      case 0 -> "d";
+      case 1, 2, 3 -> "u";
+      default -> "c";
+    };
+    final Map<String, Object> row = new LinkedHashMap<>();
+    row.put("id", i);
+    row.put("customer_id", i % 1000);
+    row.put("name", "customer name " + i);
+    row.put("email", "customer" + i + "@example.com");
+    row.put("amount", i * 1.25);
+    row.put("status", i % 2 == 0 ? "shipped" : "pending");
+    row.put("created_at", "2022-10-01T10:15:30.123456Z");
+    row.put("updated_at", "2022-10-02T10:15:30.123456Z");
+
+    final Map<String, Object> source = new LinkedHashMap<>();
+    source.put("version", "1.9.6.Final");
+    source.put("connector", "postgresql");
+    source.put("name", "db");
+    source.put("ts_ms", 1_664_619_330_000L + i);
+    source.put("snapshot", "false");
+    source.put("db", "db");
+    source.put("schema", "public");
+    source.put("table", table);
+    source.put("txId", 1000 + i / 10);
+    source.put("lsn", 23_011_544L + i * 128L);
+    source.put("xmin", null);
+
+    final Map<String, Object> value = new LinkedHashMap<>();
+    value.put("before", op.equals("c") ? null : row);
+    value.put("after", op.equals("d") ? null : row);
+    value.put("source", source);
+    value.put("op", op);
+    value.put("ts_ms", 1_664_619_330_000L + i);
+    value.put("transaction", null);
+    final String serialized = Jsons.serialize(value);
+
+    return new ChangeEvent<>() {
+
+      @Override
+      public String key() {
+        return "{\"id\":" + i + "}";
+      }
+
+      @Override
+      public String value() {
+        return serialized;
+      }
+
+      @Override
+      public String destination() {
+        return "db.public." + table;
+      }
+
+    };
+  }
+
+}
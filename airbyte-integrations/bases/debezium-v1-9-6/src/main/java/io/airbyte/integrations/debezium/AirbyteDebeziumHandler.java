@@ -5,26 +5,34 @@
 package io.airbyte.integrations.debezium;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Iterators;
+import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.util.AutoCloseableIterator;
 import io.airbyte.commons.util.AutoCloseableIterators;
 import io.airbyte.commons.util.MoreIterators;
 import io.airbyte.integrations.debezium.internals.AirbyteFileOffsetBackingStore;
 import io.airbyte.integrations.debezium.internals.AirbyteSchemaHistoryStorage;
+import io.airbyte.integrations.debezium.internals.ChangeEventWithMetadata;
 import io.airbyte.integrations.debezium.internals.DebeziumEventUtils;
 import io.airbyte.integrations.debezium.internals.DebeziumRecordIterator;
 import io.airbyte.integrations.debezium.internals.DebeziumRecordPublisher;
 import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.protocol.models.ConfiguredAirbyteStream;
 import io.airbyte.protocol.models.SyncMode;
-import io.debezium.engine.ChangeEvent;
+import io.debezium.connector.mysql.MySqlHistoryRecordComparator;
+import io.debezium.relational.history.HistoryRecordComparator;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,9 +47,12 @@ public class AirbyteDebeziumHandler {
   /**
    * We use 10000 as capacity cause the default queue size and batch size of debezium is :
    * {@link io.debezium.config.CommonConnectorConfig#DEFAULT_MAX_BATCH_SIZE}is 2048
-   * {@link io.debezium.config.CommonConnectorConfig#DEFAULT_MAX_QUEUE_SIZE} is 8192
+   * {@link io.debezium.config.CommonConnectorConfig#DEFAULT_MAX_QUEUE_SIZE} is 8192. The queue is
+   * an array backed ring buffer, which does not allocate a node per event.
    */
   private static final int QUEUE_CAPACITY = 10000;
+  // MySQL is the only connector tracking its schema history, every GTID source is read.
+  private static final HistoryRecordComparator SCHEMA_HISTORY_COMPARATOR = new MySqlHistoryRecordComparator(gtidSource -> true);
 
   private final JsonNode config;
   private final CdcTargetPosition targetPosition;
@@ -66,7 +77,7 @@ public class AirbyteDebeziumHandler {
                                                                     final Instant emittedAt) {
 
     LOGGER.info("Running snapshot for " + catalogContainingStreamsToSnapshot.getStreams().size() + " new tables");
-    final LinkedBlockingQueue<ChangeEvent<String, String>> queue = new LinkedBlockingQueue<>(QUEUE_CAPACITY);
+    final BlockingQueue<ChangeEventWithMetadata> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
 
     final AirbyteFileOffsetBackingStore offsetManager = AirbyteFileOffsetBackingStore.initializeDummyStateForSnapshotPurpose();
     final DebeziumRecordPublisher tableSnapshotPublisher = new DebeziumRecordPublisher(snapshotProperties,
@@ -76,7 +87,7 @@ public class AirbyteDebeziumHandler {
         schemaHistoryManager(new EmptySavedInfo()));
     tableSnapshotPublisher.start(queue);
 
-    final AutoCloseableIterator<ChangeEvent<String, String>> eventIterator = new DebeziumRecordIterator(
+    final AutoCloseableIterator<ChangeEventWithMetadata> eventIterator = new DebeziumRecordIterator(
         queue,
         targetPosition,
         tableSnapshotPublisher::hasClosed,
@@ -98,7 +109,7 @@ public class AirbyteDebeziumHandler {
                                                                        final Properties connectorProperties,
                                                                        final Instant emittedAt) {
     LOGGER.info("Using CDC: {}", true);
-    final LinkedBlockingQueue<ChangeEvent<String, String>> queue = new LinkedBlockingQueue<>(QUEUE_CAPACITY);
+    final BlockingQueue<ChangeEventWithMetadata> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
     final AirbyteFileOffsetBackingStore offsetManager = AirbyteFileOffsetBackingStore.initializeState(cdcSavedInfoFetcher.getSavedOffset());
     final Optional<AirbyteSchemaHistoryStorage> schemaHistoryManager = schemaHistoryManager(cdcSavedInfoFetcher);
     final DebeziumRecordPublisher publisher = new DebeziumRecordPublisher(connectorProperties, config, catalog, offsetManager,
@@ -106,12 +117,13 @@ public class AirbyteDebeziumHandler {
     publisher.start(queue);
 
     // handle state machine around pub/sub logic.
-    final AutoCloseableIterator<ChangeEvent<String, String>> eventIterator = new DebeziumRecordIterator(
+    final AutoCloseableIterator<ChangeEventWithMetadata> eventIterator = new DebeziumRecordIterator(
         queue,
         targetPosition,
         publisher::hasClosed,
         publisher::close,
-        firstRecordWaitTime);
+        firstRecordWaitTime,
+        offsetManager::read);
 
     // convert to airbyte message.
     final AutoCloseableIterator<AirbyteMessage> messageIterator = AutoCloseableIterators
@@ -124,7 +136,7 @@ public class AirbyteDebeziumHandler {
     final Supplier<AirbyteMessage> stateMessageSupplier = () -> {
       final Map<String, String> offset = offsetManager.read();
       final String dbHistory = trackSchemaHistory ? schemaHistoryManager
-          .orElseThrow(() -> new RuntimeException("Schema History Tracking is true but manager is not initialised")).read() : null;
+          .orElseThrow(() -> new RuntimeException("Schema History Tracking is true but manager is not initialised")).read(offset) : null;
 
       return cdcStateHandler.saveState(offset, dbHistory);
     };
@@ -139,9 +151,64 @@ public class AirbyteDebeziumHandler {
     return AutoCloseableIterators.concatWithEagerClose(messageIterator, AutoCloseableIterators.fromIterator(stateMessageIterator));
   }
 
+  /**
+   * Instead of a Debezium snapshot, the initial load of the streams is read by the given iterator,
+   * e.g. by the chunked, parallel JDBC readers of the source. Changes are then streamed from the
+   * saved offset of {@code cdcSavedInfoFetcher}, which is also saved in state once the initial load
+   * completed.
+   * <p>
+   * The saved offset must have been captured before the initial load started reading, so that
+   * every change the initial load may have missed is streamed afterwards. Rows changed while they
+   * were read are emitted again by the change stream. The records of the initial load carry the CDC
+   * metadata of {@code initialLoadSource}, which describes a position from before the read. Any
+   * streamed change of the same row is therefore ordered after them when the destination
+   * deduplicates by the CDC cursor.
+   * <p>
+   * The schema history is only built by a Debezium snapshot, connectors that track it cannot use
+   * this mode.
+   *
+   * @param initialLoadIterator records of the streams to load, other messages are dropped.
+   * @param initialLoadSource debezium-like "source" block with the metadata of the initial load
+   *        records, see {@link DebeziumEventUtils#addInitialLoadMetaData}.
+   */
+  public AutoCloseableIterator<AirbyteMessage> getInitialLoadIterators(final ConfiguredAirbyteCatalog catalog,
+                                                                       final AutoCloseableIterator<AirbyteMessage> initialLoadIterator,
+                                                                       final JsonNode initialLoadSource,
+                                                                       final CdcSavedInfoFetcher cdcSavedInfoFetcher,
+                                                                       final CdcStateHandler cdcStateHandler,
+                                                                       final CdcMetadataInjector cdcMetadataInjector,
+                                                                       final Properties connectorProperties,
+                                                                       final Instant emittedAt) {
+    Preconditions.checkState(!trackSchemaHistory, "The initial load can only be read outside of Debezium when the schema history is not tracked");
+    Preconditions.checkArgument(cdcSavedInfoFetcher.getSavedOffset() != null, "The offset to stream changes from must be captured before the initial load");
+    LOGGER.info("Running initial load without a Debezium snapshot");
+
+    final AutoCloseableIterator<AirbyteMessage> recordIterator = AutoCloseableIterators.transform(
+        autoCloseableIterator -> Iterators.filter(autoCloseableIterator, message -> message.getType() == Type.RECORD),
+        initialLoadIterator);
+    final AutoCloseableIterator<AirbyteMessage> initialLoadMessages = AutoCloseableIterators.transform(recordIterator, message -> {
+      DebeziumEventUtils.addInitialLoadMetaData((ObjectNode) message.getRecord().getData(), initialLoadSource, cdcMetadataInjector);
+      return message;
+    });
+
+    // the change stream can resume from the saved offset once every record of the initial load was
+    // emitted.
+    final Iterator<AirbyteMessage> stateMessageIterator = MoreIterators.singletonIteratorFromSupplier(() -> {
+      @SuppressWarnings("unchecked")
+      final Map<String, String> offset = Jsons.object(cdcSavedInfoFetcher.getSavedOffset(), Map.class);
+      return cdcStateHandler.saveState(offset, null);
+    });
+
+    return AutoCloseableIterators.concatWithEagerClose(
+        initialLoadMessages,
+        AutoCloseableIterators.fromIterator(stateMessageIterator),
+        AutoCloseableIterators.lazyIterator(
+            () -> getIncrementalIterators(catalog, cdcSavedInfoFetcher, cdcStateHandler, cdcMetadataInjector, connectorProperties, emittedAt)));
+  }
+
   private Optional<AirbyteSchemaHistoryStorage> schemaHistoryManager(final CdcSavedInfoFetcher cdcSavedInfoFetcher) {
     if (trackSchemaHistory) {
-      return Optional.of(AirbyteSchemaHistoryStorage.initializeDBHistory(cdcSavedInfoFetcher.getSavedSchemaHistory()));
+      return Optional.of(AirbyteSchemaHistoryStorage.initializeDBHistory(cdcSavedInfoFetcher.getSavedSchemaHistory(), SCHEMA_HISTORY_COMPARATOR));
     }
 
     return Optional.empty();
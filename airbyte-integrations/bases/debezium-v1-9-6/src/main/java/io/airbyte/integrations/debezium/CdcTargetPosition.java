@@ -5,6 +5,7 @@
 package io.airbyte.integrations.debezium;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import java.util.Map;
 
 /**
  * This interface is used to define the target position at the beginning of the sync so that once we
@@ -17,4 +18,17 @@ public interface CdcTargetPosition {
 
   boolean reachedTargetPosition(JsonNode valueAsJson);
 
+  /**
+   * Lets the sync end while no record is produced, e.g. when the changes of the source are all on
+   * tables that are not synced, as soon as debezium committed an offset at or after the target.
+   *
+   * @param offset offset committed by debezium, as read by
+   *        {@link io.airbyte.integrations.debezium.internals.AirbyteFileOffsetBackingStore#read()}
+   * @return true if every change up to the target position was processed. Defaults to false, in
+   *         which case the sync ends once no record was produced for a while.
+   */
+  default boolean reachedTargetPosition(final Map<String, String> offset) {
+    return false;
+  }
+
 }
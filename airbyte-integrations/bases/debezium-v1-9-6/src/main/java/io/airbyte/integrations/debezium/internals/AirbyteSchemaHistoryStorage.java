@@ -5,22 +5,43 @@
 package io.airbyte.integrations.debezium.internals;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.annotations.VisibleForTesting;
 import io.airbyte.commons.json.Jsons;
+import io.debezium.document.Array;
 import io.debezium.document.Document;
 import io.debezium.document.DocumentReader;
 import io.debezium.document.DocumentWriter;
 import io.debezium.relational.history.HistoryRecord;
+import io.debezium.relational.history.HistoryRecordComparator;
+import java.io.BufferedReader;
 import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * The purpose of this class is : to , 1. Read the contents of the file {@link #path} which contains
@@ -28,16 +49,38 @@ import org.apache.commons.io.FileUtils;
  * Check {@link #read()} 2. Write the saved content back to the file {@link #path} at the beginning
  * of the sync so that debezium can function smoothly. Check persist(Optional&lt;JsonNode&gt;). To
  * understand more about file, please refer {@link FilteredFileDatabaseHistory}
+ * <p>
+ * The history is saved in state compacted, see {@link #compact(List, Predicate)}, then gzipped and
+ * base64 encoded behind {@link #COMPRESSED_HISTORY_PREFIX}. Histories saved as plain JSON lines by
+ * previous versions are still read.
  */
 public class AirbyteSchemaHistoryStorage {
 
+  private static final Logger LOGGER = LoggerFactory.getLogger(AirbyteSchemaHistoryStorage.class);
+
+  // fields of io.debezium.relational.history.HistoryRecord and of the table changes it holds
+  private static final String TABLE_CHANGES = "tableChanges";
+  private static final String TABLE_ID = "id";
+  private static final String PREVIOUS_TABLE_ID = "previousId";
+  private static final String SOURCE = "source";
+  private static final String POSITION = "position";
+  // marks the format of the saved history, a plain history starts with a JSON document
+  @VisibleForTesting
+  static final String COMPRESSED_HISTORY_PREFIX = "gzip+base64:";
+
   private final Path path;
+  private final HistoryRecordComparator comparator;
   private static final Charset UTF8 = StandardCharsets.UTF_8;
   private final DocumentReader reader = DocumentReader.defaultReader();
   private final DocumentWriter writer = DocumentWriter.defaultWriter();
 
-  public AirbyteSchemaHistoryStorage(final Path path) {
+  /**
+   * @param comparator compares the positions of the history records of the connector, the way
+   *        debezium does when it recovers the schema up to an offset.
+   */
+  public AirbyteSchemaHistoryStorage(final Path path, final HistoryRecordComparator comparator) {
     this.path = path;
+    this.comparator = comparator;
   }
 
   public Path getPath() {
@@ -47,24 +90,174 @@ public class AirbyteSchemaHistoryStorage {
   /**
    * This implementation is kind of similar to
    * {@link io.debezium.relational.history.FileDatabaseHistory#recoverRecords(Consumer)}
+   *
+   * @param offset the offset saved in state along with the history, as read from
+   *        {@link AirbyteFileOffsetBackingStore#read()}
+   * @return the compacted history, compressed to be saved in state.
    */
-  public String read() {
+  public String read(final Map<String, String> offset) {
+    final List<Document> records = new ArrayList<>();
+    try (final BufferedReader historyReader = Files.newBufferedReader(path, UTF8)) {
+      String line;
+      while ((line = historyReader.readLine()) != null) {
+        if (!line.isEmpty()) {
+          records.add(reader.read(line));
+        }
+      }
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+
+    final List<HistoryRecord> stopPoints = getStopPoints(offset);
+    final List<Document> compacted = compact(records, record -> isAtOrBefore(record, stopPoints));
     final StringBuilder fileAsString = new StringBuilder();
     try {
-      for (final String line : Files.readAllLines(path, UTF8)) {
-        if (line != null && !line.isEmpty()) {
-          final Document record = reader.read(line);
-          final String recordAsString = writer.write(record);
-          fileAsString.append(recordAsString);
-          fileAsString.append(System.lineSeparator());
+      for (final Document record : compacted) {
+        fileAsString.append(writer.write(record));
+        fileAsString.append(System.lineSeparator());
+      }
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+    final String compressed = compress(fileAsString.toString());
+    LOGGER.info("Schema history of {} records compacted to {} records, {} bytes compressed to {} bytes",
+        records.size(), compacted.size(), fileAsString.length(), compressed.length());
+    return compressed;
+  }
+
+  /**
+   * Drops the records the schema could be recovered without. On recovery, debezium applies the table
+   * changes of a record rather than parsing its DDL, and each change overwrites or removes the whole
+   * definition of a table. A change is therefore superseded by the next change of the same table,
+   * and a record is dropped when all of its changes are superseded.
+   * <p>
+   * Records without table changes, e.g. written by versions of debezium that did not save them, are
+   * parsed on recovery against the schema built by the records before them. They are all kept, and
+   * a change is not superseded by a change that comes after such a record. The kept records stay in
+   * their original order, so the history grows with the number of tables rather than with the number
+   * of DDL statements.
+   * <p>
+   * Debezium only recovers the records at or before the offset it resumes from, the records past it
+   * are captured again from the database. Those are all kept and supersede no change, otherwise the
+   * tables they change would be missing from the recovered schema.
+   *
+   * @param isRecovered tells whether a record is at or before the offset saved with the history
+   */
+  @VisibleForTesting
+  static List<Document> compact(final List<Document> records, final Predicate<Document> isRecovered) {
+    final boolean[] isNeeded = new boolean[records.size()];
+    final Map<String, Integer> nextChangeOfTable = new HashMap<>();
+    int nextParsedRecord = Integer.MAX_VALUE;
+    for (int i = records.size() - 1; i >= 0; i--) {
+      final Set<String> tables = getChangedTables(records.get(i));
+      if (tables.isEmpty()) {
+        isNeeded[i] = true;
+        nextParsedRecord = i;
+        continue;
+      }
+      if (!isRecovered.test(records.get(i))) {
+        isNeeded[i] = true;
+        continue;
+      }
+      for (final String table : tables) {
+        final Integer nextChange = nextChangeOfTable.put(table, i);
+        if (nextChange == null || nextParsedRecord < nextChange) {
+          isNeeded[i] = true;
         }
       }
-      return fileAsString.toString();
+    }
+
+    final List<Document> compacted = new ArrayList<>();
+    for (int i = 0; i < records.size(); i++) {
+      if (isNeeded[i]) {
+        compacted.add(records.get(i));
+      }
+    }
+    return compacted;
+  }
+
+  /**
+   * Builds the positions debezium recovers the schema up to, one per partition of the offset, as
+   * done by {@link io.debezium.relational.history.AbstractDatabaseHistory#recover}.
+   */
+  private List<HistoryRecord> getStopPoints(final Map<String, String> offset) {
+    final List<HistoryRecord> stopPoints = new ArrayList<>();
+    for (final Map.Entry<String, String> entry : offset.entrySet()) {
+      // keys are serialized as [engine name, partition]
+      final Array key;
+      try {
+        key = reader.readArray(entry.getKey());
+      } catch (final IOException e) {
+        throw new RuntimeException(e);
+      }
+      if (key.size() < 2 || !key.get(1).isDocument()) {
+        LOGGER.warn("Ignoring offset {} of an unexpected format", entry.getKey());
+        continue;
+      }
+      try {
+        stopPoints.add(new HistoryRecord(Document.create()
+            .setDocument(SOURCE, key.get(1).asDocument())
+            .setDocument(POSITION, reader.read(entry.getValue()))));
+      } catch (final IOException e) {
+        throw new RuntimeException(e);
+      }
+    }
+    return stopPoints;
+  }
+
+  private boolean isAtOrBefore(final Document record, final List<HistoryRecord> stopPoints) {
+    final HistoryRecord historyRecord = new HistoryRecord(record);
+    return stopPoints.stream().anyMatch(stopPoint -> comparator.isAtOrBefore(historyRecord, stopPoint));
+  }
+
+  /**
+   * @return the ids of the tables the record changes, or an empty set if it has to be parsed.
+   */
+  private static Set<String> getChangedTables(final Document record) {
+    final Array tableChanges = record.getArray(TABLE_CHANGES);
+    if (tableChanges == null || tableChanges.isEmpty()) {
+      return Collections.emptySet();
+    }
+    final Set<String> tables = new HashSet<>();
+    for (final Array.Entry entry : tableChanges) {
+      final Document tableChange = entry.getValue().asDocument();
+      if (tableChange == null || tableChange.getString(TABLE_ID) == null) {
+        return Collections.emptySet();
+      }
+      tables.add(tableChange.getString(TABLE_ID));
+      if (tableChange.getString(PREVIOUS_TABLE_ID) != null) {
+        tables.add(tableChange.getString(PREVIOUS_TABLE_ID));
+      }
+    }
+    return tables;
+  }
+
+  @VisibleForTesting
+  static String compress(final String history) {
+    final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    try (final OutputStream gzip = new GZIPOutputStream(Base64.getEncoder().wrap(compressed))) {
+      gzip.write(history.getBytes(UTF8));
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+    return COMPRESSED_HISTORY_PREFIX + compressed.toString(StandardCharsets.US_ASCII);
+  }
+
+  @VisibleForTesting
+  static String decompress(final String history) {
+    final String encoded = history.substring(COMPRESSED_HISTORY_PREFIX.length());
+    try (final InputStream gzip = new GZIPInputStream(
+        Base64.getDecoder().wrap(new ByteArrayInputStream(encoded.getBytes(StandardCharsets.US_ASCII))))) {
+      return new String(gzip.readAllBytes(), UTF8);
     } catch (final IOException e) {
       throw new RuntimeException(e);
     }
   }
 
+  private static boolean isCompressed(final String history) {
+    return history.startsWith(COMPRESSED_HISTORY_PREFIX);
+  }
+
   /**
    * This implementation is kind of similar to
    * {@link io.debezium.relational.history.FileDatabaseHistory#start()}
@@ -93,11 +286,12 @@ public class AirbyteSchemaHistoryStorage {
     if (schemaHistory.isEmpty()) {
       return;
     }
-    final String fileAsString = Jsons.object(schemaHistory.get(), String.class);
+    final String savedHistory = Jsons.object(schemaHistory.get(), String.class);
 
-    if (fileAsString == null || fileAsString.isEmpty()) {
+    if (savedHistory == null || savedHistory.isEmpty()) {
       return;
     }
+    final String fileAsString = isCompressed(savedHistory) ? decompress(savedHistory) : savedHistory;
 
     FileUtils.deleteQuietly(path.toFile());
     makeSureFileExists();
@@ -111,28 +305,23 @@ public class AirbyteSchemaHistoryStorage {
    * @param fileAsString Represents the contents of the file saved in state from previous syncs
    */
   private void writeToFile(final String fileAsString) {
-    try {
+    try (final BufferedWriter historyWriter = Files.newBufferedWriter(path, UTF8, StandardOpenOption.APPEND)) {
       final String[] split = fileAsString.split(System.lineSeparator());
       for (final String element : split) {
-        final Document read = reader.read(element);
-        final String line = writer.write(read);
-
-        try (final BufferedWriter historyWriter = Files
-            .newBufferedWriter(path, StandardOpenOption.APPEND)) {
-          try {
-            historyWriter.append(line);
-            historyWriter.newLine();
-          } catch (final IOException e) {
-            throw new RuntimeException(e);
-          }
+        if (element.isEmpty()) {
+          continue;
         }
+        final Document read = reader.read(element);
+        historyWriter.append(writer.write(read));
+        historyWriter.newLine();
       }
     } catch (final IOException e) {
       throw new RuntimeException(e);
     }
   }
 
-  public static AirbyteSchemaHistoryStorage initializeDBHistory(final Optional<JsonNode> schemaHistory) {
+  public static AirbyteSchemaHistoryStorage initializeDBHistory(final Optional<JsonNode> schemaHistory,
+                                                                final HistoryRecordComparator comparator) {
     final Path dbHistoryWorkingDir;
     try {
       dbHistoryWorkingDir = Files.createTempDirectory(Path.of("/tmp"), "cdc-db-history");
@@ -141,7 +330,7 @@ public class AirbyteSchemaHistoryStorage {
     }
     final Path dbHistoryFilePath = dbHistoryWorkingDir.resolve("dbhistory.dat");
 
-    final AirbyteSchemaHistoryStorage schemaHistoryManager = new AirbyteSchemaHistoryStorage(dbHistoryFilePath);
+    final AirbyteSchemaHistoryStorage schemaHistoryManager = new AirbyteSchemaHistoryStorage(dbHistoryFilePath, comparator);
     schemaHistoryManager.persist(schemaHistory);
     return schemaHistoryManager;
   }
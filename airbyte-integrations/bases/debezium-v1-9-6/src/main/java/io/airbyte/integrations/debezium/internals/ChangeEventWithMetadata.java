@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.debezium.internals;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.json.Jsons;
+import io.debezium.engine.ChangeEvent;
+
+/**
+ * A change event along with its value parsed as JSON. The value is parsed once, when the event is
+ * handed off by the engine, and the same tree is then used to track the position of the stream and
+ * to build the record.
+ */
+public class ChangeEventWithMetadata {
+
+  private final ChangeEvent<String, String> event;
+  private final JsonNode eventValueAsJson;
+
+  public ChangeEventWithMetadata(final ChangeEvent<String, String> event) {
+    this.event = event;
+    this.eventValueAsJson = Jsons.deserialize(event.value());
+  }
+
+  public ChangeEvent<String, String> event() {
+    return event;
+  }
+
+  public JsonNode eventValueAsJson() {
+    return eventValueAsJson;
+  }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.debezium.internals;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.debezium.engine.ChangeEvent;
+import io.debezium.engine.DebeziumEngine.ChangeConsumer;
+import io.debezium.engine.DebeziumEngine.RecordCommitter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Receives the change events from the debezium engine a batch at a time, and hands them off to the
+ * consumer of the queue parsed as {@link ChangeEventWithMetadata}.
+ * <p>
+ * Large batches are parsed on a small pool of workers, in contiguous slices of the batch. The
+ * slices are put in the queue in the order of the batch as soon as each of them is parsed, so events
+ * keep the order they were produced in, within a table and across tables. Parsing off the thread of
+ * the consumer leaves it only the conversion of the parsed events to records.
+ */
+public class DebeziumBatchConsumer implements ChangeConsumer<ChangeEvent<String, String>>, AutoCloseable {
+
+  private static final int MAX_WORKERS = 4;
+  // default value of heartbeat.topics.prefix
+  private static final String HEARTBEAT_TOPIC_PREFIX = "__debezium-heartbeat";
+  // below this, handing off a slice to a worker costs more than parsing it.
+  @VisibleForTesting
+  static final int MIN_EVENTS_PER_WORKER = 64;
+
+  private final BlockingQueue<ChangeEventWithMetadata> queue;
+  private final int workerCount;
+  private final ExecutorService workers;
+
+  public DebeziumBatchConsumer(final BlockingQueue<ChangeEventWithMetadata> queue) {
+    this(queue, Math.min(MAX_WORKERS, Runtime.getRuntime().availableProcessors() - 1));
+  }
+
+  @VisibleForTesting
+  DebeziumBatchConsumer(final BlockingQueue<ChangeEventWithMetadata> queue, final int workerCount) {
+    this.queue = queue;
+    this.workerCount = workerCount;
+    this.workers = workerCount > 1
+        ? Executors.newFixedThreadPool(workerCount, new ThreadFactoryBuilder().setNameFormat("debezium-event-parser-%d").setDaemon(true).build())
+        : null;
+  }
+
+  @Override
+  public void handleBatch(final List<ChangeEvent<String, String>> records, final RecordCommitter<ChangeEvent<String, String>> committer)
+      throws InterruptedException {
+    // debezium outputs a tombstone event that has a value of null. this is an artifact of how it
+    // interacts with kafka. we want to ignore it.
+    // more on the tombstone:
+    // https://debezium.io/documentation/reference/configuration/event-flattening.html
+    // heartbeats only make debezium commit its offset, they are not records.
+    final List<ChangeEvent<String, String>> events = records.stream()
+        .filter(e -> e.value() != null && !isHeartbeat(e))
+        .toList();
+    if (workers == null || events.size() < MIN_EVENTS_PER_WORKER * 2) {
+      for (final ChangeEvent<String, String> event : events) {
+        queue.put(new ChangeEventWithMetadata(event));
+      }
+    } else {
+      putInParallel(events);
+    }
+
+    for (final ChangeEvent<String, String> record : records) {
+      committer.markProcessed(record);
+    }
+    committer.markBatchFinished();
+  }
+
+  private static boolean isHeartbeat(final ChangeEvent<String, String> event) {
+    return event.destination() != null && event.destination().startsWith(HEARTBEAT_TOPIC_PREFIX);
+  }
+
+  private void putInParallel(final List<ChangeEvent<String, String>> events) throws InterruptedException {
+    final int sliceSize = Math.max(MIN_EVENTS_PER_WORKER, (events.size() + workerCount - 1) / workerCount);
+    final List<Future<List<ChangeEventWithMetadata>>> slices = new ArrayList<>();
+    for (int start = 0; start < events.size(); start += sliceSize) {
+      final List<ChangeEvent<String, String>> slice = events.subList(start, Math.min(events.size(), start + sliceSize));
+      slices.add(workers.submit(() -> slice.stream().map(ChangeEventWithMetadata::new).toList()));
+    }
+    try {
+      for (final Future<List<ChangeEventWithMetadata>> slice : slices) {
+        for (final ChangeEventWithMetadata event : slice.get()) {
+          queue.put(event);
+        }
+      }
+    } catch (final ExecutionException e) {
+      throw new RuntimeException(e.getCause());
+    } finally {
+      slices.forEach(slice -> slice.cancel(true));
+    }
+  }
+
+  @Override
+  public void close() {
+    if (workers != null) {
+      workers.shutdownNow();
+    }
+  }
+
+}
@@ -6,11 +6,9 @@ package io.airbyte.integrations.debezium.internals;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import io.airbyte.commons.json.Jsons;
 import io.airbyte.integrations.debezium.CdcMetadataInjector;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
-import io.debezium.engine.ChangeEvent;
 import java.sql.Timestamp;
 import java.time.Instant;
 
@@ -20,10 +18,14 @@ public class DebeziumEventUtils {
   public static final String CDC_UPDATED_AT = "_ab_cdc_updated_at";
   public static final String CDC_DELETED_AT = "_ab_cdc_deleted_at";
 
-  public static AirbyteMessage toAirbyteMessage(final ChangeEvent<String, String> event,
+  /**
+   * Builds the record from the tree the event was parsed into when it was handed off, the metadata
+   * columns are added to that tree in place rather than to a copy.
+   */
+  public static AirbyteMessage toAirbyteMessage(final ChangeEventWithMetadata event,
                                                 final CdcMetadataInjector cdcMetadataInjector,
                                                 final Instant emittedAt) {
-    final JsonNode debeziumRecord = Jsons.deserialize(event.value());
+    final JsonNode debeziumRecord = event.eventValueAsJson();
     final JsonNode before = debeziumRecord.get("before");
     final JsonNode after = debeziumRecord.get("after");
     final JsonNode source = debeziumRecord.get("source");
@@ -49,20 +51,36 @@ public class DebeziumEventUtils {
                                              final JsonNode source,
                                              final CdcMetadataInjector cdcMetadataInjector) {
     final ObjectNode base = (ObjectNode) (after.isNull() ? before : after);
+    addCdcMetadata(base, source, cdcMetadataInjector, after.isNull());
+    return base;
+  }
+
+  /**
+   * Adds the CDC metadata columns to a record that was not read from a Debezium event, such as the
+   * records of an initial load read over JDBC.
+   *
+   * @param source debezium-like "source" block describing the position the record was read at. It
+   *        must contain "ts_ms" and what the {@code cdcMetadataInjector} extracts from it.
+   */
+  public static void addInitialLoadMetaData(final ObjectNode record, final JsonNode source, final CdcMetadataInjector cdcMetadataInjector) {
+    addCdcMetadata(record, source, cdcMetadataInjector, false);
+  }
 
+  private static void addCdcMetadata(final ObjectNode base,
+                                     final JsonNode source,
+                                     final CdcMetadataInjector cdcMetadataInjector,
+                                     final boolean isDeleted) {
     final long transactionMillis = source.get("ts_ms").asLong();
     final String transactionTimestamp = new Timestamp(transactionMillis).toInstant().toString();
 
     base.put(CDC_UPDATED_AT, transactionTimestamp);
     cdcMetadataInjector.addMetaData(base, source);
 
-    if (after.isNull()) {
+    if (isDeleted) {
       base.put(CDC_DELETED_AT, transactionTimestamp);
     } else {
       base.put(CDC_DELETED_AT, (String) null);
     }
-
-    return base;
   }
 
 }
@@ -9,6 +9,7 @@ import io.airbyte.db.jdbc.JdbcUtils;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.protocol.models.ConfiguredAirbyteStream;
 import io.airbyte.protocol.models.SyncMode;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.stream.Collectors;
@@ -16,6 +17,8 @@ import org.codehaus.plexus.util.StringUtils;
 
 public class DebeziumPropertiesManager {
 
+  private static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(10);
+
   private final JsonNode config;
   private final AirbyteFileOffsetBackingStore offsetManager;
   private final Optional<AirbyteSchemaHistoryStorage> schemaHistoryManager;
@@ -47,6 +50,9 @@ public class DebeziumPropertiesManager {
     // default values from debezium CommonConnectorConfig
     props.setProperty("max.batch.size", "2048");
     props.setProperty("max.queue.size", "8192");
+    // heartbeats make debezium commit its offset while the changes of the source are all on tables
+    // that are not synced, so that the sync can end once that offset reached the target position.
+    props.setProperty("heartbeat.interval.ms", String.valueOf(HEARTBEAT_INTERVAL.toMillis()));
 
     if (schemaHistoryManager.isPresent()) {
       // https://debezium.io/documentation/reference/1.9/operations/debezium-server.html#debezium-source-database-history-class
@@ -5,16 +5,18 @@
 package io.airbyte.integrations.debezium.internals;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.AbstractIterator;
 import io.airbyte.commons.concurrency.VoidCallable;
-import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.lang.MoreBooleans;
 import io.airbyte.commons.util.AutoCloseableIterator;
 import io.airbyte.integrations.debezium.CdcTargetPosition;
-import io.debezium.engine.ChangeEvent;
 import java.time.Duration;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,38 +27,81 @@ import org.slf4j.LoggerFactory;
  * signalling to the record publisher when it is time for it to stop producing records. It emits
  * this signal either when the publisher had not produced a new record for a long time or when it
  * has processed at least all of the records that were present in the database when the source was
- * started. Because the publisher might publish more records between the consumer sending this
- * signal and the publisher actually shutting down, the consumer must stay alive as long as the
- * publisher is not closed. Even after the publisher is closed, the consumer will finish processing
- * any produced records before closing.
+ * started, as told by the records or by the offset the publisher committed. Because the publisher
+ * might publish more records between the consumer sending this signal and the publisher actually
+ * shutting down, the consumer must stay alive as long as the publisher is not closed. Even after the
+ * publisher is closed, the consumer will finish processing any produced records before closing.
  */
-public class DebeziumRecordIterator extends AbstractIterator<ChangeEvent<String, String>>
-    implements AutoCloseableIterator<ChangeEvent<String, String>> {
+public class DebeziumRecordIterator extends AbstractIterator<ChangeEventWithMetadata>
+    implements AutoCloseableIterator<ChangeEventWithMetadata> {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(DebeziumRecordIterator.class);
 
   private static final Duration SUBSEQUENT_RECORD_WAIT_TIME = Duration.ofMinutes(1);
+  // the queue is polled in short intervals so that the committed offset is checked while it is empty
+  private static final Duration POLL_INTERVAL = Duration.ofSeconds(1);
+  private static final Duration LAG_REPORT_INTERVAL = Duration.ofMinutes(1);
 
-  private final LinkedBlockingQueue<ChangeEvent<String, String>> queue;
+  private final BlockingQueue<ChangeEventWithMetadata> queue;
   private final CdcTargetPosition targetPosition;
   private final Supplier<Boolean> publisherStatusSupplier;
   private final VoidCallable requestClose;
   private final Duration firstRecordWaitTime;
+  private final Supplier<Map<String, String>> committedOffsetSupplier;
+  private final Duration pollInterval;
+  private final LongSupplier nanoTime;
 
   private boolean receivedFirstRecord;
   private boolean hasSnapshotFinished;
   private boolean signalledClose;
 
-  public DebeziumRecordIterator(final LinkedBlockingQueue<ChangeEvent<String, String>> queue,
+  private boolean started;
+  private long startNanos;
+  private long lastRecordNanos;
+  private long lastLagReportNanos;
+  private long recordCount;
+  private long lastRecordSourceMillis;
+
+  public DebeziumRecordIterator(final BlockingQueue<ChangeEventWithMetadata> queue,
                                 final CdcTargetPosition targetPosition,
                                 final Supplier<Boolean> publisherStatusSupplier,
                                 final VoidCallable requestClose,
                                 final Duration firstRecordWaitTime) {
+    this(queue, targetPosition, publisherStatusSupplier, requestClose, firstRecordWaitTime, Collections::emptyMap);
+  }
+
+  /**
+   * @param committedOffsetSupplier reads the offset last committed by the publisher. While no record
+   *        is produced, the publisher is closed as soon as that offset reached the target position,
+   *        without waiting for the source to be idle for {@link #SUBSEQUENT_RECORD_WAIT_TIME}.
+   */
+  public DebeziumRecordIterator(final BlockingQueue<ChangeEventWithMetadata> queue,
+                                final CdcTargetPosition targetPosition,
+                                final Supplier<Boolean> publisherStatusSupplier,
+                                final VoidCallable requestClose,
+                                final Duration firstRecordWaitTime,
+                                final Supplier<Map<String, String>> committedOffsetSupplier) {
+    this(queue, targetPosition, publisherStatusSupplier, requestClose, firstRecordWaitTime, committedOffsetSupplier, POLL_INTERVAL,
+        System::nanoTime);
+  }
+
+  @VisibleForTesting
+  DebeziumRecordIterator(final BlockingQueue<ChangeEventWithMetadata> queue,
+                         final CdcTargetPosition targetPosition,
+                         final Supplier<Boolean> publisherStatusSupplier,
+                         final VoidCallable requestClose,
+                         final Duration firstRecordWaitTime,
+                         final Supplier<Map<String, String>> committedOffsetSupplier,
+                         final Duration pollInterval,
+                         final LongSupplier nanoTime) {
     this.queue = queue;
     this.targetPosition = targetPosition;
     this.publisherStatusSupplier = publisherStatusSupplier;
     this.requestClose = requestClose;
     this.firstRecordWaitTime = firstRecordWaitTime;
+    this.committedOffsetSupplier = committedOffsetSupplier;
+    this.pollInterval = pollInterval;
+    this.nanoTime = nanoTime;
 
     this.receivedFirstRecord = false;
     this.hasSnapshotFinished = true;
@@ -64,30 +109,35 @@ public class DebeziumRecordIterator extends AbstractIterator<ChangeEvent<String,
   }
 
   @Override
-  protected ChangeEvent<String, String> computeNext() {
+  protected ChangeEventWithMetadata computeNext() {
+    if (!started) {
+      // the wait for the first record starts when the records are first requested
+      started = true;
+      startNanos = nanoTime.getAsLong();
+      lastRecordNanos = startNanos;
+      lastLagReportNanos = startNanos;
+    }
     // keep trying until the publisher is closed or until the queue is empty. the latter case is
     // possible when the publisher has shutdown but the consumer has not yet processed all messages it
     // emitted.
     while (!MoreBooleans.isTruthy(publisherStatusSupplier.get()) || !queue.isEmpty()) {
-      final ChangeEvent<String, String> next;
+      final ChangeEventWithMetadata next;
       try {
-        final Duration waitTime = receivedFirstRecord ? SUBSEQUENT_RECORD_WAIT_TIME : firstRecordWaitTime;
-        next = queue.poll(waitTime.getSeconds(), TimeUnit.SECONDS);
+        next = queue.poll(pollInterval.toMillis(), TimeUnit.MILLISECONDS);
       } catch (final InterruptedException e) {
         throw new RuntimeException(e);
       }
 
-      // if within the timeout, the consumer could not get a record, it is time to tell the producer to
-      // shutdown.
       if (next == null) {
-        LOGGER.info("Closing cause next is returned as null");
-        requestClose();
-        LOGGER.info("no record found. polling again.");
+        if (!signalledClose && shouldSignalCloseWhileIdle()) {
+          requestClose();
+        }
         continue;
       }
 
-      final JsonNode eventAsJson = Jsons.deserialize(next.value());
+      final JsonNode eventAsJson = next.eventValueAsJson();
       hasSnapshotFinished = hasSnapshotFinished(eventAsJson);
+      onRecord(eventAsJson);
 
       // if the last record matches the target file position, it is time to tell the producer to shutdown.
       if (!signalledClose && shouldSignalClose(eventAsJson)) {
@@ -96,9 +146,76 @@ public class DebeziumRecordIterator extends AbstractIterator<ChangeEvent<String,
       receivedFirstRecord = true;
       return next;
     }
+    reportLag();
     return endOfData();
   }
 
+  /**
+   * While no record is produced, the publisher is closed either once the offset it committed reached
+   * the target position, e.g. after a heartbeat while the changes of the source are all on tables
+   * that are not synced, or once the source has not produced any record for the wait time.
+   */
+  private boolean shouldSignalCloseWhileIdle() {
+    final long now = nanoTime.getAsLong();
+    maybeReportLag(now);
+
+    final Duration waitTime = receivedFirstRecord ? SUBSEQUENT_RECORD_WAIT_TIME : firstRecordWaitTime;
+    if (now - lastRecordNanos >= waitTime.toNanos()) {
+      LOGGER.info("Closing because no record was produced for {} seconds", waitTime.getSeconds());
+      return true;
+    }
+
+    if (hasSnapshotFinished && reachedTargetPositionInCommittedOffset()) {
+      LOGGER.info("Closing because the committed offset reached the target position {} seconds after the last record",
+          TimeUnit.NANOSECONDS.toSeconds(now - lastRecordNanos));
+      return true;
+    }
+    return false;
+  }
+
+  private boolean reachedTargetPositionInCommittedOffset() {
+    final Map<String, String> committedOffset;
+    try {
+      committedOffset = committedOffsetSupplier.get();
+    } catch (final RuntimeException e) {
+      // the offset file may be read while it is being written, it is read again on the next poll.
+      LOGGER.debug("Could not read the committed offset", e);
+      return false;
+    }
+    return committedOffset != null && !committedOffset.isEmpty() && targetPosition.reachedTargetPosition(committedOffset);
+  }
+
+  private void onRecord(final JsonNode eventAsJson) {
+    final long now = nanoTime.getAsLong();
+    lastRecordNanos = now;
+    recordCount++;
+    final JsonNode source = eventAsJson.get("source");
+    if (source != null && source.hasNonNull("ts_ms")) {
+      lastRecordSourceMillis = source.get("ts_ms").asLong();
+    }
+    maybeReportLag(now);
+  }
+
+  private void maybeReportLag(final long now) {
+    if (now - lastLagReportNanos >= LAG_REPORT_INTERVAL.toNanos()) {
+      reportLag();
+    }
+  }
+
+  /**
+   * Logs how far behind the source the records are, from the time the last record was committed in
+   * the source.
+   */
+  private void reportLag() {
+    final long now = nanoTime.getAsLong();
+    lastLagReportNanos = now;
+    final long elapsedSeconds = Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(now - startNanos));
+    LOGGER.info("CDC progress: {} records in {} seconds ({} records/sec), {} seconds since the last record, {}",
+        recordCount, elapsedSeconds, recordCount / elapsedSeconds, TimeUnit.NANOSECONDS.toSeconds(now - lastRecordNanos),
+        lastRecordSourceMillis > 0 ? "last record committed in the source " + (System.currentTimeMillis() - lastRecordSourceMillis) + " ms ago"
+            : "no record committed in the source yet");
+  }
+
   private boolean hasSnapshotFinished(final JsonNode eventAsJson) {
     final SnapshotMetadata snapshot = SnapshotMetadata.valueOf(eventAsJson.get("source").get("snapshot").asText().toUpperCase());
     return SnapshotMetadata.TRUE != snapshot;
@@ -31,6 +31,7 @@ public class DebeziumRecordPublisher implements AutoCloseable {
   private static final Logger LOGGER = LoggerFactory.getLogger(DebeziumRecordPublisher.class);
   private final ExecutorService executor;
   private DebeziumEngine<ChangeEvent<String, String>> engine;
+  private DebeziumBatchConsumer batchConsumer;
   private final AtomicBoolean hasClosed;
   private final AtomicBoolean isClosing;
   private final AtomicReference<Throwable> thrownError;
@@ -51,24 +52,16 @@ public class DebeziumRecordPublisher implements AutoCloseable {
     this.engineLatch = new CountDownLatch(1);
   }
 
-  public void start(final BlockingQueue<ChangeEvent<String, String>> queue) {
+  /**
+   * Starts the engine, which puts the change events in the queue as it reads them. The events are
+   * handed off a batch at a time, see {@link DebeziumBatchConsumer}.
+   */
+  public void start(final BlockingQueue<ChangeEventWithMetadata> queue) {
+    batchConsumer = new DebeziumBatchConsumer(queue);
     engine = DebeziumEngine.create(Json.class)
         .using(debeziumPropertiesManager.getDebeziumProperties())
         .using(new OffsetCommitPolicy.AlwaysCommitOffsetPolicy())
-        .notifying(e -> {
-          // debezium outputs a tombstone event that has a value of null. this is an artifact of how it
-          // interacts with kafka. we want to ignore it.
-          // more on the tombstone:
-          // https://debezium.io/documentation/reference/configuration/event-flattening.html
-          if (e.value() != null) {
-            try {
-              queue.put(e);
-            } catch (InterruptedException ex) {
-              Thread.currentThread().interrupt();
-              throw new RuntimeException(ex);
-            }
-          }
-        })
+        .notifying(batchConsumer)
         .using((success, message, error) -> {
           LOGGER.info("Debezium engine shutdown.");
           thrownError.set(error);
@@ -97,6 +90,9 @@ public class DebeziumRecordPublisher implements AutoCloseable {
       // shut down and await for thread to actually go down
       executor.shutdown();
       executor.awaitTermination(5, TimeUnit.MINUTES);
+      if (batchConsumer != null) {
+        batchConsumer.close();
+      }
 
       // after the engine is completely off, we can mark this as closed
       hasClosed.set(true);
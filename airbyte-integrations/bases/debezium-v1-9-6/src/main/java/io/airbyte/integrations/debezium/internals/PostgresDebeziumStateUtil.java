@@ -5,9 +5,14 @@
 package io.airbyte.integrations.debezium.internals;
 
 import static io.debezium.connector.postgresql.PostgresOffsetContext.LAST_COMMIT_LSN_KEY;
+import static io.debezium.connector.postgresql.PostgresOffsetContext.LAST_COMPLETELY_PROCESSED_LSN_KEY;
 import static io.debezium.connector.postgresql.SourceInfo.LSN_KEY;
+import static io.debezium.connector.postgresql.SourceInfo.TIMESTAMP_USEC_KEY;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.db.jdbc.JdbcUtils;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.debezium.config.Configuration;
 import io.debezium.connector.common.OffsetReader;
@@ -18,12 +23,15 @@ import io.debezium.connector.postgresql.PostgresPartition;
 import io.debezium.connector.postgresql.connection.Lsn;
 import io.debezium.pipeline.spi.Offsets;
 import io.debezium.pipeline.spi.Partition;
+import java.time.Instant;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalLong;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import org.apache.kafka.connect.json.JsonConverter;
 import org.apache.kafka.connect.runtime.WorkerConfig;
 import org.apache.kafka.connect.runtime.standalone.StandaloneConfig;
@@ -69,6 +77,32 @@ public class PostgresDebeziumStateUtil {
     return true;
   }
 
+  /**
+   * Builds the state Debezium would save after streaming the WAL up to the given LSN, so that the
+   * next Debezium run streams the changes from there on without taking a snapshot.
+   *
+   * @param config connector config, the offset is keyed by the name of its database.
+   * @param lsn position in the WAL to stream the changes from.
+   * @return the CDC state, in the format read by {@link AirbyteFileOffsetBackingStore#persist}.
+   */
+  public JsonNode constructInitialDebeziumState(final JsonNode config, final long lsn) {
+    final String dbName = config.get(JdbcUtils.DATABASE_KEY).asText();
+    final ObjectNode key = (ObjectNode) Jsons.emptyObject();
+    key.putNull("schema");
+    key.set("payload", Jsons.jsonNode(List.of(dbName, Map.of("server", dbName))));
+
+    final ObjectNode value = (ObjectNode) Jsons.emptyObject();
+    value.putNull("transaction_id");
+    value.put(LAST_COMPLETELY_PROCESSED_LSN_KEY, lsn);
+    value.put(LAST_COMMIT_LSN_KEY, lsn);
+    value.put(LSN_KEY, lsn);
+    value.put(TIMESTAMP_USEC_KEY, TimeUnit.MILLISECONDS.toMicros(Instant.now().toEpochMilli()));
+
+    final JsonNode state = Jsons.jsonNode(Map.of(Jsons.serialize(key), Jsons.serialize(value)));
+    LOGGER.info("Initial Debezium state constructed at LSN {}: {}", lsn, state);
+    return state;
+  }
+
   /**
    *
    * @param properties Properties should contain the relevant properties like path to the debezium
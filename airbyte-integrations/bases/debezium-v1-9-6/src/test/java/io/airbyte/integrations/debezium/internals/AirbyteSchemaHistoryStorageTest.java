@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.debezium.internals;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.airbyte.commons.json.Jsons;
+import io.debezium.connector.mysql.MySqlHistoryRecordComparator;
+import io.debezium.document.Document;
+import io.debezium.document.DocumentReader;
+import io.debezium.document.DocumentWriter;
+import io.debezium.relational.history.HistoryRecordComparator;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class AirbyteSchemaHistoryStorageTest {
+
+  private static final DocumentReader READER = DocumentReader.defaultReader();
+  private static final DocumentWriter WRITER = DocumentWriter.defaultWriter();
+  private static final HistoryRecordComparator COMPARATOR = new MySqlHistoryRecordComparator(gtidSource -> true);
+  private static final String OFFSET_KEY = "[\"db\",{\"server\":\"db\"}]";
+
+  @Test
+  void testCompactKeepsLastChangeOfEachTable() throws IOException {
+    final Document createA = tableRecord("CREATE TABLE a (id INT)", tableChange("CREATE", "\"db\".\"a\""));
+    final Document createB = tableRecord("CREATE TABLE b (id INT)", tableChange("CREATE", "\"db\".\"b\""));
+    final Document alterA = tableRecord("ALTER TABLE a ADD name TEXT", tableChange("ALTER", "\"db\".\"a\""));
+    final Document setCharset = tableRecord("SET character_set_server=utf8mb4");
+    final Document alterB = tableRecord("ALTER TABLE b ADD name TEXT", tableChange("ALTER", "\"db\".\"b\""));
+    final Document dropAAndC = tableRecord("DROP TABLE a, c", tableChange("DROP", "\"db\".\"a\""), tableChange("DROP", "\"db\".\"c\""));
+    final Document createA2 = tableRecord("CREATE TABLE a (id BIGINT)", tableChange("CREATE", "\"db\".\"a\""));
+
+    final List<Document> compacted = AirbyteSchemaHistoryStorage.compact(List.of(createA, createB, alterA, setCharset, alterB, dropAAndC, createA2),
+        record -> true);
+
+    // the last changes of a and b before the SET statement are kept since it is parsed against the
+    // schema they build, the DROP is kept as the last change of c.
+    assertEquals(List.of(createB, alterA, setCharset, alterB, dropAAndC, createA2), compacted);
+  }
+
+  @Test
+  void testCompactWithoutParsedRecords() throws IOException {
+    final Document createA = tableRecord("CREATE TABLE a (id INT)", tableChange("CREATE", "\"db\".\"a\""));
+    final Document alterA = tableRecord("ALTER TABLE a ADD name TEXT", tableChange("ALTER", "\"db\".\"a\""));
+    final Document renameA = tableRecord("RENAME TABLE a TO b", "{\"type\":\"ALTER\",\"id\":\"\\\"db\\\".\\\"b\\\"\",\"previousId\":\"\\\"db\\\".\\\"a\\\"\"}");
+    final Document alterB = tableRecord("ALTER TABLE b ADD email TEXT", tableChange("ALTER", "\"db\".\"b\""));
+
+    assertEquals(List.of(alterA, alterB), AirbyteSchemaHistoryStorage.compact(List.of(createA, alterA, alterB), record -> true));
+    assertEquals(List.of(renameA, alterB), AirbyteSchemaHistoryStorage.compact(List.of(createA, alterA, renameA, alterB), record -> true));
+  }
+
+  @Test
+  void testCompactKeepsChangesSupersededPastTheOffset() throws IOException {
+    final Document createA = tableRecord(100, "CREATE TABLE a (id INT)", tableChange("CREATE", "\"db\".\"a\""));
+    final Document alterA = tableRecord(200, "ALTER TABLE a ADD name TEXT", tableChange("ALTER", "\"db\".\"a\""));
+    final Document alterA2 = tableRecord(300, "ALTER TABLE a ADD email TEXT", tableChange("ALTER", "\"db\".\"a\""));
+    final AirbyteSchemaHistoryStorage storage = AirbyteSchemaHistoryStorage.initializeDBHistory(Optional.of(Jsons.jsonNode(
+        WRITER.write(createA) + System.lineSeparator() + WRITER.write(alterA) + System.lineSeparator() + WRITER.write(alterA2))), COMPARATOR);
+
+    // debezium recovers the schema up to the offset, the changes past it do not replace the ones
+    // before it.
+    assertEquals(List.of(createA, alterA, alterA2), readSavedHistory(storage.read(Map.of(OFFSET_KEY, "{\"file\":\"binlog.000002\",\"pos\":150}"))));
+    assertEquals(List.of(alterA, alterA2), readSavedHistory(storage.read(Map.of(OFFSET_KEY, "{\"file\":\"binlog.000002\",\"pos\":250}"))));
+  }
+
+  @Test
+  void testSaveCompressedAndReadLegacyHistory() throws IOException {
+    final List<Document> records = List.of(
+        tableRecord("CREATE TABLE a (id INT)", tableChange("CREATE", "\"db\".\"a\"")),
+        tableRecord("ALTER TABLE a ADD name TEXT", tableChange("ALTER", "\"db\".\"a\"")));
+    final StringBuilder legacyHistory = new StringBuilder();
+    for (final Document record : records) {
+      legacyHistory.append(WRITER.write(record)).append(System.lineSeparator());
+    }
+
+    final AirbyteSchemaHistoryStorage storage =
+        AirbyteSchemaHistoryStorage.initializeDBHistory(Optional.of(Jsons.jsonNode(legacyHistory.toString())), COMPARATOR);
+    assertEquals(2, Files.readAllLines(storage.getPath()).size());
+
+    final String savedHistory = storage.read(Map.of(OFFSET_KEY, "{\"file\":\"binlog.000002\",\"pos\":1}"));
+    assertTrue(savedHistory.startsWith(AirbyteSchemaHistoryStorage.COMPRESSED_HISTORY_PREFIX));
+    assertEquals(List.of(records.get(1)), readSavedHistory(savedHistory));
+
+    final AirbyteSchemaHistoryStorage restored = AirbyteSchemaHistoryStorage.initializeDBHistory(Optional.of(Jsons.jsonNode(savedHistory)), COMPARATOR);
+    final List<String> restoredLines = Files.readAllLines(restored.getPath());
+    assertEquals(1, restoredLines.size());
+    assertEquals(records.get(1), READER.read(restoredLines.get(0)));
+  }
+
+  private static List<Document> readSavedHistory(final String savedHistory) throws IOException {
+    final List<Document> records = new ArrayList<>();
+    for (final String line : AirbyteSchemaHistoryStorage.decompress(savedHistory).split(System.lineSeparator())) {
+      records.add(READER.read(line));
+    }
+    return records;
+  }
+
+  private static Document tableRecord(final String ddl, final String... tableChanges) throws IOException {
+    return tableRecord(1, ddl, tableChanges);
+  }
+
+  private static Document tableRecord(final long pos, final String ddl, final String... tableChanges) throws IOException {
+    return READER.read("{\"source\":{\"server\":\"db\"},\"position\":{\"file\":\"binlog.000002\",\"pos\":" + pos
+        + "},\"databaseName\":\"db\",\"ddl\":" + Jsons.serialize(ddl) + ",\"tableChanges\":[" + String.join(",", tableChanges) + "]}");
+  }
+
+  private static String tableChange(final String type, final String id) {
+    return "{\"type\":\"" + type + "\",\"id\":" + Jsons.serialize(id) + ",\"table\":{\"columns\":[]}}";
+  }
+
+}
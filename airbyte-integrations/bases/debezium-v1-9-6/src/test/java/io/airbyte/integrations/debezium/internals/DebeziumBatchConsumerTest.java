@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.debezium.internals;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.debezium.engine.ChangeEvent;
+import io.debezium.engine.DebeziumEngine.RecordCommitter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import org.junit.jupiter.api.Test;
+
+class DebeziumBatchConsumerTest {
+
+  private static final int BATCH_SIZE = DebeziumBatchConsumer.MIN_EVENTS_PER_WORKER * 10;
+
+  @Test
+  void testKeepOrderWhenParsingInParallel() throws InterruptedException {
+    final BlockingQueue<ChangeEventWithMetadata> queue = new ArrayBlockingQueue<>(BATCH_SIZE);
+    final List<ChangeEvent<String, String>> batch = new ArrayList<>();
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      batch.add(mockChangeEvent(i % 3 == 0 ? null : "{\"id\":" + i + ",\"table\":\"table_" + i % 5 + "\"}"));
+    }
+    final RecordCommitter<ChangeEvent<String, String>> committer = mock(RecordCommitter.class);
+
+    try (final DebeziumBatchConsumer consumer = new DebeziumBatchConsumer(queue, 3)) {
+      consumer.handleBatch(batch, committer);
+    }
+
+    final List<Integer> ids = new ArrayList<>();
+    queue.forEach(event -> ids.add(event.eventValueAsJson().get("id").asInt()));
+    final List<Integer> expectedIds = new ArrayList<>();
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      if (i % 3 != 0) {
+        expectedIds.add(i);
+      }
+    }
+    assertEquals(expectedIds, ids);
+    // tombstones are committed too, even though they are not handed off.
+    batch.forEach(event -> {
+      try {
+        verify(committer).markProcessed(event);
+      } catch (final InterruptedException e) {
+        throw new RuntimeException(e);
+      }
+    });
+    verify(committer, times(1)).markBatchFinished();
+  }
+
+  @Test
+  void testParseSmallBatchInline() throws InterruptedException {
+    final BlockingQueue<ChangeEventWithMetadata> queue = new ArrayBlockingQueue<>(10);
+    final RecordCommitter<ChangeEvent<String, String>> committer = mock(RecordCommitter.class);
+
+    try (final DebeziumBatchConsumer consumer = new DebeziumBatchConsumer(queue, 3)) {
+      consumer.handleBatch(List.of(mockChangeEvent("{\"id\":1}"), mockChangeEvent("{\"id\":2}")), committer);
+    }
+
+    assertEquals(1, queue.take().eventValueAsJson().get("id").asInt());
+    assertEquals(2, queue.take().eventValueAsJson().get("id").asInt());
+    verify(committer, times(1)).markBatchFinished();
+  }
+
+  @Test
+  void testFailOnInvalidEvent() {
+    final BlockingQueue<ChangeEventWithMetadata> queue = new ArrayBlockingQueue<>(BATCH_SIZE);
+    final List<ChangeEvent<String, String>> batch = new ArrayList<>();
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      batch.add(mockChangeEvent(i == BATCH_SIZE - 1 ? "{not json" : "{\"id\":" + i + "}"));
+    }
+    final RecordCommitter<ChangeEvent<String, String>> committer = mock(RecordCommitter.class);
+
+    try (final DebeziumBatchConsumer consumer = new DebeziumBatchConsumer(queue, 3)) {
+      assertThrows(RuntimeException.class, () -> consumer.handleBatch(batch, committer));
+    }
+  }
+
+  private static ChangeEvent<String, String> mockChangeEvent(final String value) {
+    final ChangeEvent<String, String> mocked = mock(ChangeEvent.class);
+    when(mocked.value()).thenReturn(value);
+    return mocked;
+  }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.debezium.internals;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.integrations.debezium.CdcTargetPosition;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+class DebeziumRecordIteratorTest {
+
+  private static final Duration POLL_INTERVAL = Duration.ofMillis(10);
+
+  private static final CdcTargetPosition TARGET_POSITION = new CdcTargetPosition() {
+
+    @Override
+    public boolean reachedTargetPosition(final JsonNode valueAsJson) {
+      return false;
+    }
+
+    @Override
+    public boolean reachedTargetPosition(final Map<String, String> offset) {
+      return "reached".equals(offset.get("position"));
+    }
+
+  };
+
+  @Test
+  void testCloseOnceCommittedOffsetReachedTarget() {
+    final AtomicBoolean closed = new AtomicBoolean(false);
+    final AtomicReference<Map<String, String>> committedOffset = new AtomicReference<>(Map.of("position", "behind"));
+    final AtomicLong polls = new AtomicLong();
+    final DebeziumRecordIterator iterator = new DebeziumRecordIterator(
+        new ArrayBlockingQueue<>(1),
+        TARGET_POSITION,
+        closed::get,
+        () -> closed.set(true),
+        Duration.ofMinutes(5),
+        () -> {
+          // the offset reaches the target after a few polls of the empty queue
+          if (polls.incrementAndGet() == 3) {
+            committedOffset.set(Map.of("position", "reached"));
+          }
+          return committedOffset.get();
+        },
+        POLL_INTERVAL,
+        System::nanoTime);
+
+    assertFalse(iterator.hasNext());
+    assertTrue(closed.get());
+    assertEquals(3, polls.get());
+  }
+
+  @Test
+  void testCloseWhenIdleForWaitTime() {
+    final AtomicBoolean closed = new AtomicBoolean(false);
+    // each read of the clock moves it forward by 10 seconds
+    final AtomicLong clock = new AtomicLong();
+    final BlockingQueue<ChangeEventWithMetadata> queue = new ArrayBlockingQueue<>(1);
+    final DebeziumRecordIterator iterator = new DebeziumRecordIterator(
+        queue,
+        TARGET_POSITION,
+        closed::get,
+        () -> closed.set(true),
+        Duration.ofSeconds(30),
+        () -> Map.of("position", "behind"),
+        POLL_INTERVAL,
+        () -> clock.addAndGet(Duration.ofSeconds(10).toNanos()));
+
+    assertFalse(iterator.hasNext());
+    assertTrue(closed.get());
+    assertTrue(clock.get() >= Duration.ofSeconds(30).toNanos());
+  }
+
+}
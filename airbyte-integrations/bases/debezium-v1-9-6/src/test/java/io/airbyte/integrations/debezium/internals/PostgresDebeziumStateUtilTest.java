@@ -86,6 +86,17 @@ public class PostgresDebeziumStateUtilTest {
     Assertions.assertFalse(savedOffsetAfterReplicationSlotLSN);
   }
 
+  @Test
+  public void constructedInitialStateIsReadAsSavedOffset() {
+    final JsonNode afterReplicationSlot = postgresDebeziumStateUtil.constructInitialDebeziumState(CONFIG, 23901120L);
+    Assertions.assertTrue(postgresDebeziumStateUtil.isSavedOffsetAfterReplicationSlotLSN(new Properties(),
+        new ConfiguredAirbyteCatalog(), afterReplicationSlot, REPLICATION_SLOT, CONFIG));
+
+    final JsonNode beforeReplicationSlot = postgresDebeziumStateUtil.constructInitialDebeziumState(CONFIG, 23896935L);
+    Assertions.assertFalse(postgresDebeziumStateUtil.isSavedOffsetAfterReplicationSlotLSN(new Properties(),
+        new ConfiguredAirbyteCatalog(), beforeReplicationSlot, REPLICATION_SLOT, CONFIG));
+  }
+
   @Test
   public void nullState() {
     final boolean savedOffsetAfterReplicationSlotLSN = postgresDebeziumStateUtil.isSavedOffsetAfterReplicationSlotLSN(new Properties(),
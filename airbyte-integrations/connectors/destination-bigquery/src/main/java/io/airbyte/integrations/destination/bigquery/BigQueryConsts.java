@@ -16,6 +16,7 @@ public class BigQueryConsts {
   public static final String LOADING_METHOD = "loading_method";
   public static final String METHOD = "method";
   public static final String GCS_STAGING = "GCS Staging";
+  public static final String STORAGE_WRITE_API = "Storage Write API";
   public static final String GCS_BUCKET_NAME = "gcs_bucket_name";
   public static final String GCS_BUCKET_PATH = "gcs_bucket_path";
   public static final String GCS_BUCKET_REGION = "gcs_bucket_region";
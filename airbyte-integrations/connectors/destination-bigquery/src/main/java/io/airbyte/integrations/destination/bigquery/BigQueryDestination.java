@@ -11,6 +11,7 @@ import com.google.cloud.bigquery.BigQuery;
 import com.google.cloud.bigquery.BigQueryOptions;
 import com.google.cloud.bigquery.Job;
 import com.google.cloud.bigquery.QueryJobConfiguration;
+import com.google.cloud.bigquery.storage.v1.BigQueryWriteClient;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.StorageOptions;
 import com.google.common.base.Charsets;
@@ -199,6 +200,9 @@ public class BigQueryDestination extends BaseConnector implements Destination {
       LOGGER.warn("The \"standard\" upload mode is not performant, and is not recommended for production. " +
           "Please use the GCS upload mode if you are syncing a large amount of data.");
       return getStandardRecordConsumer(config, catalog, outputRecordCollector);
+    } else if (uploadingMethod == UploadingMethod.STORAGE_WRITE_API) {
+      // records are appended to the tmp tables by the uploaders, as in the standard mode
+      return getStorageWriteRecordConsumer(config, catalog, outputRecordCollector);
     } else {
       return getGcsRecordConsumer(config, catalog, outputRecordCollector);
     }
@@ -207,6 +211,17 @@ public class BigQueryDestination extends BaseConnector implements Destination {
   protected Map<AirbyteStreamNameNamespacePair, AbstractBigQueryUploader<?>> getUploaderMap(final JsonNode config,
                                                                                             final ConfiguredAirbyteCatalog catalog)
       throws IOException {
+    return getUploaderMap(config, catalog, null);
+  }
+
+  /**
+   * @param writeClient Storage Write API client shared by the uploaders, only needed for that
+   *        loading method.
+   */
+  protected Map<AirbyteStreamNameNamespacePair, AbstractBigQueryUploader<?>> getUploaderMap(final JsonNode config,
+                                                                                            final ConfiguredAirbyteCatalog catalog,
+                                                                                            final BigQueryWriteClient writeClient)
+      throws IOException {
     final BigQuery bigquery = getBigQuery(config);
 
     final Map<AirbyteStreamNameNamespacePair, AbstractBigQueryUploader<?>> uploaderMap = new HashMap<>();
@@ -219,6 +234,7 @@ public class BigQueryDestination extends BaseConnector implements Destination {
       final UploaderConfig uploaderConfig = UploaderConfig
           .builder()
           .bigQuery(bigquery)
+          .writeClient(writeClient)
           .configStream(configStream)
           .config(config)
           .formatterMap(getFormatterMap(stream.getJsonSchema()))
@@ -254,6 +270,7 @@ public class BigQueryDestination extends BaseConnector implements Destination {
 
   protected Map<UploaderType, BigQueryRecordFormatter> getFormatterMap(final JsonNode jsonSchema) {
     return Map.of(UploaderType.STANDARD, new DefaultBigQueryRecordFormatter(jsonSchema, namingResolver),
+        UploaderType.STORAGE_WRITE, new DefaultBigQueryRecordFormatter(jsonSchema, namingResolver),
         UploaderType.CSV, new GcsCsvBigQueryRecordFormatter(jsonSchema, namingResolver),
         UploaderType.AVRO, new GcsAvroBigQueryRecordFormatter(jsonSchema, namingResolver));
   }
@@ -270,6 +287,24 @@ public class BigQueryDestination extends BaseConnector implements Destination {
     return new BigQueryRecordConsumer(writeConfigs, outputRecordCollector, BigQueryUtils.getDatasetId(config));
   }
 
+  /**
+   * The uploaders of every stream share a single Storage Write API client, which the consumer closes
+   * once all of them are closed.
+   */
+  private AirbyteMessageConsumer getStorageWriteRecordConsumer(final JsonNode config,
+                                                               final ConfiguredAirbyteCatalog catalog,
+                                                               final Consumer<AirbyteMessage> outputRecordCollector)
+      throws IOException {
+    final BigQueryWriteClient writeClient = BigQueryUploaderFactory.createWriteClient(getBigQuery(config));
+    try {
+      final Map<AirbyteStreamNameNamespacePair, AbstractBigQueryUploader<?>> writeConfigs = getUploaderMap(config, catalog, writeClient);
+      return new BigQueryRecordConsumer(writeConfigs, outputRecordCollector, BigQueryUtils.getDatasetId(config), writeClient);
+    } catch (final IOException | RuntimeException e) {
+      writeClient.close();
+      throw e;
+    }
+  }
+
   public AirbyteMessageConsumer getGcsRecordConsumer(final JsonNode config,
                                                      final ConfiguredAirbyteCatalog catalog,
                                                      final Consumer<AirbyteMessage> outputRecordCollector) {
@@ -26,14 +26,26 @@ public class BigQueryRecordConsumer extends FailureTrackingAirbyteMessageConsume
   private final Map<AirbyteStreamNameNamespacePair, AbstractBigQueryUploader<?>> uploaderMap;
   private final Consumer<AirbyteMessage> outputRecordCollector;
   private final String datasetId;
+  private final AutoCloseable uploaderResources;
   private AirbyteMessage lastStateMessage = null;
 
   public BigQueryRecordConsumer(final Map<AirbyteStreamNameNamespacePair, AbstractBigQueryUploader<?>> uploaderMap,
                                 final Consumer<AirbyteMessage> outputRecordCollector,
                                 final String datasetId) {
+    this(uploaderMap, outputRecordCollector, datasetId, () -> {});
+  }
+
+  /**
+   * @param uploaderResources resources shared by the uploaders, closed after all of them.
+   */
+  public BigQueryRecordConsumer(final Map<AirbyteStreamNameNamespacePair, AbstractBigQueryUploader<?>> uploaderMap,
+                                final Consumer<AirbyteMessage> outputRecordCollector,
+                                final String datasetId,
+                                final AutoCloseable uploaderResources) {
     this.uploaderMap = uploaderMap;
     this.outputRecordCollector = outputRecordCollector;
     this.datasetId = datasetId;
+    this.uploaderResources = uploaderResources;
   }
 
   @Override
@@ -73,6 +85,12 @@ public class BigQueryRecordConsumer extends FailureTrackingAirbyteMessageConsume
         LOGGER.error("Exception while closing uploader {}", uploader, e);
       }
     });
+    try {
+      uploaderResources.close();
+    } catch (final Exception e) {
+      exceptionsThrown.add(e);
+      LOGGER.error("Exception while closing the resources shared by the uploaders", e);
+    }
     if (!exceptionsThrown.isEmpty()) {
       throw new RuntimeException(String.format("Exceptions thrown while closing consumer: %s", Strings.join(exceptionsThrown, "\n")));
     }
@@ -318,13 +318,17 @@ public class BigQueryUtils {
 
   public static UploadingMethod getLoadingMethod(final JsonNode config) {
     final JsonNode loadingMethod = config.get(BigQueryConsts.LOADING_METHOD);
-    if (loadingMethod != null && BigQueryConsts.GCS_STAGING.equals(loadingMethod.get(BigQueryConsts.METHOD).asText())) {
-      LOGGER.info("Selected loading method is set to: " + UploadingMethod.GCS);
-      return UploadingMethod.GCS;
+    final String method = loadingMethod != null ? loadingMethod.get(BigQueryConsts.METHOD).asText() : null;
+    final UploadingMethod uploadingMethod;
+    if (BigQueryConsts.GCS_STAGING.equals(method)) {
+      uploadingMethod = UploadingMethod.GCS;
+    } else if (BigQueryConsts.STORAGE_WRITE_API.equals(method)) {
+      uploadingMethod = UploadingMethod.STORAGE_WRITE_API;
     } else {
-      LOGGER.info("Selected loading method is set to: " + UploadingMethod.STANDARD);
-      return UploadingMethod.STANDARD;
+      uploadingMethod = UploadingMethod.STANDARD;
     }
+    LOGGER.info("Selected loading method is set to: " + uploadingMethod);
+    return uploadingMethod;
   }
 
   public static boolean isKeepFilesInGcs(final JsonNode config) {
@@ -6,5 +6,6 @@ package io.airbyte.integrations.destination.bigquery;
 
 public enum UploadingMethod {
   STANDARD,
-  GCS
+  GCS,
+  STORAGE_WRITE_API
 }
@@ -21,6 +21,7 @@ import io.airbyte.integrations.destination.bigquery.BigQueryUtils;
 import io.airbyte.integrations.destination.bigquery.formatter.BigQueryRecordFormatter;
 import io.airbyte.integrations.destination.s3.writer.DestinationWriter;
 import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
 import java.io.IOException;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -63,7 +64,7 @@ public abstract class AbstractBigQueryUploader<T extends DestinationWriter> {
 
   public void upload(final AirbyteMessage airbyteMessage) {
     try {
-      writer.write(recordFormatter.formatRecord(airbyteMessage.getRecord()));
+      write(airbyteMessage.getRecord());
     } catch (final IOException | RuntimeException e) {
       LOGGER.error("Got an error while writing message: {}", e.getMessage(), e);
       LOGGER.error(String.format(
@@ -75,6 +76,10 @@ public abstract class AbstractBigQueryUploader<T extends DestinationWriter> {
     }
   }
 
+  protected void write(final AirbyteRecordMessage recordMessage) throws IOException {
+    writer.write(recordFormatter.formatRecord(recordMessage));
+  }
+
   public void close(final boolean hasFailed, final Consumer<AirbyteMessage> outputRecordCollector, final AirbyteMessage lastStateMessage) {
     try {
       recordFormatter.printAndCleanFieldFails();
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.bigquery.uploader;
+
+import com.google.cloud.bigquery.BigQuery;
+import com.google.cloud.bigquery.JobInfo;
+import com.google.cloud.bigquery.TableId;
+import io.airbyte.integrations.destination.bigquery.formatter.BigQueryRecordFormatter;
+import io.airbyte.integrations.destination.bigquery.writer.BigQueryStorageWriter;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Appends the records to the tmp table through the Storage Write API, they are committed when the
+ * writer is closed and then copied to the target table.
+ */
+public class BigQueryStorageWriteUploader extends AbstractBigQueryUploader<BigQueryStorageWriter> {
+
+  public BigQueryStorageWriteUploader(final TableId table,
+                                      final TableId tmpTable,
+                                      final BigQueryStorageWriter writer,
+                                      final JobInfo.WriteDisposition syncMode,
+                                      final BigQuery bigQuery,
+                                      final BigQueryRecordFormatter recordFormatter) {
+    super(table, tmpTable, writer, syncMode, bigQuery, recordFormatter);
+  }
+
+  /**
+   * The writer encodes the record itself, rather than going through the Json row of the formatter.
+   * Nothing is lost to the field checks: the default formatter, the only one used with this loading
+   * method, never reports field failures.
+   */
+  @Override
+  protected void write(final AirbyteRecordMessage recordMessage) throws IOException {
+    writer.write(UUID.randomUUID(), recordMessage);
+  }
+
+}
@@ -8,6 +8,7 @@ import static io.airbyte.integrations.destination.s3.avro.AvroConstants.JSON_CON
 
 import com.amazonaws.services.s3.AmazonS3;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.google.api.gax.core.FixedCredentialsProvider;
 import com.google.cloud.bigquery.BigQuery;
 import com.google.cloud.bigquery.FormatOptions;
 import com.google.cloud.bigquery.JobId;
@@ -16,9 +17,13 @@ import com.google.cloud.bigquery.Schema;
 import com.google.cloud.bigquery.TableDataWriteChannel;
 import com.google.cloud.bigquery.TableId;
 import com.google.cloud.bigquery.WriteChannelConfiguration;
+import com.google.cloud.bigquery.storage.v1.BigQueryWriteClient;
+import com.google.cloud.bigquery.storage.v1.BigQueryWriteSettings;
+import com.google.cloud.bigquery.storage.v1.TableName;
 import io.airbyte.integrations.destination.bigquery.BigQueryUtils;
 import io.airbyte.integrations.destination.bigquery.formatter.BigQueryRecordFormatter;
 import io.airbyte.integrations.destination.bigquery.uploader.config.UploaderConfig;
+import io.airbyte.integrations.destination.bigquery.writer.BigQueryStorageWriter;
 import io.airbyte.integrations.destination.bigquery.writer.BigQueryTableWriter;
 import io.airbyte.integrations.destination.gcs.GcsDestinationConfig;
 import io.airbyte.integrations.destination.gcs.avro.GcsAvroWriter;
@@ -30,6 +35,17 @@ import java.util.Set;
 
 public class BigQueryUploaderFactory {
 
+  /**
+   * Creates the Storage Write API client shared by the uploaders of every stream of a sync, its
+   * channels are only worth opening once.
+   */
+  public static BigQueryWriteClient createWriteClient(final BigQuery bigQuery) throws IOException {
+    return BigQueryWriteClient.create(BigQueryWriteSettings.newBuilder()
+        .setCredentialsProvider(FixedCredentialsProvider.create(bigQuery.getOptions().getCredentials()))
+        .setHeaderProvider(BigQueryUtils.getHeaderProvider())
+        .build());
+  }
+
   public static AbstractBigQueryUploader<?> getUploader(final UploaderConfig uploaderConfig)
       throws IOException {
     final String schemaName = BigQueryUtils.getSchema(uploaderConfig.getConfig(), uploaderConfig.getConfigStream());
@@ -53,6 +69,16 @@ public class BigQueryUploaderFactory {
     final JobInfo.WriteDisposition syncMode = BigQueryUtils.getWriteDisposition(
         uploaderConfig.getConfigStream().getDestinationSyncMode());
 
+    if (uploaderConfig.getUploaderType() == UploaderType.STORAGE_WRITE) {
+      return getBigQueryStorageWriteUploader(
+          targetTable,
+          tmpTable,
+          uploaderConfig.getBigQuery(),
+          uploaderConfig.getWriteClient(),
+          syncMode,
+          recordFormatter);
+    }
+
     return (uploaderConfig.isGcsUploadingMode()
         ? getGcsBigQueryUploader(
             uploaderConfig.getConfig(),
@@ -119,6 +145,25 @@ public class BigQueryUploaderFactory {
         jsonSchema);
   }
 
+  private static BigQueryStorageWriteUploader getBigQueryStorageWriteUploader(
+                                                                              final TableId targetTable,
+                                                                              final TableId tmpTable,
+                                                                              final BigQuery bigQuery,
+                                                                              final BigQueryWriteClient client,
+                                                                              final JobInfo.WriteDisposition syncMode,
+                                                                              final BigQueryRecordFormatter formatter) {
+    // https://cloud.google.com/bigquery/docs/write-api#pending_type
+    final TableName tableName = TableName.of(bigQuery.getOptions().getProjectId(), tmpTable.getDataset(), tmpTable.getTable());
+
+    return new BigQueryStorageWriteUploader(
+        targetTable,
+        tmpTable,
+        new BigQueryStorageWriter(client, tableName),
+        syncMode,
+        bigQuery,
+        formatter);
+  }
+
   private static BigQueryDirectUploader getBigQueryDirectUploader(
                                                                   final JsonNode config,
                                                                   final TableId targetTable,
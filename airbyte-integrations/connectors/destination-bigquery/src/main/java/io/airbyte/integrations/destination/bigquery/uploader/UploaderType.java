@@ -7,5 +7,6 @@ package io.airbyte.integrations.destination.bigquery.uploader;
 public enum UploaderType {
   STANDARD,
   AVRO,
-  CSV
+  CSV,
+  STORAGE_WRITE
 }
@@ -6,6 +6,7 @@ package io.airbyte.integrations.destination.bigquery.uploader.config;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.cloud.bigquery.BigQuery;
+import com.google.cloud.bigquery.storage.v1.BigQueryWriteClient;
 import io.airbyte.integrations.destination.bigquery.BigQueryUtils;
 import io.airbyte.integrations.destination.bigquery.UploadingMethod;
 import io.airbyte.integrations.destination.bigquery.formatter.BigQueryRecordFormatter;
@@ -24,6 +25,8 @@ public class UploaderConfig {
   private String targetTableName;
   private String tmpTableName;
   private BigQuery bigQuery;
+  // only set for the Storage Write API, shared by the uploaders of the sync
+  private BigQueryWriteClient writeClient;
   private Map<UploaderType, BigQueryRecordFormatter> formatterMap;
   private boolean isDefaultAirbyteTmpSchema;
 
@@ -32,7 +35,11 @@ public class UploaderConfig {
   }
 
   public UploaderType getUploaderType() {
-    return (isGcsUploadingMode() ? UploaderType.AVRO : UploaderType.STANDARD);
+    return switch (BigQueryUtils.getLoadingMethod(config)) {
+      case GCS -> UploaderType.AVRO;
+      case STORAGE_WRITE_API -> UploaderType.STORAGE_WRITE;
+      case STANDARD -> UploaderType.STANDARD;
+    };
   }
 
   public BigQueryRecordFormatter getFormatter() {
@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.bigquery.writer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.api.core.ApiFuture;
+import com.google.cloud.bigquery.storage.v1.AppendRowsResponse;
+import com.google.cloud.bigquery.storage.v1.BatchCommitWriteStreamsRequest;
+import com.google.cloud.bigquery.storage.v1.BatchCommitWriteStreamsResponse;
+import com.google.cloud.bigquery.storage.v1.BigQueryWriteClient;
+import com.google.cloud.bigquery.storage.v1.FinalizeWriteStreamResponse;
+import com.google.cloud.bigquery.storage.v1.ProtoRows;
+import com.google.cloud.bigquery.storage.v1.ProtoSchema;
+import com.google.cloud.bigquery.storage.v1.StorageError;
+import com.google.cloud.bigquery.storage.v1.StreamWriter;
+import com.google.cloud.bigquery.storage.v1.TableName;
+import com.google.cloud.bigquery.storage.v1.WriteStream;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto;
+import com.google.protobuf.UnsafeByteOperations;
+import io.airbyte.commons.functional.CheckedFunction;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.integrations.base.JavaBaseConstants;
+import io.airbyte.integrations.destination.StandardNameTransformer;
+import io.airbyte.integrations.destination.bigquery.BigQueryConsts;
+import io.airbyte.integrations.destination.s3.writer.DestinationWriter;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes records to a table with the default Airbyte schema through the BigQuery Storage Write API.
+ * <p>
+ * Rows are encoded as protobuf messages and appended in batches of up to {@link #MAX_BATCH_BYTES}
+ * to pending write streams, which are spread over up to {@link #MAX_STREAMS} streams opened as the
+ * batches come, each with up to {@link #MAX_INFLIGHT_APPENDS} appends in flight. Pending streams
+ * are committed at once when the writer is closed, so that the table gets either all the records or
+ * none of them.
+ * <p>
+ * The client is shared by the writers of every stream of the sync, it is closed by its owner rather
+ * than by the writer.
+ */
+public class BigQueryStorageWriter implements DestinationWriter {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(BigQueryStorageWriter.class);
+
+  // append requests are limited to 10 MB
+  @VisibleForTesting
+  static final int MAX_BATCH_BYTES = 4 * BigQueryConsts.MiB;
+  private static final int MAX_STREAMS = 4;
+  private static final int MAX_INFLIGHT_APPENDS = 2;
+
+  @VisibleForTesting
+  static final DescriptorProto ROW_DESCRIPTOR = DescriptorProto.newBuilder()
+      .setName("AirbyteRecord")
+      .addField(field(1, JavaBaseConstants.COLUMN_NAME_AB_ID, FieldDescriptorProto.Type.TYPE_STRING))
+      // TIMESTAMP columns take the microseconds since epoch
+      .addField(field(2, JavaBaseConstants.COLUMN_NAME_EMITTED_AT, FieldDescriptorProto.Type.TYPE_INT64))
+      .addField(field(3, JavaBaseConstants.COLUMN_NAME_DATA, FieldDescriptorProto.Type.TYPE_STRING))
+      .build();
+  private static final ProtoSchema ROW_SCHEMA = ProtoSchema.newBuilder().setProtoDescriptor(ROW_DESCRIPTOR).build();
+
+  private final BigQueryWriteClient client;
+  private final TableName table;
+  private final CheckedFunction<String, StreamWriter, IOException> streamWriterFactory;
+  private final List<AppendStream> streams = new ArrayList<>();
+  private ProtoRows.Builder batch = ProtoRows.newBuilder();
+  private long batchBytes = 0;
+  private long batchCount = 0;
+
+  public BigQueryStorageWriter(final BigQueryWriteClient client, final TableName table) {
+    this(client, table, streamName -> StreamWriter.newBuilder(streamName, client)
+        .setWriterSchema(ROW_SCHEMA)
+        .build());
+  }
+
+  @VisibleForTesting
+  BigQueryStorageWriter(final BigQueryWriteClient client,
+                        final TableName table,
+                        final CheckedFunction<String, StreamWriter, IOException> streamWriterFactory) {
+    this.client = client;
+    this.table = table;
+    this.streamWriterFactory = streamWriterFactory;
+  }
+
+  @Override
+  public void initialize() throws IOException {}
+
+  @Override
+  public void write(final UUID id, final AirbyteRecordMessage recordMessage) throws IOException {
+    final ByteString row = encodeRow(
+        id.toString(),
+        TimeUnit.MILLISECONDS.toMicros(recordMessage.getEmittedAt()),
+        Jsons.serialize(StandardNameTransformer.formatJsonPath(recordMessage.getData())));
+    if (batchBytes > 0 && batchBytes + row.size() > MAX_BATCH_BYTES) {
+      appendBatch();
+    }
+    batch.addSerializedRows(row);
+    batchBytes += row.size();
+  }
+
+  @Override
+  public void write(final JsonNode formattedData) {
+    throw new RuntimeException("This write method is not used!");
+  }
+
+  @Override
+  public void close(final boolean hasFailed) throws IOException {
+    try {
+      if (!hasFailed) {
+        if (batchBytes > 0) {
+          appendBatch();
+        }
+        commit();
+      } else {
+        // the pending streams are never committed, so their rows are dropped
+        LOGGER.info("Abandoning {} write streams of table {}", streams.size(), table);
+      }
+    } finally {
+      streams.forEach(stream -> stream.writer.close());
+    }
+  }
+
+  private void appendBatch() throws IOException {
+    final AppendStream stream;
+    if (streams.size() < MAX_STREAMS) {
+      stream = openStream();
+      streams.add(stream);
+    } else {
+      stream = streams.get((int) (batchCount % MAX_STREAMS));
+    }
+    stream.append(batch.build());
+    batch = ProtoRows.newBuilder();
+    batchBytes = 0;
+    batchCount++;
+  }
+
+  private AppendStream openStream() throws IOException {
+    final WriteStream writeStream = client.createWriteStream(table, WriteStream.newBuilder().setType(WriteStream.Type.PENDING).build());
+    LOGGER.info("Opened write stream {} on table {}", writeStream.getName(), table);
+    return new AppendStream(writeStream.getName(), streamWriterFactory.apply(writeStream.getName()));
+  }
+
+  private void commit() throws IOException {
+    long rowCount = 0;
+    for (final AppendStream stream : streams) {
+      stream.awaitAppends(0);
+      final FinalizeWriteStreamResponse response = client.finalizeWriteStream(stream.name);
+      rowCount += response.getRowCount();
+    }
+    if (streams.isEmpty()) {
+      return;
+    }
+    final BatchCommitWriteStreamsResponse response = client.batchCommitWriteStreams(BatchCommitWriteStreamsRequest.newBuilder()
+        .setParent(table.toString())
+        .addAllWriteStreams(streams.stream().map(stream -> stream.name).toList())
+        .build());
+    if (!response.hasCommitTime()) {
+      throw new IOException(String.format("Failed to commit the write streams of table %s: %s", table,
+          response.getStreamErrorsList().stream().map(StorageError::getErrorMessage).collect(Collectors.joining(", "))));
+    }
+    LOGGER.info("Committed {} rows to table {} through {} write streams", rowCount, table, streams.size());
+  }
+
+  /**
+   * Encodes a row of {@link #ROW_DESCRIPTOR} straight into its bytes.
+   */
+  @VisibleForTesting
+  static ByteString encodeRow(final String id, final long emittedAtMicros, final String data) throws IOException {
+    final byte[] bytes = new byte[CodedOutputStream.computeStringSize(1, id)
+        + CodedOutputStream.computeInt64Size(2, emittedAtMicros)
+        + CodedOutputStream.computeStringSize(3, data)];
+    final CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+    output.writeString(1, id);
+    output.writeInt64(2, emittedAtMicros);
+    output.writeString(3, data);
+    output.checkNoSpaceLeft();
+    return UnsafeByteOperations.unsafeWrap(bytes);
+  }
+
+  private static FieldDescriptorProto field(final int number, final String name, final FieldDescriptorProto.Type type) {
+    return FieldDescriptorProto.newBuilder()
+        .setNumber(number)
+        .setName(name)
+        .setType(type)
+        .setLabel(FieldDescriptorProto.Label.LABEL_OPTIONAL)
+        .build();
+  }
+
+  @Override
+  public String toString() {
+    return "BigQueryStorageWriter{table=" + table + ", streams=" + streams.size() + '}';
+  }
+
+  /**
+   * A pending write stream, whose rows are appended at explicit offsets so that a retried append is
+   * not written twice.
+   */
+  private static class AppendStream {
+
+    private final String name;
+    private final StreamWriter writer;
+    private final Deque<ApiFuture<AppendRowsResponse>> appends = new ArrayDeque<>();
+    private long offset = 0;
+
+    private AppendStream(final String name, final StreamWriter writer) {
+      this.name = name;
+      this.writer = writer;
+    }
+
+    private void append(final ProtoRows rows) throws IOException {
+      awaitAppends(MAX_INFLIGHT_APPENDS - 1);
+      appends.add(writer.append(rows, offset));
+      offset += rows.getSerializedRowsCount();
+    }
+
+    /**
+     * Waits for the oldest appends to complete until no more than {@code maxInflight} are left.
+     */
+    private void awaitAppends(final int maxInflight) throws IOException {
+      while (appends.size() > maxInflight) {
+        final AppendRowsResponse response;
+        try {
+          response = appends.poll().get();
+        } catch (final InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new RuntimeException(e);
+        } catch (final ExecutionException e) {
+          throw new IOException("Failed to append rows to write stream " + name, e.getCause());
+        }
+        if (response.hasError()) {
+          throw new IOException(String.format("Failed to append rows to write stream %s: %s", name, response.getError().getMessage()));
+        }
+      }
+    }
+
+  }
+
+}
@@ -23,6 +23,8 @@ public class BigQueryRecordConsumerTest extends PerStreamStateMessageTest {
   private Map<AirbyteStreamNameNamespacePair, AbstractBigQueryUploader<?>> uploaderMap;
   @Mock
   private Consumer<AirbyteMessage> outputRecordCollector;
+  @Mock
+  private AutoCloseable uploaderResources;
 
   @InjectMocks
   private BigQueryRecordConsumer bigQueryRecordConsumer;
@@ -79,6 +79,18 @@ public class BigQueryUtilsTest {
     assertTrue(BigQueryUtils.isUsingJsonCredentials(objectConfig));
   }
 
+  @Test
+  public void testGetLoadingMethod() {
+    assertEquals(UploadingMethod.STANDARD, BigQueryUtils.getLoadingMethod(Jsons.jsonNode(Collections.emptyMap())));
+    assertEquals(UploadingMethod.STANDARD, BigQueryUtils.getLoadingMethod(loadingMethodConfig("Standard")));
+    assertEquals(UploadingMethod.GCS, BigQueryUtils.getLoadingMethod(loadingMethodConfig(BigQueryConsts.GCS_STAGING)));
+    assertEquals(UploadingMethod.STORAGE_WRITE_API, BigQueryUtils.getLoadingMethod(loadingMethodConfig(BigQueryConsts.STORAGE_WRITE_API)));
+  }
+
+  private static JsonNode loadingMethodConfig(final String method) {
+    return Jsons.jsonNode(Map.of(BigQueryConsts.LOADING_METHOD, Map.of(BigQueryConsts.METHOD, method)));
+  }
+
   private static Stream<Arguments> validBigQueryIdProvider() {
     return Stream.of(
         Arguments.arguments("my-project", "my_dataset", "my_dataset"),
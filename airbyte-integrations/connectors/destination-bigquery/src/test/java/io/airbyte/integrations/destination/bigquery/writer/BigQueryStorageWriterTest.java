@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.bigquery.writer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.api.core.ApiFutures;
+import com.google.cloud.bigquery.storage.v1.AppendRowsResponse;
+import com.google.cloud.bigquery.storage.v1.BatchCommitWriteStreamsRequest;
+import com.google.cloud.bigquery.storage.v1.BatchCommitWriteStreamsResponse;
+import com.google.cloud.bigquery.storage.v1.BigQueryWriteClient;
+import com.google.cloud.bigquery.storage.v1.FinalizeWriteStreamResponse;
+import com.google.cloud.bigquery.storage.v1.ProtoRows;
+import com.google.cloud.bigquery.storage.v1.StorageError;
+import com.google.cloud.bigquery.storage.v1.StreamWriter;
+import com.google.cloud.bigquery.storage.v1.TableName;
+import com.google.cloud.bigquery.storage.v1.WriteStream;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FileDescriptor;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.Timestamp;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.integrations.base.JavaBaseConstants;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class BigQueryStorageWriterTest {
+
+  private static final TableName TABLE = TableName.of("project", "dataset", "_airbyte_tmp_users");
+  // three rows fit in a batch, not four
+  private static final String BATCH_THIRD = "x".repeat(BigQueryStorageWriter.MAX_BATCH_BYTES / 3 - 100);
+
+  private BigQueryWriteClient client;
+  private Map<String, StreamWriter> streamWriters;
+  private BigQueryStorageWriter writer;
+
+  @BeforeEach
+  void setup() throws Exception {
+    client = mock(BigQueryWriteClient.class);
+    streamWriters = new LinkedHashMap<>();
+    when(client.createWriteStream(any(TableName.class), any(WriteStream.class)))
+        .thenAnswer(invocation -> WriteStream.newBuilder().setName(TABLE + "/streams/" + streamWriters.size()).build());
+    when(client.finalizeWriteStream(anyString())).thenReturn(FinalizeWriteStreamResponse.newBuilder().setRowCount(3).build());
+    writer = new BigQueryStorageWriter(client, TABLE, streamName -> {
+      final StreamWriter streamWriter = mock(StreamWriter.class);
+      when(streamWriter.append(any(ProtoRows.class), anyLong()))
+          .thenReturn(ApiFutures.immediateFuture(AppendRowsResponse.newBuilder().build()));
+      streamWriters.put(streamName, streamWriter);
+      return streamWriter;
+    });
+  }
+
+  @Test
+  void testBatchesAreAppendedAtExplicitOffsets() throws Exception {
+    when(client.batchCommitWriteStreams(any(BatchCommitWriteStreamsRequest.class)))
+        .thenReturn(BatchCommitWriteStreamsResponse.newBuilder().setCommitTime(Timestamp.newBuilder().setSeconds(1664619330)).build());
+
+    // five batches of three rows, spread over the four streams
+    writeRecords(15);
+    writer.close(false);
+
+    final List<StreamWriter> writers = new ArrayList<>(streamWriters.values());
+    assertEquals(4, writers.size());
+    assertEquals(List.of(0L, 3L), appendOffsets(writers.get(0), 2));
+    for (final StreamWriter streamWriter : writers.subList(1, 4)) {
+      assertEquals(List.of(0L), appendOffsets(streamWriter, 1));
+    }
+
+    final ArgumentCaptor<BatchCommitWriteStreamsRequest> commit = ArgumentCaptor.forClass(BatchCommitWriteStreamsRequest.class);
+    verify(client).batchCommitWriteStreams(commit.capture());
+    assertEquals(TABLE.toString(), commit.getValue().getParent());
+    assertEquals(List.copyOf(streamWriters.keySet()), commit.getValue().getWriteStreamsList());
+    streamWriters.keySet().forEach(streamName -> verify(client).finalizeWriteStream(streamName));
+    writers.forEach(streamWriter -> verify(streamWriter).close());
+    verify(client, never()).close();
+  }
+
+  @Test
+  void testFailedSyncAbandonsStreams() throws Exception {
+    writeRecords(4);
+    writer.close(true);
+
+    // the first three rows were appended, the last one is dropped with the batch
+    final StreamWriter streamWriter = streamWriters.values().iterator().next();
+    assertEquals(List.of(0L), appendOffsets(streamWriter, 1));
+    verify(client, never()).finalizeWriteStream(anyString());
+    verify(client, never()).batchCommitWriteStreams(any(BatchCommitWriteStreamsRequest.class));
+    verify(streamWriter).close();
+    verify(client, never()).close();
+  }
+
+  @Test
+  void testCommitErrorFailsTheWriter() throws Exception {
+    when(client.batchCommitWriteStreams(any(BatchCommitWriteStreamsRequest.class)))
+        .thenReturn(BatchCommitWriteStreamsResponse.newBuilder()
+            .addStreamErrors(StorageError.newBuilder().setErrorMessage("stream is not finalized"))
+            .build());
+
+    writeRecords(2);
+    final IOException exception = assertThrows(IOException.class, () -> writer.close(false));
+
+    assertTrue(exception.getMessage().contains("stream is not finalized"));
+    streamWriters.values().forEach(streamWriter -> verify(streamWriter).close());
+    verify(client, never()).close();
+  }
+
+  @Test
+  void testEncodedRowMatchesDescriptor() throws Exception {
+    final Descriptor descriptor = FileDescriptor
+        .buildFrom(FileDescriptorProto.newBuilder().addMessageType(BigQueryStorageWriter.ROW_DESCRIPTOR).build(), new FileDescriptor[0])
+        .findMessageTypeByName(BigQueryStorageWriter.ROW_DESCRIPTOR.getName());
+    final String data = "{\"name\":\"Zoë\",\"city\":\"東京\"}";
+
+    final DynamicMessage row = DynamicMessage.parseFrom(descriptor,
+        BigQueryStorageWriter.encodeRow("3e1e6e5e-1f10-4b6a-9e7e-5d1c1a3d8f00", 1664619330000123L, data));
+
+    assertEquals("3e1e6e5e-1f10-4b6a-9e7e-5d1c1a3d8f00", row.getField(descriptor.findFieldByName(JavaBaseConstants.COLUMN_NAME_AB_ID)));
+    assertEquals(1664619330000123L, row.getField(descriptor.findFieldByName(JavaBaseConstants.COLUMN_NAME_EMITTED_AT)));
+    assertEquals(data, row.getField(descriptor.findFieldByName(JavaBaseConstants.COLUMN_NAME_DATA)));
+  }
+
+  private void writeRecords(final int count) throws IOException {
+    for (int i = 0; i < count; i++) {
+      writer.write(UUID.randomUUID(), new AirbyteRecordMessage()
+          .withStream("users")
+          .withEmittedAt(1664619330000L)
+          .withData(Jsons.jsonNode(Map.of("id", i, "payload", BATCH_THIRD))));
+    }
+  }
+
+  private static List<Long> appendOffsets(final StreamWriter streamWriter, final int appends) {
+    final ArgumentCaptor<ProtoRows> rows = ArgumentCaptor.forClass(ProtoRows.class);
+    final ArgumentCaptor<Long> offsets = ArgumentCaptor.forClass(Long.class);
+    verify(streamWriter, times(appends)).append(rows.capture(), offsets.capture());
+    rows.getAllValues().forEach(batch -> assertEquals(3, batch.getSerializedRowsCount()));
+    return offsets.getAllValues();
+  }
+
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.staging;
+
+import com.google.common.base.Preconditions;
+import io.airbyte.db.jdbc.JdbcDatabase;
+import io.airbyte.integrations.destination.jdbc.WriteConfig;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Copies staged files into the tmp tables while the next buffers are still being uploaded, so that
+ * closing the consumer does not have to copy every stream one after the other.
+ *
+ * <p>
+ * Copies of a stream run one after the other, each one taking all the files of the stream staged
+ * since the previous copy. Copies of different streams run concurrently, up to the number of threads
+ * of the scheduler, which callers size after what the destination can run at once. A failed copy
+ * cleans up the files it was given from the stage and is rethrown by the next call.
+ */
+public class StageCopyScheduler implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(StageCopyScheduler.class);
+  private static final long COPIES_TERMINATION_TIMEOUT_SECONDS = 60;
+
+  private final JdbcDatabase database;
+  private final StagingOperations stagingOperations;
+  private final ExecutorService copyExecutor;
+  private final Map<WriteConfig, StreamCopies> streamCopies = new ConcurrentHashMap<>();
+  private final Queue<Future<?>> copies = new ConcurrentLinkedQueue<>();
+
+  public StageCopyScheduler(final JdbcDatabase database, final StagingOperations stagingOperations, final int maxConcurrentCopies) {
+    Preconditions.checkArgument(maxConcurrentCopies > 0, "maxConcurrentCopies must be positive");
+    this.database = database;
+    this.stagingOperations = stagingOperations;
+    this.copyExecutor = Executors.newFixedThreadPool(maxConcurrentCopies, new BasicThreadFactory.Builder()
+        .namingPattern("stage-copy-%d")
+        // copies are always awaited or cancelled on close, they must not keep the connector alive.
+        .daemon(true)
+        .build());
+  }
+
+  /**
+   * Schedules the copy of a file staged for a stream, along with the files staged for it until the
+   * copy starts.
+   */
+  public void fileStaged(final WriteConfig writeConfig, final String stagingPath, final String stagedFile) throws Exception {
+    rethrowFailedCopies();
+    final StreamCopies stream = streamCopies.computeIfAbsent(writeConfig, k -> new StreamCopies(writeConfig, stagingPath));
+    synchronized (stream) {
+      stream.pendingFiles.add(stagedFile);
+      if (!stream.copying) {
+        stream.copying = true;
+        copies.add(copyExecutor.submit(() -> {
+          copyPendingFiles(stream);
+          return null;
+        }));
+      }
+    }
+  }
+
+  /**
+   * @return the files of a stream copied into its tmp table so far, in the order they were copied.
+   */
+  public List<String> getCopiedFiles(final WriteConfig writeConfig) {
+    final StreamCopies stream = streamCopies.get(writeConfig);
+    if (stream == null) {
+      return List.of();
+    }
+    synchronized (stream) {
+      return List.copyOf(stream.copiedFiles);
+    }
+  }
+
+  /**
+   * Waits for every copy scheduled so far.
+   */
+  public void awaitCopies() throws Exception {
+    while (!copies.isEmpty()) {
+      awaitCopy(copies.poll());
+    }
+  }
+
+  private void copyPendingFiles(final StreamCopies stream) throws Exception {
+    final WriteConfig writeConfig = stream.writeConfig;
+    final String schemaName = writeConfig.getOutputSchemaName();
+    final String stageName = stagingOperations.getStageName(schemaName, writeConfig.getStreamName());
+    while (true) {
+      final List<String> files;
+      synchronized (stream) {
+        if (stream.pendingFiles.isEmpty()) {
+          stream.copying = false;
+          return;
+        }
+        files = new ArrayList<>(stream.pendingFiles);
+        stream.pendingFiles.clear();
+      }
+      LOGGER.info("Copying {} file(s) of stream {} into tmp table {} from stage path {}",
+          files.size(), writeConfig.getStreamName(), writeConfig.getTmpTableName(), stream.stagingPath);
+      try {
+        stagingOperations.copyIntoTmpTableFromStage(database, stageName, stream.stagingPath, files, writeConfig.getTmpTableName(), schemaName);
+        synchronized (stream) {
+          stream.copiedFiles.addAll(files);
+        }
+      } catch (final Exception e) {
+        synchronized (stream) {
+          // no further copies of this stream, the sync fails with this one.
+          stream.pendingFiles.clear();
+        }
+        LOGGER.info("Cleaning stage path {}", stream.stagingPath);
+        stagingOperations.cleanUpStage(database, stageName, files);
+        throw new RuntimeException("Failed to upload data from stage " + stream.stagingPath, e);
+      }
+    }
+  }
+
+  private void rethrowFailedCopies() throws Exception {
+    for (final Future<?> copy : copies) {
+      if (copy.isDone()) {
+        awaitCopy(copy);
+      }
+    }
+    copies.removeIf(Future::isDone);
+  }
+
+  private static void awaitCopy(final Future<?> copy) throws Exception {
+    try {
+      copy.get();
+    } catch (final ExecutionException e) {
+      if (e.getCause() instanceof Exception cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  @Override
+  public void close() throws Exception {
+    // copies are only left behind when the sync failed, there is no point finishing them.
+    copyExecutor.shutdownNow();
+    copies.clear();
+    if (!copyExecutor.awaitTermination(COPIES_TERMINATION_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+      LOGGER.warn("Stage copies did not terminate within {} seconds", COPIES_TERMINATION_TIMEOUT_SECONDS);
+    }
+  }
+
+  private static class StreamCopies {
+
+    private final WriteConfig writeConfig;
+    private final String stagingPath;
+    // guarded by this
+    private final List<String> pendingFiles = new ArrayList<>();
+    // guarded by this
+    private final List<String> copiedFiles = new ArrayList<>();
+    private boolean copying = false;
+
+    private StreamCopies(final WriteConfig writeConfig, final String stagingPath) {
+      this.writeConfig = writeConfig;
+      this.stagingPath = stagingPath;
+    }
+
+  }
+
+}
@@ -52,6 +52,38 @@ public class StagingConsumerFactory {
   private static final DateTime SYNC_DATETIME = DateTime.now(DateTimeZone.UTC);
   private final UUID RANDOM_CONNECTION_ID = UUID.randomUUID();
 
+  private final int maxConcurrentUploads;
+  private final int maxConcurrentCopies;
+
+  /**
+   * Buffers are uploaded on the thread consuming the records.
+   */
+  public StagingConsumerFactory() {
+    this(0);
+  }
+
+  /**
+   * @param maxConcurrentUploads number of buffers uploaded to the stage concurrently, 0 to upload them
+   *        on the thread consuming the records. Uploading concurrently requires the
+   *        {@link StagingOperations} to be thread-safe.
+   */
+  public StagingConsumerFactory(final int maxConcurrentUploads) {
+    this(maxConcurrentUploads, 0);
+  }
+
+  /**
+   * @param maxConcurrentUploads number of buffers uploaded to the stage concurrently, 0 to upload them
+   *        on the thread consuming the records.
+   * @param maxConcurrentCopies number of streams whose staged files are copied into their tmp table
+   *        concurrently while the next buffers are uploaded, see {@link StageCopyScheduler}. 0 to copy
+   *        every stream when the consumer is closed.
+   */
+  public StagingConsumerFactory(final int maxConcurrentUploads, final int maxConcurrentCopies) {
+    Preconditions.checkArgument(maxConcurrentCopies >= 0, "maxConcurrentCopies must not be negative");
+    this.maxConcurrentUploads = maxConcurrentUploads;
+    this.maxConcurrentCopies = maxConcurrentCopies;
+  }
+
   public AirbyteMessageConsumer create(final Consumer<AirbyteMessage> outputRecordCollector,
                                        final JdbcDatabase database,
                                        final StagingOperations stagingOperations,
@@ -61,14 +93,17 @@ public class StagingConsumerFactory {
                                        final ConfiguredAirbyteCatalog catalog,
                                        final boolean purgeStagingData) {
     final List<WriteConfig> writeConfigs = createWriteConfigs(namingResolver, config, catalog);
+    final StageCopyScheduler copyScheduler =
+        maxConcurrentCopies > 0 ? new StageCopyScheduler(database, stagingOperations, maxConcurrentCopies) : null;
     return new BufferedStreamConsumer(
         outputRecordCollector,
         onStartFunction(database, stagingOperations, writeConfigs),
         new SerializedBufferingStrategy(
             onCreateBuffer,
             catalog,
-            flushBufferFunction(database, stagingOperations, writeConfigs, catalog)),
-        onCloseFunction(database, stagingOperations, writeConfigs, purgeStagingData),
+            flushBufferFunction(database, stagingOperations, writeConfigs, catalog, copyScheduler),
+            maxConcurrentUploads),
+        onCloseFunction(database, stagingOperations, writeConfigs, purgeStagingData, copyScheduler),
         catalog,
         stagingOperations::isValidData);
   }
@@ -143,7 +178,8 @@ public class StagingConsumerFactory {
                                                                                                                final JdbcDatabase database,
                                                                                                                final StagingOperations stagingOperations,
                                                                                                                final List<WriteConfig> writeConfigs,
-                                                                                                               final ConfiguredAirbyteCatalog catalog) {
+                                                                                                               final ConfiguredAirbyteCatalog catalog,
+                                                                                                               final StageCopyScheduler copyScheduler) {
     final Map<AirbyteStreamNameNamespacePair, WriteConfig> pairToWriteConfig =
         writeConfigs.stream()
             .collect(Collectors.toUnmodifiableMap(
@@ -161,21 +197,36 @@ public class StagingConsumerFactory {
       final String stageName = stagingOperations.getStageName(schemaName, writeConfig.getStreamName());
       final String stagingPath =
           stagingOperations.getStagingPath(RANDOM_CONNECTION_ID, schemaName, writeConfig.getStreamName(), writeConfig.getWriteDatetime());
+      final String stagedFile;
       try (writer) {
         writer.flush();
-        writeConfig.addStagedFile(stagingOperations.uploadRecordsToStage(database, writer, schemaName, stageName, stagingPath));
+        stagedFile = stagingOperations.uploadRecordsToStage(database, writer, schemaName, stageName, stagingPath);
       } catch (final Exception e) {
         LOGGER.error("Failed to flush and upload buffer to stage:", e);
         throw new RuntimeException("Failed to upload buffer to stage", e);
       }
+      if (copyScheduler != null) {
+        copyScheduler.fileStaged(writeConfig, stagingPath, stagedFile);
+      } else {
+        writeConfig.addStagedFile(stagedFile);
+      }
     };
   }
 
   private OnCloseFunction onCloseFunction(final JdbcDatabase database,
                                           final StagingOperations stagingOperations,
                                           final List<WriteConfig> writeConfigs,
-                                          final boolean purgeStagingData) {
+                                          final boolean purgeStagingData,
+                                          final StageCopyScheduler copyScheduler) {
     return (hasFailed) -> {
+      if (copyScheduler != null) {
+        try (copyScheduler) {
+          if (!hasFailed) {
+            LOGGER.info("Waiting for the copies of staged files into tmp tables");
+            copyScheduler.awaitCopies();
+          }
+        }
+      }
       if (!hasFailed) {
         final List<String> queryList = new ArrayList<>();
         LOGGER.info("Copying into tables in destination started for {} streams", writeConfigs.size());
@@ -187,16 +238,20 @@ public class StagingConsumerFactory {
           final String dstTableName = writeConfig.getOutputTableName();
           final String stageName = stagingOperations.getStageName(schemaName, streamName);
           final String stagingPath = stagingOperations.getStagingPath(RANDOM_CONNECTION_ID, schemaName, streamName, writeConfig.getWriteDatetime());
+          // with a copy scheduler, the staged files were already copied while the sync was running
+          final List<String> stagedFiles = copyScheduler == null ? writeConfig.getStagedFiles() : copyScheduler.getCopiedFiles(writeConfig);
           LOGGER.info("Copying stream {} of schema {} into tmp table {} to final table {} from stage path {} with {} file(s) [{}]",
-              streamName, schemaName, srcTableName, dstTableName, stagingPath, writeConfig.getStagedFiles().size(),
-              String.join(",", writeConfig.getStagedFiles()));
-
-          try {
-            stagingOperations.copyIntoTmpTableFromStage(database, stageName, stagingPath, writeConfig.getStagedFiles(), srcTableName, schemaName);
-          } catch (final Exception e) {
-            stagingOperations.cleanUpStage(database, stageName, writeConfig.getStagedFiles());
-            LOGGER.info("Cleaning stage path {}", stagingPath);
-            throw new RuntimeException("Failed to upload data from stage " + stagingPath, e);
+              streamName, schemaName, srcTableName, dstTableName, stagingPath, stagedFiles.size(),
+              String.join(",", stagedFiles));
+
+          if (copyScheduler == null) {
+            try {
+              stagingOperations.copyIntoTmpTableFromStage(database, stageName, stagingPath, writeConfig.getStagedFiles(), srcTableName, schemaName);
+            } catch (final Exception e) {
+              stagingOperations.cleanUpStage(database, stageName, writeConfig.getStagedFiles());
+              LOGGER.info("Cleaning stage path {}", stagingPath);
+              throw new RuntimeException("Failed to upload data from stage " + stagingPath, e);
+            }
           }
           writeConfig.clearStagedFiles();
           stagingOperations.createTableIfNotExists(database, schemaName, dstTableName);
@@ -41,6 +41,10 @@ public class SnowflakeGcsStagingDestination extends AbstractJdbcDestination impl
 
   private static final Logger LOGGER = LoggerFactory.getLogger(SnowflakeGcsStagingDestination.class);
 
+  // buffers are uploaded to the bucket while the next records are buffered, the staging operations
+  // only share the set of uploaded object keys, which is concurrent.
+  private static final int MAX_CONCURRENT_UPLOADS = 4;
+
   public SnowflakeGcsStagingDestination() {
     this(new SnowflakeSQLNameTransformer());
   }
@@ -123,7 +127,7 @@ public class SnowflakeGcsStagingDestination extends AbstractJdbcDestination impl
                                             ConfiguredAirbyteCatalog catalog,
                                             Consumer<AirbyteMessage> outputRecordCollector) {
     GcsConfig gcsConfig = GcsConfig.getGcsConfig(config);
-    return new StagingConsumerFactory().create(
+    return new StagingConsumerFactory(MAX_CONCURRENT_UPLOADS).create(
         outputRecordCollector,
         getDatabase(getDataSource(config)),
         new SnowflakeGcsStagingSqlOperations(getNamingResolver(), gcsConfig),
@@ -26,11 +26,11 @@ import java.io.OutputStream;
 import java.nio.channels.Channels;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import org.joda.time.DateTime;
 
 public class SnowflakeGcsStagingSqlOperations extends SnowflakeSqlOperations implements StagingOperations {
@@ -38,7 +38,8 @@ public class SnowflakeGcsStagingSqlOperations extends SnowflakeSqlOperations imp
   private final NamingConventionTransformer nameTransformer;
   private final Storage storageClient;
   private final GcsConfig gcsConfig;
-  private final Set<String> fullObjectKeys = new HashSet<>();
+  // buffers of different streams are uploaded concurrently
+  private final Set<String> fullObjectKeys = ConcurrentHashMap.newKeySet();
 
   public SnowflakeGcsStagingSqlOperations(NamingConventionTransformer nameTransformer, GcsConfig gcsConfig) {
     this.nameTransformer = nameTransformer;
@@ -5,6 +5,8 @@
 package io.airbyte.integrations.destination.snowflake;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.annotations.VisibleForTesting;
+import com.zaxxer.hikari.HikariDataSource;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.db.factory.DataSourceFactory;
 import io.airbyte.db.jdbc.JdbcDatabase;
@@ -18,6 +20,7 @@ import io.airbyte.integrations.destination.staging.StagingConsumerFactory;
 import io.airbyte.protocol.models.AirbyteConnectionStatus;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import java.sql.SQLException;
 import java.util.Collections;
 import java.util.Map;
 import java.util.UUID;
@@ -30,6 +33,11 @@ public class SnowflakeInternalStagingDestination extends AbstractJdbcDestination
 
   private static final Logger LOGGER = LoggerFactory.getLogger(SnowflakeInternalStagingDestination.class);
 
+  private static final int MAX_CONCURRENT_UPLOADS = 4;
+  // a warehouse runs up to 8 statements at once by default before queueing them (MAX_CONCURRENCY_LEVEL)
+  private static final int MAX_CONCURRENT_COPIES = 8;
+  private static final int MIN_CONCURRENT_COPIES = 2;
+
   public SnowflakeInternalStagingDestination() {
     this(new SnowflakeSQLNameTransformer());
   }
@@ -101,10 +109,18 @@ public class SnowflakeInternalStagingDestination extends AbstractJdbcDestination
   public AirbyteMessageConsumer getConsumer(final JsonNode config,
                                             final ConfiguredAirbyteCatalog catalog,
                                             final Consumer<AirbyteMessage> outputRecordCollector) {
-    return new StagingConsumerFactory().create(
+    final HikariDataSource dataSource = SnowflakeDatabase.createDataSource(config);
+    // uploads and copies each run on their own connection, along with the consumer thread
+    dataSource.setMaximumPoolSize(Math.max(dataSource.getMaximumPoolSize(), MAX_CONCURRENT_UPLOADS + MAX_CONCURRENT_COPIES + 1));
+    final JdbcDatabase database = getDatabase(dataSource);
+    final SnowflakeInternalStagingSqlOperations sqlOperations = new SnowflakeInternalStagingSqlOperations(getNamingResolver());
+    final int maxConcurrentCopies = getMaxConcurrentCopies(getWarehouseSize(database, sqlOperations, config.get("warehouse").asText()));
+    LOGGER.info("Uploading up to {} files to the stage and copying up to {} streams into their tmp tables at once",
+        MAX_CONCURRENT_UPLOADS, maxConcurrentCopies);
+    return new StagingConsumerFactory(MAX_CONCURRENT_UPLOADS, maxConcurrentCopies).create(
         outputRecordCollector,
-        getDatabase(getDataSource(config)),
-        new SnowflakeInternalStagingSqlOperations(getNamingResolver()),
+        database,
+        sqlOperations,
         getNamingResolver(),
         CsvSerializedBuffer.createFunction(null, () -> new FileBuffer(CsvSerializedBuffer.CSV_GZ_SUFFIX)),
         config,
@@ -112,4 +128,36 @@ public class SnowflakeInternalStagingDestination extends AbstractJdbcDestination
         true);
   }
 
+  private static String getWarehouseSize(final JdbcDatabase database,
+                                         final SnowflakeInternalStagingSqlOperations sqlOperations,
+                                         final String warehouse) {
+    try {
+      return sqlOperations.getWarehouseSize(database, warehouse).orElse(null);
+    } catch (final SQLException e) {
+      LOGGER.warn("Unable to get the size of warehouse {}", warehouse, e);
+      return null;
+    }
+  }
+
+  /**
+   * Larger warehouses run more copies at once: X-Small warehouses have one server and each size up
+   * doubles them, up to the number of statements a warehouse runs without queueing.
+   */
+  @VisibleForTesting
+  static int getMaxConcurrentCopies(final String warehouseSize) {
+    if (warehouseSize == null) {
+      return MIN_CONCURRENT_COPIES;
+    }
+    final String size = warehouseSize.toUpperCase().replace("-", "");
+    if (size.equals("XSMALL")) {
+      return MIN_CONCURRENT_COPIES;
+    } else if (size.equals("SMALL")) {
+      return 2 * MIN_CONCURRENT_COPIES;
+    } else if (size.equals("MEDIUM") || size.endsWith("LARGE")) {
+      return MAX_CONCURRENT_COPIES;
+    }
+    LOGGER.warn("Unknown warehouse size {}", warehouseSize);
+    return MIN_CONCURRENT_COPIES;
+  }
+
 }
@@ -14,6 +14,7 @@ import java.io.IOException;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Stream;
 import org.joda.time.DateTime;
@@ -32,6 +33,7 @@ public class SnowflakeInternalStagingSqlOperations extends SnowflakeSqlOperation
       + "file_format = (type = csv compression = auto field_delimiter = ',' skip_header = 0 FIELD_OPTIONALLY_ENCLOSED_BY = '\"')";
   private static final String DROP_STAGE_QUERY = "DROP STAGE IF EXISTS %s;";
   private static final String REMOVE_QUERY = "REMOVE @%s;";
+  private static final String SHOW_WAREHOUSE_QUERY = "SHOW WAREHOUSES LIKE '%s';";
 
   private static final Logger LOGGER = LoggerFactory.getLogger(SnowflakeSqlOperations.class);
 
@@ -172,4 +174,20 @@ public class SnowflakeInternalStagingSqlOperations extends SnowflakeSqlOperation
     return String.format(REMOVE_QUERY, stageName);
   }
 
+  /**
+   * @return the size of the warehouse, such as X-Small or Large, empty when it is not visible to the
+   *         role.
+   */
+  public Optional<String> getWarehouseSize(final JdbcDatabase database, final String warehouse) throws SQLException {
+    final String query = getShowWarehouseQuery(warehouse);
+    LOGGER.debug("Executing query: {}", query);
+    try (final Stream<JsonNode> stream = database.unsafeQuery(query)) {
+      return stream.findFirst().map(row -> row.get("size")).map(JsonNode::asText);
+    }
+  }
+
+  protected String getShowWarehouseQuery(final String warehouse) {
+    return String.format(SHOW_WAREHOUSE_QUERY, warehouse.replace("'", "''"));
+  }
+
 }
@@ -11,6 +11,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -121,6 +122,78 @@ public class SnowflakeDestinationTest {
     verify(sqlOperations, times(1)).cleanUpStage(any(), anyString(), anyList());
   }
 
+  @Test
+  public void testCopyStagedFilesBeforeClose() throws Exception {
+    final JdbcDatabase mockDb = mock(JdbcDatabase.class);
+    final SnowflakeInternalStagingSqlOperations sqlOperations = mock(SnowflakeInternalStagingSqlOperations.class);
+    when(sqlOperations.getStageName(anyString(), anyString())).thenReturn("stage_name");
+    when(sqlOperations.getStagingPath(any(UUID.class), anyString(), anyString(), any())).thenReturn("staging_path");
+    when(sqlOperations.uploadRecordsToStage(any(), any(), anyString(), anyString(), anyString())).thenReturn("staged_file");
+    final JsonNode config = Jsons.deserialize(MoreResources.readResource("insert_config.json"), JsonNode.class);
+    final AirbyteMessageConsumer airbyteMessageConsumer = new StagingConsumerFactory(4, 2).create(
+        Destination::defaultOutputRecordCollector,
+        mockDb,
+        sqlOperations,
+        new SnowflakeSQLNameTransformer(),
+        CsvSerializedBuffer.createFunction(null, () -> new FileBuffer(".csv")),
+        config,
+        getCatalog(),
+        true);
+
+    airbyteMessageConsumer.start();
+    for (final AirbyteMessage m : generateTestMessages()) {
+      airbyteMessageConsumer.accept(m);
+    }
+    airbyteMessageConsumer.close();
+
+    verify(sqlOperations, times(1)).copyIntoTmpTableFromStage(any(), eq("stage_name"), eq("staging_path"), eq(List.of("staged_file")), anyString(),
+        anyString());
+  }
+
+  @Test
+  public void testCleanupStageOnFailedCopyBeforeClose() throws Exception {
+    final JdbcDatabase mockDb = mock(JdbcDatabase.class);
+    final SnowflakeInternalStagingSqlOperations sqlOperations = mock(SnowflakeInternalStagingSqlOperations.class);
+    when(sqlOperations.getStageName(anyString(), anyString())).thenReturn("stage_name");
+    when(sqlOperations.getStagingPath(any(UUID.class), anyString(), anyString(), any())).thenReturn("staging_path");
+    when(sqlOperations.uploadRecordsToStage(any(), any(), anyString(), anyString(), anyString())).thenReturn("staged_file");
+    doThrow(SQLException.class).when(sqlOperations).copyIntoTmpTableFromStage(any(), anyString(), anyString(), anyList(), anyString(), anyString());
+    final JsonNode config = Jsons.deserialize(MoreResources.readResource("insert_config.json"), JsonNode.class);
+    final AirbyteMessageConsumer airbyteMessageConsumer = new StagingConsumerFactory(4, 2).create(
+        Destination::defaultOutputRecordCollector,
+        mockDb,
+        sqlOperations,
+        new SnowflakeSQLNameTransformer(),
+        CsvSerializedBuffer.createFunction(null, () -> new FileBuffer(".csv")),
+        config,
+        getCatalog(),
+        true);
+
+    airbyteMessageConsumer.start();
+    for (final AirbyteMessage m : generateTestMessages()) {
+      airbyteMessageConsumer.accept(m);
+    }
+    assertThrows(RuntimeException.class, airbyteMessageConsumer::close);
+
+    verify(sqlOperations, times(1)).cleanUpStage(any(), eq("stage_name"), eq(List.of("staged_file")));
+  }
+
+  @ParameterizedTest
+  @MethodSource("warehouseSizeToConcurrentCopies")
+  public void testMaxConcurrentCopies(final String warehouseSize, final int expectedConcurrentCopies) {
+    assertEquals(expectedConcurrentCopies, SnowflakeInternalStagingDestination.getMaxConcurrentCopies(warehouseSize));
+  }
+
+  private static Stream<Arguments> warehouseSizeToConcurrentCopies() {
+    return Stream.of(
+        arguments(null, 2),
+        arguments("X-Small", 2),
+        arguments("Small", 4),
+        arguments("Medium", 8),
+        arguments("4X-Large", 8),
+        arguments("Unknown", 2));
+  }
+
   @ParameterizedTest
   @MethodSource("destinationTypeToConfig")
   public void testS3ConfigType(final String configFileName, final DestinationType expectedDestinationType) throws Exception {
@@ -26,6 +26,8 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Sets;
 import io.airbyte.commons.functional.CheckedConsumer;
+import io.airbyte.commons.functional.CheckedFunction;
+import io.airbyte.commons.functional.CheckedSupplier;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.map.MoreMaps;
 import io.airbyte.commons.util.AutoCloseableIterator;
@@ -41,12 +43,17 @@ import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
 import io.airbyte.integrations.base.Source;
 import io.airbyte.integrations.source.jdbc.dto.JdbcPrivilegeDto;
 import io.airbyte.integrations.source.relationaldb.AbstractRelationalDbSource;
+import io.airbyte.integrations.source.relationaldb.ChunkedSnapshotIterator;
+import io.airbyte.integrations.source.relationaldb.ChunkedSnapshotIterator.KeyRange;
 import io.airbyte.integrations.source.relationaldb.CursorInfo;
 import io.airbyte.integrations.source.relationaldb.TableInfo;
 import io.airbyte.integrations.source.relationaldb.state.StateManager;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
 import io.airbyte.protocol.models.CommonField;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.protocol.models.ConfiguredAirbyteStream;
+import io.airbyte.protocol.models.DestinationSyncMode;
 import io.airbyte.protocol.models.JsonSchemaType;
 import java.net.MalformedURLException;
 import java.net.URI;
@@ -54,6 +61,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.Instant;
 import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -66,6 +74,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -121,6 +130,10 @@ public abstract class AbstractJdbcSource<Datatype> extends AbstractRelationalDbS
 
   private static final Logger LOGGER = LoggerFactory.getLogger(AbstractJdbcSource.class);
 
+  // ranges per connection of a full refresh read in key ranges, smaller ranges balance the load
+  // between connections and lose less work when an attempt fails.
+  protected static final int CHUNKS_PER_READER = 32;
+
   protected final String driverClass;
   protected final Supplier<JdbcStreamingQueryConfig> streamingQueryConfigProvider;
   protected final JdbcCompatibleSourceOperations<Datatype> sourceOperations;
@@ -363,7 +376,7 @@ public abstract class AbstractJdbcSource<Datatype> extends AbstractRelationalDbS
                   operator));
               // if the connector emits intermediate states, the incremental query must be sorted by the cursor
               // field
-              if (getStateEmissionFrequency() > 0) {
+              if (getStateEmissionPolicy(database.getSourceConfig()).isEnabled()) {
                 sql.append(String.format(" ORDER BY %s ASC", quotedCursorField));
               }
 
@@ -380,6 +393,256 @@ public abstract class AbstractJdbcSource<Datatype> extends AbstractRelationalDbS
     });
   }
 
+  /**
+   * When larger than 0, full refresh streams of tables with a single integer primary key are read in
+   * ranges of that key over that many connections at once, see {@link ChunkedSnapshotIterator}. The
+   * connection pool must hold at least that many connections.
+   *
+   * @param config source config
+   */
+  protected int getFullRefreshChunkParallelism(final JsonNode config) {
+    return 0;
+  }
+
+  @Override
+  protected AutoCloseableIterator<AirbyteMessage> getFullRefreshStream(final JdbcDatabase database,
+                                                                       final ConfiguredAirbyteStream airbyteStream,
+                                                                       final List<String> selectedDatabaseFields,
+                                                                       final TableInfo<CommonField<Datatype>> table,
+                                                                       final StateManager stateManager,
+                                                                       final Instant emittedAt) {
+    final int parallelism = getFullRefreshChunkParallelism(database.getSourceConfig());
+    final Optional<String> chunkKey = getChunkKey(table);
+    if (parallelism <= 0 || chunkKey.isEmpty()) {
+      return super.getFullRefreshStream(database, airbyteStream, selectedDatabaseFields, table, stateManager, emittedAt);
+    }
+    final String keyField = chunkKey.get();
+    return getKeyRangeStream(
+        airbyteStream,
+        table,
+        stateManager,
+        keyField,
+        parallelism,
+        watermark -> getKeyRanges(database, table, keyField, watermark, parallelism * CHUNKS_PER_READER),
+        range -> queryTableKeyRange(database, selectedDatabaseFields, table.getNameSpace(), table.getName(), keyField, range),
+        emittedAt);
+  }
+
+  /**
+   * Read a table in ranges of keys with a {@link ChunkedSnapshotIterator}. The progress of the read
+   * is checkpointed in the state of the stream as keyField and the key below which all the ranges
+   * were read, and the read resumes from that key on the next attempt.
+   *
+   * @param keyField name of the key in the state, the read only resumes from a state written with
+   *        the same name.
+   * @param rangeSplitter splits the keys of the table from the watermark the read resumes from, or
+   *        from the start of the table when null, in ranges.
+   * @param rangeQuery queries the rows of a range.
+   */
+  protected AutoCloseableIterator<AirbyteMessage> getKeyRangeStream(final ConfiguredAirbyteStream airbyteStream,
+                                                                    final TableInfo<CommonField<Datatype>> table,
+                                                                    final StateManager stateManager,
+                                                                    final String keyField,
+                                                                    final int parallelism,
+                                                                    final CheckedFunction<Long, List<KeyRange>, SQLException> rangeSplitter,
+                                                                    final Function<KeyRange, AutoCloseableIterator<JsonNode>> rangeQuery,
+                                                                    final Instant emittedAt) {
+    return getKeyRangeStream(airbyteStream, table, stateManager, keyField, () -> null, parallelism, rangeSplitter, rangeQuery, emittedAt);
+  }
+
+  /**
+   * Same as {@link #getKeyRangeStream(ConfiguredAirbyteStream, TableInfo, StateManager, String, int,
+   * CheckedFunction, Function, Instant)}, for keys that depend on more than the table.
+   *
+   * @param keyScope returns what the keys refer to, such as the physical layout of the table, when
+   *        the read starts. It is checkpointed along with the watermark, and the read only resumes
+   *        from a state written with the same scope.
+   */
+  protected AutoCloseableIterator<AirbyteMessage> getKeyRangeStream(final ConfiguredAirbyteStream airbyteStream,
+                                                                    final TableInfo<CommonField<Datatype>> table,
+                                                                    final StateManager stateManager,
+                                                                    final String keyField,
+                                                                    final CheckedSupplier<String, SQLException> keyScope,
+                                                                    final int parallelism,
+                                                                    final CheckedFunction<Long, List<KeyRange>, SQLException> rangeSplitter,
+                                                                    final Function<KeyRange, AutoCloseableIterator<JsonNode>> rangeQuery,
+                                                                    final Instant emittedAt) {
+    final String streamName = airbyteStream.getStream().getName();
+    final String namespace = airbyteStream.getStream().getNamespace();
+    final AirbyteStreamNameNamespacePair pair = new AirbyteStreamNameNamespacePair(streamName, namespace);
+    // an overwrite would drop the records committed by the previous attempts, the read can only resume
+    // when records are appended.
+    final boolean resumable = airbyteStream.getDestinationSyncMode() != DestinationSyncMode.OVERWRITE;
+    // the cursor info is updated by the checkpoints, the saved progress is read before the first one.
+    final Optional<CursorInfo> savedProgress = resumable ? stateManager.getCursorInfo(pair)
+        .filter(cursorInfo -> keyField.equals(cursorInfo.getSnapshotKeyField()) && cursorInfo.getSnapshotKeyWatermark() != null) : Optional.empty();
+    final String savedWatermark = savedProgress.map(CursorInfo::getSnapshotKeyWatermark).orElse(null);
+    final String savedScope = savedProgress.map(CursorInfo::getSnapshotKeyScope).orElse(null);
+
+    return AutoCloseableIterators.lazyIterator(() -> {
+      final String scope;
+      try {
+        scope = keyScope.get();
+      } catch (final SQLException e) {
+        throw new RuntimeException(e);
+      }
+      Long watermark = null;
+      if (savedWatermark != null && Objects.equals(savedScope, scope)) {
+        watermark = Long.parseLong(savedWatermark);
+      } else if (savedWatermark != null) {
+        LOGGER.info("Table {} changed since {} = {} was checkpointed ({} is now {}), reading it from the start", table.getName(), keyField,
+            savedWatermark, savedScope, scope);
+      }
+      return readKeyRanges(table, keyField, parallelism, watermark, rangeSplitter,
+          range -> getMessageIterator(rangeQuery.apply(range), streamName, namespace, emittedAt.toEpochMilli()),
+          resumable ? nextWatermark -> new AirbyteMessage()
+              .withType(Type.STATE)
+              .withState(stateManager.updateSnapshotAndEmit(pair, keyField, nextWatermark == null ? null : nextWatermark.toString(), scope))
+              : null);
+    });
+  }
+
+  /**
+   * Read a table in ranges of keys with a {@link ChunkedSnapshotIterator}, from the start of the
+   * table and without checkpointing the progress of the read.
+   */
+  protected AutoCloseableIterator<AirbyteMessage> getKeyRangeStream(final ConfiguredAirbyteStream airbyteStream,
+                                                                    final TableInfo<CommonField<Datatype>> table,
+                                                                    final String keyField,
+                                                                    final int parallelism,
+                                                                    final CheckedFunction<Long, List<KeyRange>, SQLException> rangeSplitter,
+                                                                    final Function<KeyRange, AutoCloseableIterator<JsonNode>> rangeQuery,
+                                                                    final Instant emittedAt) {
+    final String streamName = airbyteStream.getStream().getName();
+    final String namespace = airbyteStream.getStream().getNamespace();
+    return readKeyRanges(table, keyField, parallelism, null, rangeSplitter,
+        range -> getMessageIterator(rangeQuery.apply(range), streamName, namespace, emittedAt.toEpochMilli()),
+        null);
+  }
+
+  private AutoCloseableIterator<AirbyteMessage> readKeyRanges(final TableInfo<CommonField<Datatype>> table,
+                                                              final String keyField,
+                                                              final int parallelism,
+                                                              final Long watermark,
+                                                              final CheckedFunction<Long, List<KeyRange>, SQLException> rangeSplitter,
+                                                              final Function<KeyRange, AutoCloseableIterator<AirbyteMessage>> rangeReader,
+                                                              final Function<Long, AirbyteMessage> checkpointFunction) {
+    return AutoCloseableIterators.lazyIterator(() -> {
+      final List<KeyRange> ranges;
+      try {
+        ranges = rangeSplitter.apply(watermark);
+      } catch (final SQLException e) {
+        throw new RuntimeException(e);
+      }
+      LOGGER.info("Reading table {} in {} ranges of {} over {} connections{}", table.getName(), ranges.size(), keyField, parallelism,
+          watermark == null ? "" : ", resuming from " + watermark);
+      return new ChunkedSnapshotIterator(ranges, rangeReader, parallelism, checkpointFunction);
+    });
+  }
+
+  /**
+   * Read all the records of a table over {@code parallelism} connections, in ranges of its primary
+   * key when it is a single integer column and with a single query otherwise. Unlike
+   * {@link #getFullRefreshStream}, the progress of the read is not checkpointed. This is used for
+   * the initial load of CDC streams, which is checkpointed as a whole.
+   */
+  protected AutoCloseableIterator<AirbyteMessage> getSnapshotStream(final JdbcDatabase database,
+                                                                    final ConfiguredAirbyteStream airbyteStream,
+                                                                    final List<String> selectedDatabaseFields,
+                                                                    final TableInfo<CommonField<Datatype>> table,
+                                                                    final int parallelism,
+                                                                    final Instant emittedAt) {
+    final Optional<String> chunkKey = getChunkKey(table);
+    if (parallelism <= 1 || chunkKey.isEmpty()) {
+      return getFullRefreshStream(database, airbyteStream.getStream().getName(), airbyteStream.getStream().getNamespace(), selectedDatabaseFields,
+          table, emittedAt);
+    }
+    final String keyField = chunkKey.get();
+    return getKeyRangeStream(
+        airbyteStream,
+        table,
+        keyField,
+        parallelism,
+        watermark -> getKeyRanges(database, table, keyField, watermark, parallelism * CHUNKS_PER_READER),
+        range -> queryTableKeyRange(database, selectedDatabaseFields, table.getNameSpace(), table.getName(), keyField, range),
+        emittedAt);
+  }
+
+  /**
+   * @return the primary key column a table can be read by in key ranges, if any.
+   */
+  private Optional<String> getChunkKey(final TableInfo<CommonField<Datatype>> table) {
+    if (table.getPrimaryKeys() == null || table.getPrimaryKeys().size() != 1) {
+      return Optional.empty();
+    }
+    final String primaryKey = table.getPrimaryKeys().get(0);
+    return table.getFields().stream()
+        .filter(field -> field.getName().equals(primaryKey) && JsonSchemaType.INTEGER.equals(getType(field.getType())))
+        .map(CommonField::getName)
+        .findFirst();
+  }
+
+  private List<KeyRange> getKeyRanges(final JdbcDatabase database,
+                                      final TableInfo<CommonField<Datatype>> table,
+                                      final String keyField,
+                                      final Long watermark,
+                                      final int maxRanges)
+      throws SQLException {
+    final List<long[]> bounds = database.bufferedResultSetQuery(connection -> {
+      final String quotedKeyField = sourceOperations.enquoteIdentifier(connection, keyField);
+      final String sql = String.format("SELECT MIN(%s), MAX(%s) FROM %s%s",
+          quotedKeyField,
+          quotedKeyField,
+          sourceOperations.getFullyQualifiedTableNameWithQuoting(connection, table.getNameSpace(), table.getName()),
+          watermark == null ? "" : String.format(" WHERE %s >= ?", quotedKeyField));
+      final PreparedStatement preparedStatement = connection.prepareStatement(sql);
+      if (watermark != null) {
+        preparedStatement.setLong(1, watermark);
+      }
+      return preparedStatement.executeQuery();
+    }, resultSet -> {
+      final long min = resultSet.getLong(1);
+      // MIN and MAX are null when there is no row to read.
+      return resultSet.wasNull() ? null : new long[] {min, resultSet.getLong(2)};
+    });
+    if (bounds.isEmpty() || bounds.get(0) == null) {
+      return Collections.emptyList();
+    }
+    return ChunkedSnapshotIterator.splitKeyRange(bounds.get(0)[0], bounds.get(0)[1], maxRanges);
+  }
+
+  private AutoCloseableIterator<JsonNode> queryTableKeyRange(final JdbcDatabase database,
+                                                             final List<String> columnNames,
+                                                             final String schemaName,
+                                                             final String tableName,
+                                                             final String keyField,
+                                                             final KeyRange range) {
+    return AutoCloseableIterators.lazyIterator(() -> {
+      try {
+        final Stream<JsonNode> stream = database.unsafeQuery(
+            connection -> {
+              final String quotedKeyField = sourceOperations.enquoteIdentifier(connection, keyField);
+              final String sql = String.format("SELECT %s FROM %s WHERE %s >= ?%s",
+                  getWrappedColumnNames(database, connection, columnNames, schemaName, tableName),
+                  sourceOperations.getFullyQualifiedTableNameWithQuoting(connection, schemaName, tableName),
+                  quotedKeyField,
+                  range.upperBound() == null ? "" : String.format(" AND %s < ?", quotedKeyField));
+              final PreparedStatement preparedStatement = connection.prepareStatement(sql);
+              preparedStatement.setLong(1, range.lowerBound());
+              if (range.upperBound() != null) {
+                preparedStatement.setLong(2, range.upperBound());
+              }
+              LOGGER.debug("Executing query for table {}: {}", tableName, preparedStatement);
+              return preparedStatement;
+            },
+            sourceOperations::rowToJson);
+        return AutoCloseableIterators.fromStream(stream);
+      } catch (final SQLException e) {
+        throw new RuntimeException(e);
+      }
+    });
+  }
+
   /**
    * Some databases need special column names in the query.
    */
@@ -14,12 +14,12 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.microsoft.sqlserver.jdbc.Geography;
 import com.microsoft.sqlserver.jdbc.Geometry;
-import com.microsoft.sqlserver.jdbc.SQLServerResultSetMetaData;
 import io.airbyte.db.DataTypeUtils;
 import io.airbyte.db.jdbc.JdbcSourceOperations;
 import java.nio.charset.Charset;
 import java.sql.JDBCType;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,55 +29,44 @@ public class MssqlSourceOperations extends JdbcSourceOperations {
   private static final Logger LOGGER = LoggerFactory.getLogger(MssqlSourceOperations.class);
 
   /**
-   * The method is used to set json value by type. Need to be overridden as MSSQL has some its own
-   * specific types (ex. Geometry, Geography, Hierarchyid, etc)
+   * The method is used to select the json conversion by type. Need to be overridden as MSSQL has some
+   * its own specific types (ex. Geometry, Geography, Hierarchyid, etc)
    *
    * @throws SQLException
    */
   @Override
-  public void setJsonField(final ResultSet resultSet, final int colIndex, final ObjectNode json)
-      throws SQLException {
-
-    final SQLServerResultSetMetaData metadata = (SQLServerResultSetMetaData) resultSet
-        .getMetaData();
-    final String columnName = metadata.getColumnName(colIndex);
-    final String columnTypeName = metadata.getColumnTypeName(colIndex);
-    final JDBCType columnType = safeGetJdbcType(metadata.getColumnType(colIndex));
+  protected ColumnWriter getColumnWriter(final ResultSetMetaData metadata, final int index) throws SQLException {
+    final String columnTypeName = metadata.getColumnTypeName(index);
+    final JDBCType columnType = safeGetJdbcType(metadata.getColumnType(index));
 
     if (columnTypeName.equalsIgnoreCase("time")) {
-      putTime(json, columnName, resultSet, colIndex);
+      return this::putTime;
     } else if (columnTypeName.equalsIgnoreCase("geometry")) {
-      putGeometry(json, columnName, resultSet, colIndex);
+      return this::putGeometry;
     } else if (columnTypeName.equalsIgnoreCase("geography")) {
-      putGeography(json, columnName, resultSet, colIndex);
+      return this::putGeography;
     } else {
-      putValue(columnType, resultSet, columnName, colIndex, json);
+      return getValueWriter(columnType);
     }
   }
 
-  private void putValue(final JDBCType columnType,
-                        final ResultSet resultSet,
-                        final String columnName,
-                        final int colIndex,
-                        final ObjectNode json)
-      throws SQLException {
-    switch (columnType) {
-      case BIT, BOOLEAN -> putBoolean(json, columnName, resultSet, colIndex);
-      case TINYINT, SMALLINT -> putShortInt(json, columnName, resultSet, colIndex);
-      case INTEGER -> putInteger(json, columnName, resultSet, colIndex);
-      case BIGINT -> putBigInt(json, columnName, resultSet, colIndex);
-      case FLOAT, DOUBLE -> putDouble(json, columnName, resultSet, colIndex);
-      case REAL -> putFloat(json, columnName, resultSet, colIndex);
-      case NUMERIC, DECIMAL -> putBigDecimal(json, columnName, resultSet, colIndex);
-      case CHAR, NVARCHAR, VARCHAR, LONGVARCHAR -> putString(json, columnName, resultSet, colIndex);
-      case DATE -> putDate(json, columnName, resultSet, colIndex);
-      case TIME -> putTime(json, columnName, resultSet, colIndex);
-      case TIMESTAMP -> putTimestamp(json, columnName, resultSet, colIndex);
-      case BLOB, BINARY, VARBINARY, LONGVARBINARY -> putBinary(json, columnName, resultSet,
-          colIndex);
-      case ARRAY -> putArray(json, columnName, resultSet, colIndex);
-      default -> putDefault(json, columnName, resultSet, colIndex);
-    }
+  private ColumnWriter getValueWriter(final JDBCType columnType) {
+    return switch (columnType) {
+      case BIT, BOOLEAN -> this::putBoolean;
+      case TINYINT, SMALLINT -> this::putShortInt;
+      case INTEGER -> this::putInteger;
+      case BIGINT -> this::putBigInt;
+      case FLOAT, DOUBLE -> this::putDouble;
+      case REAL -> this::putFloat;
+      case NUMERIC, DECIMAL -> this::putBigDecimal;
+      case CHAR, NVARCHAR, VARCHAR, LONGVARCHAR -> this::putString;
+      case DATE -> this::putDate;
+      case TIME -> this::putTime;
+      case TIMESTAMP -> this::putTimestamp;
+      case BLOB, BINARY, VARBINARY, LONGVARBINARY -> this::putBinary;
+      case ARRAY -> this::putArray;
+      default -> this::putDefault;
+    };
   }
 
   @Override
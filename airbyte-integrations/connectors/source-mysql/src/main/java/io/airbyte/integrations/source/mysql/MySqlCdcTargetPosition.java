@@ -5,11 +5,13 @@
 package io.airbyte.integrations.source.mysql;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.json.Jsons;
 import io.airbyte.db.jdbc.JdbcDatabase;
 import io.airbyte.integrations.debezium.CdcTargetPosition;
 import io.airbyte.integrations.debezium.internals.SnapshotMetadata;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Stream;
 import org.slf4j.Logger;
@@ -84,4 +86,26 @@ public class MySqlCdcTargetPosition implements CdcTargetPosition {
     return true;
   }
 
+  @Override
+  public boolean reachedTargetPosition(final Map<String, String> offset) {
+    if (fileName == null) {
+      return false;
+    }
+    for (final String value : offset.values()) {
+      final JsonNode offsetValue = Jsons.deserialize(value);
+      if (offsetValue.hasNonNull("snapshot") && offsetValue.get("snapshot").asBoolean()
+          || !offsetValue.hasNonNull("file") || !offsetValue.hasNonNull("pos")) {
+        continue;
+      }
+      final String offsetFileName = offsetValue.get("file").asText();
+      final long offsetPosition = offsetValue.get("pos").asLong();
+      if (fileName.compareTo(offsetFileName) < 0 || (fileName.compareTo(offsetFileName) == 0 && position <= offsetPosition)) {
+        LOGGER.info("Signalling close because committed binlog file : " + offsetFileName + " , position : " + offsetPosition
+            + " is at or after target file : " + fileName + " , target position : " + position);
+        return true;
+      }
+    }
+    return false;
+  }
+
 }
@@ -68,51 +68,36 @@ public class MySqlSourceOperations extends AbstractJdbcCompatibleSourceOperation
       FLOAT, FLOAT_UNSIGNED, DOUBLE, DOUBLE_UNSIGNED, DECIMAL, DECIMAL_UNSIGNED, DATE, DATETIME, TIMESTAMP,
       TIME, YEAR, VARCHAR, TINYTEXT, TEXT, MEDIUMTEXT, LONGTEXT);
 
+  @Override
+  protected String getColumnName(final java.sql.ResultSetMetaData metadata, final int index) throws SQLException {
+    return ((ResultSetMetaData) metadata).getFields()[index - 1].getName();
+  }
+
   /**
-   * @param colIndex 1-based column index.
+   * @param index 1-based column index.
    */
   @Override
-  public void setJsonField(final ResultSet resultSet, final int colIndex, final ObjectNode json) throws SQLException {
-    final ResultSetMetaData metaData = (ResultSetMetaData) resultSet.getMetaData();
-    final Field field = metaData.getFields()[colIndex - 1];
-    final String columnName = field.getName();
+  protected ColumnWriter getColumnWriter(final java.sql.ResultSetMetaData metadata, final int index) throws SQLException {
+    final Field field = ((ResultSetMetaData) metadata).getFields()[index - 1];
     final MysqlType columnType = field.getMysqlType();
 
     // https://dev.mysql.com/doc/connector-j/8.0/en/connector-j-reference-type-conversions.html
-    switch (columnType) {
-      case BIT -> {
-        if (field.getLength() == 1L) {
-          // BIT(1) is boolean
-          putBoolean(json, columnName, resultSet, colIndex);
-        } else {
-          putBinary(json, columnName, resultSet, colIndex);
-        }
-      }
-      case BOOLEAN -> putBoolean(json, columnName, resultSet, colIndex);
-      case TINYINT, TINYINT_UNSIGNED -> {
-        if (field.getLength() == 1L) {
-          // TINYINT(1) is boolean
-          putBoolean(json, columnName, resultSet, colIndex);
-        } else {
-          putShortInt(json, columnName, resultSet, colIndex);
-        }
-      }
-      case SMALLINT, SMALLINT_UNSIGNED, MEDIUMINT, MEDIUMINT_UNSIGNED -> putInteger(json, columnName, resultSet, colIndex);
-      case INT, INT_UNSIGNED -> {
-        if (field.isUnsigned()) {
-          putBigInt(json, columnName, resultSet, colIndex);
-        } else {
-          putInteger(json, columnName, resultSet, colIndex);
-        }
-      }
-      case BIGINT, BIGINT_UNSIGNED -> putBigInt(json, columnName, resultSet, colIndex);
-      case FLOAT, FLOAT_UNSIGNED -> putFloat(json, columnName, resultSet, colIndex);
-      case DOUBLE, DOUBLE_UNSIGNED -> putDouble(json, columnName, resultSet, colIndex);
-      case DECIMAL, DECIMAL_UNSIGNED -> putBigDecimal(json, columnName, resultSet, colIndex);
-      case DATE -> putDate(json, columnName, resultSet, colIndex);
-      case DATETIME -> putTimestamp(json, columnName, resultSet, colIndex);
-      case TIMESTAMP -> putTimestampWithTimezone(json, columnName, resultSet, colIndex);
-      case TIME -> putTime(json, columnName, resultSet, colIndex);
+    return switch (columnType) {
+      // BIT(1) is boolean
+      case BIT -> field.getLength() == 1L ? this::putBoolean : this::putBinary;
+      case BOOLEAN -> this::putBoolean;
+      // TINYINT(1) is boolean
+      case TINYINT, TINYINT_UNSIGNED -> field.getLength() == 1L ? this::putBoolean : this::putShortInt;
+      case SMALLINT, SMALLINT_UNSIGNED, MEDIUMINT, MEDIUMINT_UNSIGNED -> this::putInteger;
+      case INT, INT_UNSIGNED -> field.isUnsigned() ? this::putBigInt : this::putInteger;
+      case BIGINT, BIGINT_UNSIGNED -> this::putBigInt;
+      case FLOAT, FLOAT_UNSIGNED -> this::putFloat;
+      case DOUBLE, DOUBLE_UNSIGNED -> this::putDouble;
+      case DECIMAL, DECIMAL_UNSIGNED -> this::putBigDecimal;
+      case DATE -> this::putDate;
+      case DATETIME -> this::putTimestamp;
+      case TIMESTAMP -> this::putTimestampWithTimezone;
+      case TIME -> this::putTime;
       // The returned year value can either be a java.sql.Short (when yearIsDateType=false)
       // or a java.sql.Date with the date set to January 1st, at midnight (when yearIsDateType=true).
       // Currently, JsonSchemaPrimitive does not support integer, but only supports number.
@@ -121,23 +106,17 @@ public class MySqlSourceOperations extends AbstractJdbcCompatibleSourceOperation
       // and parse the returned year value as a string.
       // The case can be re-evaluated when JsonSchemaPrimitive supports integer.
       // Issue: https://github.com/airbytehq/airbyte/issues/8722
-      case YEAR -> {
-        final String year = resultSet.getDate(colIndex).toString().split("-")[0];
-        json.put(columnName, DataTypeUtils.returnNullIfInvalid(() -> year));
-      }
-      case CHAR, VARCHAR -> {
-        if (field.isBinary()) {
-          // when character set is binary, the returned value is binary
-          putBinary(json, columnName, resultSet, colIndex);
-        } else {
-          putString(json, columnName, resultSet, colIndex);
-        }
-      }
-      case TINYBLOB, BLOB, MEDIUMBLOB, LONGBLOB, BINARY, VARBINARY, GEOMETRY -> putBinary(json, columnName, resultSet, colIndex);
-      case TINYTEXT, TEXT, MEDIUMTEXT, LONGTEXT, JSON, ENUM, SET -> putString(json, columnName, resultSet, colIndex);
-      case NULL -> json.set(columnName, NullNode.instance);
-      default -> putDefault(json, columnName, resultSet, colIndex);
-    }
+      case YEAR -> (node, columnName, resultSet, i) -> {
+        final String year = resultSet.getDate(i).toString().split("-")[0];
+        node.put(columnName, DataTypeUtils.returnNullIfInvalid(() -> year));
+      };
+      // when character set is binary, the returned value is binary
+      case CHAR, VARCHAR -> field.isBinary() ? this::putBinary : this::putString;
+      case TINYBLOB, BLOB, MEDIUMBLOB, LONGBLOB, BINARY, VARBINARY, GEOMETRY -> this::putBinary;
+      case TINYTEXT, TEXT, MEDIUMTEXT, LONGTEXT, JSON, ENUM, SET -> this::putString;
+      case NULL -> (node, columnName, resultSet, i) -> node.set(columnName, NullNode.instance);
+      default -> this::putDefault;
+    };
   }
 
   /**
@@ -5,12 +5,14 @@
 package io.airbyte.integrations.source.postgres;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.json.Jsons;
 import io.airbyte.db.PgLsn;
 import io.airbyte.db.PostgresUtils;
 import io.airbyte.db.jdbc.JdbcDatabase;
 import io.airbyte.integrations.debezium.CdcTargetPosition;
 import io.airbyte.integrations.debezium.internals.SnapshotMetadata;
 import java.sql.SQLException;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import org.slf4j.Logger;
@@ -62,6 +64,23 @@ public class PostgresCdcTargetPosition implements CdcTargetPosition {
     }
   }
 
+  @Override
+  public boolean reachedTargetPosition(final Map<String, String> offset) {
+    for (final String value : offset.values()) {
+      final JsonNode offsetValue = Jsons.deserialize(value);
+      if (offsetValue.hasNonNull("snapshot") && offsetValue.get("snapshot").asBoolean()) {
+        return false;
+      }
+      // lsn_proc is the last lsn that was processed, lsn the commit of the last transaction.
+      final JsonNode lsn = offsetValue.hasNonNull("lsn_proc") ? offsetValue.get("lsn_proc") : offsetValue.get("lsn");
+      if (lsn != null && lsn.canConvertToLong() && targetLsn.compareTo(PgLsn.fromLong(lsn.asLong())) <= 0) {
+        LOGGER.info("Signalling close because committed lsn : " + lsn.asLong() + " is at or after target lsn : " + targetLsn);
+        return true;
+      }
+    }
+    return false;
+  }
+
   private PgLsn extractLsn(final JsonNode valueAsJson) {
     return Optional.ofNullable(valueAsJson.get("source"))
         .flatMap(source -> Optional.ofNullable(source.get("lsn").asText()))
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.source.postgres;
+
+import com.google.common.base.Preconditions;
+import io.airbyte.db.JdbcCompatibleSourceOperations;
+import io.airbyte.db.jdbc.JdbcDatabase;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Snapshot shared by the readers of a table read in CTID ranges, so that every range is read as of
+ * the same point in time and a row moved by a concurrent update from a range not read yet to a range
+ * already read is still read once.
+ *
+ * <p>
+ * The snapshot is exported by a repeatable read transaction that stays open on its own connection
+ * until the read ends, each reader imports it before its query. The transaction also holds an ACCESS
+ * SHARE lock on the table, so that no VACUUM FULL or CLUSTER rewrites the table while it is read and
+ * its filenode stays the one the pages of the read refer to.
+ */
+class PostgresCtidSnapshot implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(PostgresCtidSnapshot.class);
+
+  private final JdbcDatabase database;
+  private final JdbcCompatibleSourceOperations<?> sourceOperations;
+  private final String schemaName;
+  private final String tableName;
+
+  private Stream<String[]> exportingTransaction;
+  private String snapshotId;
+
+  PostgresCtidSnapshot(final JdbcDatabase database,
+                       final JdbcCompatibleSourceOperations<?> sourceOperations,
+                       final String schemaName,
+                       final String tableName) {
+    this.database = database;
+    this.sourceOperations = sourceOperations;
+    this.schemaName = schemaName;
+    this.tableName = tableName;
+  }
+
+  /**
+   * Export the snapshot, the transaction exporting it stays open until {@link #close()}.
+   *
+   * @return the filenode of the table, which changes whenever the table is rewritten.
+   */
+  synchronized String export() throws SQLException {
+    Preconditions.checkState(exportingTransaction == null, "The snapshot of %s.%s was already exported", schemaName, tableName);
+    exportingTransaction = database.unsafeResultSetQuery(connection -> {
+      connection.setAutoCommit(false);
+      try (final Statement statement = connection.createStatement()) {
+        statement.execute("SET TRANSACTION ISOLATION LEVEL REPEATABLE READ");
+        statement.execute(String.format("LOCK TABLE %s IN ACCESS SHARE MODE",
+            sourceOperations.getFullyQualifiedTableNameWithQuoting(connection, schemaName, tableName)));
+      }
+      final PreparedStatement ps = connection.prepareStatement(
+          "SELECT pg_export_snapshot(), pg_relation_filenode(format('%I.%I', ?, ?)::regclass)::text");
+      ps.setString(1, schemaName);
+      ps.setString(2, tableName);
+      return ps.executeQuery();
+    }, resultSet -> new String[] {resultSet.getString(1), resultSet.getString(2)});
+    // the stream is only closed once the read ends, along with its connection and transaction.
+    final Iterator<String[]> rows = exportingTransaction.iterator();
+    final String[] row = rows.next();
+    snapshotId = row[0];
+    LOGGER.info("Exported snapshot {} to read table {}.{} with filenode {}", snapshotId, schemaName, tableName, row[1]);
+    return row[1];
+  }
+
+  /**
+   * Start a transaction reading the exported snapshot on a connection, before its query.
+   */
+  void importInto(final Connection connection) throws SQLException {
+    final String snapshot;
+    synchronized (this) {
+      Preconditions.checkState(snapshotId != null, "The snapshot of %s.%s was not exported", schemaName, tableName);
+      snapshot = snapshotId;
+    }
+    connection.setAutoCommit(false);
+    try (final Statement statement = connection.createStatement()) {
+      statement.execute("SET TRANSACTION ISOLATION LEVEL REPEATABLE READ");
+      statement.execute(String.format("SET TRANSACTION SNAPSHOT '%s'", snapshot.replace("'", "''")));
+    }
+  }
+
+  @Override
+  public synchronized void close() {
+    if (exportingTransaction != null) {
+      // the connection pool rolls the transaction back.
+      exportingTransaction.close();
+      exportingTransaction = null;
+      snapshotId = null;
+    }
+  }
+
+}
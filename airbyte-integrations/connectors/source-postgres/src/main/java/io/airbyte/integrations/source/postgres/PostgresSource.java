@@ -28,6 +28,8 @@ import io.airbyte.db.factory.DatabaseDriver;
 import io.airbyte.db.jdbc.JdbcDatabase;
 import io.airbyte.db.jdbc.JdbcUtils;
 import io.airbyte.db.jdbc.streaming.AdaptiveStreamingQueryConfig;
+import io.airbyte.db.jdbc.streaming.FeedbackSizeEstimator;
+import io.airbyte.db.jdbc.streaming.JdbcStreamingQueryConfig;
 import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
 import io.airbyte.integrations.base.IntegrationRunner;
 import io.airbyte.integrations.base.Source;
@@ -37,6 +39,8 @@ import io.airbyte.integrations.debezium.internals.PostgresDebeziumStateUtil;
 import io.airbyte.integrations.source.jdbc.AbstractJdbcSource;
 import io.airbyte.integrations.source.jdbc.JdbcSSLConnectionUtils;
 import io.airbyte.integrations.source.jdbc.dto.JdbcPrivilegeDto;
+import io.airbyte.integrations.source.relationaldb.ChunkedSnapshotIterator;
+import io.airbyte.integrations.source.relationaldb.ChunkedSnapshotIterator.KeyRange;
 import io.airbyte.integrations.source.relationaldb.TableInfo;
 import io.airbyte.integrations.source.relationaldb.models.CdcState;
 import io.airbyte.integrations.source.relationaldb.models.DbState;
@@ -51,9 +55,11 @@ import io.airbyte.protocol.models.AirbyteStateMessage;
 import io.airbyte.protocol.models.AirbyteStateMessage.AirbyteStateType;
 import io.airbyte.protocol.models.AirbyteStream;
 import io.airbyte.protocol.models.AirbyteStreamState;
+import io.airbyte.protocol.models.CatalogHelpers;
 import io.airbyte.protocol.models.CommonField;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.protocol.models.ConfiguredAirbyteStream;
+import io.airbyte.protocol.models.SyncMode;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.file.Path;
@@ -68,9 +74,11 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -78,6 +86,10 @@ public class PostgresSource extends AbstractJdbcSource<JDBCType> implements Sour
 
   private static final Logger LOGGER = LoggerFactory.getLogger(PostgresSource.class);
   private static final int INTERMEDIATE_STATE_EMISSION_FREQUENCY = 10_000;
+  private static final String CTID = "ctid";
+  private static final int MIN_CTID_RANGE_SCAN_VERSION = 140000;
+  // size of the connection pool created by AbstractJdbcSource
+  private static final int MAX_CONNECTIONS = 10;
 
   public static final String PARAM_SSLMODE = "sslmode";
   public static final String SSL_MODE = "ssl_mode";
@@ -103,8 +115,19 @@ public class PostgresSource extends AbstractJdbcSource<JDBCType> implements Sour
   }
 
   PostgresSource() {
-    super(DRIVER_CLASS, AdaptiveStreamingQueryConfig::new, new PostgresSourceOperations());
-    this.featureFlags = new EnvVariableFeatureFlags();
+    this(new EnvVariableFeatureFlags());
+  }
+
+  private PostgresSource(final FeatureFlags featureFlags) {
+    super(DRIVER_CLASS, getStreamingQueryConfigProvider(featureFlags), new PostgresSourceOperations());
+    this.featureFlags = featureFlags;
+  }
+
+  private static Supplier<JdbcStreamingQueryConfig> getStreamingQueryConfigProvider(final FeatureFlags featureFlags) {
+    if (featureFlags.useFeedbackFetchSize()) {
+      return () -> new AdaptiveStreamingQueryConfig(FeedbackSizeEstimator.getInstance());
+    }
+    return AdaptiveStreamingQueryConfig::new;
   }
 
   @Override
@@ -356,6 +379,17 @@ public class PostgresSource extends AbstractJdbcSource<JDBCType> implements Sour
           PostgresCdcTargetPosition.targetPosition(database), false, firstRecordWaitTime);
       final PostgresCdcStateHandler postgresCdcStateHandler = new PostgresCdcStateHandler(stateManager);
       final List<ConfiguredAirbyteStream> streamsToSnapshot = identifyStreamsToSnapshot(catalog, stateManager);
+      final Optional<Integer> initialLoadReaders = PostgresUtils.getCdcInitialLoadReaders(sourceConfig);
+      if (initialLoadReaders.isPresent()) {
+        final boolean hasSavedOffset = state != null && savedOffsetAfterReplicationSlotLSN;
+        final List<ConfiguredAirbyteStream> streamsToLoad = hasSavedOffset ? streamsToSnapshot
+            : catalog.getStreams().stream().filter(stream -> stream.getSyncMode() == SyncMode.INCREMENTAL).toList();
+        if (!streamsToLoad.isEmpty()) {
+          return Collections.singletonList(getCdcInitialLoadIterator(database, catalog, streamsToLoad, tableNameToTable,
+              hasSavedOffset ? stateManager.getCdcStateManager().getCdcState() : null, handler, postgresCdcStateHandler,
+              initialLoadReaders.get(), emittedAt));
+        }
+      }
       final Supplier<AutoCloseableIterator<AirbyteMessage>> incrementalIteratorSupplier = () -> handler.getIncrementalIterators(catalog,
           new PostgresCdcSavedInfoFetcher(savedOffsetAfterReplicationSlotLSN ? stateManager.getCdcStateManager().getCdcState() : null),
           postgresCdcStateHandler,
@@ -377,6 +411,230 @@ public class PostgresSource extends AbstractJdbcSource<JDBCType> implements Sour
     }
   }
 
+  /**
+   * Reads the initial load of CDC streams over JDBC, each table over {@code parallelism} connections,
+   * rather than with a Debezium snapshot which reads the tables one at a time over a single
+   * connection. The current position of the WAL is captured before the tables are read, and the
+   * changes are streamed from there on, or from the saved offset when only new streams are loaded.
+   * The changes committed while the tables are read are then streamed again. Since they come with a
+   * greater {@link io.airbyte.integrations.debezium.internals.DebeziumEventUtils#CDC_LSN} than the
+   * records of the initial load, deduplicating the records by that column converges to the state of
+   * the table. The initial load is not checkpointed and starts over when interrupted.
+   */
+  private AutoCloseableIterator<AirbyteMessage> getCdcInitialLoadIterator(final JdbcDatabase database,
+                                                                          final ConfiguredAirbyteCatalog catalog,
+                                                                          final List<ConfiguredAirbyteStream> streamsToLoad,
+                                                                          final Map<String, TableInfo<CommonField<JDBCType>>> tableNameToTable,
+                                                                          final CdcState savedState,
+                                                                          final AirbyteDebeziumHandler handler,
+                                                                          final PostgresCdcStateHandler postgresCdcStateHandler,
+                                                                          final int parallelism,
+                                                                          final Instant emittedAt) {
+    final long lsn;
+    try {
+      lsn = io.airbyte.db.PostgresUtils.getLsn(database).asLong();
+    } catch (final SQLException e) {
+      throw new RuntimeException(e);
+    }
+    final CdcState offsetState = savedState != null ? savedState
+        : new CdcState().withState(new PostgresDebeziumStateUtil().constructInitialDebeziumState(database.getSourceConfig(), lsn));
+    LOGGER.info("Reading the initial load of {} streams over {} connections per table, streaming changes from {}",
+        streamsToLoad.size(), parallelism, savedState != null ? "the saved offset" : "LSN " + lsn);
+
+    final List<AutoCloseableIterator<AirbyteMessage>> tableIterators = new ArrayList<>();
+    for (final ConfiguredAirbyteStream airbyteStream : streamsToLoad) {
+      final AirbyteStream stream = airbyteStream.getStream();
+      final TableInfo<CommonField<JDBCType>> table = tableNameToTable.get(getFullyQualifiedTableName(stream.getNamespace(), stream.getName()));
+      if (table == null) {
+        LOGGER.info("Skipping stream {}.{} because it is not in the source", stream.getNamespace(), stream.getName());
+        continue;
+      }
+      final Set<String> selectedFieldsInCatalog = CatalogHelpers.getTopLevelFieldNames(airbyteStream);
+      final List<String> selectedDatabaseFields = table.getFields().stream()
+          .map(CommonField::getName)
+          .filter(selectedFieldsInCatalog::contains)
+          .collect(toList());
+      tableIterators.add(AutoCloseableIterators.lazyIterator(
+          () -> getSnapshotStream(database, airbyteStream, selectedDatabaseFields, table, parallelism, emittedAt)));
+    }
+
+    final JsonNode initialLoadSource = Jsons.jsonNode(Map.of("lsn", lsn, "ts_ms", emittedAt.toEpochMilli()));
+    return handler.getInitialLoadIterators(catalog,
+        AutoCloseableIterators.concatWithEagerClose(tableIterators),
+        initialLoadSource,
+        new PostgresCdcSavedInfoFetcher(offsetState),
+        postgresCdcStateHandler,
+        new PostgresCdcConnectorMetadataInjector(),
+        PostgresCdcProperties.getDebeziumDefaultProperties(database),
+        emittedAt);
+  }
+
+  /**
+   * When CTID readers are configured, full refresh streams of tables are read in ranges of their
+   * physical pages rather than with a single query, see {@link #getKeyRangeStream}. Ranges follow the
+   * order of the heap, and the page below which all the ranges were read is checkpointed so that an
+   * interrupted read resumes from it. Every range is read from the same snapshot, see
+   * {@link PostgresCtidSnapshot}, so that the ranges hold the rows a single query would read. The
+   * filenode of the table is checkpointed along with the page, a table rewritten by a VACUUM FULL or
+   * a CLUSTER between two attempts is read again from its first page.
+   */
+  @Override
+  protected AutoCloseableIterator<AirbyteMessage> getFullRefreshStream(final JdbcDatabase database,
+                                                                       final ConfiguredAirbyteStream airbyteStream,
+                                                                       final List<String> selectedDatabaseFields,
+                                                                       final TableInfo<CommonField<JDBCType>> table,
+                                                                       final StateManager stateManager,
+                                                                       final Instant emittedAt) {
+    final Optional<Integer> ctidReaders = PostgresUtils.getCtidReaders(database.getSourceConfig());
+    if (ctidReaders.isEmpty() || !isReadableByCtid(database, table)) {
+      return super.getFullRefreshStream(database, airbyteStream, selectedDatabaseFields, table, stateManager, emittedAt);
+    }
+    final int parallelism = ctidReaders.get();
+    final PostgresCtidSnapshot snapshot = new PostgresCtidSnapshot(database, sourceOperations, table.getNameSpace(), table.getName());
+    return AutoCloseableIterators.appendOnClose(getKeyRangeStream(
+        airbyteStream,
+        table,
+        stateManager,
+        CTID,
+        snapshot::export,
+        parallelism,
+        watermark -> getPageRanges(database, table, watermark, parallelism * CHUNKS_PER_READER),
+        range -> queryTablePageRange(database, snapshot, selectedDatabaseFields, table.getNameSpace(), table.getName(), range),
+        emittedAt), snapshot::close);
+  }
+
+  /**
+   * Streams read at once each hold their own connections, as many as the CTID readers when they are
+   * set plus the one exporting their snapshot, so fewer streams are read at once than configured when
+   * the pool can not hold them all. CDC syncs read their streams one after the other.
+   */
+  @Override
+  protected int getStreamReadConcurrency(final JsonNode config) {
+    final Optional<Integer> streamReaders = PostgresUtils.getStreamReaders(config);
+    if (streamReaders.isEmpty() || PostgresUtils.isCdc(config)) {
+      return 1;
+    }
+    final int connectionsPerStream = PostgresUtils.getCtidReaders(config).map(ctidReaders -> ctidReaders + 1).orElse(1);
+    return Math.max(1, Math.min(streamReaders.get(), MAX_CONNECTIONS / connectionsPerStream));
+  }
+
+  /**
+   * Tables that can not be read in CTID ranges are read in ranges of their primary key over as many
+   * connections instead.
+   */
+  @Override
+  protected int getFullRefreshChunkParallelism(final JsonNode config) {
+    return PostgresUtils.getCtidReaders(config).orElse(0);
+  }
+
+  /**
+   * Tables of the CDC initial load are read in CTID ranges when they can be, rather than in ranges of
+   * their primary key, as the pages of the heap are split evenly whatever the distribution of the
+   * keys. The ranges are read from the same snapshot, as for full refresh streams.
+   */
+  @Override
+  protected AutoCloseableIterator<AirbyteMessage> getSnapshotStream(final JdbcDatabase database,
+                                                                    final ConfiguredAirbyteStream airbyteStream,
+                                                                    final List<String> selectedDatabaseFields,
+                                                                    final TableInfo<CommonField<JDBCType>> table,
+                                                                    final int parallelism,
+                                                                    final Instant emittedAt) {
+    if (parallelism <= 1 || !isReadableByCtid(database, table)) {
+      return super.getSnapshotStream(database, airbyteStream, selectedDatabaseFields, table, parallelism, emittedAt);
+    }
+    final PostgresCtidSnapshot snapshot = new PostgresCtidSnapshot(database, sourceOperations, table.getNameSpace(), table.getName());
+    return AutoCloseableIterators.appendOnClose(getKeyRangeStream(
+        airbyteStream,
+        table,
+        CTID,
+        parallelism,
+        watermark -> {
+          snapshot.export();
+          return getPageRanges(database, table, watermark, parallelism * CHUNKS_PER_READER);
+        },
+        range -> queryTablePageRange(database, snapshot, selectedDatabaseFields, table.getNameSpace(), table.getName(), range),
+        emittedAt), snapshot::close);
+  }
+
+  /**
+   * Only ordinary tables and materialized views have a heap to scan, and TID range scans were added
+   * in Postgres 14. Ranges of CTID are filtered out of a whole table scan by previous versions.
+   */
+  private boolean isReadableByCtid(final JdbcDatabase database, final TableInfo<CommonField<JDBCType>> table) {
+    try {
+      final List<Boolean> readable = database.bufferedResultSetQuery(connection -> {
+        final PreparedStatement ps = connection.prepareStatement(
+            """
+               SELECT c.relkind IN ('r', 'm') AND current_setting('server_version_num')::int >= ?
+               FROM   pg_class c
+               JOIN   pg_namespace n on c.relnamespace = n.oid
+               WHERE  n.nspname = ? AND c.relname = ?
+            """);
+        ps.setInt(1, MIN_CTID_RANGE_SCAN_VERSION);
+        ps.setString(2, table.getNameSpace());
+        ps.setString(3, table.getName());
+        return ps.executeQuery();
+      }, resultSet -> resultSet.getBoolean(1));
+      if (readable.isEmpty() || !readable.get(0)) {
+        LOGGER.info("Table {}.{} can not be read by CTID ranges, reading it by primary key ranges or with a single query",
+            table.getNameSpace(), table.getName());
+        return false;
+      }
+      return true;
+    } catch (final SQLException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private static List<KeyRange> getPageRanges(final JdbcDatabase database,
+                                              final TableInfo<CommonField<JDBCType>> table,
+                                              final Long watermark,
+                                              final int maxRanges)
+      throws SQLException {
+    final List<Long> pageCounts = database.bufferedResultSetQuery(connection -> {
+      final PreparedStatement ps = connection.prepareStatement(
+          "SELECT pg_relation_size(format('%I.%I', ?, ?)::regclass) / current_setting('block_size')::int");
+      ps.setString(1, table.getNameSpace());
+      ps.setString(2, table.getName());
+      return ps.executeQuery();
+    }, resultSet -> resultSet.getLong(1));
+    final long firstPage = watermark == null ? 0 : watermark;
+    // the last range is unbounded, pages added while the table is read are not left out.
+    final long lastPage = Math.max(firstPage, pageCounts.get(0) - 1);
+    return ChunkedSnapshotIterator.splitKeyRange(firstPage, lastPage, maxRanges);
+  }
+
+  private AutoCloseableIterator<JsonNode> queryTablePageRange(final JdbcDatabase database,
+                                                              final PostgresCtidSnapshot snapshot,
+                                                              final List<String> columnNames,
+                                                              final String schemaName,
+                                                              final String tableName,
+                                                              final KeyRange range) {
+    return AutoCloseableIterators.lazyIterator(() -> {
+      try {
+        final Stream<JsonNode> stream = database.unsafeQuery(
+            connection -> {
+              snapshot.importInto(connection);
+              final String sql = String.format("SELECT %s FROM %s WHERE ctid >= ?::tid%s",
+                  getWrappedColumnNames(database, connection, columnNames, schemaName, tableName),
+                  sourceOperations.getFullyQualifiedTableNameWithQuoting(connection, schemaName, tableName),
+                  range.upperBound() == null ? "" : " AND ctid < ?::tid");
+              final PreparedStatement ps = connection.prepareStatement(sql);
+              ps.setString(1, String.format("(%d,0)", range.lowerBound()));
+              if (range.upperBound() != null) {
+                ps.setString(2, String.format("(%d,0)", range.upperBound()));
+              }
+              LOGGER.debug("Executing query for table {}: {}", tableName, ps);
+              return ps;
+            },
+            sourceOperations::rowToJson);
+        return AutoCloseableIterators.fromStream(stream);
+      } catch (final SQLException e) {
+        throw new RuntimeException(e);
+      }
+    });
+  }
+
   @Override
   public Set<JdbcPrivilegeDto> getPrivilegesTableForCurrentUser(final JdbcDatabase database,
                                                                 final String schema)
@@ -16,7 +16,6 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.annotations.VisibleForTesting;
 import io.airbyte.commons.jackson.MoreMappers;
-import io.airbyte.commons.json.Jsons;
 import io.airbyte.db.DataTypeUtils;
 import io.airbyte.db.jdbc.DateTimeConverter;
 import io.airbyte.db.jdbc.JdbcSourceOperations;
@@ -33,7 +32,6 @@ import java.time.LocalTime;
 import java.time.OffsetDateTime;
 import java.time.OffsetTime;
 import java.time.format.DateTimeParseException;
-import java.util.Collections;
 import org.postgresql.geometric.PGbox;
 import org.postgresql.geometric.PGcircle;
 import org.postgresql.geometric.PGline;
@@ -41,7 +39,6 @@ import org.postgresql.geometric.PGlseg;
 import org.postgresql.geometric.PGpath;
 import org.postgresql.geometric.PGpoint;
 import org.postgresql.geometric.PGpolygon;
-import org.postgresql.jdbc.PgResultSetMetaData;
 import org.postgresql.util.PGobject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -53,42 +50,6 @@ public class PostgresSourceOperations extends JdbcSourceOperations {
   private static final String TIMETZ = "timetz";
   private static final ObjectMapper OBJECT_MAPPER = MoreMappers.initMapper();
 
-  @Override
-  public JsonNode rowToJson(final ResultSet queryContext) throws SQLException {
-    // the first call communicates with the database. after that the result is cached.
-    final ResultSetMetaData metadata = queryContext.getMetaData();
-    final int columnCount = metadata.getColumnCount();
-    final ObjectNode jsonNode = (ObjectNode) Jsons.jsonNode(Collections.emptyMap());
-
-    for (int i = 1; i <= columnCount; i++) {
-      final String columnType = metadata.getColumnTypeName(i);
-      // attempt to access the column. this allows us to know if it is null before we do type-specific
-      // parsing. if it is null, we can move on. while awkward, this seems to be the agreed upon way of
-      // checking for null values with jdbc.
-
-      if (columnType.equalsIgnoreCase("money")) {
-        // when a column is of type MONEY, getObject will throw exception
-        // this is a bug that will not be fixed:
-        // https://github.com/pgjdbc/pgjdbc/issues/425
-        // https://github.com/pgjdbc/pgjdbc/issues/1835
-        queryContext.getString(i);
-      } else if (columnType.equalsIgnoreCase("bit")) {
-        // getObject will fail as it tries to parse the value as boolean
-        queryContext.getString(i);
-      } else if (columnType.equalsIgnoreCase("numeric") || columnType.equalsIgnoreCase("decimal")) {
-        // getObject will fail when the value is 'infinity'
-        queryContext.getDouble(i);
-      } else {
-        queryContext.getObject(i);
-      }
-
-      // convert to java types that will convert into reasonable json.
-      setJsonField(queryContext, i, jsonNode);
-    }
-
-    return jsonNode;
-  }
-
   @Override
   public void setStatementField(final PreparedStatement preparedStatement,
                                 final int parameterIndex,
@@ -165,50 +126,70 @@ public class PostgresSourceOperations extends JdbcSourceOperations {
     preparedStatement.setObject(parameterIndex, LocalDate.parse(value));
   }
 
+  /**
+   * Null values are kept in the record. They are detected with getString, as getObject fails on some
+   * values: money columns (https://github.com/pgjdbc/pgjdbc/issues/425), bit strings which are parsed
+   * as booleans, and numeric 'infinity'.
+   */
   @Override
-  public void setJsonField(final ResultSet resultSet, final int colIndex, final ObjectNode json) throws SQLException {
-    final PgResultSetMetaData metadata = (PgResultSetMetaData) resultSet.getMetaData();
-    final String columnName = metadata.getColumnName(colIndex);
-    final String columnTypeName = metadata.getColumnTypeName(colIndex).toLowerCase();
-    final JDBCType columnType = safeGetJdbcType(metadata.getColumnType(colIndex));
-    if (resultSet.getString(colIndex) == null) {
-      json.putNull(columnName);
-    } else {
-      switch (columnTypeName) {
-        case "bool", "boolean" -> putBoolean(json, columnName, resultSet, colIndex);
-        case "bytea" -> putString(json, columnName, resultSet, colIndex);
-        case TIMETZ -> putTimeWithTimezone(json, columnName, resultSet, colIndex);
-        case TIMESTAMPTZ -> putTimestampWithTimezone(json, columnName, resultSet, colIndex);
-        case "hstore" -> putHstoreAsJson(json, columnName, resultSet, colIndex);
-        case "circle" -> putObject(json, columnName, resultSet, colIndex, PGcircle.class);
-        case "box" -> putObject(json, columnName, resultSet, colIndex, PGbox.class);
-        case "double precision", "float", "float8" -> putDouble(json, columnName, resultSet, colIndex);
-        case "line" -> putObject(json, columnName, resultSet, colIndex, PGline.class);
-        case "lseg" -> putObject(json, columnName, resultSet, colIndex, PGlseg.class);
-        case "path" -> putObject(json, columnName, resultSet, colIndex, PGpath.class);
-        case "point" -> putObject(json, columnName, resultSet, colIndex, PGpoint.class);
-        case "polygon" -> putObject(json, columnName, resultSet, colIndex, PGpolygon.class);
-        default -> {
-          switch (columnType) {
-            case BOOLEAN -> putBoolean(json, columnName, resultSet, colIndex);
-            case TINYINT, SMALLINT -> putShortInt(json, columnName, resultSet, colIndex);
-            case INTEGER -> putInteger(json, columnName, resultSet, colIndex);
-            case BIGINT -> putBigInt(json, columnName, resultSet, colIndex);
-            case FLOAT, DOUBLE -> putDouble(json, columnName, resultSet, colIndex);
-            case REAL -> putFloat(json, columnName, resultSet, colIndex);
-            case NUMERIC, DECIMAL -> putBigDecimal(json, columnName, resultSet, colIndex);
-            // BIT is a bit string in Postgres, e.g. '0100'
-            case BIT, CHAR, VARCHAR, LONGVARCHAR -> putString(json, columnName, resultSet, colIndex);
-            case DATE -> putDate(json, columnName, resultSet, colIndex);
-            case TIME -> putTime(json, columnName, resultSet, colIndex);
-            case TIMESTAMP -> putTimestamp(json, columnName, resultSet, colIndex);
-            case BLOB, BINARY, VARBINARY, LONGVARBINARY -> putBinary(json, columnName, resultSet, colIndex);
-            case ARRAY -> putArray(json, columnName, resultSet, colIndex);
-            default -> putDefault(json, columnName, resultSet, colIndex);
-          }
-        }
+  protected ColumnWriter getNullSafeColumnWriter(final ResultSetMetaData metadata, final int index) throws SQLException {
+    final ColumnWriter columnWriter = getColumnWriter(metadata, index);
+    return (node, columnName, resultSet, i) -> {
+      if (resultSet.getString(i) == null) {
+        node.putNull(columnName);
+      } else {
+        columnWriter.write(node, columnName, resultSet, i);
       }
-    }
+    };
+  }
+
+  @Override
+  public void setJsonField(final ResultSet resultSet, final int colIndex, final ObjectNode json) throws SQLException {
+    final ResultSetMetaData metadata = resultSet.getMetaData();
+    getNullSafeColumnWriter(metadata, colIndex).write(json, getColumnName(metadata, colIndex), resultSet, colIndex);
+  }
+
+  @Override
+  protected ColumnWriter getColumnWriter(final ResultSetMetaData metadata, final int index) throws SQLException {
+    final String columnTypeName = metadata.getColumnTypeName(index).toLowerCase();
+    final JDBCType columnType = safeGetJdbcType(metadata.getColumnType(index));
+    return switch (columnTypeName) {
+      case "bool", "boolean" -> this::putBoolean;
+      case "bytea" -> this::putString;
+      case TIMETZ -> this::putTimeWithTimezone;
+      case TIMESTAMPTZ -> this::putTimestampWithTimezone;
+      case "hstore" -> this::putHstoreAsJson;
+      case "circle" -> getObjectWriter(PGcircle.class);
+      case "box" -> getObjectWriter(PGbox.class);
+      case "double precision", "float", "float8" -> this::putDouble;
+      case "money" -> this::putMoney;
+      case "line" -> getObjectWriter(PGline.class);
+      case "lseg" -> getObjectWriter(PGlseg.class);
+      case "path" -> getObjectWriter(PGpath.class);
+      case "point" -> getObjectWriter(PGpoint.class);
+      case "polygon" -> getObjectWriter(PGpolygon.class);
+      default -> switch (columnType) {
+        case BOOLEAN -> this::putBoolean;
+        case TINYINT, SMALLINT -> this::putShortInt;
+        case INTEGER -> this::putInteger;
+        case BIGINT -> this::putBigInt;
+        case FLOAT, DOUBLE -> this::putDouble;
+        case REAL -> this::putFloat;
+        case NUMERIC, DECIMAL -> this::putBigDecimal;
+        // BIT is a bit string in Postgres, e.g. '0100'
+        case BIT, CHAR, VARCHAR, LONGVARCHAR -> this::putString;
+        case DATE -> this::putDate;
+        case TIME -> this::putTime;
+        case TIMESTAMP -> this::putTimestamp;
+        case BLOB, BINARY, VARBINARY, LONGVARBINARY -> this::putBinary;
+        case ARRAY -> this::putArray;
+        default -> this::putDefault;
+      };
+    };
+  }
+
+  private <T extends PGobject> ColumnWriter getObjectWriter(final Class<T> clazz) {
+    return (node, columnName, resultSet, index) -> putObject(node, columnName, resultSet, index, clazz);
   }
 
   @Override
@@ -296,15 +277,6 @@ public class PostgresSourceOperations extends JdbcSourceOperations {
     }
   }
 
-  @Override
-  protected void putDouble(final ObjectNode node, final String columnName, final ResultSet resultSet, final int index) throws SQLException {
-    if (resultSet.getMetaData().getColumnTypeName(index).equals("money")) {
-      putMoney(node, columnName, resultSet, index);
-    } else {
-      super.putDouble(node, columnName, resultSet, index);
-    }
-  }
-
   private void putMoney(final ObjectNode node, final String columnName, final ResultSet resultSet, final int index) throws SQLException {
     final String moneyValue = parseMoneyValue(resultSet.getString(index));
     node.put(columnName, DataTypeUtils.returnNullIfInvalid(() -> Double.valueOf(moneyValue), Double::isFinite));
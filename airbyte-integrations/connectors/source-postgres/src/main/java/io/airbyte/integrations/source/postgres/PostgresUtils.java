@@ -38,6 +38,9 @@ public class PostgresUtils {
   private static final Logger LOGGER = LoggerFactory.getLogger(PostgresUtils.class);
 
   private static final String PGOUTPUT_PLUGIN = "pgoutput";
+  private static final String CTID_READERS_KEY = "ctid_readers";
+  private static final String INITIAL_LOAD_READERS_KEY = "initial_load_readers";
+  private static final String STREAM_READERS_KEY = "stream_readers";
 
   public static final Duration MIN_FIRST_RECORD_WAIT_TIME = Duration.ofMinutes(2);
   public static final Duration MAX_FIRST_RECORD_WAIT_TIME = Duration.ofMinutes(20);
@@ -64,6 +67,39 @@ public class PostgresUtils {
     return Optional.empty();
   }
 
+  /**
+   * @return the number of connections full refresh streams are read over in CTID ranges, if set.
+   */
+  public static Optional<Integer> getCtidReaders(final JsonNode config) {
+    if (config.hasNonNull(CTID_READERS_KEY) && config.get(CTID_READERS_KEY).asInt() > 0) {
+      return Optional.of(config.get(CTID_READERS_KEY).asInt());
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * @return the number of streams read at once, if set.
+   */
+  public static Optional<Integer> getStreamReaders(final JsonNode config) {
+    if (config.hasNonNull(STREAM_READERS_KEY) && config.get(STREAM_READERS_KEY).asInt() > 0) {
+      return Optional.of(config.get(STREAM_READERS_KEY).asInt());
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * @return the number of connections the initial load of CDC streams is read over instead of a
+   *         Debezium snapshot, if set.
+   */
+  public static Optional<Integer> getCdcInitialLoadReaders(final JsonNode config) {
+    final JsonNode replicationMethod = config.get("replication_method");
+    if (replicationMethod != null && replicationMethod.hasNonNull(INITIAL_LOAD_READERS_KEY)
+        && replicationMethod.get(INITIAL_LOAD_READERS_KEY).asInt() > 0) {
+      return Optional.of(replicationMethod.get(INITIAL_LOAD_READERS_KEY).asInt());
+    }
+    return Optional.empty();
+  }
+
   public static void checkFirstRecordWaitTime(final JsonNode config) {
     // we need to skip the check because in tests, we set initial_waiting_seconds
     // to 5 seconds for performance reasons, which is shorter than the minimum
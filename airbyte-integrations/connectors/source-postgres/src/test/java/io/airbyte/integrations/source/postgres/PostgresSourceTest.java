@@ -29,6 +29,7 @@ import io.airbyte.db.jdbc.JdbcUtils;
 import io.airbyte.integrations.source.relationaldb.InvalidCursorException;
 import io.airbyte.protocol.models.AirbyteCatalog;
 import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteStateMessage;
 import io.airbyte.protocol.models.AirbyteStream;
 import io.airbyte.protocol.models.CatalogHelpers;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
@@ -469,6 +470,118 @@ class PostgresSourceTest {
     assertEquals(ASCII_MESSAGES, actualMessages);
   }
 
+  @Test
+  void testReadByCtidRanges() throws Exception {
+    try (final PostgreSQLContainer<?> db = new PostgreSQLContainer<>("postgres:14-alpine")) {
+      db.start();
+      final JsonNode config = getConfig(db);
+      try (final DSLContext dslContext = getDslContext(config)) {
+        final Database database = getDatabase(dslContext);
+        database.query(ctx -> {
+          ctx.fetch("CREATE TABLE id_and_name(id INTEGER, name VARCHAR(200));");
+          ctx.fetch("INSERT INTO id_and_name (id, name) SELECT i, 'name' || i FROM generate_series(1, 10000) AS i;");
+          return null;
+        });
+      }
+      ((ObjectNode) config).put("ctid_readers", 2);
+      final ConfiguredAirbyteCatalog configuredCatalog = CatalogHelpers.toDefaultConfiguredCatalog(new AirbyteCatalog().withStreams(List.of(
+          CatalogHelpers.createAirbyteStream(STREAM_NAME, SCHEMA_NAME, Field.of("id", JsonSchemaType.NUMBER), Field.of("name", JsonSchemaType.STRING))
+              .withSupportedSyncModes(Lists.newArrayList(SyncMode.FULL_REFRESH)))));
+      configuredCatalog.getStreams().forEach(stream -> stream.setDestinationSyncMode(DestinationSyncMode.APPEND));
+
+      final List<AirbyteMessage> actualMessages = MoreIterators.toList(new PostgresSource().read(config, configuredCatalog, null));
+
+      final Set<Integer> ids = actualMessages.stream()
+          .filter(message -> message.getType() == AirbyteMessage.Type.RECORD)
+          .map(message -> message.getRecord().getData().get("id").asInt())
+          .collect(Collectors.toSet());
+      assertEquals(10000, ids.size());
+      assertTrue(actualMessages.stream().filter(message -> message.getType() == AirbyteMessage.Type.STATE).count() > 1);
+      final AirbyteMessage lastMessage = actualMessages.get(actualMessages.size() - 1);
+      assertEquals(AirbyteMessage.Type.STATE, lastMessage.getType());
+      // the read completed, no watermark is left to resume from.
+      assertFalse(Jsons.serialize(lastMessage.getState()).contains("snapshot_key_watermark"));
+    }
+  }
+
+  @Test
+  void testReadByCtidRangesRestartsAfterTableRewrite() throws Exception {
+    try (final PostgreSQLContainer<?> db = new PostgreSQLContainer<>("postgres:14-alpine")) {
+      db.start();
+      final JsonNode config = getConfig(db);
+      try (final DSLContext dslContext = getDslContext(config)) {
+        final Database database = getDatabase(dslContext);
+        database.query(ctx -> {
+          ctx.fetch("CREATE TABLE id_and_name(id INTEGER, name VARCHAR(200));");
+          ctx.fetch("INSERT INTO id_and_name (id, name) SELECT i, 'name' || i FROM generate_series(1, 10000) AS i;");
+          return null;
+        });
+      }
+      ((ObjectNode) config).put("ctid_readers", 2);
+      final ConfiguredAirbyteCatalog configuredCatalog = CatalogHelpers.toDefaultConfiguredCatalog(new AirbyteCatalog().withStreams(List.of(
+          CatalogHelpers.createAirbyteStream(STREAM_NAME, SCHEMA_NAME, Field.of("id", JsonSchemaType.NUMBER), Field.of("name", JsonSchemaType.STRING))
+              .withSupportedSyncModes(Lists.newArrayList(SyncMode.FULL_REFRESH)))));
+      configuredCatalog.getStreams().forEach(stream -> stream.setDestinationSyncMode(DestinationSyncMode.APPEND));
+
+      // the first checkpoint of a read, as if it had been interrupted right after it.
+      final AirbyteStateMessage checkpoint = MoreIterators.toList(new PostgresSource().read(config, configuredCatalog, null)).stream()
+          .filter(message -> message.getType() == AirbyteMessage.Type.STATE)
+          .map(AirbyteMessage::getState)
+          .filter(state -> Jsons.serialize(state).contains("snapshot_key_watermark"))
+          .findFirst()
+          .orElseThrow();
+      assertTrue(Jsons.serialize(checkpoint).contains("snapshot_key_scope"));
+      final JsonNode state = Jsons.jsonNode(List.of(checkpoint));
+
+      // the pages below the watermark are not read again while the table keeps its filenode.
+      assertTrue(readIds(config, configuredCatalog, state).size() < 10000);
+
+      try (final DSLContext dslContext = getDslContext(config)) {
+        getDatabase(dslContext).query(ctx -> ctx.execute("VACUUM FULL id_and_name;"));
+      }
+      // the rewritten table has a new filenode, the watermark no longer applies to its pages.
+      assertEquals(10000, readIds(config, configuredCatalog, state).size());
+    }
+  }
+
+  private static Set<Integer> readIds(final JsonNode config, final ConfiguredAirbyteCatalog catalog, final JsonNode state) throws Exception {
+    return MoreIterators.toList(new PostgresSource().read(config, catalog, state)).stream()
+        .filter(message -> message.getType() == AirbyteMessage.Type.RECORD)
+        .map(message -> message.getRecord().getData().get("id").asInt())
+        .collect(Collectors.toSet());
+  }
+
+  @Test
+  void testReadByPrimaryKeyRanges() throws Exception {
+    // CTID range scans need Postgres 14, previous versions fall back to ranges of the primary key.
+    try (final PostgreSQLContainer<?> db = new PostgreSQLContainer<>("postgres:13-alpine")) {
+      db.start();
+      final JsonNode config = getConfig(db);
+      try (final DSLContext dslContext = getDslContext(config)) {
+        final Database database = getDatabase(dslContext);
+        database.query(ctx -> {
+          ctx.fetch("CREATE TABLE id_and_name(id INTEGER PRIMARY KEY, name VARCHAR(200));");
+          ctx.fetch("INSERT INTO id_and_name (id, name) SELECT i, 'name' || i FROM generate_series(1, 10000) AS i;");
+          return null;
+        });
+      }
+      ((ObjectNode) config).put("ctid_readers", 2);
+      final ConfiguredAirbyteCatalog configuredCatalog = CatalogHelpers.toDefaultConfiguredCatalog(new AirbyteCatalog().withStreams(List.of(
+          CatalogHelpers.createAirbyteStream(STREAM_NAME, SCHEMA_NAME, Field.of("id", JsonSchemaType.NUMBER), Field.of("name", JsonSchemaType.STRING))
+              .withSupportedSyncModes(Lists.newArrayList(SyncMode.FULL_REFRESH)))));
+      configuredCatalog.getStreams().forEach(stream -> stream.setDestinationSyncMode(DestinationSyncMode.APPEND));
+
+      final List<AirbyteMessage> actualMessages = MoreIterators.toList(new PostgresSource().read(config, configuredCatalog, null));
+
+      final Set<Integer> ids = actualMessages.stream()
+          .filter(message -> message.getType() == AirbyteMessage.Type.RECORD)
+          .map(message -> message.getRecord().getData().get("id").asInt())
+          .collect(Collectors.toSet());
+      assertEquals(10000, ids.size());
+      assertTrue(actualMessages.stream().filter(message -> message.getType() == AirbyteMessage.Type.STATE).count() > 1);
+    }
+  }
+
   @Test
   void testIsCdc() {
     final JsonNode config = getConfig(PSQL_DB, dbName);
@@ -63,4 +63,18 @@ class PostgresUtilsTest {
     assertEquals(MAX_FIRST_RECORD_WAIT_TIME, PostgresUtils.getFirstRecordWaitTime(tooLongConfig));
   }
 
+  @Test
+  void testGetCtidReaders() {
+    assertEquals(Optional.empty(), PostgresUtils.getCtidReaders(Jsons.jsonNode(Collections.emptyMap())));
+    assertEquals(Optional.empty(), PostgresUtils.getCtidReaders(Jsons.jsonNode(Map.of("ctid_readers", 0))));
+    assertEquals(Optional.of(4), PostgresUtils.getCtidReaders(Jsons.jsonNode(Map.of("ctid_readers", 4))));
+  }
+
+  @Test
+  void testGetStreamReaders() {
+    assertEquals(Optional.empty(), PostgresUtils.getStreamReaders(Jsons.jsonNode(Collections.emptyMap())));
+    assertEquals(Optional.empty(), PostgresUtils.getStreamReaders(Jsons.jsonNode(Map.of("stream_readers", 0))));
+    assertEquals(Optional.of(3), PostgresUtils.getStreamReaders(Jsons.jsonNode(Map.of("stream_readers", 3))));
+  }
+
 }
@@ -49,6 +49,7 @@ import io.airbyte.protocol.models.JsonSchemaPrimitive;
 import io.airbyte.protocol.models.JsonSchemaType;
 import io.airbyte.protocol.models.SyncMode;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -74,6 +75,10 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
     BaseConnector implements Source, AutoCloseable {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(AbstractDbSource.class);
+  // intermediate state emission defaults, see getStateEmissionPolicy
+  protected static final Duration DEFAULT_MIN_STATE_EMISSION_INTERVAL = Duration.ofSeconds(10);
+  protected static final Duration DEFAULT_MAX_STATE_EMISSION_INTERVAL = Duration.ofMinutes(5);
+  protected static final long DEFAULT_MAX_STATE_EMISSION_BYTES = 256L * 1024L * 1024L;
   // TODO: Remove when the flag is not use anymore
   private final FeatureFlags featureFlags = new EnvVariableFeatureFlags();
 
@@ -160,8 +165,17 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
           .flatMap(Collection::stream)
           .collect(Collectors.toList());
 
+      final int streamReadConcurrency = getStreamReadConcurrency(config);
+      final AutoCloseableIterator<AirbyteMessage> messageIterator;
+      if (streamReadConcurrency > 1 && iteratorList.size() > 1) {
+        LOGGER.info("Reading {} streams, {} at a time.", iteratorList.size(), streamReadConcurrency);
+        messageIterator = new ConcurrentStreamIterator(iteratorList, streamReadConcurrency);
+      } else {
+        messageIterator = AutoCloseableIterators.concatWithEagerClose(iteratorList);
+      }
+
       return AutoCloseableIterators
-          .appendOnClose(AutoCloseableIterators.concatWithEagerClose(iteratorList), () -> {
+          .appendOnClose(messageIterator, () -> {
             LOGGER.info("Closing database connection pool.");
             Exceptions.toRuntime(this::close);
             LOGGER.info("Closed database connection pool.");
@@ -351,10 +365,10 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
           cursorField,
           cursorInfo.map(CursorInfo::getCursor).orElse(null),
           cursorType,
-          getStateEmissionFrequency()),
+          getStateEmissionPolicy(database.getSourceConfig())),
           airbyteMessageIterator);
     } else if (airbyteStream.getSyncMode() == SyncMode.FULL_REFRESH) {
-      iterator = getFullRefreshStream(database, streamName, namespace, selectedDatabaseFields, table, emittedAt);
+      iterator = getFullRefreshStream(database, airbyteStream, selectedDatabaseFields, table, stateManager, emittedAt);
     } else if (airbyteStream.getSyncMode() == null) {
       throw new IllegalArgumentException(String.format("%s requires a source sync mode", this.getClass()));
     } else {
@@ -432,6 +446,28 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
     return getMessageIterator(queryStream, streamName, namespace, emittedAt.toEpochMilli());
   }
 
+  /**
+   * Creates a AirbyteMessageIterator that contains all records of a full refresh stream. Sources that
+   * can resume a full refresh read may emit state messages for the stream through the state manager.
+   *
+   * @param database Source Database
+   * @param airbyteStream represents an ingestion source (e.g. API endpoint or database table)
+   * @param selectedDatabaseFields List of all interested database column names
+   * @param table information in tabular format
+   * @param stateManager Manager used to track the state of data synced by the connector
+   * @param emittedAt Time when data was emitted from the Source database
+   * @return AirbyteMessageIterator with all records for a database source
+   */
+  protected AutoCloseableIterator<AirbyteMessage> getFullRefreshStream(final Database database,
+                                                                       final ConfiguredAirbyteStream airbyteStream,
+                                                                       final List<String> selectedDatabaseFields,
+                                                                       final TableInfo<CommonField<DataType>> table,
+                                                                       final StateManager stateManager,
+                                                                       final Instant emittedAt) {
+    return getFullRefreshStream(database, airbyteStream.getStream().getName(), airbyteStream.getStream().getNamespace(), selectedDatabaseFields,
+        table, emittedAt);
+  }
+
   protected String getFullyQualifiedTableName(final String nameSpace, final String tableName) {
     return nameSpace != null ? nameSpace + "." + tableName : tableName;
   }
@@ -616,7 +652,7 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
   /**
    * Read incremental data from a table. Incremental read should return only records where cursor
    * column value is bigger than cursor. Note that if the connector needs to emit intermediate state
-   * (i.e. {@link AbstractDbSource#getStateEmissionFrequency} > 0), the incremental query must be
+   * (i.e. {@link AbstractDbSource#getStateEmissionPolicy} is enabled), the incremental query must be
    * sorted by the cursor field.
    *
    * @return iterator with read data
@@ -628,6 +664,17 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
                                                                         CursorInfo cursorInfo,
                                                                         DataType cursorFieldType);
 
+  /**
+   * When larger than 1, that many streams are read at once, each over its own connection, and their
+   * messages are interleaved. Each stream still emits its state messages after the records they
+   * cover. The connection pool of the database must hold at least that many connections.
+   *
+   * @param config - integration-specific configuration object as json.
+   */
+  protected int getStreamReadConcurrency(final JsonNode config) {
+    return 1;
+  }
+
   /**
    * When larger than 0, the incremental iterator will emit intermediate state for every N records.
    * Please note that if intermediate state emission is enabled, the incremental query must be ordered
@@ -637,6 +684,28 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
     return 0;
   }
 
+  /**
+   * Decides when the incremental iterator emits intermediate states. When
+   * {@link #getStateEmissionFrequency()} is larger than 0, an intermediate state is emitted every N
+   * records but not more often than {@link #DEFAULT_MIN_STATE_EMISSION_INTERVAL}, and at least every
+   * {@link #DEFAULT_MAX_STATE_EMISSION_INTERVAL} or {@link #DEFAULT_MAX_STATE_EMISSION_BYTES}.
+   * Sources can override this to tune the thresholds, e.g. from their config. Please note that if the
+   * returned policy is enabled, the incremental query must be ordered by the cursor field.
+   *
+   * @param config - integration-specific configuration object as json.
+   */
+  protected StateEmissionPolicy getStateEmissionPolicy(final JsonNode config) {
+    final int stateEmissionFrequency = getStateEmissionFrequency();
+    if (stateEmissionFrequency <= 0) {
+      return StateEmissionPolicy.DISABLED;
+    }
+    return new StateEmissionPolicy(
+        stateEmissionFrequency,
+        DEFAULT_MIN_STATE_EMISSION_INTERVAL,
+        DEFAULT_MAX_STATE_EMISSION_INTERVAL,
+        DEFAULT_MAX_STATE_EMISSION_BYTES);
+  }
+
   /**
    *
    * @return list of fields that could be used as cursors
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.source.relationaldb;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.AbstractIterator;
+import io.airbyte.commons.util.AutoCloseableIterator;
+import io.airbyte.protocol.models.AirbyteMessage;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Function;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads a table in ranges of its integer primary key, several ranges at once, and merges their
+ * records into a single iterator.
+ *
+ * <p>
+ * Ranges are handed to the readers in key order. Whenever the ranges below some key have all been
+ * read, that key becomes the new watermark of the read: the checkpoint function is called with it
+ * after the last record of those ranges has been returned, so that a state message emitted with it
+ * only covers records that were emitted before it. The checkpoint function is called a last time
+ * with null once every range has been read.
+ */
+public class ChunkedSnapshotIterator extends AbstractIterator<AirbyteMessage> implements AutoCloseableIterator<AirbyteMessage> {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ChunkedSnapshotIterator.class);
+
+  // records read ahead of the consumer, shared by all the readers.
+  private static final int QUEUE_CAPACITY = 10_000;
+
+  /**
+   * Range of keys, from lowerBound included to upperBound excluded. A null upperBound leaves the
+   * range unbounded, so that the last range also covers keys inserted after the bounds were computed.
+   */
+  public record KeyRange(long lowerBound, Long upperBound) {}
+
+  private record RangeCompleted(int index) {}
+
+  private record RangeFailed(KeyRange range, Exception exception) {}
+
+  private final List<KeyRange> ranges;
+  private final Function<Long, AirbyteMessage> checkpointFunction;
+  private final BlockingQueue<Object> queue = new LinkedBlockingQueue<>(QUEUE_CAPACITY);
+  private final boolean[] completedRanges;
+  private final ExecutorService executor;
+
+  private int watermarkIndex = 0;
+  private boolean checkpointedCompletion = false;
+
+  /**
+   * @param ranges key ranges to read, in key order.
+   * @param rangeReader opens an iterator over the records of one range. It is called from the reader
+   *        threads.
+   * @param parallelism number of ranges read at once.
+   * @param checkpointFunction builds the state message of a watermark, null when nothing should be
+   *        checkpointed.
+   */
+  public ChunkedSnapshotIterator(final List<KeyRange> ranges,
+                                 final Function<KeyRange, AutoCloseableIterator<AirbyteMessage>> rangeReader,
+                                 final int parallelism,
+                                 final Function<Long, AirbyteMessage> checkpointFunction) {
+    Preconditions.checkArgument(parallelism > 0, "parallelism must be positive");
+    this.ranges = ranges;
+    this.checkpointFunction = checkpointFunction;
+    this.completedRanges = new boolean[ranges.size()];
+    this.executor = Executors.newFixedThreadPool(parallelism, new BasicThreadFactory.Builder()
+        .namingPattern("snapshot-range-reader-%d")
+        .daemon(true)
+        .build());
+    for (int i = 0; i < ranges.size(); i++) {
+      final int index = i;
+      executor.execute(() -> readRange(index, rangeReader));
+    }
+    // reader threads exit once every range is read, close() interrupts them before that.
+    executor.shutdown();
+  }
+
+  private void readRange(final int index, final Function<KeyRange, AutoCloseableIterator<AirbyteMessage>> rangeReader) {
+    final KeyRange range = ranges.get(index);
+    try {
+      try (final AutoCloseableIterator<AirbyteMessage> records = rangeReader.apply(range)) {
+        while (records.hasNext()) {
+          queue.put(records.next());
+        }
+      }
+      queue.put(new RangeCompleted(index));
+    } catch (final InterruptedException e) {
+      // the iterator was closed.
+      Thread.currentThread().interrupt();
+    } catch (final Exception e) {
+      try {
+        queue.put(new RangeFailed(range, e));
+      } catch (final InterruptedException interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  @Override
+  protected AirbyteMessage computeNext() {
+    while (watermarkIndex < ranges.size()) {
+      final Object item;
+      try {
+        item = queue.take();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException(e);
+      }
+      if (item instanceof AirbyteMessage message) {
+        return message;
+      } else if (item instanceof RangeFailed failure) {
+        throw new RuntimeException(String.format("Failed to read key range %s", failure.range()), failure.exception());
+      } else if (item instanceof RangeCompleted completion) {
+        completedRanges[completion.index()] = true;
+        final int previousWatermarkIndex = watermarkIndex;
+        while (watermarkIndex < ranges.size() && completedRanges[watermarkIndex]) {
+          watermarkIndex++;
+        }
+        if (watermarkIndex > previousWatermarkIndex && watermarkIndex < ranges.size() && checkpointFunction != null) {
+          return checkpointFunction.apply(ranges.get(watermarkIndex).lowerBound());
+        }
+      }
+    }
+    if (!checkpointedCompletion && checkpointFunction != null) {
+      checkpointedCompletion = true;
+      return checkpointFunction.apply(null);
+    }
+    return endOfData();
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * Split the keys from min to max, both included, in at most maxRanges ranges of the same size.
+   */
+  public static List<KeyRange> splitKeyRange(final long min, final long max, final int maxRanges) {
+    Preconditions.checkArgument(min <= max, "min must not be greater than max");
+    final BigInteger span = BigInteger.valueOf(max).subtract(BigInteger.valueOf(min)).add(BigInteger.ONE);
+    final int rangeCount = span.min(BigInteger.valueOf(maxRanges)).intValueExact();
+    final List<KeyRange> ranges = new ArrayList<>(rangeCount);
+    long lowerBound = min;
+    for (int i = 1; i <= rangeCount; i++) {
+      final Long upperBound = i == rangeCount ? null
+          : BigInteger.valueOf(min).add(span.multiply(BigInteger.valueOf(i)).divide(BigInteger.valueOf(rangeCount))).longValueExact();
+      ranges.add(new KeyRange(lowerBound, upperBound));
+      if (upperBound != null) {
+        lowerBound = upperBound;
+      }
+    }
+    LOGGER.info("Split keys {} to {} in {} ranges", min, max, ranges.size());
+    return ranges;
+  }
+
+}
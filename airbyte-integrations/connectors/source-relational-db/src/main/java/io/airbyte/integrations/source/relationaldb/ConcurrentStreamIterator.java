@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.source.relationaldb;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.AbstractIterator;
+import io.airbyte.commons.util.AutoCloseableIterator;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.StreamDescriptor;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads several streams at once and interleaves their messages into a single iterator.
+ *
+ * <p>
+ * Each stream iterator is consumed from start to end by a single reader thread, so the messages of
+ * a stream, its state messages included, keep their relative order. A state message is only queued
+ * after the records it covers, which therefore reach the consumer before it.
+ */
+public class ConcurrentStreamIterator extends AbstractIterator<AirbyteMessage> implements AutoCloseableIterator<AirbyteMessage> {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ConcurrentStreamIterator.class);
+
+  // messages read ahead of the consumer, shared by all the readers.
+  private static final int QUEUE_CAPACITY = 10_000;
+  private static final long CLOSE_TIMEOUT_SECONDS = 60;
+
+  private record StreamCompleted(int index) {}
+
+  private record StreamFailed(int index, String streamName, Exception exception) {}
+
+  private final List<AutoCloseableIterator<AirbyteMessage>> streamIterators;
+  private final BlockingQueue<Object> queue = new LinkedBlockingQueue<>(QUEUE_CAPACITY);
+  private final boolean[] startedStreams;
+  private final ExecutorService executor;
+
+  private int completedStreamCount = 0;
+
+  /**
+   * @param streamIterators iterators over the messages of each stream, they are closed once read.
+   * @param parallelism number of streams read at once.
+   */
+  public ConcurrentStreamIterator(final List<AutoCloseableIterator<AirbyteMessage>> streamIterators, final int parallelism) {
+    Preconditions.checkArgument(parallelism > 0, "parallelism must be positive");
+    this.streamIterators = streamIterators;
+    this.startedStreams = new boolean[streamIterators.size()];
+    this.executor = Executors.newFixedThreadPool(parallelism, new BasicThreadFactory.Builder()
+        .namingPattern("stream-reader-%d")
+        .daemon(true)
+        .build());
+    for (int i = 0; i < streamIterators.size(); i++) {
+      final int index = i;
+      executor.execute(() -> readStream(index));
+    }
+    // reader threads exit once every stream is read, close() interrupts them before that.
+    executor.shutdown();
+  }
+
+  private void readStream(final int index) {
+    startedStreams[index] = true;
+    // the iterators do not tell which stream they read, it is taken from their messages.
+    String streamName = null;
+    try {
+      try (final AutoCloseableIterator<AirbyteMessage> messages = streamIterators.get(index)) {
+        while (messages.hasNext()) {
+          final AirbyteMessage message = messages.next();
+          if (streamName == null) {
+            streamName = getStreamName(message);
+          }
+          queue.put(message);
+        }
+      }
+      queue.put(new StreamCompleted(index));
+    } catch (final InterruptedException e) {
+      // the iterator was closed.
+      Thread.currentThread().interrupt();
+    } catch (final Exception e) {
+      try {
+        queue.put(new StreamFailed(index, streamName, e));
+      } catch (final InterruptedException interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  @Override
+  protected AirbyteMessage computeNext() {
+    while (completedStreamCount < streamIterators.size()) {
+      final Object item;
+      try {
+        item = queue.take();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException(e);
+      }
+      if (item instanceof AirbyteMessage message) {
+        return message;
+      } else if (item instanceof StreamFailed failure) {
+        throw new RuntimeException(failure.streamName() != null
+            ? String.format("Failed to read stream %s", failure.streamName())
+            : String.format("Failed to read stream %d of %d before its first message", failure.index() + 1, streamIterators.size()),
+            failure.exception());
+      } else if (item instanceof StreamCompleted) {
+        completedStreamCount++;
+      }
+    }
+    return endOfData();
+  }
+
+  /**
+   * @return namespace.name of the stream of a record or stream state message, null for other
+   *         messages.
+   */
+  private static String getStreamName(final AirbyteMessage message) {
+    if (message.getType() == Type.RECORD) {
+      return getStreamName(message.getRecord().getNamespace(), message.getRecord().getStream());
+    }
+    if (message.getType() == Type.STATE && message.getState().getStream() != null) {
+      final StreamDescriptor descriptor = message.getState().getStream().getStreamDescriptor();
+      return getStreamName(descriptor.getNamespace(), descriptor.getName());
+    }
+    return null;
+  }
+
+  private static String getStreamName(final String namespace, final String name) {
+    return namespace == null ? name : namespace + "." + name;
+  }
+
+  /**
+   * Stop the readers and close the streams that were not read yet. The streams being read are closed
+   * by their reader.
+   */
+  @Override
+  public void close() throws Exception {
+    executor.shutdownNow();
+    if (!executor.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+      LOGGER.warn("Stream readers did not stop within {} seconds", CLOSE_TIMEOUT_SECONDS);
+      return;
+    }
+    for (int i = 0; i < streamIterators.size(); i++) {
+      if (!startedStreams[i]) {
+        streamIterators.get(i).close();
+      }
+    }
+  }
+
+}
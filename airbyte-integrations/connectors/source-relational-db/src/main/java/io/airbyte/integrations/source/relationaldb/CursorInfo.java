@@ -13,8 +13,15 @@ public class CursorInfo {
   private final long originalCursorRecordCount;
 
   private final String cursorField;
-  private String cursor;
-  private long cursorRecordCount;
+  // streams read concurrently update their own cursor while reading the cursors of the others to
+  // build their state messages.
+  private volatile String cursor;
+  private volatile long cursorRecordCount;
+
+  // progress of a full refresh read in primary key chunks, see StateManager#updateSnapshotAndEmit
+  private volatile String snapshotKeyField;
+  private volatile String snapshotKeyWatermark;
+  private volatile String snapshotKeyScope;
 
   public CursorInfo(final String originalCursorField,
                     final String originalCursor,
@@ -72,6 +79,33 @@ public class CursorInfo {
     return this;
   }
 
+  public String getSnapshotKeyField() {
+    return snapshotKeyField;
+  }
+
+  public String getSnapshotKeyWatermark() {
+    return snapshotKeyWatermark;
+  }
+
+  public String getSnapshotKeyScope() {
+    return snapshotKeyScope;
+  }
+
+  /**
+   * @param snapshotKeyField primary key column the snapshot of the stream is read by.
+   * @param snapshotKeyWatermark every record with a key lower than this value has been read, null once
+   *        the snapshot is complete.
+   * @param snapshotKeyScope what the watermark refers to when the keys depend on more than the table,
+   *        null otherwise.
+   */
+  @SuppressWarnings("UnusedReturnValue")
+  public CursorInfo setSnapshotProgress(final String snapshotKeyField, final String snapshotKeyWatermark, final String snapshotKeyScope) {
+    this.snapshotKeyField = snapshotKeyField;
+    this.snapshotKeyWatermark = snapshotKeyWatermark;
+    this.snapshotKeyScope = snapshotKeyScope;
+    return this;
+  }
+
   @Override
   public boolean equals(final Object o) {
     if (this == o) {
@@ -86,12 +120,16 @@ public class CursorInfo {
         && Objects.equals(originalCursorRecordCount, that.originalCursorRecordCount)
         && Objects.equals(cursorField, that.cursorField)
         && Objects.equals(cursor, that.cursor)
-        && Objects.equals(cursorRecordCount, that.cursorRecordCount);
+        && Objects.equals(cursorRecordCount, that.cursorRecordCount)
+        && Objects.equals(snapshotKeyField, that.snapshotKeyField)
+        && Objects.equals(snapshotKeyWatermark, that.snapshotKeyWatermark)
+        && Objects.equals(snapshotKeyScope, that.snapshotKeyScope);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(originalCursorField, originalCursor, originalCursorRecordCount, cursorField, cursor, cursorRecordCount);
+    return Objects.hash(originalCursorField, originalCursor, originalCursorRecordCount, cursorField, cursor, cursorRecordCount, snapshotKeyField,
+        snapshotKeyWatermark, snapshotKeyScope);
   }
 
   @Override
@@ -103,6 +141,9 @@ public class CursorInfo {
         ", cursorField='" + cursorField + '\'' +
         ", cursor='" + cursor + '\'' +
         ", cursorRecordCount='" + cursorRecordCount + '\'' +
+        ", snapshotKeyField='" + snapshotKeyField + '\'' +
+        ", snapshotKeyWatermark='" + snapshotKeyWatermark + '\'' +
+        ", snapshotKeyScope='" + snapshotKeyScope + '\'' +
         '}';
   }
 
@@ -4,7 +4,9 @@
 
 package io.airbyte.integrations.source.relationaldb;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.AbstractIterator;
+import io.airbyte.commons.json.Jsons;
 import io.airbyte.db.IncrementalUtils;
 import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
 import io.airbyte.integrations.source.relationaldb.state.StateManager;
@@ -15,12 +17,14 @@ import io.airbyte.protocol.models.JsonSchemaPrimitive;
 import java.util.Iterator;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.LongSupplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class StateDecoratingIterator extends AbstractIterator<AirbyteMessage> implements Iterator<AirbyteMessage> {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(StateDecoratingIterator.class);
+  private static final int BYTE_SAMPLE_FREQUENCY = 100;
 
   private final Iterator<AirbyteMessage> messageIterator;
   private final StateManager stateManager;
@@ -37,9 +41,9 @@ public class StateDecoratingIterator extends AbstractIterator<AirbyteMessage> im
    * These parameters are for intermediate state message emission. We can emit an intermediate state
    * when the following two conditions are met.
    * <p/>
-   * 1. The records are sorted by the cursor field. This is true when {@code stateEmissionFrequency} >
-   * 0. This logic is guaranteed in {@code AbstractJdbcSource#queryTableIncremental}, in which an
-   * "ORDER BY" clause is appended to the SQL query if {@code stateEmissionFrequency} > 0.
+   * 1. The records are sorted by the cursor field. This is true when the {@code stateEmissionPolicy}
+   * is enabled. This logic is guaranteed in {@code AbstractJdbcSource#queryTableIncremental}, in which
+   * an "ORDER BY" clause is appended to the SQL query if the policy is enabled.
    * <p/>
    * 2. There is a cursor value that is ready for emission. A cursor value is "ready" if there is no
    * more record with the same value. We cannot emit a cursor at will, because there may be multiple
@@ -48,11 +52,18 @@ public class StateDecoratingIterator extends AbstractIterator<AirbyteMessage> im
    * to "WHERE cursor_field > cursor" in {@code AbstractJdbcSource#queryTableIncremental}.
    * <p/>
    * The {@code intermediateStateMessage} is set to the latest state message that is ready for
-   * emission. For every {@code stateEmissionFrequency} messages, {@code emitIntermediateState} is set
-   * to true and the latest "ready" state will be emitted in the next {@code computeNext} call.
+   * emission. Whenever the {@code stateEmissionPolicy} says a checkpoint is due, based on the
+   * records, bytes and time since the last one, {@code emitIntermediateState} is set to true and the
+   * latest "ready" state will be emitted in the next {@code computeNext} call.
    */
-  private final int stateEmissionFrequency;
-  private int totalRecordCount = 0;
+  private final StateEmissionPolicy stateEmissionPolicy;
+  private final LongSupplier nanoTime;
+  private long recordCountSinceCheckpoint = 0L;
+  private long byteCountSinceCheckpoint = 0L;
+  private long lastCheckpointNanos;
+  // the byte size of one record in every BYTE_SAMPLE_FREQUENCY is measured and used for the
+  // following ones, because serializing every record only to count bytes is too expensive
+  private long sampledRecordByteSize = 0L;
   private boolean emitIntermediateState = false;
   private AirbyteMessage intermediateStateMessage = null;
   private boolean hasCaughtException = false;
@@ -76,6 +87,33 @@ public class StateDecoratingIterator extends AbstractIterator<AirbyteMessage> im
                                  final String initialCursor,
                                  final JsonSchemaPrimitive cursorType,
                                  final int stateEmissionFrequency) {
+    this(messageIterator, stateManager, pair, cursorField, initialCursor, cursorType, StateEmissionPolicy.everyNRecords(stateEmissionFrequency));
+  }
+
+  /**
+   * @param stateEmissionPolicy If enabled, the records are sorted by the cursor field, and
+   *        intermediate states will be emitted whenever the policy says a checkpoint is due. The
+   *        order of the records is guaranteed in {@code AbstractJdbcSource#queryTableIncremental}.
+   */
+  public StateDecoratingIterator(final Iterator<AirbyteMessage> messageIterator,
+                                 final StateManager stateManager,
+                                 final AirbyteStreamNameNamespacePair pair,
+                                 final String cursorField,
+                                 final String initialCursor,
+                                 final JsonSchemaPrimitive cursorType,
+                                 final StateEmissionPolicy stateEmissionPolicy) {
+    this(messageIterator, stateManager, pair, cursorField, initialCursor, cursorType, stateEmissionPolicy, System::nanoTime);
+  }
+
+  @VisibleForTesting
+  StateDecoratingIterator(final Iterator<AirbyteMessage> messageIterator,
+                          final StateManager stateManager,
+                          final AirbyteStreamNameNamespacePair pair,
+                          final String cursorField,
+                          final String initialCursor,
+                          final JsonSchemaPrimitive cursorType,
+                          final StateEmissionPolicy stateEmissionPolicy,
+                          final LongSupplier nanoTime) {
     this.messageIterator = messageIterator;
     this.stateManager = stateManager;
     this.pair = pair;
@@ -83,7 +121,9 @@ public class StateDecoratingIterator extends AbstractIterator<AirbyteMessage> im
     this.cursorType = cursorType;
     this.initialCursor = initialCursor;
     this.currentMaxCursor = initialCursor;
-    this.stateEmissionFrequency = stateEmissionFrequency;
+    this.stateEmissionPolicy = stateEmissionPolicy;
+    this.nanoTime = nanoTime;
+    this.lastCheckpointNanos = stateEmissionPolicy.isTimeBased() ? nanoTime.getAsLong() : 0L;
   }
 
   private String getCursorCandidate(final AirbyteMessage message) {
@@ -120,7 +160,6 @@ public class StateDecoratingIterator extends AbstractIterator<AirbyteMessage> im
         return optionalIntermediateMessage.get();
       }
 
-      totalRecordCount++;
       // Use try-catch to catch Exception that could occur when connection to the database fails
       try {
         final AirbyteMessage message = messageIterator.next();
@@ -129,7 +168,7 @@ public class StateDecoratingIterator extends AbstractIterator<AirbyteMessage> im
           final int cursorComparison = IncrementalUtils.compareCursors(currentMaxCursor, cursorCandidate, cursorType);
           if (cursorComparison < 0) {
             // Update the current max cursor only when current max cursor < cursor candidate from the message
-            if (stateEmissionFrequency > 0 && !Objects.equals(currentMaxCursor, initialCursor) && messageIterator.hasNext()) {
+            if (stateEmissionPolicy.isEnabled() && !Objects.equals(currentMaxCursor, initialCursor) && messageIterator.hasNext()) {
               // Only emit an intermediate state when it is not the first or last record message,
               // because the last state message will be taken care of in a different branch.
               intermediateStateMessage = createStateMessage(false);
@@ -141,7 +180,7 @@ public class StateDecoratingIterator extends AbstractIterator<AirbyteMessage> im
           }
         }
 
-        if (stateEmissionFrequency > 0 && totalRecordCount % stateEmissionFrequency == 0) {
+        if (stateEmissionPolicy.isEnabled() && isCheckpointDue(message)) {
           emitIntermediateState = true;
         }
 
@@ -160,12 +199,34 @@ public class StateDecoratingIterator extends AbstractIterator<AirbyteMessage> im
     }
   }
 
+  /**
+   * Counts the record towards the next checkpoint, and starts counting anew once it is due. The
+   * intermediate state itself may be emitted later, when a cursor value is ready.
+   */
+  private boolean isCheckpointDue(final AirbyteMessage message) {
+    recordCountSinceCheckpoint++;
+    if (stateEmissionPolicy.isSizeBased()) {
+      if ((recordCountSinceCheckpoint - 1) % BYTE_SAMPLE_FREQUENCY == 0) {
+        sampledRecordByteSize = Jsons.getEstimatedByteSize(message.getRecord().getData());
+      }
+      byteCountSinceCheckpoint += sampledRecordByteSize;
+    }
+    final long now = stateEmissionPolicy.isTimeBased() ? nanoTime.getAsLong() : 0L;
+    if (!stateEmissionPolicy.isCheckpointDue(recordCountSinceCheckpoint, byteCountSinceCheckpoint, now - lastCheckpointNanos)) {
+      return false;
+    }
+    recordCountSinceCheckpoint = 0L;
+    byteCountSinceCheckpoint = 0L;
+    lastCheckpointNanos = now;
+    return true;
+  }
+
   /**
    * Returns AirbyteStateMessage when in a ready state, a ready state means that it has satifies the
    * conditions of:
    * <p>
    * cursorField has changed (e.g. 08-22-2022 -> 08-23-2022) and there have been at least
-   * stateEmissionFrequency number of records since the last emission
+   * the {@code stateEmissionPolicy} considered a checkpoint due since the last emission
    * </p>
    *
    * @return AirbyteStateMessage if one exists, otherwise Optional indicating state was not ready to
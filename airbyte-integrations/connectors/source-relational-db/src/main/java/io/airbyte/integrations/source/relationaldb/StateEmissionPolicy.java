@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.source.relationaldb;
+
+import java.time.Duration;
+
+/**
+ * Decides when {@link StateDecoratingIterator} emits an intermediate state. A checkpoint is due when
+ * any of these conditions is met since the last one:
+ * <ul>
+ * <li>{@code recordFrequency} records were read, and at least {@code minInterval} elapsed. The
+ * interval keeps streams of tiny rows from flooding the worker with states.</li>
+ * <li>{@code maxInterval} elapsed, so that a crash never loses more than that much work.</li>
+ * <li>{@code maxBytes} of records were read, so that streams of wide rows are checkpointed before
+ * {@code recordFrequency} records are reached.</li>
+ * </ul>
+ * A zero value disables the corresponding condition. The state is still only emitted once the
+ * cursor value is ready, see {@link StateDecoratingIterator}.
+ */
+public class StateEmissionPolicy {
+
+  public static final StateEmissionPolicy DISABLED = new StateEmissionPolicy(0, Duration.ZERO, Duration.ZERO, 0L);
+
+  private final int recordFrequency;
+  private final Duration minInterval;
+  private final Duration maxInterval;
+  private final long maxBytes;
+
+  public StateEmissionPolicy(final int recordFrequency, final Duration minInterval, final Duration maxInterval, final long maxBytes) {
+    this.recordFrequency = Math.max(0, recordFrequency);
+    this.minInterval = minInterval;
+    this.maxInterval = maxInterval;
+    this.maxBytes = Math.max(0L, maxBytes);
+  }
+
+  /**
+   * Emits an intermediate state every {@code recordFrequency} records, regardless of time and size.
+   */
+  public static StateEmissionPolicy everyNRecords(final int recordFrequency) {
+    return new StateEmissionPolicy(recordFrequency, Duration.ZERO, Duration.ZERO, 0L);
+  }
+
+  /**
+   * @return true if intermediate states are emitted at all, in which case the incremental query must
+   *         be ordered by the cursor field
+   */
+  public boolean isEnabled() {
+    return recordFrequency > 0 || maxInterval.toNanos() > 0 || maxBytes > 0;
+  }
+
+  public boolean isTimeBased() {
+    return maxInterval.toNanos() > 0 || minInterval.toNanos() > 0;
+  }
+
+  public boolean isSizeBased() {
+    return maxBytes > 0;
+  }
+
+  /**
+   * @param recordCount records read since the last checkpoint
+   * @param byteCount estimated bytes read since the last checkpoint
+   * @param elapsedNanos time elapsed since the last checkpoint, only meaningful when
+   *        {@link #isTimeBased()}
+   */
+  public boolean isCheckpointDue(final long recordCount, final long byteCount, final long elapsedNanos) {
+    if (maxBytes > 0 && byteCount >= maxBytes) {
+      return true;
+    }
+    if (maxInterval.toNanos() > 0 && elapsedNanos >= maxInterval.toNanos()) {
+      return true;
+    }
+    return recordFrequency > 0 && recordCount >= recordFrequency && elapsedNanos >= minInterval.toNanos();
+  }
+
+  public int getRecordFrequency() {
+    return recordFrequency;
+  }
+
+  public Duration getMinInterval() {
+    return minInterval;
+  }
+
+  public Duration getMaxInterval() {
+    return maxInterval;
+  }
+
+  public long getMaxBytes() {
+    return maxBytes;
+  }
+
+  @Override
+  public String toString() {
+    return "StateEmissionPolicy{" +
+        "recordFrequency=" + recordFrequency +
+        ", minInterval=" + minInterval +
+        ", maxInterval=" + maxInterval +
+        ", maxBytes=" + maxBytes +
+        '}';
+  }
+
+}
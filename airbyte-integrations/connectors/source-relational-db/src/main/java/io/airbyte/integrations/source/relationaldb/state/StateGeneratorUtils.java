@@ -133,6 +133,11 @@ public class StateGeneratorUtils {
     if (cursorInfo.getCursorRecordCount() > 0L) {
       state.setCursorRecordCount(cursorInfo.getCursorRecordCount());
     }
+    if (cursorInfo.getSnapshotKeyWatermark() != null) {
+      state.setSnapshotKeyField(cursorInfo.getSnapshotKeyField());
+      state.setSnapshotKeyWatermark(cursorInfo.getSnapshotKeyWatermark());
+      state.setSnapshotKeyScope(cursorInfo.getSnapshotKeyScope());
+    }
     return state;
   }
 
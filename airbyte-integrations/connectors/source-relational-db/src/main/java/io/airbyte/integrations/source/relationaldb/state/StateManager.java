@@ -143,6 +143,39 @@ public interface StateManager<T, S> {
     return updateAndEmit(pair, cursor, 0L);
   }
 
+  /**
+   * Updates the progress of a full refresh read in primary key ranges and emits the current state
+   * maintained by the state manager. Only the {@link StreamStateManager} restores this progress when
+   * the next attempt starts.
+   *
+   * @param pair The {@link AirbyteStreamNameNamespacePair} that represents a stream managed by the
+   *        state manager.
+   * @param keyField The primary key column the stream is read by.
+   * @param watermark The key below which every record has been read, or null once the read completed.
+   * @return An {@link AirbyteStateMessage} that represents the current state maintained by the state
+   *         manager.
+   */
+  default AirbyteStateMessage updateSnapshotAndEmit(final AirbyteStreamNameNamespacePair pair, final String keyField, final String watermark) {
+    return updateSnapshotAndEmit(pair, keyField, watermark, null);
+  }
+
+  /**
+   * Same as {@link #updateSnapshotAndEmit(AirbyteStreamNameNamespacePair, String, String)}, for keys
+   * that depend on more than the table.
+   *
+   * @param scope What the watermark refers to, such as the physical layout of the table, or null.
+   */
+  default AirbyteStateMessage updateSnapshotAndEmit(final AirbyteStreamNameNamespacePair pair,
+                                                    final String keyField,
+                                                    final String watermark,
+                                                    final String scope) {
+    final Optional<CursorInfo> cursorInfo = getCursorInfo(pair);
+    Preconditions.checkState(cursorInfo.isPresent(), "Could not find cursor information for stream: " + pair);
+    cursorInfo.get().setSnapshotProgress(keyField, watermark, scope);
+    LOGGER.debug("Updating snapshot watermark for {} to {} = {} ({})...", pair, keyField, watermark, scope);
+    return emit(Optional.ofNullable(pair));
+  }
+
   default AirbyteStateMessage updateAndEmit(final AirbyteStreamNameNamespacePair pair, final String cursor, final long cursorRecordCount) {
     final Optional<CursorInfo> cursorInfo = getCursorInfo(pair);
     Preconditions.checkState(cursorInfo.isPresent(), "Could not find cursor information for stream: " + pair);
@@ -13,6 +13,7 @@ import io.airbyte.commons.json.Jsons;
 import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
 import io.airbyte.integrations.source.relationaldb.CdcStateManager;
 import io.airbyte.integrations.source.relationaldb.CursorInfo;
+import io.airbyte.integrations.source.relationaldb.models.DbStreamState;
 import io.airbyte.protocol.models.AirbyteStateMessage;
 import io.airbyte.protocol.models.AirbyteStateMessage.AirbyteStateType;
 import io.airbyte.protocol.models.AirbyteStreamState;
@@ -50,6 +51,28 @@ public class StreamStateManager extends AbstractStateManager<AirbyteStateMessage
         CURSOR_FIELD_FUNCTION,
         CURSOR_RECORD_COUNT_FUNCTION,
         NAME_NAMESPACE_PAIR_FUNCTION);
+    restoreSnapshotProgress(airbyteStateMessages);
+  }
+
+  /**
+   * Resume the full refresh reads in key ranges that did not complete, see
+   * {@link StateManager#updateSnapshotAndEmit(AirbyteStreamNameNamespacePair, String, String, String)}.
+   */
+  private void restoreSnapshotProgress(final List<AirbyteStateMessage> airbyteStateMessages) {
+    final Map<AirbyteStreamNameNamespacePair, CursorInfo> pairToCursorInfoMap = getPairToCursorInfoMap();
+    for (final AirbyteStateMessage stateMessage : airbyteStateMessages) {
+      if (stateMessage.getStream() == null) {
+        continue;
+      }
+      final AirbyteStreamNameNamespacePair pair = NAME_NAMESPACE_PAIR_FUNCTION.apply(stateMessage.getStream());
+      final Optional<DbStreamState> dbStreamState = StateGeneratorUtils.extractState(stateMessage.getStream());
+      if (pair != null && pairToCursorInfoMap.containsKey(pair) && dbStreamState.map(DbStreamState::getSnapshotKeyWatermark).isPresent()) {
+        LOGGER.info("Found unfinished snapshot in state. Stream: {}. Key Field: {} Watermark: {} Scope: {}",
+            pair, dbStreamState.get().getSnapshotKeyField(), dbStreamState.get().getSnapshotKeyWatermark(), dbStreamState.get().getSnapshotKeyScope());
+        pairToCursorInfoMap.get(pair).setSnapshotProgress(dbStreamState.get().getSnapshotKeyField(), dbStreamState.get().getSnapshotKeyWatermark(),
+            dbStreamState.get().getSnapshotKeyScope());
+      }
+    }
   }
 
   @Override
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.source.relationaldb;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.util.AutoCloseableIterator;
+import io.airbyte.commons.util.AutoCloseableIterators;
+import io.airbyte.commons.util.MoreIterators;
+import io.airbyte.integrations.source.relationaldb.ChunkedSnapshotIterator.KeyRange;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.protocol.models.AirbyteStateMessage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+class ChunkedSnapshotIteratorTest {
+
+  private static final String KEY_FIELD = "id";
+
+  @Test
+  void testSplitKeyRange() {
+    assertEquals(List.of(new KeyRange(0, 25L), new KeyRange(25, 50L), new KeyRange(50, 75L), new KeyRange(75, null)),
+        ChunkedSnapshotIterator.splitKeyRange(0, 99, 4));
+    assertEquals(List.of(new KeyRange(5, 6L), new KeyRange(6, null)), ChunkedSnapshotIterator.splitKeyRange(5, 6, 4));
+    assertEquals(List.of(new KeyRange(7, null)), ChunkedSnapshotIterator.splitKeyRange(7, 7, 4));
+  }
+
+  @Test
+  void testSplitFullKeySpace() {
+    final List<KeyRange> ranges = ChunkedSnapshotIterator.splitKeyRange(Long.MIN_VALUE, Long.MAX_VALUE, 2);
+    assertEquals(List.of(new KeyRange(Long.MIN_VALUE, 0L), new KeyRange(0, null)), ranges);
+  }
+
+  @Test
+  void testReadsEveryRecordAndCheckpointsWatermarks() {
+    final List<KeyRange> ranges = ChunkedSnapshotIterator.splitKeyRange(0, 999, 10);
+    final List<Long> checkpoints = new ArrayList<>();
+    final List<AirbyteMessage> messages;
+    try (final ChunkedSnapshotIterator iterator = new ChunkedSnapshotIterator(ranges, ChunkedSnapshotIteratorTest::readRange, 3,
+        watermark -> {
+          checkpoints.add(watermark);
+          return createStateMessage(watermark);
+        })) {
+      messages = MoreIterators.toList(iterator);
+    }
+
+    final List<Long> keys = messages.stream()
+        .filter(message -> message.getType() == Type.RECORD)
+        .map(message -> message.getRecord().getData().get(KEY_FIELD).asLong())
+        .sorted()
+        .collect(Collectors.toList());
+    assertEquals(LongStream.range(0, 1000).boxed().collect(Collectors.toList()), keys);
+
+    // every watermark is the lower bound of a range and comes after all the records below it.
+    for (int i = 0; i < messages.size(); i++) {
+      final AirbyteMessage message = messages.get(i);
+      if (message.getType() == Type.STATE && message.getState().getData().has(KEY_FIELD)) {
+        final long watermark = message.getState().getData().get(KEY_FIELD).asLong();
+        assertTrue(ranges.stream().anyMatch(range -> range.lowerBound() == watermark));
+        assertEquals(watermark, messages.subList(0, i).stream()
+            .filter(previous -> previous.getType() == Type.RECORD && previous.getRecord().getData().get(KEY_FIELD).asLong() < watermark)
+            .count());
+      }
+    }
+    assertEquals(checkpoints.stream().filter(watermark -> watermark != null).sorted().collect(Collectors.toList()),
+        checkpoints.subList(0, checkpoints.size() - 1));
+    assertEquals(null, checkpoints.get(checkpoints.size() - 1));
+    assertEquals(Type.STATE, messages.get(messages.size() - 1).getType());
+  }
+
+  @Test
+  void testNoCheckpointFunction() {
+    final List<KeyRange> ranges = ChunkedSnapshotIterator.splitKeyRange(0, 999, 4);
+    try (final ChunkedSnapshotIterator iterator = new ChunkedSnapshotIterator(ranges, ChunkedSnapshotIteratorTest::readRange, 2, null)) {
+      final List<AirbyteMessage> messages = MoreIterators.toList(iterator);
+      assertEquals(1000, messages.size());
+      assertTrue(messages.stream().allMatch(message -> message.getType() == Type.RECORD));
+    }
+  }
+
+  @Test
+  void testEmptyRanges() {
+    try (final ChunkedSnapshotIterator iterator = new ChunkedSnapshotIterator(List.of(), ChunkedSnapshotIteratorTest::readRange, 2,
+        ChunkedSnapshotIteratorTest::createStateMessage)) {
+      assertEquals(List.of(createStateMessage(null)), MoreIterators.toList(iterator));
+    }
+  }
+
+  @Test
+  void testFailedRange() {
+    final List<KeyRange> ranges = ChunkedSnapshotIterator.splitKeyRange(0, 99, 4);
+    final Function<KeyRange, AutoCloseableIterator<AirbyteMessage>> failingReader = range -> {
+      if (range.lowerBound() == 50) {
+        throw new IllegalStateException("connection lost");
+      }
+      return readRange(range);
+    };
+    try (final ChunkedSnapshotIterator iterator = new ChunkedSnapshotIterator(ranges, failingReader, 2,
+        ChunkedSnapshotIteratorTest::createStateMessage)) {
+      final RuntimeException exception = assertThrows(RuntimeException.class, () -> MoreIterators.toList(iterator));
+      assertEquals(IllegalStateException.class, exception.getCause().getClass());
+    }
+  }
+
+  private static AutoCloseableIterator<AirbyteMessage> readRange(final KeyRange range) {
+    // the table holds the keys 0 to 999.
+    final long upperBound = range.upperBound() == null ? 1000 : Math.min(range.upperBound(), 1000);
+    final List<AirbyteMessage> records = LongStream.range(range.lowerBound(), upperBound)
+        .mapToObj(key -> new AirbyteMessage()
+            .withType(Type.RECORD)
+            .withRecord(new AirbyteRecordMessage().withData(Jsons.jsonNode(Map.of(KEY_FIELD, key)))))
+        .collect(Collectors.toList());
+    return AutoCloseableIterators.fromIterator(records.iterator());
+  }
+
+  private static AirbyteMessage createStateMessage(final Long watermark) {
+    return new AirbyteMessage()
+        .withType(Type.STATE)
+        .withState(new AirbyteStateMessage().withData(watermark == null ? Jsons.emptyObject() : Jsons.jsonNode(Map.of(KEY_FIELD, watermark))));
+  }
+
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.source.relationaldb;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.util.AutoCloseableIterator;
+import io.airbyte.commons.util.AutoCloseableIterators;
+import io.airbyte.commons.util.MoreIterators;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.protocol.models.AirbyteStateMessage;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentStreamIteratorTest {
+
+  private static final int RECORDS_PER_STREAM = 500;
+
+  @Test
+  void testKeepsTheOrderOfEachStream() throws Exception {
+    final List<AtomicBoolean> closed = new ArrayList<>();
+    final List<AutoCloseableIterator<AirbyteMessage>> streams = IntStream.range(0, 5)
+        .mapToObj(i -> {
+          final AtomicBoolean streamClosed = new AtomicBoolean();
+          closed.add(streamClosed);
+          return AutoCloseableIterators.<AirbyteMessage>fromIterator(createStream("stream" + i).iterator(), () -> streamClosed.set(true));
+        })
+        .collect(Collectors.toList());
+
+    final List<AirbyteMessage> messages;
+    try (final ConcurrentStreamIterator iterator = new ConcurrentStreamIterator(streams, 3)) {
+      messages = MoreIterators.toList(iterator);
+    }
+
+    assertEquals(5 * (RECORDS_PER_STREAM + 1), messages.size());
+    for (int i = 0; i < 5; i++) {
+      final String streamName = "stream" + i;
+      final List<AirbyteMessage> streamMessages = messages.stream()
+          .filter(message -> streamName.equals(getStreamName(message)))
+          .collect(Collectors.toList());
+      assertEquals(createStream(streamName), streamMessages);
+      assertTrue(closed.get(i).get());
+    }
+  }
+
+  @Test
+  void testReadsStreamsConcurrently() throws Exception {
+    // neither stream can complete unless both are being read at the same time.
+    final CountDownLatch latch = new CountDownLatch(2);
+    final List<AutoCloseableIterator<AirbyteMessage>> streams = List.of(
+        AutoCloseableIterators.fromIterator(awaitingIterator(latch, "stream0")),
+        AutoCloseableIterators.fromIterator(awaitingIterator(latch, "stream1")));
+
+    try (final ConcurrentStreamIterator iterator = new ConcurrentStreamIterator(streams, 2)) {
+      assertEquals(2 * (RECORDS_PER_STREAM + 1), MoreIterators.toList(iterator).size());
+    }
+  }
+
+  @Test
+  void testFailedStream() throws Exception {
+    final Iterator<AirbyteMessage> failingIterator = new Iterator<>() {
+
+      @Override
+      public boolean hasNext() {
+        return true;
+      }
+
+      @Override
+      public AirbyteMessage next() {
+        throw new IllegalStateException("connection lost");
+      }
+
+    };
+    final List<AutoCloseableIterator<AirbyteMessage>> streams = List.of(
+        AutoCloseableIterators.fromIterator(createStream("stream0").iterator()),
+        AutoCloseableIterators.fromIterator(failingIterator));
+
+    try (final ConcurrentStreamIterator iterator = new ConcurrentStreamIterator(streams, 2)) {
+      final RuntimeException exception = assertThrows(RuntimeException.class, () -> MoreIterators.toList(iterator));
+      assertEquals(IllegalStateException.class, exception.getCause().getClass());
+      assertEquals("Failed to read stream 2 of 2 before its first message", exception.getMessage());
+    }
+  }
+
+  @Test
+  void testFailedStreamIsNamedAfterItsMessages() throws Exception {
+    final AirbyteMessage record = new AirbyteMessage()
+        .withType(Type.RECORD)
+        .withRecord(new AirbyteRecordMessage().withNamespace("public").withStream("users").withData(Jsons.jsonNode(Map.of("id", 1))));
+    final Iterator<AirbyteMessage> failingIterator = new Iterator<>() {
+
+      private boolean first = true;
+
+      @Override
+      public boolean hasNext() {
+        return true;
+      }
+
+      @Override
+      public AirbyteMessage next() {
+        if (first) {
+          first = false;
+          return record;
+        }
+        throw new IllegalStateException("connection lost");
+      }
+
+    };
+
+    try (final ConcurrentStreamIterator iterator = new ConcurrentStreamIterator(List.of(AutoCloseableIterators.fromIterator(failingIterator)), 1)) {
+      final RuntimeException exception = assertThrows(RuntimeException.class, () -> MoreIterators.toList(iterator));
+      assertEquals("Failed to read stream public.users", exception.getMessage());
+    }
+  }
+
+  @Test
+  void testCloseBeforeTheEnd() throws Exception {
+    final AtomicBoolean unstartedClosed = new AtomicBoolean();
+    // the first stream blocks until it is interrupted, the second one is never started.
+    final CountDownLatch blocked = new CountDownLatch(2);
+    final List<AutoCloseableIterator<AirbyteMessage>> streams = List.of(
+        AutoCloseableIterators.fromIterator(awaitingIterator(blocked, "stream0")),
+        AutoCloseableIterators.fromIterator(createStream("stream1").iterator(), () -> unstartedClosed.set(true)));
+
+    final ConcurrentStreamIterator iterator = new ConcurrentStreamIterator(streams, 1);
+    assertTrue(iterator.hasNext());
+    iterator.close();
+    assertTrue(unstartedClosed.get());
+    assertFalse(Thread.currentThread().isInterrupted());
+  }
+
+  private static Iterator<AirbyteMessage> awaitingIterator(final CountDownLatch latch, final String streamName) {
+    final Iterator<AirbyteMessage> messages = createStream(streamName).iterator();
+    return new Iterator<>() {
+
+      private boolean awaited = false;
+
+      @Override
+      public boolean hasNext() {
+        return messages.hasNext();
+      }
+
+      @Override
+      public AirbyteMessage next() {
+        final AirbyteMessage message = messages.next();
+        if (!awaited && message.getType() == Type.STATE) {
+          awaited = true;
+          latch.countDown();
+          try {
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+              throw new IllegalStateException("streams were not read concurrently");
+            }
+          } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+          }
+        }
+        return message;
+      }
+
+    };
+  }
+
+  private static List<AirbyteMessage> createStream(final String streamName) {
+    final List<AirbyteMessage> messages = IntStream.range(0, RECORDS_PER_STREAM)
+        .mapToObj(i -> new AirbyteMessage()
+            .withType(Type.RECORD)
+            .withRecord(new AirbyteRecordMessage().withStream(streamName).withData(Jsons.jsonNode(Map.of("id", i)))))
+        .collect(Collectors.toCollection(ArrayList::new));
+    messages.add(new AirbyteMessage()
+        .withType(Type.STATE)
+        .withState(new AirbyteStateMessage().withData(Jsons.jsonNode(Map.of("stream", streamName)))));
+    return messages;
+  }
+
+  private static String getStreamName(final AirbyteMessage message) {
+    return message.getType() == Type.RECORD ? message.getRecord().getStream() : message.getState().getData().get("stream").asText();
+  }
+
+}
@@ -21,9 +21,11 @@ import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.AirbyteStateMessage;
 import io.airbyte.protocol.models.JsonSchemaPrimitive;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -413,4 +415,77 @@ class StateDecoratingIteratorTest {
     assertFalse(iterator1.hasNext());
   }
 
+  @Test
+  @DisplayName("When the max interval elapses before the record frequency is reached")
+  void testStateEmissionMaxInterval() {
+    final AtomicLong clock = new AtomicLong(0L);
+    messageIterator = MoreIterators.of(RECORD_MESSAGE_1, RECORD_MESSAGE_2, RECORD_MESSAGE_3, RECORD_MESSAGE_4);
+    final StateDecoratingIterator iterator = new StateDecoratingIterator(
+        messageIterator,
+        stateManager,
+        NAME_NAMESPACE_PAIR,
+        UUID_FIELD_NAME,
+        null,
+        JsonSchemaPrimitive.STRING,
+        new StateEmissionPolicy(1000, Duration.ZERO, Duration.ofMinutes(1), 0L),
+        clock::get);
+
+    assertEquals(RECORD_MESSAGE_1, iterator.next());
+    clock.addAndGet(Duration.ofMinutes(2).toNanos());
+    assertEquals(RECORD_MESSAGE_2, iterator.next());
+    assertEquals(STATE_MESSAGE_1, iterator.next());
+    assertEquals(RECORD_MESSAGE_3, iterator.next());
+    assertEquals(RECORD_MESSAGE_4, iterator.next());
+    assertEquals(STATE_MESSAGE_4, iterator.next());
+    assertFalse(iterator.hasNext());
+  }
+
+  @Test
+  @DisplayName("When the record frequency is reached before the min interval elapses")
+  void testStateEmissionMinInterval() {
+    final AtomicLong clock = new AtomicLong(0L);
+    messageIterator = MoreIterators.of(RECORD_MESSAGE_1, RECORD_MESSAGE_2, RECORD_MESSAGE_3, RECORD_MESSAGE_4);
+    final StateDecoratingIterator iterator = new StateDecoratingIterator(
+        messageIterator,
+        stateManager,
+        NAME_NAMESPACE_PAIR,
+        UUID_FIELD_NAME,
+        null,
+        JsonSchemaPrimitive.STRING,
+        new StateEmissionPolicy(1, Duration.ofMinutes(1), Duration.ZERO, 0L),
+        clock::get);
+
+    assertEquals(RECORD_MESSAGE_1, iterator.next());
+    assertEquals(RECORD_MESSAGE_2, iterator.next());
+    clock.addAndGet(Duration.ofMinutes(2).toNanos());
+    assertEquals(RECORD_MESSAGE_3, iterator.next());
+    assertEquals(STATE_MESSAGE_2, iterator.next());
+    assertEquals(RECORD_MESSAGE_4, iterator.next());
+    assertEquals(STATE_MESSAGE_4, iterator.next());
+    assertFalse(iterator.hasNext());
+  }
+
+  @Test
+  @DisplayName("When the max bytes are read before the record frequency is reached")
+  void testStateEmissionMaxBytes() {
+    final long recordByteSize = Jsons.getEstimatedByteSize(RECORD_MESSAGE_1.getRecord().getData());
+    messageIterator = MoreIterators.of(RECORD_MESSAGE_1, RECORD_MESSAGE_2, RECORD_MESSAGE_3, RECORD_MESSAGE_4);
+    final StateDecoratingIterator iterator = new StateDecoratingIterator(
+        messageIterator,
+        stateManager,
+        NAME_NAMESPACE_PAIR,
+        UUID_FIELD_NAME,
+        null,
+        JsonSchemaPrimitive.STRING,
+        new StateEmissionPolicy(1000, Duration.ZERO, Duration.ZERO, 2 * recordByteSize));
+
+    assertEquals(RECORD_MESSAGE_1, iterator.next());
+    assertEquals(RECORD_MESSAGE_2, iterator.next());
+    assertEquals(STATE_MESSAGE_1, iterator.next());
+    assertEquals(RECORD_MESSAGE_3, iterator.next());
+    assertEquals(RECORD_MESSAGE_4, iterator.next());
+    assertEquals(STATE_MESSAGE_4, iterator.next());
+    assertFalse(iterator.hasNext());
+  }
+
 }
@@ -21,6 +21,7 @@ import static org.mockito.Mockito.mock;
 import com.google.common.collect.Lists;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
+import io.airbyte.integrations.source.relationaldb.CursorInfo;
 import io.airbyte.integrations.source.relationaldb.models.DbState;
 import io.airbyte.integrations.source.relationaldb.models.DbStreamState;
 import io.airbyte.protocol.models.AirbyteStateMessage;
@@ -88,6 +89,54 @@ public class StreamStateManagerTest {
     assertEquals(Optional.empty(), stateManager.getCursor(NAME_NAMESPACE_PAIR2));
   }
 
+  @Test
+  void testSnapshotProgress() {
+    final ConfiguredAirbyteCatalog catalog = new ConfiguredAirbyteCatalog()
+        .withStreams(List.of(
+            new ConfiguredAirbyteStream()
+                .withStream(new AirbyteStream().withName(STREAM_NAME1).withNamespace(NAMESPACE)
+                    .withSupportedSyncModes(Lists.newArrayList(SyncMode.FULL_REFRESH)))));
+
+    final StateManager stateManager = new StreamStateManager(new ArrayList<>(), catalog);
+    final AirbyteStateMessage airbyteStateMessage = stateManager.updateSnapshotAndEmit(NAME_NAMESPACE_PAIR1, "id", "1000");
+    final DbStreamState dbStreamState = Jsons.object(airbyteStateMessage.getStream().getStreamState(), DbStreamState.class);
+    assertEquals("id", dbStreamState.getSnapshotKeyField());
+    assertEquals("1000", dbStreamState.getSnapshotKeyWatermark());
+
+    final StateManager<AirbyteStateMessage, AirbyteStreamState> restoredStateManager = new StreamStateManager(List.of(airbyteStateMessage), catalog);
+    final CursorInfo cursorInfo = restoredStateManager.getCursorInfo(NAME_NAMESPACE_PAIR1).orElseThrow();
+    assertEquals("id", cursorInfo.getSnapshotKeyField());
+    assertEquals("1000", cursorInfo.getSnapshotKeyWatermark());
+
+    final AirbyteStateMessage completedStateMessage = restoredStateManager.updateSnapshotAndEmit(NAME_NAMESPACE_PAIR1, "id", null);
+    final DbStreamState completedDbStreamState = Jsons.object(completedStateMessage.getStream().getStreamState(), DbStreamState.class);
+    assertNull(completedDbStreamState.getSnapshotKeyField());
+    assertNull(completedDbStreamState.getSnapshotKeyWatermark());
+  }
+
+  @Test
+  void testSnapshotProgressScope() {
+    final ConfiguredAirbyteCatalog catalog = new ConfiguredAirbyteCatalog()
+        .withStreams(List.of(
+            new ConfiguredAirbyteStream()
+                .withStream(new AirbyteStream().withName(STREAM_NAME1).withNamespace(NAMESPACE)
+                    .withSupportedSyncModes(Lists.newArrayList(SyncMode.FULL_REFRESH)))));
+
+    final StateManager stateManager = new StreamStateManager(new ArrayList<>(), catalog);
+    final AirbyteStateMessage airbyteStateMessage = stateManager.updateSnapshotAndEmit(NAME_NAMESPACE_PAIR1, "ctid", "128", "16390");
+    final DbStreamState dbStreamState = Jsons.object(airbyteStateMessage.getStream().getStreamState(), DbStreamState.class);
+    assertEquals("16390", dbStreamState.getSnapshotKeyScope());
+
+    final StateManager<AirbyteStateMessage, AirbyteStreamState> restoredStateManager = new StreamStateManager(List.of(airbyteStateMessage), catalog);
+    final CursorInfo cursorInfo = restoredStateManager.getCursorInfo(NAME_NAMESPACE_PAIR1).orElseThrow();
+    assertEquals("128", cursorInfo.getSnapshotKeyWatermark());
+    assertEquals("16390", cursorInfo.getSnapshotKeyScope());
+
+    final AirbyteStateMessage completedStateMessage = restoredStateManager.updateSnapshotAndEmit(NAME_NAMESPACE_PAIR1, "ctid", null, "16390");
+    final DbStreamState completedDbStreamState = Jsons.object(completedStateMessage.getStream().getStreamState(), DbStreamState.class);
+    assertNull(completedDbStreamState.getSnapshotKeyScope());
+  }
+
   @Test
   void testToState() {
     final ConfiguredAirbyteCatalog catalog = new ConfiguredAirbyteCatalog()
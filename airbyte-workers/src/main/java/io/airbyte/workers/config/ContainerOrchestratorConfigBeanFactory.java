@@ -76,6 +76,11 @@ public class ContainerOrchestratorConfigBeanFactory {
     environmentVariables.put(DD_DOGSTATSD_PORT_ENV_VAR, dataDogStatsdPort);
     environmentVariables.put(PUBLISH_METRICS_ENV_VAR, shouldPublishMetrics);
     environmentVariables.put(EnvVariableFeatureFlags.USE_STREAM_CAPABLE_STATE, Boolean.toString(featureFlags.useStreamCapableState()));
+    environmentVariables.put(EnvVariableFeatureFlags.USE_PIPELINED_REPLICATION, Boolean.toString(featureFlags.usePipelinedReplication()));
+    environmentVariables.put(EnvVariableFeatureFlags.USE_RECORD_PASSTHROUGH, Boolean.toString(featureFlags.useRecordPassthrough()));
+    environmentVariables.put(EnvVariableFeatureFlags.USE_STREAMING_MESSAGE_PARSER, Boolean.toString(featureFlags.useStreamingMessageParser()));
+    environmentVariables.put(EnvVariableFeatureFlags.USE_BINARY_MESSAGE_FRAMING, Boolean.toString(featureFlags.useBinaryMessageFraming()));
+    environmentVariables.put(EnvVariableFeatureFlags.USE_FEEDBACK_FETCH_SIZE, Boolean.toString(featureFlags.useFeedbackFetchSize()));
     environmentVariables.put(JAVA_OPTS_ENV_VAR, containerOrchestratorJavaOpts);
 
     if (System.getenv(DD_ENV_ENV_VAR) != null) {